@@ -73,6 +73,33 @@ namespace knn_jni {
         */
         jlong storeByteVectorData(knn_jni::JNIUtilInterface *, JNIEnv *, jlong , jobjectArray, jlong, jboolean);
 
+        /**
+         * Same as storeVectorData, except that the vectors are read from a direct buffer holding the given number of bytes of
+         * consecutive floats in native byte order. The bytes are copied with a single memcpy, without going through Java arrays.
+         *
+         * @param memoryAddress The address of the memory location where data will be stored.
+         * @param data direct buffer staging the vectors.
+         * @param numBytes number of bytes to read from the start of the buffer.
+         * @param initialCapacity The initial capacity of the memory location.
+         * @param append whether to append or start from index 0 when called subsequently with the same address
+         * @return memory address of std::vector<float> where the data is stored.
+         */
+        jlong storeVectorDataFromBuffer(knn_jni::JNIUtilInterface *, JNIEnv *, jlong, jobject, jint, jlong, jboolean);
+
+        /**
+         * Same as storeBinaryVectorData, except that the vectors are read from a direct buffer, see storeVectorDataFromBuffer.
+         *
+         * @return memory address of std::vector<uint8_t> where the data is stored.
+         */
+        jlong storeBinaryVectorDataFromBuffer(knn_jni::JNIUtilInterface *, JNIEnv *, jlong, jobject, jint, jlong, jboolean);
+
+        /**
+         * Same as storeByteVectorData, except that the vectors are read from a direct buffer, see storeVectorDataFromBuffer.
+         *
+         * @return memory address of std::vector<int8_t> where the data is stored.
+         */
+        jlong storeByteVectorDataFromBuffer(knn_jni::JNIUtilInterface *, JNIEnv *, jlong, jobject, jint, jlong, jboolean);
+
         /**
          * Free up the memory allocated for the data stored in memory address. This function should be used with the memory
          * address returned by {@link JNICommons#storeVectorData(long, float[][], long, long)}
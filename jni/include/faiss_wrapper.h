@@ -15,7 +15,10 @@
 #include "jni_util.h"
 #include "faiss_index_service.h"
 #include "faiss_stream_support.h"
+#include "faiss/IndexIDMap.h"
+#include "faiss/impl/HNSW.h"
 #include <jni.h>
+#include <vector>
 
 namespace knn_jni {
     namespace faiss_wrapper {
@@ -34,6 +37,26 @@ namespace knn_jni {
 
         void WriteIndex(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jobject output, jlong indexAddr, IndexService *indexService, bool skipFlat = false);
 
+        // Renumber the vectors of an HNSW index storing flat float vectors in breadth first order of the base layer of its graph,
+        // so that neighbors are stored close to each other. The id mapping is permuted along. Any other index is left as is.
+        void ReorderIndex(jlong indexAddr);
+
+        // Loaded id mapping of an index renumbered by ReorderIndex, whose id_map is no longer sorted. The position of every id in
+        // the storage is computed once at load, so that searches find the position of a document without scanning id_map.
+        struct RenumberedIndexIDMap : faiss::IndexIDMap {
+            // Position of each id in id_map, -1 for ids without a vector.
+            std::vector<faiss::HNSW::storage_idx_t> positions;
+
+            // Return the position of the given id in the storage, -1 if it has no vector.
+            faiss::HNSW::storage_idx_t position(faiss::idx_t id) const {
+                return id >= 0 && id < (faiss::idx_t) positions.size() ? positions[id] : -1;
+            }
+        };
+
+        // Return the given loaded index, or a RenumberedIndexIDMap taking over its sub index and id_map when its id_map is not
+        // sorted, in which case the given index is freed.
+        faiss::Index* IndexDocumentPositions(faiss::Index* index);
+
         // Create an index with ids and vectors. Instead of creating a new index, this function creates the index
         // based off of the template index passed in. The index is serialized to indexPathJ.
         void CreateIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
@@ -120,6 +143,21 @@ namespace knn_jni {
                                            jfloatArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filterIdsJ,
                                            jint filterIdsTypeJ, jintArray parentIdsJ);
 
+        /**
+         *  Execute a query against the HNSW index located in memory at indexPointerJ, starting the search of the bottom layer from
+         *  the given seed documents instead of descending from the entry point of the graph
+         *
+         * Parameters:
+         * methodParamsJ: introduces a map to have additional method parameters
+         * seedIdsJ: ids of the documents to start the search from, falls back to QueryIndex_WithFilter when null or empty,
+         *           or when the index is not an HNSW index
+         *
+         * Return an array of KNNQueryResults
+        */
+        jobjectArray QueryIndex_WithSeeds(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
+                                          jfloatArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filterIdsJ,
+                                          jint filterIdsTypeJ, jintArray seedIdsJ);
+
         // Execute a query against the binary index located in memory at indexPointerJ along with Filters
         //
         // Return an array of KNNQueryResults
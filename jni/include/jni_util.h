@@ -149,6 +149,10 @@ namespace knn_jni {
 
         virtual void ReleasePrimitiveArrayCritical(JNIEnv * env, jarray array, void *carray, jint mode) = 0;
 
+        virtual void * GetDirectBufferAddress(JNIEnv * env, jobject buffer) = 0;
+
+        virtual jlong GetDirectBufferCapacity(JNIEnv * env, jobject buffer) = 0;
+
         virtual jint CallNonvirtualIntMethodA(JNIEnv *env, jobject obj, jclass clazz,
                                               jmethodID methodID, jvalue *args) = 0;
 
@@ -219,6 +223,8 @@ namespace knn_jni {
         void CallNonvirtualVoidMethodA(JNIEnv * env, jobject obj, jclass clazz, jmethodID methodID, jvalue* args) final;
         void * GetPrimitiveArrayCritical(JNIEnv * env, jarray array, jboolean *isCopy) final;
         void ReleasePrimitiveArrayCritical(JNIEnv * env, jarray array, void *carray, jint mode) final;
+        void * GetDirectBufferAddress(JNIEnv * env, jobject buffer) final;
+        jlong GetDirectBufferCapacity(JNIEnv * env, jobject buffer) final;
         JNIEnv* GetJNICurrentEnv();
 
     private:
@@ -10,11 +10,44 @@
  */
 #include <jni.h>
 
+#include <stdexcept>
+#include <string>
 #include <vector>
 
 #include "jni_util.h"
 #include "commons.h"
 
+namespace {
+    template <typename T>
+    jlong storeFromDirectBuffer(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jlong memoryAddressJ, jobject dataJ,
+                                jint numBytesJ, jlong initialCapacityJ, jboolean appendJ) {
+        const auto *data = static_cast<const uint8_t *>(jniUtil->GetDirectBufferAddress(env, dataJ));
+        if (data == nullptr) {
+            throw std::runtime_error("Vectors must be staged in a direct buffer");
+        }
+        if (numBytesJ < 0 || numBytesJ > jniUtil->GetDirectBufferCapacity(env, dataJ) || static_cast<size_t>(numBytesJ) % sizeof(T) != 0) {
+            throw std::runtime_error("Invalid number of staged bytes " + std::to_string(numBytesJ));
+        }
+
+        std::vector<T> *vect;
+        if (memoryAddressJ == 0) {
+            vect = new std::vector<T>();
+            vect->reserve(static_cast<long>(initialCapacityJ));
+        } else {
+            vect = reinterpret_cast<std::vector<T>*>(memoryAddressJ);
+        }
+
+        if (appendJ == JNI_FALSE) {
+            vect->clear();
+        }
+
+        const auto *begin = reinterpret_cast<const T *>(data);
+        vect->insert(vect->end(), begin, begin + numBytesJ / sizeof(T));
+
+        return (jlong) vect;
+    }
+}
+
 jlong knn_jni::commons::storeVectorData(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jlong memoryAddressJ,
                                         jobjectArray dataJ, jlong initialCapacityJ, jboolean appendJ) {
     std::vector<float> *vect;
@@ -75,6 +108,21 @@ jlong knn_jni::commons::storeByteVectorData(knn_jni::JNIUtilInterface *jniUtil,
     return (jlong) vect;
 }
 
+jlong knn_jni::commons::storeVectorDataFromBuffer(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jlong memoryAddressJ,
+                                                  jobject dataJ, jint numBytesJ, jlong initialCapacityJ, jboolean appendJ) {
+    return storeFromDirectBuffer<float>(jniUtil, env, memoryAddressJ, dataJ, numBytesJ, initialCapacityJ, appendJ);
+}
+
+jlong knn_jni::commons::storeBinaryVectorDataFromBuffer(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jlong memoryAddressJ,
+                                                        jobject dataJ, jint numBytesJ, jlong initialCapacityJ, jboolean appendJ) {
+    return storeFromDirectBuffer<uint8_t>(jniUtil, env, memoryAddressJ, dataJ, numBytesJ, initialCapacityJ, appendJ);
+}
+
+jlong knn_jni::commons::storeByteVectorDataFromBuffer(knn_jni::JNIUtilInterface *jniUtil, JNIEnv *env, jlong memoryAddressJ,
+                                                      jobject dataJ, jint numBytesJ, jlong initialCapacityJ, jboolean appendJ) {
+    return storeFromDirectBuffer<int8_t>(jniUtil, env, memoryAddressJ, dataJ, numBytesJ, initialCapacityJ, appendJ);
+}
+
 void knn_jni::commons::freeVectorData(jlong memoryAddressJ) {
     if (memoryAddressJ != 0) {
         auto *vect = reinterpret_cast<std::vector<float>*>(memoryAddressJ);
@@ -20,9 +20,11 @@
 #include "faiss/index_factory.h"
 #include "faiss/index_io.h"
 #include "faiss/IndexHNSW.h"
+#include "faiss/IndexIDMap.h"
 #include "faiss/IndexIVFFlat.h"
 #include "faiss/Index.h"
 #include "faiss/impl/IDSelector.h"
+#include "faiss/impl/DistanceComputer.h"
 #include "faiss/IndexIVFPQ.h"
 #include "commons.h"
 #include "faiss/IndexBinaryIVF.h"
@@ -302,6 +304,91 @@ void knn_jni::faiss_wrapper::WriteIndex(knn_jni::JNIUtilInterface * jniUtil, JNI
     indexService->writeIndex(&writer, index_ptr, skipFlat);
 }
 
+void knn_jni::faiss_wrapper::ReorderIndex(jlong indexAddr) {
+    auto *idMap = reinterpret_cast<faiss::IndexIDMap *>(indexAddr);
+    if (idMap == nullptr) {
+        throw std::runtime_error("Invalid pointer to index");
+    }
+
+    // Only graphs storing their own float vectors are renumbered. Other storages are either not permutable, or read by memory
+    // optimized search from Lucene's flat vectors, which stay in document order.
+    auto *hnswFlat = dynamic_cast<faiss::IndexHNSWFlat *>(idMap->index);
+    if (hnswFlat == nullptr || hnswFlat->ntotal < 2 || hnswFlat->hnsw.entry_point < 0) {
+        return;
+    }
+
+    // perm[i] is the current id of the vector that becomes the i-th one. Vectors are visited in breadth first order of the base
+    // layer from the entry point, then from every vector not reached yet, in id order.
+    const faiss::HNSW &hnsw = hnswFlat->hnsw;
+    const faiss::idx_t ntotal = hnswFlat->ntotal;
+    std::vector<faiss::idx_t> perm;
+    perm.reserve(ntotal);
+    std::vector<bool> visited(ntotal, false);
+    auto visitFrom = [&](faiss::idx_t start) {
+        visited[start] = true;
+        perm.push_back(start);
+        for (size_t head = perm.size() - 1; head < perm.size(); ++head) {
+            size_t begin, end;
+            hnsw.neighbor_range(perm[head], 0, &begin, &end);
+            for (size_t j = begin; j < end; ++j) {
+                const faiss::idx_t neighbor = hnsw.neighbors[j];
+                if (neighbor < 0) {
+                    break;
+                }
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    perm.push_back(neighbor);
+                }
+            }
+        }
+    };
+
+    visitFrom(hnsw.entry_point);
+    for (faiss::idx_t i = 0; i < ntotal; ++i) {
+        if (!visited[i]) {
+            visitFrom(i);
+        }
+    }
+
+    // Permutes the storage, the levels and the neighbor lists of the graph.
+    hnswFlat->permute_entries(perm.data());
+
+    std::vector<faiss::idx_t> permutedIds(ntotal);
+    for (faiss::idx_t i = 0; i < ntotal; ++i) {
+        permutedIds[i] = idMap->id_map[perm[i]];
+    }
+    idMap->id_map.swap(permutedIds);
+}
+
+faiss::Index* knn_jni::faiss_wrapper::IndexDocumentPositions(faiss::Index* index) {
+    auto *idMap = dynamic_cast<faiss::IndexIDMap *>(index);
+    // Documents are added in order, only renumbered graphs have an unsorted id_map.
+    if (idMap == nullptr || std::is_sorted(idMap->id_map.begin(), idMap->id_map.end())) {
+        return index;
+    }
+
+    auto *renumbered = new RenumberedIndexIDMap();
+    renumbered->d = idMap->d;
+    renumbered->ntotal = idMap->ntotal;
+    renumbered->verbose = idMap->verbose;
+    renumbered->is_trained = idMap->is_trained;
+    renumbered->metric_type = idMap->metric_type;
+    renumbered->metric_arg = idMap->metric_arg;
+    renumbered->index = idMap->index;
+    renumbered->own_fields = idMap->own_fields;
+    renumbered->id_map = std::move(idMap->id_map);
+    // The sub index now belongs to the renumbered map.
+    idMap->own_fields = false;
+    delete idMap;
+
+    const auto maxId = *std::max_element(renumbered->id_map.begin(), renumbered->id_map.end());
+    renumbered->positions.assign(maxId + 1, -1);
+    for (size_t position = 0; position < renumbered->id_map.size(); ++position) {
+        renumbered->positions[renumbered->id_map[position]] = (faiss::HNSW::storage_idx_t) position;
+    }
+    return renumbered;
+}
+
 void knn_jni::faiss_wrapper::CreateIndexFromTemplate(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jintArray idsJ,
                                                      jlong vectorsAddressJ, jint dimJ, jobject output,
                                                      jbyteArray templateIndexJ, jobject parametersJ) {
@@ -576,7 +663,7 @@ jlong knn_jni::faiss_wrapper::LoadIndex(knn_jni::JNIUtilInterface * jniUtil, JNI
     // Skipping IO_PRECOMPUTE_TABLE because it is only needed for IVFPQ-l2 and it leads to high memory consumption if
     // done for each segment. Instead, we will set it later on with `setSharedIndexState`
     faiss::Index* indexReader = faiss::read_index(indexPathCpp.c_str(), faiss::IO_FLAG_READ_ONLY | faiss::IO_FLAG_PQ_SKIP_SDC_TABLE | faiss::IO_FLAG_SKIP_PRECOMPUTE_TABLE);
-    return (jlong) indexReader;
+    return (jlong) knn_jni::faiss_wrapper::IndexDocumentPositions(indexReader);
 }
 
 jlong knn_jni::faiss_wrapper::LoadIndexWithStream(faiss::IOReader* ioReader) {
@@ -590,7 +677,7 @@ jlong knn_jni::faiss_wrapper::LoadIndexWithStream(faiss::IOReader* ioReader) {
                         | faiss::IO_FLAG_PQ_SKIP_SDC_TABLE
                         | faiss::IO_FLAG_SKIP_PRECOMPUTE_TABLE);
 
-    return (jlong) indexReader;
+    return (jlong) knn_jni::faiss_wrapper::IndexDocumentPositions(indexReader);
 }
 jlong knn_jni::faiss_wrapper::LoadIndexWithStreamADCParams(faiss::IOReader* ioReader, knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jobject methodParamsJ) {
     auto methodParams = jniUtil->ConvertJavaMapToCppMap(env, methodParamsJ);
@@ -900,6 +987,134 @@ jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithFilter(knn_jni::JNIUtilInter
     return results;
 }
 
+jobjectArray knn_jni::faiss_wrapper::QueryIndex_WithSeeds(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
+                                                jfloatArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filterIdsJ, jint filterIdsTypeJ, jintArray seedIdsJ) {
+
+    if (queryVectorJ == nullptr) {
+        throw std::runtime_error("Query Vector cannot be null");
+    }
+
+    auto *indexReader = reinterpret_cast<faiss::IndexIDMap *>(indexPointerJ);
+
+    if (indexReader == nullptr) {
+        throw std::runtime_error("Invalid pointer to index");
+    }
+
+    // Seeds only make sense for the bottom layer of an HNSW graph, any other index runs the regular search.
+    auto hnswReader = dynamic_cast<const faiss::IndexHNSW*>(indexReader->index);
+    int numSeedsJ = seedIdsJ == nullptr ? 0 : jniUtil->GetJavaIntArrayLength(env, seedIdsJ);
+    if (hnswReader == nullptr || numSeedsJ == 0) {
+        return knn_jni::faiss_wrapper::QueryIndex_WithFilter(jniUtil, env, indexPointerJ, queryVectorJ, kJ, methodParamsJ, filterIdsJ, filterIdsTypeJ, nullptr);
+    }
+
+    std::unordered_map<std::string, jobject> methodParams;
+    if (methodParamsJ != nullptr) {
+        methodParams = jniUtil->ConvertJavaMapToCppMap(env, methodParamsJ);
+    }
+
+    // Seeds are document ids, the graph works on the positions of the vectors in the storage. Documents are added in order,
+    // so id_map is sorted and a binary search finds the position of a document. Graphs renumbered by ReorderIndex are loaded as a
+    // RenumberedIndexIDMap, which holds the position of every document.
+    const auto *renumbered = dynamic_cast<const knn_jni::faiss_wrapper::RenumberedIndexIDMap *>(indexReader);
+    const std::vector<faiss::idx_t>& idMap = indexReader->id_map;
+    std::vector<faiss::HNSW::storage_idx_t> seeds;
+    seeds.reserve(numSeedsJ);
+    jint *seedIdsArray = jniUtil->GetIntArrayElements(env, seedIdsJ, nullptr);
+    for (int i = 0; i < numSeedsJ; ++i) {
+        if (renumbered != nullptr) {
+            const faiss::HNSW::storage_idx_t position = renumbered->position(seedIdsArray[i]);
+            if (position >= 0) {
+                seeds.push_back(position);
+            }
+            continue;
+        }
+        auto it = std::lower_bound(idMap.begin(), idMap.end(), (faiss::idx_t) seedIdsArray[i]);
+        if (it != idMap.end() && *it == seedIdsArray[i]) {
+            seeds.push_back(it - idMap.begin());
+        }
+    }
+    jniUtil->ReleaseIntArrayElements(env, seedIdsJ, seedIdsArray, JNI_ABORT);
+    if (seeds.empty()) {
+        return knn_jni::faiss_wrapper::QueryIndex_WithFilter(jniUtil, env, indexPointerJ, queryVectorJ, kJ, methodParamsJ, filterIdsJ, filterIdsTypeJ, nullptr);
+    }
+
+    std::vector<float> dis(kJ);
+    std::vector<faiss::idx_t> ids(kJ);
+    std::vector<float> seedDistances(seeds.size());
+    float* rawQueryvector = jniUtil->GetFloatArrayElements(env, queryVectorJ, nullptr);
+    /*
+        Setting the omp_set_num_threads to 1 to make sure that no new OMP threads are getting created.
+    */
+    omp_set_num_threads(1);
+
+    faiss::SearchParametersHNSW hnswParams;
+    // Query param efsearch supersedes ef_search provided during index setting. The candidate list of the bottom layer search holds
+    // max(k, ef_search) nodes, as in the regular search, so that a small ef_search never truncates the k results.
+    hnswParams.efSearch = std::max((int) kJ, knn_jni::commons::getIntegerMethodParameter(env, jniUtil, methodParams, EF_SEARCH, hnswReader->hnsw.efSearch));
+    jlong *filteredIdsArray = nullptr;
+    std::unique_ptr<faiss::IDSelector> idSelector;
+    std::unique_ptr<faiss::IDSelectorTranslated> translatedSelector;
+    if (filterIdsJ != nullptr) {
+        filteredIdsArray = jniUtil->GetLongArrayElements(env, filterIdsJ, nullptr);
+        int filterIdsLength = jniUtil->GetJavaLongArrayLength(env, filterIdsJ);
+        if (filterIdsTypeJ == BITMAP) {
+            idSelector.reset(new faiss::IDSelectorJlongBitmap(filterIdsLength, filteredIdsArray));
+        } else {
+            faiss::idx_t* batchIndices = reinterpret_cast<faiss::idx_t*>(filteredIdsArray);
+            idSelector.reset(new faiss::IDSelectorBatch(filterIdsLength, batchIndices));
+        }
+        // The filter holds document ids, IndexIDMap translates them when it searches, which is done here on its behalf.
+        translatedSelector.reset(new faiss::IDSelectorTranslated(indexReader->id_map, idSelector.get()));
+        hnswParams.sel = translatedSelector.get();
+    }
+
+    try {
+        // The graph search works on distances where smaller is better, which for inner product is the negated similarity.
+        std::unique_ptr<faiss::DistanceComputer> distanceComputer(hnswReader->storage->get_distance_computer());
+        distanceComputer->set_query(rawQueryvector);
+        const bool isSimilarity = hnswReader->metric_type == faiss::METRIC_INNER_PRODUCT;
+        for (int i = 0; i < seeds.size(); ++i) {
+            const float distance = (*distanceComputer)(seeds[i]);
+            seedDistances[i] = isSimilarity ? -distance : distance;
+        }
+        // search_type 2 puts all the seeds in one candidate list of max(k, ef_search, number of seeds) nodes and runs a single bottom
+        // layer search from it, while search_type 1 would run one search per seed. search_level_0 negates the distances back.
+        hnswReader->search_level_0(1, rawQueryvector, kJ, seeds.data(), seedDistances.data(), dis.data(), ids.data(),
+                                   seeds.size(), 2, &hnswParams);
+    } catch (...) {
+        jniUtil->ReleaseFloatArrayElements(env, queryVectorJ, rawQueryvector, JNI_ABORT);
+        if (filteredIdsArray != nullptr) {
+            jniUtil->ReleaseLongArrayElements(env, filterIdsJ, filteredIdsArray, JNI_ABORT);
+        }
+        throw;
+    }
+    jniUtil->ReleaseFloatArrayElements(env, queryVectorJ, rawQueryvector, JNI_ABORT);
+    if (filteredIdsArray != nullptr) {
+        jniUtil->ReleaseLongArrayElements(env, filterIdsJ, filteredIdsArray, JNI_ABORT);
+    }
+
+    // If there are not k results, the results will be padded with -1. Find the first -1, and set result size to that
+    // index
+    int resultSize = kJ;
+    auto it = std::find(ids.begin(), ids.end(), -1);
+    if (it != ids.end()) {
+        resultSize = it - ids.begin();
+    }
+
+    jclass resultClass = jniUtil->FindClass(env,"org/opensearch/knn/index/query/KNNQueryResult");
+    jmethodID allArgs = jniUtil->FindMethod(env, "org/opensearch/knn/index/query/KNNQueryResult", "<init>");
+
+    jobjectArray results = jniUtil->NewObjectArray(env, resultSize, resultClass, nullptr);
+
+    for(int i = 0; i < resultSize; ++i) {
+        // search_level_0 returns positions in the storage, map them back to document ids.
+        jobject result = jniUtil->NewObject(env, resultClass, allArgs, indexReader->id_map[ids[i]], dis[i]);
+        jniUtil->SetObjectArrayElement(env, results, i, result);
+        env->DeleteLocalRef(result);
+    }
+    return results;
+}
+
 jobjectArray knn_jni::faiss_wrapper::QueryBinaryIndex_WithFilter(knn_jni::JNIUtilInterface * jniUtil, JNIEnv * env, jlong indexPointerJ,
                                                 jbyteArray queryVectorJ, jint kJ, jobject methodParamsJ, jlongArray filterIdsJ, jint filterIdsTypeJ, jintArray parentIdsJ) {
 
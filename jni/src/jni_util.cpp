@@ -690,6 +690,14 @@ void knn_jni::JNIUtil::ReleasePrimitiveArrayCritical(JNIEnv * env, jarray array,
     return env->ReleasePrimitiveArrayCritical(array, carray, mode);
 }
 
+void * knn_jni::JNIUtil::GetDirectBufferAddress(JNIEnv * env, jobject buffer) {
+    return env->GetDirectBufferAddress(buffer);
+}
+
+jlong knn_jni::JNIUtil::GetDirectBufferCapacity(JNIEnv * env, jobject buffer) {
+    return env->GetDirectBufferCapacity(buffer);
+}
+
 jobject knn_jni::GetJObjectFromMapOrThrow(std::unordered_map<std::string, jobject> map, std::string key) {
     auto it = map.find(key);
     if (it != map.end()) {
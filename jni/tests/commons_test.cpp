@@ -182,6 +182,58 @@ TEST(StoreByteVectorTest, BasicAssertions) {
     knn_jni::commons::freeBinaryVectorData(memoryAddress);
 }
 
+TEST(StoreVectorDataFromBufferTest, BasicAssertions) {
+    long dim = 3;
+    long totalNumberOfVector = 5;
+    std::vector<float> staged;
+    for(int i = 0 ; i < totalNumberOfVector - 1 ; i++) {
+        for(int j = 0 ; j < dim ; j ++) {
+            staged.push_back((float)(i * dim + j));
+        }
+    }
+    JNIEnv *jniEnv = nullptr;
+    auto bufferJ = reinterpret_cast<jobject>(&staged);
+
+    testing::NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+    EXPECT_CALL(mockJNIUtil, GetDirectBufferAddress(jniEnv, bufferJ)).WillRepeatedly(testing::Return(staged.data()));
+    EXPECT_CALL(mockJNIUtil, GetDirectBufferCapacity(jniEnv, bufferJ))
+        .WillRepeatedly(testing::Return((jlong)(staged.size() * sizeof(float))));
+
+    // Store 4 vectors in a new memory location
+    jlong memoryAddress = knn_jni::commons::storeVectorDataFromBuffer(&mockJNIUtil, jniEnv, (jlong)0, bufferJ,
+        (jint)(staged.size() * sizeof(float)), (jlong)(totalNumberOfVector * dim), true);
+    ASSERT_NE(memoryAddress, 0);
+    auto *vect = reinterpret_cast<std::vector<float>*>(memoryAddress);
+    ASSERT_EQ(vect->size(), staged.size());
+    ASSERT_EQ(vect->capacity(), totalNumberOfVector * dim);
+    for(size_t i = 0 ; i < staged.size() ; i++) {
+        ASSERT_FLOAT_EQ(vect->at(i), staged[i]);
+    }
+
+    // Append only the first vector of the buffer
+    jlong oldMemoryAddress = memoryAddress;
+    memoryAddress = knn_jni::commons::storeVectorDataFromBuffer(&mockJNIUtil, jniEnv, memoryAddress, bufferJ,
+        (jint)(dim * sizeof(float)), (jlong)(totalNumberOfVector * dim), true);
+    ASSERT_EQ(memoryAddress, oldMemoryAddress);
+    ASSERT_EQ(vect->size(), totalNumberOfVector * dim);
+    ASSERT_FLOAT_EQ(vect->at(staged.size()), staged[0]);
+
+    // Overwrite with the first vector when not appending, the allocated capacity is kept
+    memoryAddress = knn_jni::commons::storeVectorDataFromBuffer(&mockJNIUtil, jniEnv, memoryAddress, bufferJ,
+        (jint)(dim * sizeof(float)), (jlong)(totalNumberOfVector * dim), false);
+    ASSERT_EQ(memoryAddress, oldMemoryAddress);
+    ASSERT_EQ(vect->size(), dim);
+    ASSERT_EQ(vect->capacity(), totalNumberOfVector * dim);
+
+    // More bytes than staged, or bytes not making whole floats, are rejected
+    ASSERT_THROW(knn_jni::commons::storeVectorDataFromBuffer(&mockJNIUtil, jniEnv, memoryAddress, bufferJ,
+        (jint)((staged.size() + 1) * sizeof(float)), (jlong)(totalNumberOfVector * dim), true), std::runtime_error);
+    ASSERT_THROW(knn_jni::commons::storeVectorDataFromBuffer(&mockJNIUtil, jniEnv, memoryAddress, bufferJ,
+        (jint)(sizeof(float) + 1), (jlong)(totalNumberOfVector * dim), true), std::runtime_error);
+
+    knn_jni::commons::freeVectorData(memoryAddress);
+}
+
 TEST(CommonTests, GetIntegerMethodParam) {
     JNIEnv *jniEnv = nullptr;
     testing::NiceMock<test_util::MockJNIUtil> mockJNIUtil;
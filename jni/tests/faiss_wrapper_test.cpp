@@ -23,6 +23,8 @@
 #include "faiss/IndexIVFFlat.h"
 #include "faiss/IndexBinaryIVF.h"
 #include "faiss/index_factory.h"
+#include "faiss/index_io.h"
+#include "faiss/impl/io.h"
 #include "faiss/invlists/BlockInvertedLists.h"
 #include "mocks/faiss_index_service_mock.h"
 #include "native_stream_support_util.h"
@@ -860,6 +862,181 @@ TEST(FaissQueryIndexTest, BasicAssertions) {
     }
 }
 
+TEST(FaissQueryIndexWithSeedsTest, BasicAssertions) {
+    // Define the index data, with document ids that differ from the positions of the vectors in the graph
+    faiss::idx_t numIds = 100;
+    int dim = 16;
+    std::vector<faiss::idx_t> ids;
+    for (faiss::idx_t i = 0; i < numIds; ++i) {
+        ids.push_back(2 * i + 1);
+    }
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+
+    faiss::MetricType metricType = faiss::METRIC_L2;
+    std::string method = "HNSW32,Flat";
+
+    // Define query data, the query is the vector of the document at position 37
+    int k = 10;
+    int efSearch = 20;
+    std::unordered_map<std::string, jobject> methodParams;
+    methodParams[knn_jni::EF_SEARCH] = reinterpret_cast<jobject>(&efSearch);
+    int position = 37;
+    std::vector<float> query(vectors.begin() + position * dim, vectors.begin() + (position + 1) * dim);
+    std::vector<int> seedIds = {(int) ids[position], (int) ids[position] + 1};
+
+    // Create the index
+    std::unique_ptr<faiss::Index> createdIndex(
+            test_util::FaissCreateIndex(dim, method, metricType));
+    auto createdIndexWithData =
+            test_util::FaissAddData(createdIndex.get(), ids, vectors);
+
+    // Setup jni
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+    auto methodParamsJ = reinterpret_cast<jobject>(&methodParams);
+    EXPECT_CALL(mockJNIUtil, GetJavaIntArrayLength(testing::_, reinterpret_cast<jintArray>(&seedIds)))
+            .WillRepeatedly(testing::Return(seedIds.size()));
+
+    std::unique_ptr<std::vector<std::pair<int, float> *>> results(
+            reinterpret_cast<std::vector<std::pair<int, float> *> *>(
+                    knn_jni::faiss_wrapper::QueryIndex_WithSeeds(
+                            &mockJNIUtil, &jniEnv,
+                            reinterpret_cast<jlong>(&createdIndexWithData),
+                            reinterpret_cast<jfloatArray>(&query), k, methodParamsJ, nullptr, 0,
+                            reinterpret_cast<jintArray>(&seedIds))));
+
+    // The seed that is not a document is ignored, the other one is the exact match, returned with its document id
+    ASSERT_EQ(k, results->size());
+    ASSERT_EQ(ids[position], results->at(0)->first);
+    ASSERT_FLOAT_EQ(0, results->at(0)->second);
+    for (auto it : *results.get()) {
+        ASSERT_EQ(1, it->first % 2);
+    }
+
+    // Need to free up each result
+    for (auto it : *results.get()) {
+        delete it;
+    }
+
+    // An ef_search smaller than k still returns k results, the candidate list holds max(k, ef_search) nodes
+    efSearch = 2;
+    std::unique_ptr<std::vector<std::pair<int, float> *>> smallEfResults(
+            reinterpret_cast<std::vector<std::pair<int, float> *> *>(
+                    knn_jni::faiss_wrapper::QueryIndex_WithSeeds(
+                            &mockJNIUtil, &jniEnv,
+                            reinterpret_cast<jlong>(&createdIndexWithData),
+                            reinterpret_cast<jfloatArray>(&query), k, methodParamsJ, nullptr, 0,
+                            reinterpret_cast<jintArray>(&seedIds))));
+    ASSERT_EQ(k, smallEfResults->size());
+    ASSERT_EQ(ids[position], smallEfResults->at(0)->first);
+    for (auto it : *smallEfResults.get()) {
+        delete it;
+    }
+}
+
+TEST(FaissReorderIndexTest, BasicAssertions) {
+    // Define the index data
+    faiss::idx_t numIds = 200;
+    int dim = 8;
+    std::vector<faiss::idx_t> ids;
+    for (faiss::idx_t i = 0; i < numIds; ++i) {
+        ids.push_back(3 * i);
+    }
+    std::vector<float> vectors = test_util::RandomVectors(dim, numIds, randomDataMin, randomDataMax);
+
+    faiss::MetricType metricType = faiss::METRIC_L2;
+    std::string method = "HNSW16,Flat";
+
+    // Create the index
+    std::unique_ptr<faiss::Index> createdIndex(
+            test_util::FaissCreateIndex(dim, method, metricType));
+    auto createdIndexWithData =
+            test_util::FaissAddData(createdIndex.get(), ids, vectors);
+
+    knn_jni::faiss_wrapper::ReorderIndex(reinterpret_cast<jlong>(&createdIndexWithData));
+
+    // Every document keeps its vector, at a new position
+    auto hnswFlat = dynamic_cast<faiss::IndexHNSWFlat *>(createdIndexWithData.index);
+    ASSERT_NE(hnswFlat, nullptr);
+    ASSERT_EQ(numIds, createdIndexWithData.id_map.size());
+    ASSERT_EQ(0, hnswFlat->hnsw.entry_point);
+    std::vector<bool> seen(numIds, false);
+    std::vector<float> vector(dim);
+    for (faiss::idx_t i = 0; i < numIds; ++i) {
+        faiss::idx_t id = createdIndexWithData.id_map[i];
+        ASSERT_EQ(0, id % 3);
+        ASSERT_FALSE(seen[id / 3]);
+        seen[id / 3] = true;
+        hnswFlat->reconstruct(i, vector.data());
+        for (int j = 0; j < dim; ++j) {
+            ASSERT_FLOAT_EQ(vectors[(id / 3) * dim + j], vector[j]);
+        }
+    }
+
+    // Searches still return document ids
+    int k = 1;
+    int efSearch = 20;
+    std::unordered_map<std::string, jobject> methodParams;
+    methodParams[knn_jni::EF_SEARCH] = reinterpret_cast<jobject>(&efSearch);
+    int position = 42;
+    std::vector<float> query(vectors.begin() + position * dim, vectors.begin() + (position + 1) * dim);
+
+    NiceMock<JNIEnv> jniEnv;
+    NiceMock<test_util::MockJNIUtil> mockJNIUtil;
+    std::unique_ptr<std::vector<std::pair<int, float> *>> results(
+            reinterpret_cast<std::vector<std::pair<int, float> *> *>(
+                    knn_jni::faiss_wrapper::QueryIndex(
+                            &mockJNIUtil, &jniEnv,
+                            reinterpret_cast<jlong>(&createdIndexWithData),
+                            reinterpret_cast<jfloatArray>(&query), k, reinterpret_cast<jobject>(&methodParams), nullptr)));
+
+    ASSERT_EQ(k, results->size());
+    ASSERT_EQ(ids[position], results->at(0)->first);
+
+    // Need to free up each result
+    for (auto it : *results.get()) {
+        delete it;
+    }
+
+    // Once loaded, the position of every document is known although id_map is no longer sorted
+    faiss::VectorIOWriter writer;
+    faiss::write_index(&createdIndexWithData, &writer);
+    faiss::VectorIOReader reader;
+    reader.data = writer.data;
+    std::unique_ptr<faiss::Index> loadedIndex(
+            reinterpret_cast<faiss::Index *>(knn_jni::faiss_wrapper::LoadIndexWithStream(&reader)));
+    auto renumbered = dynamic_cast<knn_jni::faiss_wrapper::RenumberedIndexIDMap *>(loadedIndex.get());
+    ASSERT_NE(renumbered, nullptr);
+    for (faiss::idx_t i = 0; i < numIds; ++i) {
+        ASSERT_EQ(i, renumbered->position(createdIndexWithData.id_map[i]));
+    }
+    ASSERT_EQ(-1, renumbered->position(1));
+    ASSERT_EQ(-1, renumbered->position(3 * numIds));
+
+    // Seeds are found in the loaded index. With a candidate list of one node, the search only returns the exact match when it
+    // starts from it.
+    efSearch = 1;
+    for (int seedPosition = 0; seedPosition < numIds; ++seedPosition) {
+        std::vector<float> seedQuery(vectors.begin() + seedPosition * dim, vectors.begin() + (seedPosition + 1) * dim);
+        std::vector<int> seedIds = {(int) ids[seedPosition]};
+        EXPECT_CALL(mockJNIUtil, GetJavaIntArrayLength(testing::_, reinterpret_cast<jintArray>(&seedIds)))
+                .WillRepeatedly(testing::Return(seedIds.size()));
+        std::unique_ptr<std::vector<std::pair<int, float> *>> seededResults(
+                reinterpret_cast<std::vector<std::pair<int, float> *> *>(
+                        knn_jni::faiss_wrapper::QueryIndex_WithSeeds(
+                                &mockJNIUtil, &jniEnv,
+                                reinterpret_cast<jlong>(loadedIndex.get()),
+                                reinterpret_cast<jfloatArray>(&seedQuery), k, reinterpret_cast<jobject>(&methodParams), nullptr, 0,
+                                reinterpret_cast<jintArray>(&seedIds))));
+        ASSERT_EQ(k, seededResults->size());
+        ASSERT_EQ(ids[seedPosition], seededResults->at(0)->first);
+        ASSERT_FLOAT_EQ(0, seededResults->at(0)->second);
+        for (auto it : *seededResults.get()) {
+            delete it;
+        }
+    }
+}
+
 TEST(FaissQueryBinaryIndexTest, BasicAssertions) {
     // Define the data
     faiss::idx_t numIds = 200;
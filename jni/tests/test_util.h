@@ -117,6 +117,8 @@ namespace test_util {
         MOCK_METHOD(jlong, CallNonvirtualLongMethodA, (JNIEnv * env, jobject obj, jclass clazz, jmethodID methodID, jvalue* args));
         MOCK_METHOD(void *, GetPrimitiveArrayCritical, (JNIEnv * env, jarray array, jboolean *isCopy));
         MOCK_METHOD(void, ReleasePrimitiveArrayCritical, (JNIEnv * env, jarray array, void *carray, jint mode));
+        MOCK_METHOD(void *, GetDirectBufferAddress, (JNIEnv * env, jobject buffer));
+        MOCK_METHOD(jlong, GetDirectBufferCapacity, (JNIEnv * env, jobject buffer));
         MOCK_METHOD(void, CallNonvirtualVoidMethodA, (JNIEnv * env, jobject obj, jclass clazz, jmethodID methodID, jvalue* args));
         MOCK_METHOD(knn_jni::BQQuantizationLevel,
                 ConvertJavaStringToQuantizationLevel,
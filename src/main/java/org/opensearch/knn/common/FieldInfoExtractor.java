@@ -134,6 +134,28 @@ public class FieldInfoExtractor {
         return quantizationConfig.isEnableADC();
     }
 
+    /**
+     * Check for a field to be backed by a trained model or not
+     * @param fieldInfo {@link FieldInfo}
+     * @return true if the field refers to a model, false otherwise
+     */
+    public static boolean isModelField(final FieldInfo fieldInfo) {
+        return StringUtils.isNotEmpty(fieldInfo.getAttribute(MODEL_ID));
+    }
+
+    /**
+     * Check for a field to be backed by a FAISS IVF-PQ model, whose PQ codes can be scored against a float query
+     * @param modelDao ModelDao instance to retrieve model metadata
+     * @param fieldInfo {@link FieldInfo}
+     * @return true if the field is backed by an IVF-PQ model, false otherwise
+     */
+    public static boolean isProductQuantizedModelField(final ModelDao modelDao, final FieldInfo fieldInfo) {
+        if (modelDao == null || isModelField(fieldInfo) == false) {
+            return false;
+        }
+        return MemoryOptimizedSearchSupportSpec.isProductQuantizedModel(modelDao.getMetadata(fieldInfo.getAttribute(MODEL_ID)));
+    }
+
     /**
      * Get the space type for the given field info.
      *
@@ -33,6 +33,8 @@ public class KNNConstants {
     public static final String PROPERTIES = "properties";
     public static final String METHOD_PARAMETER = "method_parameters";
     public static final String METHOD_PARAMETER_EF_SEARCH = "ef_search";
+    public static final String METHOD_PARAMETER_FILTERED_TRAVERSAL = "filtered_traversal";
+    public static final String METHOD_PARAMETER_BEAM_WIDTH = "beam_width";
     public static final String METHOD_PARAMETER_EF_CONSTRUCTION = "ef_construction";
     public static final String METHOD_PARAMETER_M = "m";
     public static final String METHOD_IVF = "ivf";
@@ -65,6 +67,7 @@ public class KNNConstants {
 
     public static final String KNN_THREAD_POOL_PREFIX = "knn";
     public static final String TRAIN_THREAD_POOL = "training";
+    public static final String WARMUP_THREAD_POOL = "warmup";
 
     public static final String TRAINING_JOB_COUNT_FIELD_NAME = "training_job_count";
     public static final String NODES_KEY = "nodes";
@@ -123,6 +126,10 @@ public class KNNConstants {
     // Faiss specific constants
     public static final String FAISS_NAME = "faiss";
     public final static String FAISS_EXTENSION = ".faiss";
+    // Companion file of a Faiss HNSW graph, keeping the base level neighbor list of every vector next to the vector.
+    public static final String FAISS_COLOCATED_GRAPH_EXTENSION = ".faissblk";
+    // Companion file of a Faiss HNSW graph, mapping k-means centroids of the vectors to the graph nodes to start searches from.
+    public static final String FAISS_ENTRY_POINT_TABLE_EXTENSION = ".faissept";
     public static final String INDEX_DESCRIPTION_PARAMETER = "index_description";
     public static final String METHOD_ENCODER_PARAMETER = "encoder";
     public static final String METHOD_PARAMETER_NPROBES = "nprobes";
@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.common.exception;
+
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+
+/**
+ * Thrown when a native memory load is shed by the node-local admission controller. It maps to a
+ * 429 TOO_MANY_REQUESTS response so that clients can retry the request.
+ */
+public class NativeMemoryLoadRejectedException extends OpenSearchRejectedExecutionException {
+
+    /**
+     * Constructor
+     *
+     * @param message Exception message to be appended.
+     */
+    public NativeMemoryLoadRejectedException(String message) {
+        super(message);
+    }
+
+    @Override
+    public String toString() {
+        return "[KNN] " + "Native memory load rejected by admission control: " + super.toString();
+    }
+}
@@ -18,7 +18,6 @@ import org.opensearch.protobufs.KnnQueryRescore;
 import org.opensearch.protobufs.QueryContainer;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -46,7 +45,7 @@ public class KNNQueryBuilderProtoUtils {
         builder.fieldName(knnQueryProto.getField());
 
         // Set vector (equivalent to VECTOR_FIELD parsing)
-        builder.vector(convertVector(knnQueryProto.getVectorList()));
+        builder.vector(convertVector(knnQueryProto));
 
         // Set k if present (equivalent to K_FIELD parsing)
         if (knnQueryProto.getK() > 0) {
@@ -100,15 +99,18 @@ public class KNNQueryBuilderProtoUtils {
     }
 
     /**
-     * Converts a Protocol Buffer vector list to a float array.
+     * Converts the Protocol Buffer vector to a float array.
+     * The vector is a packed repeated float field, backed by a primitive float list. It is read through the indexed accessor, which
+     * returns primitive floats, as going through {@link KnnQuery#getVectorList()} would box every dimension.
      *
-     * @param vectorList The Protocol Buffer vector list
+     * @param knnQueryProto The Protocol Buffer KnnQuery holding the vector
      * @return The converted float array
      */
-    private float[] convertVector(List<Float> vectorList) {
-        float[] vector = new float[vectorList.size()];
-        for (int i = 0; i < vectorList.size(); i++) {
-            vector[i] = vectorList.get(i);
+    private float[] convertVector(KnnQuery knnQueryProto) {
+        final int dimension = knnQueryProto.getVectorCount();
+        final float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = knnQueryProto.getVector(i);
         }
         return vector;
     }
@@ -30,6 +30,7 @@ import org.opensearch.knn.index.memory.NativeMemoryEntryContext;
 import org.opensearch.knn.index.memory.NativeMemoryLoadStrategy;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
 import org.opensearch.knn.index.warmup.MemoryOptimizedSearchWarmup;
+import org.opensearch.knn.index.warmup.SegmentWarmupStats;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -38,7 +39,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
@@ -87,29 +90,72 @@ public class KNNIndexShard {
      * @throws IOException Thrown when getting the HNSW Paths to be loaded in
      */
     public void warmup() throws IOException {
+        warmup(Runnable::run);
+    }
+
+    /**
+     * Load all the k-NN segments for this shard into the cache.
+     * Memory optimized fields are warmed up first, with segments submitted to the given executor so that they can be warmed up
+     * concurrently. Off-heap fields are then loaded one segment at a time.
+     *
+     * @param executor Executor warming up memory optimized fields of each segment.
+     * @return Warm up stats of memory optimized fields, per segment.
+     * @throws IOException Thrown when getting the HNSW Paths to be loaded in
+     */
+    public List<SegmentWarmupStats> warmup(final Executor executor) throws IOException {
         final String indexName = indexShard.shardId().getIndexName();
         log.info("[KNN] Warming up index: [{}]", indexName);
 
         final MapperService mapperService = indexShard.mapperService();
+        final double topNodesPercentage = KNNSettings.INDEX_KNN_ADVANCED_WARMUP_TOP_NODES_PERCENTAGE_SETTING.get(
+            indexShard.indexSettings().getSettings()
+        );
 
         try (Engine.Searcher searcher = indexShard.acquireSearcher("knn-warmup-mem")) {
             final Directory directory = indexShard.store().directory();
             final MemoryOptimizedSearchWarmup memoryOptimizedSearchWarmup = new MemoryOptimizedSearchWarmup();
-            for (final LeafReaderContext leafReaderContext : searcher.getIndexReader().leaves()) {
-                // Load memory optimized searcher in a single segment first.
-                final Set<String> loadedFieldNames = new HashSet<>(
-                    memoryOptimizedSearchWarmup.warmUp(leafReaderContext.reader(), mapperService, indexName)
+            final List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+
+            // Load memory optimized searchers of all segments first.
+            final List<CompletableFuture<SegmentWarmupStats>> futures = new ArrayList<>(leaves.size());
+            for (final LeafReaderContext leafReaderContext : leaves) {
+                futures.add(
+                    CompletableFuture.supplyAsync(
+                        () -> memoryOptimizedSearchWarmup.warmUpSegment(
+                            leafReaderContext.reader(),
+                            mapperService,
+                            indexName,
+                            topNodesPercentage
+                        ),
+                        executor
+                    )
+                );
+            }
+            // Wait for all segments before going further, as the searcher must stay open until every warm up completes.
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            final List<SegmentWarmupStats> segmentWarmupStats = new ArrayList<>(leaves.size());
+            for (int i = 0; i < leaves.size(); ++i) {
+                final SegmentWarmupStats stats = futures.get(i).join();
+                segmentWarmupStats.add(stats);
+                final Set<String> loadedFieldNames = new HashSet<>(stats.getFields());
+                log.info(
+                    "[KNN] Loaded memory optimized searchers for fields {} in segment [{}], touched [{}] bytes in [{}] ms",
+                    loadedFieldNames,
+                    stats.getSegmentName(),
+                    stats.getBytesTouched(),
+                    stats.getTookInMillis()
                 );
-                log.info("[KNN] Loaded memory optimized searchers for fields {}", loadedFieldNames);
 
                 // Load off-heap index
-                final List<EngineFileContext> engineFileContexts = getAllEngineFileContexts(loadedFieldNames, leafReaderContext);
+                final List<EngineFileContext> engineFileContexts = getAllEngineFileContexts(loadedFieldNames, leaves.get(i));
                 warmUpOffHeapIndex(engineFileContexts, directory);
                 log.info(
                     "[KNN] Loaded off-heap indices for fields {}",
                     engineFileContexts.stream().map(ctx -> ctx.fieldName).collect(Collectors.toSet())
                 );
             }
+            return segmentWarmupStats;
         } catch (Exception e) {
             // Since the thrown exception is not being logged, we need to explicitly log the error message.
             log.error("Failed warm-up index: [{}]", indexName, e);
@@ -96,6 +96,9 @@ public class KNNSettings {
     public static final String KNN_CACHE_ITEM_EXPIRY_ENABLED = "knn.cache.item.expiry.enabled";
     public static final String KNN_CACHE_ITEM_EXPIRY_TIME_MINUTES = "knn.cache.item.expiry.minutes";
     public static final String KNN_CIRCUIT_BREAKER_UNSET_PERCENTAGE = "knn.circuit_breaker.unset.percentage";
+    public static final String KNN_MEMORY_ADMISSION_CONTROL_ENABLED = "knn.memory.admission_control.enabled";
+    public static final String KNN_MEMORY_ADMISSION_CONTROL_IN_FLIGHT_LIMIT = "knn.memory.admission_control.in_flight_limit";
+    public static final String KNN_MEMORY_ADMISSION_CONTROL_QUEUE_TIMEOUT = "knn.memory.admission_control.queue_timeout";
     public static final String KNN_INDEX = "index.knn";
     public static final String MODEL_INDEX_NUMBER_OF_SHARDS = "knn.model.index.number_of_shards";
     public static final String MODEL_INDEX_NUMBER_OF_REPLICAS = "knn.model.index.number_of_replicas";
@@ -122,6 +125,18 @@ public class KNNSettings {
     public static final String KNN_REMOTE_BUILD_SERVICE_PASSWORD = "knn.remote_index_build.service.password";
     public static final String INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH =
         "index.knn.faiss.efficient_filter.disable_exact_search";
+    public static final String INDEX_KNN_ADVANCED_EXACT_SEARCH_DURING_GRAPH_LOAD = "index.knn.advanced.exact_search_during_graph_load";
+    public static final String INDEX_KNN_ADVANCED_WARMUP_TOP_NODES_PERCENTAGE = "index.knn.advanced.warmup_top_nodes_percentage";
+    public static final String INDEX_KNN_ADVANCED_PIPELINED_RESCORE = "index.knn.advanced.pipelined_rescore";
+    public static final String INDEX_KNN_ADVANCED_RESCORE_TARGET_RECALL = "index.knn.advanced.rescore_target_recall";
+    public static final String INDEX_KNN_ADVANCED_NATIVE_OPTIMISTIC_SEARCH = "index.knn.advanced.native_optimistic_search";
+    public static final String INDEX_KNN_ADVANCED_FILTERED_SEARCH_SEEDS = "index.knn.advanced.filtered_search_seeds";
+    public static final String INDEX_KNN_ADVANCED_RADIAL_SEARCH_MAX_CANDIDATES = "index.knn.advanced.radial_search_max_candidates";
+    public static final String INDEX_KNN_ADVANCED_REORDER_GRAPH_ON_MERGE = "index.knn.advanced.reorder_graph_on_merge";
+    public static final String INDEX_KNN_ADVANCED_COLOCATED_GRAPH_LAYOUT = "index.knn.advanced.colocated_graph_layout";
+    public static final String INDEX_KNN_ADVANCED_ENTRY_POINT_TABLE_SIZE = "index.knn.advanced.entry_point_table_size";
+    public static final int INDEX_KNN_DEFAULT_RADIAL_SEARCH_MAX_CANDIDATES = 10000;
+    public static final double INDEX_KNN_DEFAULT_WARMUP_TOP_NODES_PERCENTAGE = 100;
 
     /**
      * For more details on supported engines, refer to {@link MemoryOptimizedSearchSupportSpec}
@@ -144,6 +159,9 @@ public class KNNSettings {
     public static final Integer INDEX_KNN_DEFAULT_ALGO_PARAM_EF_SEARCH = 100;
     public static final Integer INDEX_KNN_DEFAULT_ALGO_PARAM_EF_CONSTRUCTION = 100;
     public static final Integer KNN_DEFAULT_CIRCUIT_BREAKER_UNSET_PERCENTAGE = 75;
+    public static final boolean KNN_DEFAULT_MEMORY_ADMISSION_CONTROL_ENABLED = false;
+    public static final Integer KNN_DEFAULT_MEMORY_ADMISSION_CONTROL_IN_FLIGHT_LIMIT_PERCENTAGE = 25;
+    public static final TimeValue KNN_DEFAULT_MEMORY_ADMISSION_CONTROL_QUEUE_TIMEOUT = TimeValue.ZERO;
     public static final Integer KNN_DEFAULT_MODEL_CACHE_SIZE_LIMIT_PERCENTAGE = 10; // By default, set aside 10% of the JVM for the limit
     public static final Integer KNN_MAX_MODEL_CACHE_SIZE_LIMIT_PERCENTAGE = 25; // Model cache limit cannot exceed 25% of the JVM heap
     public static final String KNN_DEFAULT_MEMORY_CIRCUIT_BREAKER_LIMIT = "50%";
@@ -355,6 +373,41 @@ public class KNNSettings {
         Dynamic
     );
 
+    /**
+     * Enables node-local admission control for native memory loads. When enabled, loads that would push the in-flight
+     * load size above {@link #KNN_MEMORY_ADMISSION_CONTROL_IN_FLIGHT_LIMIT_SETTING} are queued for at most
+     * {@link #KNN_MEMORY_ADMISSION_CONTROL_QUEUE_TIMEOUT_SETTING} and then rejected with a retryable error.
+     */
+    public static final Setting<Boolean> KNN_MEMORY_ADMISSION_CONTROL_ENABLED_SETTING = Setting.boolSetting(
+        KNN_MEMORY_ADMISSION_CONTROL_ENABLED,
+        KNN_DEFAULT_MEMORY_ADMISSION_CONTROL_ENABLED,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * Maximum size of concurrent native memory loads, as a percentage of the native memory cache capacity.
+     */
+    public static final Setting<Double> KNN_MEMORY_ADMISSION_CONTROL_IN_FLIGHT_LIMIT_SETTING = Setting.doubleSetting(
+        KNN_MEMORY_ADMISSION_CONTROL_IN_FLIGHT_LIMIT,
+        KNN_DEFAULT_MEMORY_ADMISSION_CONTROL_IN_FLIGHT_LIMIT_PERCENTAGE,
+        0,
+        100,
+        NodeScope,
+        Dynamic
+    );
+
+    /**
+     * How long a load waits for in-flight loads to drain before being rejected. Zero sheds immediately.
+     */
+    public static final Setting<TimeValue> KNN_MEMORY_ADMISSION_CONTROL_QUEUE_TIMEOUT_SETTING = Setting.timeSetting(
+        KNN_MEMORY_ADMISSION_CONTROL_QUEUE_TIMEOUT,
+        KNN_DEFAULT_MEMORY_ADMISSION_CONTROL_QUEUE_TIMEOUT,
+        TimeValue.ZERO,
+        NodeScope,
+        Dynamic
+    );
+
     public static final Setting<Boolean> KNN_FAISS_AVX2_DISABLED_SETTING = Setting.boolSetting(
         KNN_FAISS_AVX2_DISABLED,
         KNN_DEFAULT_FAISS_AVX2_DISABLED_VALUE,
@@ -499,6 +552,130 @@ public class KNNSettings {
         Dynamic
     );
 
+    /**
+     * When enabled, a search hitting a segment whose native graph is currently being loaded by another thread runs an
+     * exact search on that segment instead of waiting for the load to complete.
+     */
+    public static final Setting<Boolean> INDEX_KNN_ADVANCED_EXACT_SEARCH_DURING_GRAPH_LOAD_SETTING = Setting.boolSetting(
+        INDEX_KNN_ADVANCED_EXACT_SEARCH_DURING_GRAPH_LOAD,
+        false,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, a segment is rescored with full precision vectors as soon as its first pass search completes, instead of
+     * waiting for the first pass on every segment. Candidates that can no longer make the shard level top candidates are pruned
+     * before rescoring.
+     */
+    public static final Setting<Boolean> INDEX_KNN_ADVANCED_PIPELINED_RESCORE_SETTING = Setting.boolSetting(
+        INDEX_KNN_ADVANCED_PIPELINED_RESCORE,
+        false,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * Expected recall of the rescored top k against full precision search. When set, the first pass k of disk based vector search
+     * is sized from the quantization error statistics of the segments, unless the oversample factor is given in the query.
+     * 0 disables it and keeps the dimension based oversample factor.
+     */
+    public static final Setting<Double> INDEX_KNN_ADVANCED_RESCORE_TARGET_RECALL_SETTING = Setting.doubleSetting(
+        INDEX_KNN_ADVANCED_RESCORE_TARGET_RECALL,
+        0,
+        0,
+        0.999,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * When enabled, native engine search first collects a share of k proportional to the size of each segment, then searches again
+     * with the full k, starting from the results of the first pass, only the segments that may hold more of the top k results.
+     */
+    public static final Setting<Boolean> INDEX_KNN_ADVANCED_NATIVE_OPTIMISTIC_SEARCH_SETTING = Setting.boolSetting(
+        INDEX_KNN_ADVANCED_NATIVE_OPTIMISTIC_SEARCH,
+        false,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * Number of filter matching documents, closest to the query among an even sample of the filter, that the graph search starts
+     * from when the filter matches at most 10% of a segment. 0 starts from the entry point of the graph.
+     */
+    public static final Setting<Integer> INDEX_KNN_ADVANCED_FILTERED_SEARCH_SEEDS_SETTING = Setting.intSetting(
+        INDEX_KNN_ADVANCED_FILTERED_SEARCH_SEEDS,
+        0,
+        0,
+        1000,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * Maximum number of candidates per segment, found with quantized vectors, that radial search on binary quantized indices
+     * verifies against full precision vectors. Above it, the segment is searched exactly with full precision vectors instead.
+     */
+    public static final Setting<Integer> INDEX_KNN_ADVANCED_RADIAL_SEARCH_MAX_CANDIDATES_SETTING = Setting.intSetting(
+        INDEX_KNN_ADVANCED_RADIAL_SEARCH_MAX_CANDIDATES,
+        INDEX_KNN_DEFAULT_RADIAL_SEARCH_MAX_CANDIDATES,
+        0,
+        100000,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * Whether merges renumber the vectors of Faiss HNSW graphs in breadth first order of their base layer, so that neighbors are
+     * stored close to each other and a graph traversal in memory optimized search touches fewer pages. Flushed segments are never
+     * reordered.
+     */
+    public static final Setting<Boolean> INDEX_KNN_ADVANCED_REORDER_GRAPH_ON_MERGE_SETTING = Setting.boolSetting(
+        INDEX_KNN_ADVANCED_REORDER_GRAPH_ON_MERGE,
+        false,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * Whether Faiss HNSW graphs of new segments are also written in a block layout keeping the base level neighbor list of every
+     * vector next to the vector itself, so that memory optimized search reads both from a single page.
+     */
+    public static final Setting<Boolean> INDEX_KNN_ADVANCED_COLOCATED_GRAPH_LAYOUT_SETTING = Setting.boolSetting(
+        INDEX_KNN_ADVANCED_COLOCATED_GRAPH_LAYOUT,
+        false,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * Number of k-means centroids of the vectors of merged segments that are stored, along with the graph node closest to each of
+     * them, next to Faiss HNSW graphs. Memory optimized search starts from the nodes of the centroids closest to the query instead of
+     * descending the upper levels of the graph. 0 disables the table.
+     */
+    public static final Setting<Integer> INDEX_KNN_ADVANCED_ENTRY_POINT_TABLE_SIZE_SETTING = Setting.intSetting(
+        INDEX_KNN_ADVANCED_ENTRY_POINT_TABLE_SIZE,
+        0,
+        0,
+        1024,
+        IndexScope,
+        Dynamic
+    );
+
+    /**
+     * Percentage of graph nodes, taken from the topmost levels, that the warmup API brings into the page cache for memory optimized
+     * search. 100 warms up whole graphs and vectors.
+     */
+    public static final Setting<Double> INDEX_KNN_ADVANCED_WARMUP_TOP_NODES_PERCENTAGE_SETTING = Setting.doubleSetting(
+        INDEX_KNN_ADVANCED_WARMUP_TOP_NODES_PERCENTAGE,
+        INDEX_KNN_DEFAULT_WARMUP_TOP_NODES_PERCENTAGE,
+        0,
+        100,
+        IndexScope,
+        Dynamic
+    );
+
     /**
      * Keystore settings for build service HTTP authorization
      */
@@ -652,6 +829,18 @@ public class KNNSettings {
             return KNN_CIRCUIT_BREAKER_UNSET_PERCENTAGE_SETTING;
         }
 
+        if (KNN_MEMORY_ADMISSION_CONTROL_ENABLED.equals(key)) {
+            return KNN_MEMORY_ADMISSION_CONTROL_ENABLED_SETTING;
+        }
+
+        if (KNN_MEMORY_ADMISSION_CONTROL_IN_FLIGHT_LIMIT.equals(key)) {
+            return KNN_MEMORY_ADMISSION_CONTROL_IN_FLIGHT_LIMIT_SETTING;
+        }
+
+        if (KNN_MEMORY_ADMISSION_CONTROL_QUEUE_TIMEOUT.equals(key)) {
+            return KNN_MEMORY_ADMISSION_CONTROL_QUEUE_TIMEOUT_SETTING;
+        }
+
         if (KNN_ALGO_PARAM_INDEX_THREAD_QTY.equals(key)) {
             return KNN_ALGO_PARAM_INDEX_THREAD_QTY_SETTING;
         }
@@ -735,6 +924,46 @@ public class KNNSettings {
             return INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH_SETTING;
         }
 
+        if (INDEX_KNN_ADVANCED_EXACT_SEARCH_DURING_GRAPH_LOAD.equals(key)) {
+            return INDEX_KNN_ADVANCED_EXACT_SEARCH_DURING_GRAPH_LOAD_SETTING;
+        }
+
+        if (INDEX_KNN_ADVANCED_WARMUP_TOP_NODES_PERCENTAGE.equals(key)) {
+            return INDEX_KNN_ADVANCED_WARMUP_TOP_NODES_PERCENTAGE_SETTING;
+        }
+
+        if (INDEX_KNN_ADVANCED_PIPELINED_RESCORE.equals(key)) {
+            return INDEX_KNN_ADVANCED_PIPELINED_RESCORE_SETTING;
+        }
+
+        if (INDEX_KNN_ADVANCED_RESCORE_TARGET_RECALL.equals(key)) {
+            return INDEX_KNN_ADVANCED_RESCORE_TARGET_RECALL_SETTING;
+        }
+
+        if (INDEX_KNN_ADVANCED_NATIVE_OPTIMISTIC_SEARCH.equals(key)) {
+            return INDEX_KNN_ADVANCED_NATIVE_OPTIMISTIC_SEARCH_SETTING;
+        }
+
+        if (INDEX_KNN_ADVANCED_FILTERED_SEARCH_SEEDS.equals(key)) {
+            return INDEX_KNN_ADVANCED_FILTERED_SEARCH_SEEDS_SETTING;
+        }
+
+        if (INDEX_KNN_ADVANCED_RADIAL_SEARCH_MAX_CANDIDATES.equals(key)) {
+            return INDEX_KNN_ADVANCED_RADIAL_SEARCH_MAX_CANDIDATES_SETTING;
+        }
+
+        if (INDEX_KNN_ADVANCED_REORDER_GRAPH_ON_MERGE.equals(key)) {
+            return INDEX_KNN_ADVANCED_REORDER_GRAPH_ON_MERGE_SETTING;
+        }
+
+        if (INDEX_KNN_ADVANCED_COLOCATED_GRAPH_LAYOUT.equals(key)) {
+            return INDEX_KNN_ADVANCED_COLOCATED_GRAPH_LAYOUT_SETTING;
+        }
+
+        if (INDEX_KNN_ADVANCED_ENTRY_POINT_TABLE_SIZE.equals(key)) {
+            return INDEX_KNN_ADVANCED_ENTRY_POINT_TABLE_SIZE_SETTING;
+        }
+
         throw new IllegalArgumentException("Cannot find setting by key [" + key + "]");
     }
 
@@ -745,6 +974,9 @@ public class KNNSettings {
             KNN_ALGO_PARAM_INDEX_THREAD_QTY_SETTING,
             KNN_CIRCUIT_BREAKER_TRIGGERED_SETTING,
             KNN_CIRCUIT_BREAKER_UNSET_PERCENTAGE_SETTING,
+            KNN_MEMORY_ADMISSION_CONTROL_ENABLED_SETTING,
+            KNN_MEMORY_ADMISSION_CONTROL_IN_FLIGHT_LIMIT_SETTING,
+            KNN_MEMORY_ADMISSION_CONTROL_QUEUE_TIMEOUT_SETTING,
             IS_KNN_INDEX_SETTING,
             MODEL_INDEX_NUMBER_OF_SHARDS_SETTING,
             MODEL_INDEX_NUMBER_OF_REPLICAS_SETTING,
@@ -771,7 +1003,17 @@ public class KNNSettings {
             KNN_REMOTE_BUILD_CLIENT_TIMEOUT_SETTING,
             KNN_REMOTE_BUILD_SERVER_USERNAME_SETTING,
             KNN_REMOTE_BUILD_SERVER_PASSWORD_SETTING,
-            INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH_SETTING
+            INDEX_KNN_FAISS_EFFICIENT_FILTER_DISABLE_EXACT_SEARCH_SETTING,
+            INDEX_KNN_ADVANCED_EXACT_SEARCH_DURING_GRAPH_LOAD_SETTING,
+            INDEX_KNN_ADVANCED_WARMUP_TOP_NODES_PERCENTAGE_SETTING,
+            INDEX_KNN_ADVANCED_PIPELINED_RESCORE_SETTING,
+            INDEX_KNN_ADVANCED_RESCORE_TARGET_RECALL_SETTING,
+            INDEX_KNN_ADVANCED_NATIVE_OPTIMISTIC_SEARCH_SETTING,
+            INDEX_KNN_ADVANCED_FILTERED_SEARCH_SEEDS_SETTING,
+            INDEX_KNN_ADVANCED_RADIAL_SEARCH_MAX_CANDIDATES_SETTING,
+            INDEX_KNN_ADVANCED_REORDER_GRAPH_ON_MERGE_SETTING,
+            INDEX_KNN_ADVANCED_COLOCATED_GRAPH_LAYOUT_SETTING,
+            INDEX_KNN_ADVANCED_ENTRY_POINT_TABLE_SIZE_SETTING
         );
         return Stream.concat(settings.stream(), Stream.concat(getFeatureFlags().stream(), dynamicCacheSettings.values().stream()))
             .collect(Collectors.toList());
@@ -887,6 +1129,27 @@ public class KNNSettings {
         return KNNSettings.state().getSettingValue(KNNSettings.KNN_CIRCUIT_BREAKER_UNSET_PERCENTAGE);
     }
 
+    public static boolean isAdmissionControlEnabled() {
+        return Objects.requireNonNullElse(
+            KNNSettings.state().getSettingValue(KNNSettings.KNN_MEMORY_ADMISSION_CONTROL_ENABLED),
+            KNN_DEFAULT_MEMORY_ADMISSION_CONTROL_ENABLED
+        );
+    }
+
+    public static double getAdmissionControlInFlightLimitPercentage() {
+        return Objects.requireNonNullElse(
+            KNNSettings.state().getSettingValue(KNNSettings.KNN_MEMORY_ADMISSION_CONTROL_IN_FLIGHT_LIMIT),
+            KNN_DEFAULT_MEMORY_ADMISSION_CONTROL_IN_FLIGHT_LIMIT_PERCENTAGE.doubleValue()
+        );
+    }
+
+    public static TimeValue getAdmissionControlQueueTimeout() {
+        return Objects.requireNonNullElse(
+            KNNSettings.state().getSettingValue(KNNSettings.KNN_MEMORY_ADMISSION_CONTROL_QUEUE_TIMEOUT),
+            KNN_DEFAULT_MEMORY_ADMISSION_CONTROL_QUEUE_TIMEOUT
+        );
+    }
+
     public static boolean isKnnIndexFaissEfficientFilterExactSearchDisabled(String indexName) {
         return KNNSettings.state().clusterService.state()
             .getMetadata()
@@ -973,6 +1236,33 @@ public class KNNSettings {
         );
     }
 
+    public static boolean isExactSearchDuringGraphLoadEnabled(final String indexName) {
+        return getIndexSettings(indexName).getAsBoolean(INDEX_KNN_ADVANCED_EXACT_SEARCH_DURING_GRAPH_LOAD, false);
+    }
+
+    public static boolean isPipelinedRescoreEnabled(final String indexName) {
+        return getIndexSettings(indexName).getAsBoolean(INDEX_KNN_ADVANCED_PIPELINED_RESCORE, false);
+    }
+
+    public static double getRescoreTargetRecall(final String indexName) {
+        return getIndexSettings(indexName).getAsDouble(INDEX_KNN_ADVANCED_RESCORE_TARGET_RECALL, 0d);
+    }
+
+    public static boolean isNativeOptimisticSearchEnabled(final String indexName) {
+        return getIndexSettings(indexName).getAsBoolean(INDEX_KNN_ADVANCED_NATIVE_OPTIMISTIC_SEARCH, false);
+    }
+
+    public static int getFilteredSearchSeeds(final String indexName) {
+        return getIndexSettings(indexName).getAsInt(INDEX_KNN_ADVANCED_FILTERED_SEARCH_SEEDS, 0);
+    }
+
+    public static int getRadialSearchMaxCandidates(final String indexName) {
+        return getIndexSettings(indexName).getAsInt(
+            INDEX_KNN_ADVANCED_RADIAL_SEARCH_MAX_CANDIDATES,
+            INDEX_KNN_DEFAULT_RADIAL_SEARCH_MAX_CANDIDATES
+        );
+    }
+
     public static boolean isShardLevelRescoringDisabledForDiskBasedVector(final String indexName) {
         return getIndexSettings(indexName).getAsBoolean(KNN_DISK_VECTOR_SHARD_LEVEL_RESCORING_DISABLED, false);
     }
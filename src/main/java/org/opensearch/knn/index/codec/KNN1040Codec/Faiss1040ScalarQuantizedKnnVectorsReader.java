@@ -17,6 +17,7 @@ import org.opensearch.knn.index.codec.KNN990Codec.NativeEngines990KnnVectorsRead
 import org.opensearch.knn.index.codec.nativeindex.AbstractNativeEnginesKnnVectorsReader;
 import org.opensearch.knn.index.util.WarmupUtil;
 import org.opensearch.knn.memoryoptsearch.VectorSearcher;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissWarmupPlanner;
 
 import java.io.IOException;
 
@@ -90,6 +91,20 @@ public class Faiss1040ScalarQuantizedKnnVectorsReader extends AbstractNativeEngi
      */
     @Override
     public void warmUp(final String fieldName) throws IOException {
+        warmUp(fieldName, FaissWarmupPlanner.FULL_WARMUP_PERCENTAGE);
+    }
+
+    /**
+     * Warms up the given field, restricted to the top nodes of the graph when {@code topNodesPercentage} is below 100.
+     * Full-precision vectors are only read by rescoring, hence they are skipped by partial warm up.
+     *
+     * @param fieldName the name of the vector field to warm up
+     * @param topNodesPercentage percentage of graph nodes to warm up, in [0, 100]
+     * @return the number of bytes brought into the page cache
+     * @throws IOException if an I/O error occurs while reading the underlying data
+     */
+    @Override
+    public long warmUp(final String fieldName, final double topNodesPercentage) throws IOException {
         // Warm up full-precision vectors
         // We cannot rely on WarmupUtil, which extracts the IndexInput from vector values and reads through it.
         // Because, the IndexInput returned by vector values is backed by quantized vectors.
@@ -100,19 +115,24 @@ public class Faiss1040ScalarQuantizedKnnVectorsReader extends AbstractNativeEngi
         // This would mean that vectors are not present for this segment hence we should not proceed in warmup setup.
         if (vectorValues == null || vectorValues.size() == 0) {
             log.info("No vectors present in the segment {} for field {}", this.segmentReadState.segmentInfo.name, fieldName);
-            return;
+            return 0;
         }
 
-        for (int i = 0; i < vectorValues.size(); ++i) {
-            vectorValues.vectorValue(i);
+        long bytes = 0;
+        if (topNodesPercentage >= FaissWarmupPlanner.FULL_WARMUP_PERCENTAGE) {
+            for (int i = 0; i < vectorValues.size(); ++i) {
+                vectorValues.vectorValue(i);
+            }
+            bytes += (long) vectorValues.size() * vectorValues.dimension() * Float.BYTES;
         }
 
         final VectorSearcher memoryOptimizedSearcher = loadMemoryOptimizedSearcherIfRequired(fieldInfos.fieldInfo(fieldName));
         if (memoryOptimizedSearcher != null) {
             // MOS is supported, warm up search parts
-            memoryOptimizedSearcher.warmUp();
+            bytes += memoryOptimizedSearcher.warmUp(topNodesPercentage);
         } else {
             log.warn("Memory optimized search is not supported for {}", fieldName);
         }
+        return bytes;
     }
 }
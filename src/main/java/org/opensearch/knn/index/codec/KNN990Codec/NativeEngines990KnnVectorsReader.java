@@ -32,6 +32,7 @@ import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.index.util.WarmupUtil;
 import org.opensearch.knn.memoryoptsearch.VectorSearcher;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissWarmupPlanner;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationStateCacheManager;
 import org.opensearch.knn.quantization.models.quantizationState.QuantizationStateReadConfig;
@@ -43,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.opensearch.knn.common.FieldInfoExtractor.hasQuantizationConfig;
+import static org.opensearch.knn.common.FieldInfoExtractor.isModelField;
 
 /**
  * Vectors reader class for reading the flat vectors for native engines. The class provides methods for iterating
@@ -252,7 +254,8 @@ public class NativeEngines990KnnVectorsReader extends AbstractNativeEnginesKnnVe
      * @throws IOException if an I/O error occurs
      */
     private ByteVectorValues getQuantizedVectorValues(@NonNull final FieldInfo fieldInfo) throws IOException {
-        if (hasQuantizationConfig(fieldInfo) == false) {
+        // Model based fields such as IVF-PQ keep their codes in the FAISS index file, which the searcher exposes as byte vectors.
+        if (hasQuantizationConfig(fieldInfo) == false && isModelField(fieldInfo) == false) {
             return null;
         }
         final VectorSearcher vectorSearcher = loadMemoryOptimizedSearcherIfRequired(fieldInfo);
@@ -271,17 +274,34 @@ public class NativeEngines990KnnVectorsReader extends AbstractNativeEnginesKnnVe
      */
     @Override
     public void warmUp(final String fieldName) throws IOException {
+        warmUp(fieldName, FaissWarmupPlanner.FULL_WARMUP_PERCENTAGE);
+    }
+
+    /**
+     * Warms up the given field, restricted to the top nodes of the graph when {@code topNodesPercentage} is below 100.
+     * Full-precision vectors of quantized fields are only read by rescoring, hence they are skipped by partial warm up.
+     *
+     * @param fieldName the name of the vector field to warm up
+     * @param topNodesPercentage percentage of graph nodes to warm up, in [0, 100]
+     * @return the number of bytes brought into the page cache
+     * @throws IOException if an I/O error occurs while reading the underlying data
+     */
+    @Override
+    public long warmUp(final String fieldName, final double topNodesPercentage) throws IOException {
         final FieldInfo fieldInfo = fieldInfos.fieldInfo(fieldName);
 
         final VectorSearcher memoryOptimizedSearcher = loadMemoryOptimizedSearcherIfRequired(fieldInfo);
-        if (memoryOptimizedSearcher != null) {
-            // For quantized vectors, we should warm up .vec as well.
-            if (hasQuantizationConfig(fieldInfo)) {
-                WarmupUtil.readAll(flatVectorsReader.getFloatVectorValues(fieldName));
-            }
+        if (memoryOptimizedSearcher == null) {
+            return 0;
+        }
 
-            // Warm up search parts
-            memoryOptimizedSearcher.warmUp();
+        long bytes = 0;
+        // For quantized vectors, we should warm up .vec as well.
+        if (hasQuantizationConfig(fieldInfo) && topNodesPercentage >= FaissWarmupPlanner.FULL_WARMUP_PERCENTAGE) {
+            bytes += WarmupUtil.prefetchAll(flatVectorsReader.getFloatVectorValues(fieldName));
         }
+
+        // Warm up search parts
+        return bytes + memoryOptimizedSearcher.warmUp(topNodesPercentage);
     }
 }
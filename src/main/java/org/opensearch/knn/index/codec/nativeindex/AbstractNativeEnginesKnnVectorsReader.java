@@ -165,6 +165,7 @@ public abstract class AbstractNativeEnginesKnnVectorsReader extends KnnVectorsRe
             return () -> searcherFactory.createVectorSearcher(
                 segmentReadState.directory,
                 fileName,
+                segmentReadState.segmentInfo.files(),
                 fieldInfo,
                 ioContext,
                 flatVectorsReader
@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissColocatedHNSWIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSW;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSWProvider;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHnswGraph;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.UnsupportedFaissIndexException;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+
+/**
+ * Writes the block file of {@link FaissColocatedHNSWIndex} from a FAISS index file that was just written, so that the index is built
+ * by the native library exactly as without the block file. Only hubs get a record, the block file refers to the FAISS index file for
+ * every other vector.
+ */
+@Log4j2
+@UtilityClass
+class ColocatedGraphLayoutWriter {
+
+    /**
+     * Writes the block file of a FAISS index file, unless the index is not supported, see
+     * {@link FaissColocatedHNSWIndex#isSupported(FaissIndex)}.
+     *
+     * @param state          Write state of the segment having the FAISS index file.
+     * @param engineFileName Name of the FAISS index file.
+     * @throws IOException
+     */
+    static void write(final SegmentWriteState state, final String engineFileName) throws IOException {
+        try (IndexInput input = state.directory.openInput(engineFileName, IOContext.DEFAULT)) {
+            final FaissIndex faissIndex;
+            try {
+                faissIndex = FaissIndex.load(input);
+            } catch (UnsupportedFaissIndexException e) {
+                log.debug("Skipping the co-located graph layout of {}, its index type is not supported", engineFileName, e);
+                return;
+            }
+            if (FaissColocatedHNSWIndex.isSupported(faissIndex) == false) {
+                log.debug("Skipping the co-located graph layout of {}, index type [{}]", engineFileName, faissIndex.getIndexType());
+                return;
+            }
+
+            try (IndexOutput output = state.directory.createOutput(FaissColocatedHNSWIndex.blockFileName(engineFileName), state.context)) {
+                write(output, state, faissIndex, input);
+            }
+        }
+    }
+
+    private static void write(final IndexOutput output, final SegmentWriteState state, final FaissIndex faissIndex, final IndexInput input)
+        throws IOException {
+        final FaissHNSW faissHnsw = ((FaissHNSWProvider) faissIndex).getFaissHnsw();
+        final FaissHnswGraph graph = new FaissHnswGraph(faissHnsw, input.clone());
+        final FloatVectorValues vectorValues = faissIndex.getFloatValues(input.clone());
+        final int numVectors = faissIndex.getTotalNumberOfVectors();
+        final int maxNumNeighbors = faissHnsw.getMaxNumNeighbors();
+        final int[] hubs = selectHubs(faissHnsw, input.clone(), numVectors);
+
+        CodecUtil.writeIndexHeader(
+            output,
+            FaissColocatedHNSWIndex.CODEC_NAME,
+            FaissColocatedHNSWIndex.VERSION_CURRENT,
+            state.segmentInfo.getId(),
+            ""
+        );
+        output.writeInt(faissIndex.getDimension());
+        output.writeInt(numVectors);
+        output.writeInt(maxNumNeighbors);
+        output.writeInt(FaissColocatedHNSWIndex.BLOCK_SIZE);
+        output.writeInt(hubs.length);
+        for (final int hub : hubs) {
+            output.writeInt(hub);
+        }
+        final FaissColocatedHNSWIndex.Layout layout = new FaissColocatedHNSWIndex.Layout(
+            faissIndex.getDimension(),
+            maxNumNeighbors,
+            FaissColocatedHNSWIndex.BLOCK_SIZE,
+            output.alignFilePointer(FaissColocatedHNSWIndex.BLOCK_SIZE)
+        );
+
+        for (int record = 0; record < hubs.length; record++) {
+            if (record % layout.recordsPerBlock() == 0) {
+                output.alignFilePointer(layout.blockSize());
+            }
+            assert output.getFilePointer() == layout.recordOffset(record);
+
+            // Neighbor list, padded with -1 like in the FAISS index file.
+            graph.seek(0, hubs[record]);
+            int numNeighbors = 0;
+            for (int neighborId = graph.nextNeighbor(); neighborId != NO_MORE_DOCS; neighborId = graph.nextNeighbor()) {
+                output.writeInt(neighborId);
+                numNeighbors++;
+            }
+            for (; numNeighbors < maxNumNeighbors; numNeighbors++) {
+                output.writeInt(-1);
+            }
+
+            for (final float value : vectorValues.vectorValue(hubs[record])) {
+                output.writeInt(Float.floatToIntBits(value));
+            }
+        }
+        CodecUtil.writeFooter(output);
+    }
+
+    /**
+     * @return ascending ids of the vectors having a record, see {@link FaissColocatedHNSWIndex#isHub(int)}.
+     */
+    private static int[] selectHubs(final FaissHNSW faissHnsw, final IndexInput input, final int numVectors) throws IOException {
+        input.seek(faissHnsw.getLevels().getBaseOffset());
+        final int[] hubs = new int[numVectors];
+        int numHubs = 0;
+        for (int internalVectorId = 0; internalVectorId < numVectors; internalVectorId++) {
+            if (FaissColocatedHNSWIndex.isHub(input.readInt())) {
+                hubs[numHubs++] = internalVectorId;
+            }
+        }
+        return Arrays.copyOf(hubs, numHubs);
+    }
+}
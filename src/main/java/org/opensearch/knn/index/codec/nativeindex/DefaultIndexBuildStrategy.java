@@ -65,7 +65,7 @@ final class DefaultIndexBuildStrategy implements NativeIndexBuildStrategy {
             final List<Integer> transferredDocIds = new ArrayList<>(indexInfo.getTotalLiveDocs());
 
             while (knnVectorValues.docId() != NO_MORE_DOCS) {
-                Object vector = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, indexBuildSetup);
+                Object vector = QuantizationIndexUtils.processAndReturnReusableVector(knnVectorValues, indexBuildSetup);
                 // append is true here so off heap memory buffer isn't overwritten
                 vectorTransfer.transfer(vector, true);
                 transferredDocIds.add(knnVectorValues.docId());
@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.VectorUtil;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissEntryPointTable;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.UnsupportedFaissIndexException;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Learns the entry point table of {@link FaissEntryPointTable} from a FAISS index file that was just written, and writes it next to
+ * the index file.
+ * <p>
+ * Centroids are computed with Lloyd's k-means on an even sample of the vectors, which bounds the cost of a merge regardless of the
+ * size of the segment, and stops after {@link #NUM_ITERATIONS} iterations or once no sample changes cluster. Every centroid is then
+ * mapped to the sampled vector closest to it, which is a node of the graph.
+ */
+@Log4j2
+@UtilityClass
+class EntryPointTableWriter {
+    // Number of sampled vectors per centroid, enough for centroids to be stable.
+    static final int SAMPLES_PER_CENTROID = 32;
+    static final int NUM_ITERATIONS = 10;
+
+    /**
+     * Writes the entry point table of a FAISS index file, unless the index is not supported, see
+     * {@link FaissEntryPointTable#isSupported(FaissIndex)}.
+     *
+     * @param state          Write state of the segment having the FAISS index file.
+     * @param engineFileName Name of the FAISS index file.
+     * @param numCentroids   Maximum number of centroids of the table.
+     * @throws IOException
+     */
+    static void write(final SegmentWriteState state, final String engineFileName, final int numCentroids) throws IOException {
+        try (IndexInput input = state.directory.openInput(engineFileName, IOContext.DEFAULT)) {
+            final FaissIndex faissIndex;
+            try {
+                faissIndex = FaissIndex.load(input);
+            } catch (UnsupportedFaissIndexException e) {
+                log.debug("Skipping the entry point table of {}, its index type is not supported", engineFileName, e);
+                return;
+            }
+            if (FaissEntryPointTable.isSupported(faissIndex) == false) {
+                log.debug("Skipping the entry point table of {}, index type [{}]", engineFileName, faissIndex.getIndexType());
+                return;
+            }
+            if (faissIndex.getTotalNumberOfVectors() == 0) {
+                return;
+            }
+
+            final FaissEntryPointTable table = learn(faissIndex.getFloatValues(input.clone()), numCentroids);
+            try (IndexOutput output = state.directory.createOutput(FaissEntryPointTable.fileName(engineFileName), state.context)) {
+                table.write(output, state.segmentInfo.getId());
+            }
+        }
+    }
+
+    /**
+     * Clusters the vectors and maps every centroid to its closest sampled vector.
+     *
+     * @param vectorValues Vectors of the graph, indexed by internal vector id.
+     * @param numCentroids Maximum number of centroids, which is lowered to the number of vectors.
+     * @return entry point table of the vectors.
+     * @throws IOException
+     */
+    static FaissEntryPointTable learn(final FloatVectorValues vectorValues, final int numCentroids) throws IOException {
+        final int numVectors = vectorValues.size();
+        final int numClusters = Math.min(numCentroids, numVectors);
+        final int numSamples = (int) Math.min(numVectors, (long) numClusters * SAMPLES_PER_CENTROID);
+        final int dimension = vectorValues.dimension();
+
+        // Evenly spaced samples, so that merges of the same segments learn the same table.
+        final int[] sampleIds = new int[numSamples];
+        final float[][] samples = new float[numSamples][];
+        for (int i = 0; i < numSamples; i++) {
+            sampleIds[i] = (int) ((long) i * numVectors / numSamples);
+            samples[i] = vectorValues.vectorValue(sampleIds[i]).clone();
+        }
+
+        // Farthest first initialization, which spreads the initial centroids over the clusters regardless of the order of the vectors.
+        final float[][] centroids = new float[numClusters][];
+        final float[] minDistances = new float[numSamples];
+        Arrays.fill(minDistances, Float.POSITIVE_INFINITY);
+        int farthest = 0;
+        for (int c = 0; c < numClusters; c++) {
+            centroids[c] = samples[farthest].clone();
+            float farthestDistance = -1;
+            for (int i = 0; i < numSamples; i++) {
+                minDistances[i] = Math.min(minDistances[i], VectorUtil.squareDistance(samples[i], centroids[c]));
+                if (minDistances[i] > farthestDistance) {
+                    farthestDistance = minDistances[i];
+                    farthest = i;
+                }
+            }
+        }
+
+        final int[] assignments = new int[numSamples];
+        final int[] clusterSizes = new int[numClusters];
+        for (int iteration = 0; iteration < NUM_ITERATIONS; iteration++) {
+            boolean changed = false;
+            for (int i = 0; i < numSamples; i++) {
+                final int closest = closestCentroid(samples[i], centroids);
+                changed |= iteration == 0 || closest != assignments[i];
+                assignments[i] = closest;
+            }
+            if (changed == false) {
+                break;
+            }
+
+            final float[][] sums = new float[numClusters][dimension];
+            Arrays.fill(clusterSizes, 0);
+            for (int i = 0; i < numSamples; i++) {
+                final float[] sum = sums[assignments[i]];
+                for (int d = 0; d < dimension; d++) {
+                    sum[d] += samples[i][d];
+                }
+                clusterSizes[assignments[i]]++;
+            }
+            for (int c = 0; c < numClusters; c++) {
+                // Empty clusters keep their centroid.
+                if (clusterSizes[c] > 0) {
+                    for (int d = 0; d < dimension; d++) {
+                        sums[c][d] /= clusterSizes[c];
+                    }
+                    centroids[c] = sums[c];
+                }
+            }
+        }
+
+        final int[] nodes = new int[numClusters];
+        final float[] nodeDistances = new float[numClusters];
+        Arrays.fill(nodeDistances, Float.POSITIVE_INFINITY);
+        for (int i = 0; i < numSamples; i++) {
+            for (int c = 0; c < numClusters; c++) {
+                final float distance = VectorUtil.squareDistance(samples[i], centroids[c]);
+                if (distance < nodeDistances[c]) {
+                    nodeDistances[c] = distance;
+                    nodes[c] = sampleIds[i];
+                }
+            }
+        }
+        return new FaissEntryPointTable(centroids, nodes);
+    }
+
+    private static int closestCentroid(final float[] vector, final float[][] centroids) {
+        int closest = 0;
+        float closestDistance = Float.POSITIVE_INFINITY;
+        for (int c = 0; c < centroids.length; c++) {
+            final float distance = VectorUtil.squareDistance(vector, centroids[c]);
+            if (distance < closestDistance) {
+                closestDistance = distance;
+                closest = c;
+            }
+        }
+        return closest;
+    }
+}
@@ -79,7 +79,7 @@ final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStra
             final List<Integer> transferredDocIds = new ArrayList<>(vectorTransfer.getTransferLimit());
 
             while (knnVectorValues.docId() != NO_MORE_DOCS) {
-                Object vector = QuantizationIndexUtils.processAndReturnVector(knnVectorValues, indexBuildSetup);
+                Object vector = QuantizationIndexUtils.processAndReturnReusableVector(knnVectorValues, indexBuildSetup);
                 // append is false to be able to reuse the memory location
                 boolean transferred = vectorTransfer.transfer(vector, false);
                 transferredDocIds.add(knnVectorValues.docId());
@@ -122,6 +122,9 @@ final class MemOptimizedNativeIndexBuildStrategy implements NativeIndexBuildStra
 
             // Write vector
             AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                if (indexInfo.isReorderGraph()) {
+                    JNIService.reorderIndex(indexMemoryAddress, engine, indexParameters);
+                }
                 JNIService.writeIndex(indexInfo.getIndexOutputWithBuffer(), indexMemoryAddress, engine, indexParameters, false);
                 return null;
             });
@@ -9,6 +9,7 @@ import lombok.Setter;
 import org.apache.lucene.index.FieldInfo;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.codec.nativeindex.remote.RemoteIndexBuildStrategy;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.engine.faiss.FaissSQEncoder;
@@ -85,4 +86,28 @@ public final class NativeIndexBuildStrategyFactory {
             return strategy;
         }
     }
+
+    /**
+     * @return whether merged segments should renumber the vectors of their graphs for locality, see
+     *         {@link KNNSettings#INDEX_KNN_ADVANCED_REORDER_GRAPH_ON_MERGE_SETTING}
+     */
+    public boolean isGraphReorderOnMergeEnabled() {
+        return indexSettings != null && indexSettings.getValue(KNNSettings.INDEX_KNN_ADVANCED_REORDER_GRAPH_ON_MERGE_SETTING);
+    }
+
+    /**
+     * @return whether Faiss graphs should also be written in the co-located block layout, see
+     *         {@link KNNSettings#INDEX_KNN_ADVANCED_COLOCATED_GRAPH_LAYOUT_SETTING}
+     */
+    public boolean isColocatedGraphLayoutEnabled() {
+        return indexSettings != null && indexSettings.getValue(KNNSettings.INDEX_KNN_ADVANCED_COLOCATED_GRAPH_LAYOUT_SETTING);
+    }
+
+    /**
+     * @return number of centroids of the entry point table of merged Faiss graphs, 0 when disabled, see
+     *         {@link KNNSettings#INDEX_KNN_ADVANCED_ENTRY_POINT_TABLE_SIZE_SETTING}
+     */
+    public int getEntryPointTableSize() {
+        return indexSettings == null ? 0 : indexSettings.getValue(KNNSettings.INDEX_KNN_ADVANCED_ENTRY_POINT_TABLE_SIZE_SETTING);
+    }
 }
@@ -190,6 +190,13 @@ public class NativeIndexWriter {
             indexBuilder.buildAndWriteIndex(nativeIndexParams);
             indexOutputWithBuffer.writeFooter();
         }
+
+        if (knnEngine == KNNEngine.FAISS && indexBuilderFactory.isColocatedGraphLayoutEnabled()) {
+            ColocatedGraphLayoutWriter.write(state, engineFileName);
+        }
+        if (knnEngine == KNNEngine.FAISS && isFlush == false && indexBuilderFactory.getEntryPointTableSize() > 0) {
+            EntryPointTableWriter.write(state, engineFileName, indexBuilderFactory.getEntryPointTableSize());
+        }
     }
 
     // The logic for building parameters need to be cleaned up. There are various cases handled here
@@ -228,6 +235,7 @@ public class NativeIndexWriter {
             .totalLiveDocs(totalLiveDocs)
             .segmentWriteState(state)
             .isFlush(isFlush)
+            .reorderGraph(isFlush == false && indexBuilderFactory.isGraphReorderOnMergeEnabled())
             .quantizedByteVectorValues(quantizedByteVectorValues)
             .build();
     }
@@ -43,6 +43,30 @@ public class QuantizationIndexUtils {
         }
     }
 
+    /**
+     * Same as {@link #processAndReturnVector}, but without cloning. The returned vector may be overwritten when moving to the next
+     * document, hence it must be consumed first, e.g. by {@link org.opensearch.knn.index.codec.transfer.OffHeapVectorTransfer}
+     * which copies it into its staging buffer.
+     *
+     * @param knnVectorValues The KNN vector values containing the original vector.
+     * @param indexBuildSetup The setup containing the quantization state and output details.
+     * @return The quantized vector (as a byte array) or the original vector.
+     * @throws IOException If an I/O error occurs while processing the vector.
+     */
+    public static Object processAndReturnReusableVector(KNNVectorValues<?> knnVectorValues, IndexBuildSetup indexBuildSetup)
+        throws IOException {
+        QuantizationService quantizationService = QuantizationService.getInstance();
+        if (indexBuildSetup.getQuantizationState() != null && indexBuildSetup.getQuantizationOutput() != null) {
+            quantizationService.quantize(
+                indexBuildSetup.getQuantizationState(),
+                knnVectorValues.getVector(),
+                indexBuildSetup.getQuantizationOutput()
+            );
+            return indexBuildSetup.getQuantizationOutput().getQuantizedVector();
+        }
+        return knnVectorValues.getVector();
+    }
+
     /**
      * Prepares the quantization setup including bytes per vector and dimensions.
      *
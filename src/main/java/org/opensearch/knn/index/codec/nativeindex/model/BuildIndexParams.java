@@ -38,6 +38,10 @@ public class BuildIndexParams {
     int totalLiveDocs;
     SegmentWriteState segmentWriteState;
     boolean isFlush;
+    /**
+     * Whether the graph should be renumbered for locality before it is written. Only set on merges.
+     */
+    boolean reorderGraph;
     /**
      * Optional quantized byte vector values for SQ (Binary Quantized) index building.
      * Provided by Faiss104ScalarQuantizedKnnVectorsWriter, null for non-SQ fields.
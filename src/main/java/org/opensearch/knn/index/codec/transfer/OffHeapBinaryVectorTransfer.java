@@ -8,7 +8,7 @@ package org.opensearch.knn.index.codec.transfer;
 import org.opensearch.knn.jni.JNICommons;
 
 import java.io.IOException;
-import java.util.List;
+import java.nio.ByteBuffer;
 
 /**
  * Transfer quantized binary vectors to off heap memory
@@ -22,17 +22,24 @@ public final class OffHeapBinaryVectorTransfer extends OffHeapVectorTransfer<byt
     }
 
     @Override
-    public void deallocate() {
-        JNICommons.freeBinaryVectorData(getVectorAddress());
+    protected void stage(final ByteBuffer stagingBuffer, final int offset, final byte[] vector) {
+        checkVectorBytes(vector.length);
+        stagingBuffer.put(offset, vector);
     }
 
     @Override
-    protected long transfer(List<byte[]> batch, boolean append) throws IOException {
-        return JNICommons.storeBinaryVectorData(
+    protected long transfer(final ByteBuffer stagingBuffer, final int numBytes, boolean append) throws IOException {
+        return JNICommons.storeBinaryVectorDataFromBuffer(
             getVectorAddress(),
-            batch.toArray(new byte[][] {}),
-            (long) batch.get(0).length * transferLimit,
+            stagingBuffer,
+            numBytes,
+            (long) this.transferLimit * this.bytesPerVector,
             append
         );
     }
+
+    @Override
+    public void deallocate() {
+        JNICommons.freeBinaryVectorData(getVectorAddress());
+    }
 }
@@ -8,23 +8,36 @@ package org.opensearch.knn.index.codec.transfer;
 import org.opensearch.knn.jni.JNICommons;
 
 import java.io.IOException;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
 
 /**
  * Transfer float vectors to off heap memory.
  */
 public final class OffHeapFloatVectorTransfer extends OffHeapVectorTransfer<float[]> {
 
+    private FloatBuffer stagingFloats;
+
     public OffHeapFloatVectorTransfer(int bytesPerVector, int totalVectorsToTransfer) {
         super(bytesPerVector, totalVectorsToTransfer);
     }
 
     @Override
-    protected long transfer(final List<float[]> vectorsToTransfer, boolean append) throws IOException {
-        return JNICommons.storeVectorData(
+    protected void stage(final ByteBuffer stagingBuffer, final int offset, final float[] vector) {
+        checkVectorBytes(vector.length * Float.BYTES);
+        if (stagingFloats == null) {
+            stagingFloats = stagingBuffer.asFloatBuffer();
+        }
+        stagingFloats.put(offset / Float.BYTES, vector);
+    }
+
+    @Override
+    protected long transfer(final ByteBuffer stagingBuffer, final int numBytes, boolean append) throws IOException {
+        return JNICommons.storeVectorDataFromBuffer(
             getVectorAddress(),
-            vectorsToTransfer.toArray(new float[][] {}),
-            (long) vectorsToTransfer.get(0).length * this.transferLimit,
+            stagingBuffer,
+            numBytes,
+            (long) this.transferLimit * this.bytesPerVector / Float.BYTES,
             append
         );
     }
@@ -11,14 +11,19 @@ import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * <p>
  * The class is intended to transfer {@link KNNVectorValues} to off heap memory.
  * </p>
  * <p>
+ * Vectors are copied into a direct buffer as they are transferred, so callers can hand over vectors that are reused by the
+ * iterator they come from. Once {@link #transferLimit} vectors are staged, the whole buffer is copied into native memory at once,
+ * instead of pinning and copying a Java array per vector.
+ * </p>
+ * <p>
  * The class is not thread safe.
  * </p>
  *
@@ -30,39 +35,44 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
     private long vectorAddress;
     @Getter
     protected final int transferLimit;
+    protected final int bytesPerVector;
 
-    private List<T> vectorsToTransfer;
+    private ByteBuffer stagingBuffer;
+    private int numStagedVectors;
 
     public OffHeapVectorTransfer(int bytesPerVector, int totalVectorsToTransfer) {
+        this.bytesPerVector = bytesPerVector;
         this.transferLimit = computeTransferLimit(bytesPerVector, totalVectorsToTransfer);
-        this.vectorsToTransfer = new ArrayList<>(this.transferLimit);
+        this.stagingBuffer = ByteBuffer.allocateDirect(this.transferLimit * bytesPerVector).order(ByteOrder.nativeOrder());
         this.vectorAddress = 0;
     }
 
     private int computeTransferLimit(int bytesPerVector, int totalVectorsToTransfer) {
         int limit = (int) Math.max(1, KNNSettings.getVectorStreamingMemoryLimit().getBytes() / bytesPerVector);
+        // The staging buffer cannot be larger than 2GB
+        limit = Math.min(limit, Integer.MAX_VALUE / bytesPerVector);
         return Math.min(limit, totalVectorsToTransfer);
     }
 
     /**
      * Transfer vectors to off-heap
-     * @param vector float[] or byte[]
+     * @param vector float[] or byte[], copied before returning
      * @param append This indicates whether to append or rewrite the off-heap buffer
      * @return true of the vectors were transferred, false if not
      * @throws IOException
      */
     public boolean transfer(T vector, boolean append) throws IOException {
-        vectorsToTransfer.add(vector);
-        if (vectorsToTransfer.size() == this.transferLimit) {
-            vectorAddress = transfer(vectorsToTransfer, append);
-            vectorsToTransfer.clear();
+        stage(stagingBuffer, numStagedVectors * bytesPerVector, vector);
+        if (++numStagedVectors == this.transferLimit) {
+            vectorAddress = transfer(stagingBuffer, numStagedVectors * bytesPerVector, append);
+            numStagedVectors = 0;
             return true;
         }
         return false;
     }
 
     /**
-     * Empties the {@link #vectorsToTransfer} if its not empty. Intended to be used before
+     * Empties the staging buffer if its not empty. Intended to be used before
      * closing the transfer
      *
      * @param append This indicates whether to append or rewrite the off-heap buffer
@@ -71,9 +81,9 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
      */
     public boolean flush(boolean append) throws IOException {
         // flush before closing
-        if (!vectorsToTransfer.isEmpty()) {
-            vectorAddress = transfer(vectorsToTransfer, append);
-            vectorsToTransfer.clear();
+        if (numStagedVectors > 0) {
+            vectorAddress = transfer(stagingBuffer, numStagedVectors * bytesPerVector, append);
+            numStagedVectors = 0;
             return true;
         }
         return false;
@@ -89,7 +99,7 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
     }
 
     /**
-     * Resets address and vectortoTransfer
+     * Resets address and staging buffer
      *
      * DO NOT USE this in the middle of the transfer, The behavior is undefined
      *
@@ -97,10 +107,41 @@ public abstract class OffHeapVectorTransfer<T> implements Closeable {
      */
     public void reset() {
         vectorAddress = 0;
-        vectorsToTransfer = null;
+        stagingBuffer = null;
+        numStagedVectors = 0;
+    }
+
+    /**
+     * Checks that a vector has the expected size before it is staged.
+     *
+     * @param vectorBytes size of the vector in bytes
+     */
+    protected void checkVectorBytes(int vectorBytes) {
+        if (vectorBytes != bytesPerVector) {
+            throw new IllegalArgumentException(
+                "Vector of " + vectorBytes + " bytes cannot be transferred, " + bytesPerVector + " bytes are expected"
+            );
+        }
     }
 
     protected abstract void deallocate();
 
-    protected abstract long transfer(final List<T> vectorsToTransfer, boolean append) throws IOException;
+    /**
+     * Copies a vector into the staging buffer.
+     *
+     * @param stagingBuffer direct buffer in native byte order
+     * @param offset offset of the vector in the buffer, in bytes
+     * @param vector vector to copy
+     */
+    protected abstract void stage(ByteBuffer stagingBuffer, int offset, T vector);
+
+    /**
+     * Copies the staged vectors into native memory.
+     *
+     * @param stagingBuffer direct buffer in native byte order
+     * @param numBytes number of bytes staged from the start of the buffer
+     * @param append This indicates whether to append or rewrite the off-heap buffer
+     * @return address of the native memory holding the vectors
+     */
+    protected abstract long transfer(ByteBuffer stagingBuffer, int numBytes, boolean append) throws IOException;
 }
@@ -8,12 +8,15 @@ package org.opensearch.knn.index.engine;
 import org.opensearch.Version;
 import org.opensearch.knn.common.exception.MemoryOptimizedSearchOldIndicesNotSupportedException;
 import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.faiss.FaissSQEncoder;
 import org.opensearch.knn.index.engine.qframe.QuantizationConfig;
 import org.opensearch.knn.index.mapper.CompressionLevel;
 import org.opensearch.knn.index.mapper.KNNMappingConfig;
 import org.opensearch.knn.index.mapper.KNNVectorFieldType;
 import org.opensearch.knn.index.mapper.Mode;
+import org.opensearch.knn.indices.ModelMetadata;
+import org.opensearch.knn.indices.ModelUtil;
 import org.opensearch.knn.memoryoptsearch.VectorSearcher;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 
@@ -27,7 +30,9 @@ import static org.opensearch.knn.common.KNNConstants.ENCODER_BINARY;
 import static org.opensearch.knn.common.KNNConstants.ENCODER_FLAT;
 import static org.opensearch.knn.common.KNNConstants.ENCODER_SQ;
 import static org.opensearch.knn.common.KNNConstants.METHOD_ENCODER_PARAMETER;
+import static org.opensearch.knn.common.KNNConstants.ENCODER_PQ;
 import static org.opensearch.knn.common.KNNConstants.METHOD_HNSW;
+import static org.opensearch.knn.common.KNNConstants.METHOD_IVF;
 
 /**
  * This class encapsulates a determination logic for memory optimized search.
@@ -38,6 +43,7 @@ import static org.opensearch.knn.common.KNNConstants.METHOD_HNSW;
 public class MemoryOptimizedSearchSupportSpec {
     private static final Version MIN_VERSION_SUPPORTS_MEM_OPT_SEARCH = Version.V_2_17_0;
     private static final Set<String> SUPPORTED_HNSW_ENCODING = Set.of(ENCODER_FLAT, ENCODER_SQ, ENCODER_BINARY);
+    private static final Set<String> SUPPORTED_IVF_ENCODING = Set.of(ENCODER_FLAT, ENCODER_PQ);
 
     /**
      * Determines whether a memory optimized searching should be applied during search.
@@ -56,22 +62,7 @@ public class MemoryOptimizedSearchSupportSpec {
 
         if (fieldType.isMemoryOptimizedSearchAvailable()) {
             if (KNNSettings.isMemoryOptimizedKnnSearchModeEnabled(indexName)) {
-                final boolean shouldBlockMemoryOptimizedSearch = fieldType.getIndexCreatedVersion() == null
-                    || fieldType.getIndexCreatedVersion().before(MIN_VERSION_SUPPORTS_MEM_OPT_SEARCH);
-                if (shouldBlockMemoryOptimizedSearch) {
-                    // Memory-optimized search is enabled, but some existing indices were created before
-                    // the minimum version that supports this feature. Throw an exception to clearly
-                    // notify the user of the incompatibility.
-                    throw new MemoryOptimizedSearchOldIndicesNotSupportedException(
-                        "Memory optimized search does not support old indices created before "
-                            + MIN_VERSION_SUPPORTS_MEM_OPT_SEARCH.toString()
-                            + ". Index ["
-                            + indexName
-                            + "] was created in "
-                            + fieldType.getIndexCreatedVersion().toString()
-                    );
-                }
-
+                validateIndexCreatedVersion(fieldType, indexName);
                 return true;
             }
 
@@ -80,9 +71,80 @@ public class MemoryOptimizedSearchSupportSpec {
             return mappingConfig.getMode() == Mode.ON_DISK && mappingConfig.getCompressionLevel() == CompressionLevel.x1;
         }
 
+        // Model metadata is not available when the mapping is parsed, so model based fields are resolved at search time.
+        final Optional<String> modelId = fieldType.getKnnMappingConfig().getModelId();
+        if (modelId.isPresent() && KNNSettings.isMemoryOptimizedKnnSearchModeEnabled(indexName)) {
+            if (isSupportedModel(ModelUtil.getModelMetadata(modelId.get()))) {
+                validateIndexCreatedVersion(fieldType, indexName);
+                return true;
+            }
+        }
+
         return false;
     }
 
+    /**
+     * Determine whether a trained model supports memory-optimized-search.
+     * Only FAISS IVF models with flat or PQ encoding on float vectors are supported.
+     *
+     * @param modelMetadata Model metadata.
+     * @return True if memory-optimized-search is supported, otherwise false.
+     */
+    public static boolean isSupportedModel(final ModelMetadata modelMetadata) {
+        if (modelMetadata == null || modelMetadata.getKnnEngine() != KNNEngine.FAISS) {
+            return false;
+        }
+
+        if (modelMetadata.getVectorDataType() != null && modelMetadata.getVectorDataType() != VectorDataType.FLOAT) {
+            return false;
+        }
+
+        final MethodComponentContext methodComponentContext = modelMetadata.getMethodComponentContext();
+        if (methodComponentContext == null || METHOD_IVF.equals(methodComponentContext.getName()) == false) {
+            return false;
+        }
+
+        // IVF stores raw vectors when no encoder is configured.
+        final Object encoderContextObj = methodComponentContext.getParameters().get(METHOD_ENCODER_PARAMETER);
+        if (encoderContextObj == null) {
+            return true;
+        }
+        return encoderContextObj instanceof MethodComponentContext encoderContext
+            && SUPPORTED_IVF_ENCODING.contains(encoderContext.getName());
+    }
+
+    /**
+     * Determine whether a trained model is a supported FAISS IVF model with PQ encoding, whose codes can be scored in Java.
+     *
+     * @param modelMetadata Model metadata.
+     * @return True if the model is a supported IVF-PQ model, otherwise false.
+     */
+    public static boolean isProductQuantizedModel(final ModelMetadata modelMetadata) {
+        if (isSupportedModel(modelMetadata) == false) {
+            return false;
+        }
+        final Object encoderContextObj = modelMetadata.getMethodComponentContext().getParameters().get(METHOD_ENCODER_PARAMETER);
+        return encoderContextObj instanceof MethodComponentContext encoderContext && ENCODER_PQ.equals(encoderContext.getName());
+    }
+
+    private static void validateIndexCreatedVersion(final KNNVectorFieldType fieldType, final String indexName) {
+        final boolean shouldBlockMemoryOptimizedSearch = fieldType.getIndexCreatedVersion() == null
+            || fieldType.getIndexCreatedVersion().before(MIN_VERSION_SUPPORTS_MEM_OPT_SEARCH);
+        if (shouldBlockMemoryOptimizedSearch) {
+            // Memory-optimized search is enabled, but some existing indices were created before
+            // the minimum version that supports this feature. Throw an exception to clearly
+            // notify the user of the incompatibility.
+            throw new MemoryOptimizedSearchOldIndicesNotSupportedException(
+                "Memory optimized search does not support old indices created before "
+                    + MIN_VERSION_SUPPORTS_MEM_OPT_SEARCH.toString()
+                    + ". Index ["
+                    + indexName
+                    + "] was created in "
+                    + fieldType.getIndexCreatedVersion()
+            );
+        }
+    }
+
     /**
      * Determine whether if a KNN field supports memory-optimized-search.
      * If it is supported, then the field can perform memory-optimized search via {@link VectorSearcher}.
@@ -98,7 +160,7 @@ public class MemoryOptimizedSearchSupportSpec {
         final QuantizationConfig quantizationConfig,
         final Optional<String> modelId
     ) {
-        // PQ is not supported.
+        // Model based fields are resolved at search time, see isSupportedModel.
         if (modelId.isPresent()) {
             return false;
         }
@@ -11,7 +11,6 @@ import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.AbstractKNNMethod;
-import org.opensearch.knn.index.engine.DefaultHnswSearchContext;
 import org.opensearch.knn.index.engine.Encoder;
 import org.opensearch.knn.index.engine.KNNMethodContext;
 import org.opensearch.knn.index.engine.MethodComponent;
@@ -89,7 +88,7 @@ public class FaissHNSWMethod extends AbstractFaissMethod {
      * @see AbstractKNNMethod
      */
     public FaissHNSWMethod() {
-        super(HNSW_COMPONENT, Set.copyOf(SUPPORTED_SPACES), new DefaultHnswSearchContext());
+        super(HNSW_COMPONENT, Set.copyOf(SUPPORTED_SPACES), new FaissHNSWSearchContext());
     }
 
     private static MethodComponent initMethodComponent() {
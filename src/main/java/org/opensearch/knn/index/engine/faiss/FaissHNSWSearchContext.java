@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.engine.faiss;
+
+import com.google.common.collect.ImmutableMap;
+import org.opensearch.knn.index.engine.KNNLibrarySearchContext;
+import org.opensearch.knn.index.engine.Parameter;
+import org.opensearch.knn.index.engine.model.QueryContext;
+import org.opensearch.knn.index.query.memoryoptsearch.FilteredTraversal;
+import org.opensearch.knn.index.query.request.MethodParameter;
+import org.opensearch.knn.memoryoptsearch.faiss.BeamSearchStrategy;
+
+import java.util.Map;
+
+/**
+ * Faiss HNSW search context. On top of ef_search, the filtered traversal and the beam width can be chosen, which only apply to
+ * memory-optimized search and are ignored when the graph is searched by the native library.
+ */
+public final class FaissHNSWSearchContext implements KNNLibrarySearchContext {
+
+    private final Map<String, Parameter<?>> supportedMethodParameters = ImmutableMap.<String, Parameter<?>>builder()
+        .put(
+            MethodParameter.EF_SEARCH.getName(),
+            new Parameter.IntegerParameter(MethodParameter.EF_SEARCH.getName(), null, (value, context) -> true)
+        )
+        .put(
+            MethodParameter.FILTERED_TRAVERSAL.getName(),
+            new Parameter.StringParameter(
+                MethodParameter.FILTERED_TRAVERSAL.getName(),
+                null,
+                (value, context) -> FilteredTraversal.fromName(value) != null
+            )
+        )
+        .put(
+            MethodParameter.BEAM_WIDTH.getName(),
+            new Parameter.IntegerParameter(
+                MethodParameter.BEAM_WIDTH.getName(),
+                null,
+                (value, context) -> value > 0 && value <= BeamSearchStrategy.MAX_BEAM_WIDTH
+            )
+        )
+        .build();
+
+    @Override
+    public Map<String, Parameter<?>> supportedMethodParameters(QueryContext ctx) {
+        return supportedMethodParameters;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.mapper;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+
+/**
+ * Decodes base64 encoded vectors (RFC 4648 basic alphabet) straight from the character buffer of the parser.
+ * <p>
+ * {@link java.util.Base64.Decoder} only accepts strings or byte arrays, which requires copying the characters into a
+ * {@link String} and then into a byte array before decoding. Vectors are large and parsed on the indexing hot path, hence this
+ * decoder reads characters in place and writes bytes, or little-endian floats, directly into the destination vector.
+ * Like {@link java.util.Base64.Decoder}, padding is accepted but not required.
+ */
+@UtilityClass
+class Base64VectorDecoder {
+    private static final char PADDING = '=';
+    private static final int[] DECODE_TABLE = new int[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, -1);
+        final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); ++i) {
+            DECODE_TABLE[alphabet.charAt(i)] = i;
+        }
+    }
+
+    /**
+     * Returns the number of bytes the given base64 characters decode to.
+     *
+     * @throws IllegalArgumentException if the length of the input is not a valid base64 length
+     */
+    static int decodedLength(final char[] chars, final int offset, final int length) {
+        final int numDataChars = length - numPaddingChars(chars, offset, length);
+        if (numDataChars < length && length % 4 != 0) {
+            throw new IllegalArgumentException("Input byte array has wrong 4-byte ending unit");
+        }
+        if (numDataChars % 4 == 1) {
+            throw new IllegalArgumentException("Last unit does not have enough valid bits");
+        }
+        return numDataChars / 4 * 3 + Math.max(numDataChars % 4 - 1, 0);
+    }
+
+    /**
+     * Decodes base64 characters into the destination, which must be exactly {@link #decodedLength} long.
+     */
+    static void decode(final char[] chars, final int offset, final int length, final byte[] bytes) {
+        decode(chars, offset, length, bytes, null);
+    }
+
+    /**
+     * Decodes base64 characters of little-endian floats into the destination, which must be exactly {@link #decodedLength} / 4 long.
+     */
+    static void decodeFloats(final char[] chars, final int offset, final int length, final float[] floats) {
+        decode(chars, offset, length, null, floats);
+    }
+
+    private static void decode(final char[] chars, final int offset, final int length, final byte[] bytes, final float[] floats) {
+        final int end = offset + length - numPaddingChars(chars, offset, length);
+        int bits = 0;
+        int numBits = 0;
+        int numBytes = 0;
+        int floatBits = 0;
+        for (int i = offset; i < end; ++i) {
+            final char c = chars[i];
+            final int value = c < DECODE_TABLE.length ? DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("Illegal base64 character " + Integer.toString(c, 16));
+            }
+            // At most 7 bits are left over from the previous character, so 13 bits are enough.
+            bits = ((bits << 6) | value) & 0x1FFF;
+            numBits += 6;
+            if (numBits >= Byte.SIZE) {
+                numBits -= Byte.SIZE;
+                final int b = (bits >>> numBits) & 0xFF;
+                if (bytes != null) {
+                    bytes[numBytes] = (byte) b;
+                } else {
+                    final int byteInFloat = numBytes & (Float.BYTES - 1);
+                    floatBits |= b << (byteInFloat * Byte.SIZE);
+                    if (byteInFloat == Float.BYTES - 1) {
+                        floats[numBytes / Float.BYTES] = Float.intBitsToFloat(floatBits);
+                        floatBits = 0;
+                    }
+                }
+                ++numBytes;
+            }
+        }
+    }
+
+    private static int numPaddingChars(final char[] chars, final int offset, final int length) {
+        int numPaddingChars = 0;
+        while (numPaddingChars < 2 && numPaddingChars < length && chars[offset + length - 1 - numPaddingChars] == PADDING) {
+            ++numPaddingChars;
+        }
+        return numPaddingChars;
+    }
+}
@@ -6,11 +6,8 @@
 package org.opensearch.knn.index.mapper;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -76,7 +73,6 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
 
     public static final String CONTENT_TYPE = "knn_vector";
     public static final String KNN_FIELD = "knn_field";
-    private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();
 
     private static KNNVectorFieldMapper toType(FieldMapper in) {
         return (KNNVectorFieldMapper) in;
@@ -814,120 +810,143 @@ public abstract class KNNVectorFieldMapper extends ParametrizedFieldMapper {
 
     // Returns an optional array of byte values where each value in the vector is parsed as a float and validated
     // if it is a finite number without any decimals and within the byte range of [-128 to 127].
+    // Values are written into an array sized from the mapped dimension, so no boxed value is created per dimension.
     Optional<byte[]> getBytesFromContext(ParseContext context, int dimension, VectorDataType dataType) throws IOException {
         context.path().add(simpleName());
 
-        PerDimensionValidator perDimensionValidator = getPerDimensionValidator();
-        PerDimensionProcessor perDimensionProcessor = getPerDimensionProcessor();
-
-        ArrayList<Byte> vector = new ArrayList<>();
-        XContentParser.Token token = context.parser().currentToken();
-
-        if (token == XContentParser.Token.START_ARRAY) {
-            token = context.parser().nextToken();
-            while (token != XContentParser.Token.END_ARRAY) {
-                float value = perDimensionProcessor.processByte(context.parser().floatValue());
-                perDimensionValidator.validateByte(value);
-                vector.add((byte) value);
-                token = context.parser().nextToken();
-            }
-        } else if (token == XContentParser.Token.VALUE_NUMBER) {
-            float value = perDimensionProcessor.processByte(context.parser().floatValue());
-            perDimensionValidator.validateByte(value);
-            vector.add((byte) value);
-            context.parser().nextToken();
-        } else if (token == XContentParser.Token.VALUE_STRING) {
-            final byte[] decoded;
+        final XContentParser parser = context.parser();
+        final XContentParser.Token token = parser.currentToken();
+        if (token == XContentParser.Token.VALUE_NULL) {
+            context.path().remove();
+            return Optional.empty();
+        }
+        if (token == XContentParser.Token.VALUE_STRING) {
+            final char[] chars = parser.textCharacters();
+            final int offset = parser.textOffset();
+            final int length = parser.textLength();
+            final byte[] decoded = new byte[getBase64DecodedLength(chars, offset, length)];
+            validateVectorDimension(dimension, decoded.length, dataType);
             try {
-                decoded = BASE64_DECODER.decode(context.parser().text());
+                Base64VectorDecoder.decode(chars, offset, length, decoded);
             } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException(
-                    String.format(Locale.ROOT, "Invalid base64 encoding for vector field [%s]: %s", name(), e.getMessage()),
-                    e
-                );
+                throw invalidBase64(e);
             }
-            validateVectorDimension(dimension, decoded.length, dataType);
             // Per-dimension validation is intentionally skipped: base64-decoded bytes are inherently
             // in [-128, 127] range, cannot be NaN/Inf, and have no decimal component — all checks
             // that validateByte() performs are satisfied by construction for raw byte values.
             return Optional.of(decoded);
-        } else if (token == XContentParser.Token.VALUE_NULL) {
-            context.path().remove();
-            return Optional.empty();
         }
-        validateVectorDimension(dimension, vector.size(), dataType);
-        byte[] array = new byte[vector.size()];
-        int i = 0;
-        for (Byte f : vector) {
-            array[i++] = f;
+
+        final PerDimensionValidator perDimensionValidator = getPerDimensionValidator();
+        final PerDimensionProcessor perDimensionProcessor = getPerDimensionProcessor();
+        final byte[] vector = new byte[VectorDataType.BINARY == dataType ? dimension / Byte.SIZE : dimension];
+        int size = 0;
+        if (token == XContentParser.Token.START_ARRAY) {
+            for (XContentParser.Token next = parser.nextToken(); next != XContentParser.Token.END_ARRAY; next = parser.nextToken()) {
+                // Values beyond the dimension are only counted, so that the mismatch error reports the number of values given.
+                if (size < vector.length) {
+                    final float value = perDimensionProcessor.processByte(parser.floatValue());
+                    perDimensionValidator.validateByte(value);
+                    vector[size] = (byte) value;
+                }
+                ++size;
+            }
+        } else if (token == XContentParser.Token.VALUE_NUMBER) {
+            if (vector.length > 0) {
+                final float value = perDimensionProcessor.processByte(parser.floatValue());
+                perDimensionValidator.validateByte(value);
+                vector[0] = (byte) value;
+            }
+            size = 1;
+            parser.nextToken();
         }
-        return Optional.of(array);
+        validateVectorDimension(dimension, size, dataType);
+        return Optional.of(vector);
     }
 
+    // Returns an optional array of float values, processed and validated per dimension in a single pass.
+    // Values are written into an array sized from the mapped dimension, so no boxed value is created per dimension.
     Optional<float[]> getFloatsFromContext(ParseContext context, int dimension) throws IOException {
         context.path().add(simpleName());
 
-        PerDimensionValidator perDimensionValidator = getPerDimensionValidator();
-        PerDimensionProcessor perDimensionProcessor = getPerDimensionProcessor();
+        final XContentParser parser = context.parser();
+        final XContentParser.Token token = parser.currentToken();
+        if (token == XContentParser.Token.VALUE_NULL) {
+            context.path().remove();
+            return Optional.empty();
+        }
 
-        ArrayList<Float> vector = new ArrayList<>();
-        XContentParser.Token token = context.parser().currentToken();
-        float value;
-        if (token == XContentParser.Token.START_ARRAY) {
-            token = context.parser().nextToken();
-            while (token != XContentParser.Token.END_ARRAY) {
-                value = perDimensionProcessor.process(context.parser().floatValue());
-                perDimensionValidator.validate(value);
-                vector.add(value);
-                token = context.parser().nextToken();
-            }
-        } else if (token == XContentParser.Token.VALUE_NUMBER) {
-            value = perDimensionProcessor.process(context.parser().floatValue());
-            perDimensionValidator.validate(value);
-            vector.add(value);
-            context.parser().nextToken();
-        } else if (token == XContentParser.Token.VALUE_STRING) {
-            final byte[] decoded;
-            try {
-                decoded = BASE64_DECODER.decode(context.parser().text());
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException(
-                    String.format(Locale.ROOT, "Invalid base64 encoding for vector field [%s]: %s", name(), e.getMessage()),
-                    e
-                );
-            }
-            if (decoded.length % Float.BYTES != 0) {
+        final PerDimensionValidator perDimensionValidator = getPerDimensionValidator();
+        final PerDimensionProcessor perDimensionProcessor = getPerDimensionProcessor();
+        if (token == XContentParser.Token.VALUE_STRING) {
+            final char[] chars = parser.textCharacters();
+            final int offset = parser.textOffset();
+            final int length = parser.textLength();
+            final int numBytes = getBase64DecodedLength(chars, offset, length);
+            if (numBytes % Float.BYTES != 0) {
                 throw new IllegalArgumentException(
                     String.format(
                         Locale.ROOT,
                         "Base64 encoded vector for field [%s] has invalid byte length [%d], must be a multiple of %d (float size)",
                         name(),
-                        decoded.length,
+                        numBytes,
                         Float.BYTES
                     )
                 );
             }
-            int numFloats = decoded.length / Float.BYTES;
-            validateVectorDimension(dimension, numFloats, vectorDataType);
-            final float[] array = new float[numFloats];
-            ByteBuffer.wrap(decoded).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(array);
-            for (int idx = 0; idx < numFloats; idx++) {
-                array[idx] = perDimensionProcessor.process(array[idx]);
-                perDimensionValidator.validate(array[idx]);
+            final float[] vector = new float[numBytes / Float.BYTES];
+            validateVectorDimension(dimension, vector.length, vectorDataType);
+            try {
+                Base64VectorDecoder.decodeFloats(chars, offset, length, vector);
+            } catch (IllegalArgumentException e) {
+                throw invalidBase64(e);
+            }
+            // Floats are decoded in place, then processed and validated in a single pass.
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = perDimensionProcessor.process(vector[i]);
+                perDimensionValidator.validate(vector[i]);
             }
-            return Optional.of(array);
-        } else if (token == XContentParser.Token.VALUE_NULL) {
-            context.path().remove();
-            return Optional.empty();
+            return Optional.of(vector);
         }
-        validateVectorDimension(dimension, vector.size(), vectorDataType);
 
-        float[] array = new float[vector.size()];
-        int i = 0;
-        for (Float f : vector) {
-            array[i++] = f;
+        final float[] vector = new float[dimension];
+        int size = 0;
+        if (token == XContentParser.Token.START_ARRAY) {
+            for (XContentParser.Token next = parser.nextToken(); next != XContentParser.Token.END_ARRAY; next = parser.nextToken()) {
+                // Values beyond the dimension are only counted, so that the mismatch error reports the number of values given.
+                if (size < vector.length) {
+                    final float value = perDimensionProcessor.process(parser.floatValue());
+                    perDimensionValidator.validate(value);
+                    vector[size] = value;
+                }
+                ++size;
+            }
+        } else if (token == XContentParser.Token.VALUE_NUMBER) {
+            if (vector.length > 0) {
+                final float value = perDimensionProcessor.process(parser.floatValue());
+                perDimensionValidator.validate(value);
+                vector[0] = value;
+            }
+            size = 1;
+            parser.nextToken();
         }
-        return Optional.of(array);
+        validateVectorDimension(dimension, size, vectorDataType);
+        return Optional.of(vector);
+    }
+
+    private int getBase64DecodedLength(final char[] chars, final int offset, final int length) {
+        try {
+            return Base64VectorDecoder.decodedLength(chars, offset, length);
+        } catch (IllegalArgumentException e) {
+            throw invalidBase64(e);
+        }
+    }
+
+    private IllegalArgumentException invalidBase64(final IllegalArgumentException e) {
+        return new IllegalArgumentException(
+            String.format(Locale.ROOT, "Invalid base64 encoding for vector field [%s]: %s", name(), e.getMessage()),
+            e
+        );
     }
 
     @Override
@@ -22,6 +22,7 @@ import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.query.QueryShardException;
 import org.opensearch.knn.index.KNNVectorDocValueFormat;
 import org.opensearch.knn.index.KNNVectorIndexFieldData;
+import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.engine.KNNMethodContext;
@@ -247,10 +248,12 @@ public class KNNVectorFieldType extends MappedFieldType {
      * <ul>
      *   <li>Engines that do not support radial search (e.g., NMSLIB)</li>
      *   <li>Binary vector data type</li>
-     *   <li>Quantized indices — both BQ (binary quantization, identified by
-     *       {@code QuantizationConfig != EMPTY}) and compression-based quantization such as SQ
-     *       (identified by a configured compression level other than {@code x1}/{@code x2}).
-     *       Quantized vector scores carry quantization error, which yields poor recall for
+     *   <li>BQ (binary quantization, identified by {@code QuantizationConfig != EMPTY}) with a space type other than
+     *       {@code l2}. BQ with {@code l2} is supported, the quantization error is bounded with per-segment statistics and
+     *       the candidates are verified with full-precision vectors, see
+     *       {@link org.opensearch.knn.index.query.RescoreRadialSearchQuery}.</li>
+     *   <li>Compression-based quantization such as SQ (identified by a configured compression level other than
+     *       {@code x1}/{@code x2}). Quantized vector scores carry quantization error, which yields poor recall for
      *       radius-based matching, so radial search is not supported on these indices.</li>
      * </ul>
      *
@@ -269,9 +272,19 @@ public class KNNVectorFieldType extends MappedFieldType {
             throw new UnsupportedOperationException(String.format(Locale.ROOT, "Binary data type does not support radial search"));
         }
         final KNNMappingConfig mappingConfig = getKnnMappingConfig();
-        // BQ (binary quantization) does not support radial search
+        // BQ (binary quantization) supports radial search only for l2, the space the quantization error statistics are measured in
         if (mappingConfig.getQuantizationConfig() != QuantizationConfig.EMPTY) {
-            throw new UnsupportedOperationException("Radial search is not supported for quantized indices using binary quantization.");
+            final SpaceType spaceType = mappingConfig.getKnnMethodContext().map(KNNMethodContext::getSpaceType).orElse(null);
+            if (spaceType != SpaceType.L2) {
+                throw new UnsupportedOperationException(
+                    String.format(
+                        Locale.ROOT,
+                        "Radial search on quantized indices using binary quantization is only supported for space type [%s]",
+                        SpaceType.L2.getValue()
+                    )
+                );
+            }
+            return;
         }
         // Compression-based quantization (e.g., 32x/16x/8x/4x SQ) is identified by a configured
         // compression level other than x1/x2, both of which are non-quantized. Radial search is not
@@ -298,17 +311,14 @@ public class KNNVectorFieldType extends MappedFieldType {
      * to support radial search via {@link #validateSupportRadialSearch(KNNEngine)}.
      * Calling this on an unsupported configuration may return incorrect results.</p>
      *
-     * <p>Radial search is not supported on quantized indices (see
-     * {@link #validateSupportRadialSearch(KNNEngine)}), so no supported configuration requires
-     * full-precision rescoring after radial search. This unconditionally returns {@code false} as
-     * a result, making {@link org.opensearch.knn.index.query.RescoreRadialSearchQuery} currently
-     * unreachable from any supported code path. Both are retained rather than removed for when
-     * radial search on quantized indices is re-enabled — see
-     * <a href="https://github.com/opensearch-project/k-NN/issues/3452">#3452</a>.</p>
+     * <p>BQ indices are the only quantized indices supporting radial search (see
+     * {@link #validateSupportRadialSearch(KNNEngine)}). Their quantized scores carry quantization error, so the search is
+     * wrapped in {@link org.opensearch.knn.index.query.RescoreRadialSearchQuery}, which verifies candidates against the
+     * full-precision vectors.</p>
      *
-     * @return {@code false} — rescoring after radial search is not required for any supported index
+     * @return {@code true} if the field uses binary quantization
      */
     public boolean isRescoringRequiredForRadial() {
-        return false;
+        return getKnnMappingConfig().getQuantizationConfig() != QuantizationConfig.EMPTY;
     }
 }
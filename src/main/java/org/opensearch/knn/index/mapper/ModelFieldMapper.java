@@ -123,7 +123,7 @@ public class ModelFieldMapper extends KNNVectorFieldMapper {
                 mode = modelMetadata.getMode();
                 compressionLevel = modelMetadata.getCompressionLevel();
             }
-        });
+        }, indexCreatedVersion);
         return new ModelFieldMapper(
             simpleName,
             mappedFieldType,
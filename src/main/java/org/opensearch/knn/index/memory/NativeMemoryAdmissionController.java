@@ -0,0 +1,200 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.knn.common.exception.NativeMemoryLoadRejectedException;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.plugin.stats.KNNCounter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node-local admission controller sitting in front of {@link NativeMemoryCacheManager#get}. It keeps track of the number
+ * of kilobytes that are currently being loaded into native memory and, when enabled, queues or sheds new loads once the
+ * in-flight bytes would exceed a watermark expressed as a percentage of the cache capacity.
+ * <p>
+ * Unlike the cluster-wide circuit breaker, which is re-evaluated periodically, the pressure level exposed here is
+ * computed on every call and never requires a cluster state update.
+ */
+@Log4j2
+public class NativeMemoryAdmissionController {
+
+    /**
+     * Pressure level derived from the ratio between the in-flight load bytes and the watermark.
+     */
+    public enum PressureLevel {
+        LOW("low"),
+        MODERATE("moderate"),
+        HIGH("high"),
+        CRITICAL("critical");
+
+        @Getter
+        private final String name;
+
+        PressureLevel(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static final double MODERATE_PRESSURE_RATIO = 0.5;
+    private static final double HIGH_PRESSURE_RATIO = 0.8;
+
+    // Guarded by this
+    private long inFlightSizeInKB;
+    private int inFlightLoads;
+    private int waitingLoads;
+
+    /**
+     * Admits a load of the given size using the admission control settings of this node. The caller must call
+     * {@link #release(long)} with the returned size once the load completes, regardless of the outcome.
+     *
+     * @param key cache key of the entry being loaded
+     * @param sizeInKB size of the entry in kilobytes
+     * @param capacityInKB capacity of the native memory cache in kilobytes
+     * @return admitted size in kilobytes that must be released
+     * @throws NativeMemoryLoadRejectedException if the load cannot be admitted within the configured queue timeout
+     */
+    public long acquire(String key, long sizeInKB, long capacityInKB) {
+        return acquire(
+            key,
+            sizeInKB,
+            capacityInKB,
+            KNNSettings.isAdmissionControlEnabled(),
+            KNNSettings.getAdmissionControlInFlightLimitPercentage(),
+            KNNSettings.getAdmissionControlQueueTimeout()
+        );
+    }
+
+    synchronized long acquire(
+        String key,
+        long sizeInKB,
+        long capacityInKB,
+        boolean enabled,
+        double inFlightLimitPercentage,
+        TimeValue queueTimeout
+    ) {
+        if (enabled && isOverWatermark(sizeInKB, capacityInKB, inFlightLimitPercentage)) {
+            waitForCapacity(key, sizeInKB, capacityInKB, inFlightLimitPercentage, queueTimeout);
+        }
+        inFlightSizeInKB += sizeInKB;
+        inFlightLoads++;
+        return sizeInKB;
+    }
+
+    /**
+     * Releases a previously admitted load and wakes up queued loads.
+     *
+     * @param admittedSizeInKB size returned by {@link #acquire(String, long, long)}
+     */
+    public synchronized void release(long admittedSizeInKB) {
+        inFlightSizeInKB = Math.max(0, inFlightSizeInKB - admittedSizeInKB);
+        inFlightLoads = Math.max(0, inFlightLoads - 1);
+        notifyAll();
+    }
+
+    /**
+     * @return total size of the loads currently in flight in kilobytes
+     */
+    public synchronized long getInFlightSizeInKB() {
+        return inFlightSizeInKB;
+    }
+
+    /**
+     * @return number of loads currently in flight
+     */
+    public synchronized int getInFlightLoads() {
+        return inFlightLoads;
+    }
+
+    /**
+     * Computes the current pressure level. Any queued load means the node is at the watermark.
+     *
+     * @param capacityInKB capacity of the native memory cache in kilobytes
+     * @return current {@link PressureLevel}
+     */
+    public PressureLevel getPressureLevel(long capacityInKB) {
+        return getPressureLevel(capacityInKB, KNNSettings.getAdmissionControlInFlightLimitPercentage());
+    }
+
+    synchronized PressureLevel getPressureLevel(long capacityInKB, double inFlightLimitPercentage) {
+        if (waitingLoads > 0) {
+            return PressureLevel.CRITICAL;
+        }
+        final long limitInKB = getInFlightLimitInKB(capacityInKB, inFlightLimitPercentage);
+        if (limitInKB <= 0) {
+            return inFlightLoads > 0 ? PressureLevel.CRITICAL : PressureLevel.LOW;
+        }
+        final double ratio = (double) inFlightSizeInKB / limitInKB;
+        if (ratio >= 1.0) {
+            return PressureLevel.CRITICAL;
+        }
+        if (ratio >= HIGH_PRESSURE_RATIO) {
+            return PressureLevel.HIGH;
+        }
+        if (ratio >= MODERATE_PRESSURE_RATIO) {
+            return PressureLevel.MODERATE;
+        }
+        return PressureLevel.LOW;
+    }
+
+    private void waitForCapacity(String key, long sizeInKB, long capacityInKB, double inFlightLimitPercentage, TimeValue queueTimeout) {
+        long remainingNanos = queueTimeout == null ? 0 : queueTimeout.nanos();
+        final long deadline = System.nanoTime() + remainingNanos;
+        waitingLoads++;
+        try {
+            while (isOverWatermark(sizeInKB, capacityInKB, inFlightLimitPercentage)) {
+                if (remainingNanos <= 0) {
+                    throw reject(key, sizeInKB, capacityInKB, inFlightLimitPercentage);
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+                remainingNanos = deadline - System.nanoTime();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject(key, sizeInKB, capacityInKB, inFlightLimitPercentage);
+        } finally {
+            waitingLoads--;
+        }
+    }
+
+    private boolean isOverWatermark(long sizeInKB, long capacityInKB, double inFlightLimitPercentage) {
+        // A single load is always admitted when nothing else is in flight, otherwise entries larger than the watermark
+        // could never be loaded.
+        if (inFlightLoads == 0) {
+            return false;
+        }
+        return inFlightSizeInKB + sizeInKB > getInFlightLimitInKB(capacityInKB, inFlightLimitPercentage);
+    }
+
+    private NativeMemoryLoadRejectedException reject(String key, long sizeInKB, long capacityInKB, double inFlightLimitPercentage) {
+        KNNCounter.GRAPH_LOAD_REJECTIONS.increment();
+        log.debug("[KNN] Rejected native memory load for key {} of size {} KB", key, sizeInKB);
+        return new NativeMemoryLoadRejectedException(
+            "Entry cannot be loaded into native memory because too many loads are in flight. "
+                + "Entry size: "
+                + sizeInKB
+                + " KB, "
+                + "In-flight load size: "
+                + inFlightSizeInKB
+                + " KB, "
+                + "In-flight load limit: "
+                + getInFlightLimitInKB(capacityInKB, inFlightLimitPercentage)
+                + " KB"
+        );
+    }
+
+    private static long getInFlightLimitInKB(long capacityInKB, double inFlightLimitPercentage) {
+        return (long) (capacityInKB * (inFlightLimitPercentage / 100));
+    }
+}
@@ -16,12 +16,14 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheStats;
 import com.google.common.cache.RemovalCause;
 import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.lang3.Validate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.knn.common.exception.NativeMemoryLoadRejectedException;
 import org.opensearch.knn.common.exception.OutOfNativeMemoryException;
 import org.opensearch.knn.common.featureflags.KNNFeatureFlags;
 import org.opensearch.knn.index.KNNSettings;
@@ -35,6 +37,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutionException;
@@ -59,7 +63,9 @@ public class NativeMemoryCacheManager implements Closeable {
     private Cache<String, NativeMemoryAllocation> cache;
     private Deque<String> accessRecencyQueue;
     private final ConcurrentHashMap<String, ReentrantLock> indexLocks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<NativeMemoryAllocation>> pendingLoads = new ConcurrentHashMap<>();
     private final ExecutorService executor;
+    private final NativeMemoryAdmissionController admissionController = new NativeMemoryAdmissionController();
     private AtomicBoolean cacheCapacityReached;
     private long maxWeight;
     @Getter
@@ -280,6 +286,25 @@ public class NativeMemoryCacheManager implements Closeable {
         return maxWeight;
     }
 
+    /**
+     * Getter for the total size of the entries currently being loaded into the cache.
+     *
+     * @return in-flight load size in kilobytes
+     */
+    public long getInFlightLoadSizeInKilobytes() {
+        return admissionController.getInFlightSizeInKB();
+    }
+
+    /**
+     * Returns the current native memory pressure level as seen by the admission controller. This value is computed
+     * locally on every call and does not depend on the periodic circuit breaker check.
+     *
+     * @return name of the current {@link NativeMemoryAdmissionController.PressureLevel}
+     */
+    public String getPressureLevel() {
+        return admissionController.getPressureLevel(maxWeight).getName();
+    }
+
     /**
      * Get graph count for a particular index
      *
@@ -403,50 +428,164 @@ public class NativeMemoryCacheManager implements Closeable {
             }
 
             // Cache Miss
-            // Evict before put
-            // open the graph file before proceeding to load the graph into memory
-            open(key, nativeMemoryEntryContext);
-            synchronized (this) {
-                // recheck if another thread already loaded this entry into the cache
-                result = getFromCacheAndUpdateRecency(key);
-                if (result != null) {
-                    return result;
-                }
-                if (getCacheSizeInKilobytes() + nativeMemoryEntryContext.calculateSizeInKB() >= maxWeight) {
-                    Iterator<String> lruIterator = accessRecencyQueue.iterator();
-                    while (lruIterator.hasNext()
-                        && (getCacheSizeInKilobytes() + nativeMemoryEntryContext.calculateSizeInKB() >= maxWeight)) {
-
-                        String keyToRemove = lruIterator.next();
-                        NativeMemoryAllocation allocationToRemove = cache.getIfPresent(keyToRemove);
-                        if (allocationToRemove != null) {
-                            allocationToRemove.close();
-                            cache.invalidate(keyToRemove);
-                        }
-                        lruIterator.remove();
-                    }
-                }
-
-                result = cache.get(key, nativeMemoryEntryContext::load);
-                accessRecencyQueue.addLast(key);
-
-                return result;
-            }
+            // Concurrent misses on the same key share a single load. Only the first thread opens the graph file and
+            // loads it, the others wait on the shared future instead of contending on the file lock and the cache
+            // monitor.
+            return loadOnce(key, nativeMemoryEntryContext, () -> {
+                // Evict before put
+                // open the graph file before proceeding to load the graph into memory
+                open(key, nativeMemoryEntryContext);
+                return loadWithForceEviction(key, nativeMemoryEntryContext);
+            });
         } else {
             try (nativeMemoryEntryContext) {
                 String key = nativeMemoryEntryContext.getKey();
                 // if we already have the allocation we should not open file again as this will cause slowdown in
                 // heavy throughput cases, since open() function do locking while opening and mapping the graph file to
                 // memory.
-                return cache.get(key, () -> {
+                // The cache already coalesces concurrent loads of the same key. The load is still registered as pending so
+                // that searches can tell a graph is being loaded, see isLoadInProgress.
+                return cache.get(key, () -> loadOnce(key, nativeMemoryEntryContext, () -> {
                     // open graphFile before load
                     open(key, nativeMemoryEntryContext);
                     return nativeMemoryEntryContext.load();
-                });
+                }));
+            } catch (UncheckedExecutionException e) {
+                // Surface admission control rejections as is so that they map to a retryable response
+                if (e.getCause() instanceof NativeMemoryLoadRejectedException) {
+                    throw (NativeMemoryLoadRejectedException) e.getCause();
+                }
+                throw e;
             }
         }
     }
 
+    private NativeMemoryAllocation loadWithForceEviction(String key, NativeMemoryEntryContext<?> nativeMemoryEntryContext)
+        throws ExecutionException {
+        synchronized (this) {
+            // recheck if another thread already loaded this entry into the cache
+            NativeMemoryAllocation result = getFromCacheAndUpdateRecency(key);
+            if (result != null) {
+                return result;
+            }
+            if (getCacheSizeInKilobytes() + nativeMemoryEntryContext.calculateSizeInKB() >= maxWeight) {
+                Iterator<String> lruIterator = accessRecencyQueue.iterator();
+                while (lruIterator.hasNext() && (getCacheSizeInKilobytes() + nativeMemoryEntryContext.calculateSizeInKB() >= maxWeight)) {
+
+                    String keyToRemove = lruIterator.next();
+                    NativeMemoryAllocation allocationToRemove = cache.getIfPresent(keyToRemove);
+                    if (allocationToRemove != null) {
+                        allocationToRemove.close();
+                        cache.invalidate(keyToRemove);
+                    }
+                    lruIterator.remove();
+                }
+            }
+
+            result = cache.get(key, nativeMemoryEntryContext::load);
+            accessRecencyQueue.addLast(key);
+
+            return result;
+        }
+    }
+
+    /**
+     * Runs the given loader at most once for concurrent callers of the same key. The first caller registers a shared
+     * future, goes through admission control and runs the loader, the following callers wait for that future to
+     * complete and get the same allocation, or the same failure. Only the loading caller reserves the size of the
+     * entry, so that callers waiting for it cannot be shed by admission control.
+     *
+     * @param key the unique identifier for the cached entry
+     * @param nativeMemoryEntryContext context of the entry, used to size the admission control reservation
+     * @param loader loads the entry into native memory
+     * @return the loaded NativeMemoryAllocation
+     * @throws ExecutionException if the loader failed with a checked exception
+     */
+    private NativeMemoryAllocation loadOnce(
+        String key,
+        NativeMemoryEntryContext<?> nativeMemoryEntryContext,
+        Callable<NativeMemoryAllocation> loader
+    ) throws ExecutionException {
+        final CompletableFuture<NativeMemoryAllocation> pendingLoad = new CompletableFuture<>();
+        final CompletableFuture<NativeMemoryAllocation> inFlightLoad = pendingLoads.putIfAbsent(key, pendingLoad);
+        if (inFlightLoad != null) {
+            return awaitPendingLoad(inFlightLoad);
+        }
+
+        try {
+            // A load completing between the cache miss of the caller and the registration above has already removed
+            // its future, do not reserve the entry again in that case.
+            NativeMemoryAllocation result = getFromCacheAndUpdateRecency(key);
+            if (result == null) {
+                final long admittedSizeInKB = admissionController.acquire(key, nativeMemoryEntryContext.calculateSizeInKB(), maxWeight);
+                try {
+                    result = loader.call();
+                } finally {
+                    admissionController.release(admittedSizeInKB);
+                }
+            }
+            pendingLoad.complete(result);
+            return result;
+        } catch (Exception e) {
+            pendingLoad.completeExceptionally(e);
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            if (e instanceof ExecutionException) {
+                throw (ExecutionException) e;
+            }
+            throw new ExecutionException(e);
+        } finally {
+            pendingLoads.remove(key, pendingLoad);
+        }
+    }
+
+    private NativeMemoryAllocation awaitPendingLoad(CompletableFuture<NativeMemoryAllocation> inFlightLoad) throws ExecutionException {
+        try {
+            return inFlightLoad.get();
+        } catch (ExecutionException e) {
+            // Rethrow the original failure so that waiting callers see the same exception as the loading one
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof ExecutionException) {
+                throw (ExecutionException) e.getCause();
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExecutionException(e);
+        }
+    }
+
+    /**
+     * Returns whether the entry with the given key is currently being loaded into native memory by another thread.
+     * Searches can use this to avoid waiting for the load to complete.
+     *
+     * @param key the unique identifier for the cached entry
+     * @return true if a load for the key is in progress, false otherwise
+     */
+    public boolean isLoadInProgress(String key) {
+        return pendingLoads.containsKey(key);
+    }
+
+    /**
+     * Returns whether the entry with the given key is already loaded in the cache. Does not update the recency of the entry.
+     *
+     * @param key the unique identifier for the cached entry
+     * @return true if the entry is in the cache, false otherwise
+     */
+    public boolean isCached(String key) {
+        return cache.asMap().containsKey(key);
+    }
+
+    /**
+     * @return true if any entry is currently being loaded into native memory
+     */
+    public boolean hasPendingLoads() {
+        return pendingLoads.isEmpty() == false;
+    }
+
     /**
      * Returns the NativeMemoryAllocation associated with given index
      * @param indexName name of OpenSearch index
@@ -9,9 +9,12 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.Version;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.knn.common.FieldInfoExtractor;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.util.KNNCodecUtil;
@@ -22,6 +25,7 @@ import org.opensearch.knn.index.memory.NativeMemoryEntryContext;
 import org.opensearch.knn.index.memory.NativeMemoryLoadStrategy;
 import org.opensearch.knn.jni.JNIService;
 import org.opensearch.knn.index.codec.util.NativeMemoryCacheKeyHelper;
+import org.opensearch.knn.plugin.stats.KNNLatencyPhase;
 
 import java.io.IOException;
 import java.util.List;
@@ -77,6 +81,9 @@ public class DefaultKNNWeight extends KNNWeight {
 
         // We need to first get index allocation
         NativeMemoryAllocation indexAllocation;
+        // A cache hit is not a graph load, only searches that load the graph or wait for its load are recorded
+        final boolean graphLoadRequired = nativeMemoryCacheManager.isCached(cacheKey) == false;
+        final long graphLoadStartNanos = System.nanoTime();
         try {
             indexAllocation = loadGraph(
                 reader,
@@ -94,6 +101,9 @@ public class DefaultKNNWeight extends KNNWeight {
             GRAPH_QUERY_ERRORS.increment();
             throw new RuntimeException(e);
         }
+        if (graphLoadRequired) {
+            recordLatency(KNNLatencyPhase.GRAPH_LOAD, graphLoadStartNanos);
+        }
 
         // From cardinality select different filterIds type
         FilterIdsSelector filterIdsSelector = FilterIdsSelector.getFilterIdSelector(filterIdsBitSet, cardinality);
@@ -114,6 +124,7 @@ public class DefaultKNNWeight extends KNNWeight {
                 throw new RuntimeException("Index has already been closed");
             }
             final int[] parentIds = getParentIdsArray(context);
+            final int[] seedIds = getSeedIds(context);
             if (k > 0) {
                 if (knnQuery.getVectorDataType() == VectorDataType.BINARY
                     || quantizedVector != null && quantizationService.getVectorDataTypeForTransfer(fieldInfo) == VectorDataType.BINARY) {
@@ -128,6 +139,17 @@ public class DefaultKNNWeight extends KNNWeight {
                         filterType.getValue(),
                         parentIds
                     );
+                } else if (seedIds != null && parentIds == null && knnEngine == KNNEngine.FAISS) {
+                    results = JNIService.queryIndexWithSeeds(
+                        indexAllocation.getMemoryAddress(),
+                        transformedVector == null ? knnQuery.getQueryVector() : transformedVector,
+                        k,
+                        knnQuery.getMethodParameters(),
+                        knnEngine,
+                        filterIds,
+                        filterType.getValue(),
+                        seedIds
+                    );
                 } else {
                     results = JNIService.queryIndex(
                         indexAllocation.getMemoryAddress(),
@@ -175,6 +197,42 @@ public class DefaultKNNWeight extends KNNWeight {
         return topDocs;
     }
 
+    private int[] getSeedIds(final LeafReaderContext context) {
+        final TopDocs seeds = getSeeds(context);
+        if (seeds == null || seeds.scoreDocs.length == 0) {
+            return null;
+        }
+        final int[] seedIds = new int[seeds.scoreDocs.length];
+        int i = 0;
+        for (ScoreDoc scoreDoc : seeds.scoreDocs) {
+            seedIds[i++] = scoreDoc.doc;
+        }
+        return seedIds;
+    }
+
+    @Override
+    protected boolean isGraphLoadInProgress(final LeafReaderContext context) {
+        if (nativeMemoryCacheManager.hasPendingLoads() == false) {
+            return false;
+        }
+        final SegmentReader reader = Lucene.segmentReader(context.reader());
+        final FieldInfo fieldInfo = FieldInfoExtractor.getFieldInfo(reader, knnQuery.getField());
+        if (fieldInfo == null) {
+            return false;
+        }
+        final KNNEngine knnEngine = FieldInfoExtractor.extractKNNEngine(fieldInfo);
+        final List<String> engineFiles = KNNCodecUtil.getEngineFiles(
+            knnEngine.getExtension(),
+            knnQuery.getField(),
+            reader.getSegmentInfo().info
+        );
+        if (engineFiles.isEmpty()) {
+            return false;
+        }
+        final String cacheKey = NativeMemoryCacheKeyHelper.constructCacheKey(engineFiles.get(0), reader.getSegmentInfo().info);
+        return nativeMemoryCacheManager.isLoadInProgress(cacheKey);
+    }
+
     /**
      * Loads the graph from native memory.
      */
@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Work done by an approximate search on a single segment, used to size ef_search and filtering thresholds from data.
+ */
+@Getter
+@AllArgsConstructor
+public class KNNSearchMetrics {
+    /**
+     * Reason an approximate search stopped before exploring the graph to convergence
+     */
+    public enum EarlyTerminationReason {
+        NONE,
+        // The number of visited nodes reached the visit limit, e.g. filtered searches bounded by the filter cardinality.
+        VISIT_LIMIT
+    }
+
+    // Number of nodes visited during the search.
+    private final long visitedNodes;
+    // Number of vectors a distance was computed against.
+    private final long distanceComputations;
+    // Number of candidates rejected because they did not match the filter or were deleted.
+    private final long filterRejections;
+    private final EarlyTerminationReason earlyTerminationReason;
+}
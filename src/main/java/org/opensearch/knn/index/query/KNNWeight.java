@@ -41,11 +41,15 @@ import org.opensearch.knn.indices.ModelDao;
 import org.opensearch.knn.indices.ModelMetadata;
 import org.opensearch.knn.indices.ModelUtil;
 import org.opensearch.knn.plugin.stats.KNNCounter;
+import org.opensearch.knn.plugin.stats.KNNLatencyPhase;
+import org.opensearch.knn.plugin.stats.KNNQueryLatencyStats;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.opensearch.knn.common.KNNConstants.KNN_ENGINE;
 import static org.opensearch.knn.common.KNNConstants.MODEL_ID;
@@ -76,6 +80,10 @@ import static org.opensearch.knn.profile.StopWatchUtils.stopStopWatchAndLog;
 @Log4j2
 public abstract class KNNWeight extends Weight {
     protected static final TopDocs EMPTY_TOPDOCS = new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0]);
+    // Above this share of matching documents, the graph search meets matching documents early enough without seeds.
+    private static final double MAX_SEEDED_FILTER_SELECTIVITY = 0.1;
+    // Number of filter matching documents sampled, and scored, per seed picked.
+    private static final int FILTER_SEED_SAMPLES_PER_SEED = 8;
     private static ModelDao modelDao;
     private static ExactSearcher DEFAULT_EXACT_SEARCHER;
 
@@ -88,6 +96,8 @@ public abstract class KNNWeight extends Weight {
 
     protected final QuantizationService quantizationService;
     private final KnnExplanation knnExplanation;
+    // Documents the graph search of a segment starts from, keyed by segment ord. Segments are searched by one thread at a time.
+    private final Map<Integer, TopDocs> segmentOrdToSeeds = new ConcurrentHashMap<>();
 
     public KNNWeight(KNNQuery query, float boost) {
         this(query, boost, null);
@@ -313,7 +323,11 @@ public abstract class KNNWeight extends Weight {
         final String segmentName = reader.getSegmentName();
 
         final StopWatch stopWatch = startStopWatch(log);
+        final long bitSetStartNanos = System.nanoTime();
         final BitSet filterBitSet = getFilteredDocsBitSet(context);
+        if (filterWeight != null) {
+            recordLatency(KNNLatencyPhase.BITSET_CREATION, bitSetStartNanos);
+        }
         stopStopWatchAndLog(log, stopWatch, "FilterBitSet creation", knnQuery.getShardId(), segmentName, knnQuery.getField());
 
         // Save its cardinality, as the cardinality calculation is expensive.
@@ -344,8 +358,37 @@ public abstract class KNNWeight extends Weight {
             );
         }
 
+        /*
+         * If the vector index of this segment is being loaded by another query, search the segment exhaustively
+         * instead of blocking the search thread until the load completes.
+         */
+        if (isGraphLoadInProgress(context) && KNNSettings.isExactSearchDuringGraphLoadEnabled(knnQuery.getIndexName())) {
+            log.debug("Perform exact search since the vector index of segment {} is being loaded", segmentName);
+            final BitSetIterator docs = filterWeight != null ? new BitSetIterator(filterBitSet, filterCardinality) : null;
+            final TopDocs result = doExactSearch(context, docs, filterCardinality, k);
+            return new PerLeafResult(
+                filterWeight == null ? null : filterBitSet,
+                filterCardinality,
+                result,
+                PerLeafResult.SearchMode.EXACT_SEARCH
+            );
+        }
+
         final StopWatch annStopWatch = startStopWatch(log);
-        final TopDocs topDocs = approximateSearch(context, filterBitSet, filterCardinality, k);
+        final long annStartNanos = System.nanoTime();
+        final TopDocs filterSeeds = pickFilterSeeds(context, filterBitSet, filterCardinality);
+        final TopDocs topDocs;
+        if (filterSeeds != null) {
+            setSeeds(context, filterSeeds);
+            try {
+                topDocs = approximateSearch(context, filterBitSet, filterCardinality, k);
+            } finally {
+                setSeeds(context, null);
+            }
+        } else {
+            topDocs = approximateSearch(context, filterBitSet, filterCardinality, k);
+        }
+        recordLatency(KNNLatencyPhase.ANN_SEARCH, annStartNanos);
         stopStopWatchAndLog(log, annStopWatch, "ANN search", knnQuery.getShardId(), segmentName, knnQuery.getField());
 
         int annResultsCount = topDocs.scoreDocs.length;
@@ -377,6 +420,74 @@ public abstract class KNNWeight extends Weight {
         );
     }
 
+    /**
+     * Sets the documents the graph search of the given segment starts from, instead of the entry point of the graph.
+     *
+     * @param context segment to search.
+     * @param seeds documents to start from, null to start from the entry point again.
+     */
+    public void setSeeds(final LeafReaderContext context, final TopDocs seeds) {
+        if (seeds == null) {
+            segmentOrdToSeeds.remove(context.ord);
+        } else {
+            segmentOrdToSeeds.put(context.ord, seeds);
+        }
+    }
+
+    /**
+     * @return documents the graph search of the given segment starts from, null to start from the entry point of the graph.
+     */
+    protected TopDocs getSeeds(final LeafReaderContext context) {
+        return segmentOrdToSeeds.get(context.ord);
+    }
+
+    /**
+     * With a restrictive filter, a graph search from the entry point of the graph spends most of its hops on documents that do not
+     * match. When enabled, the filter matching documents are sampled evenly across the segment, and the ones closest to the query
+     * are picked to start the graph search from.
+     *
+     * @return seeds picked among the filter matching documents, null if the search should start from the entry point of the graph.
+     */
+    private TopDocs pickFilterSeeds(final LeafReaderContext context, final BitSet filterBitSet, final int filterCardinality)
+        throws IOException {
+        if (filterWeight == null || filterCardinality == 0 || knnQuery.getParentsFilter() != null || knnQuery.getRadius() != null) {
+            return null;
+        }
+        final int numSeeds = KNNSettings.getFilteredSearchSeeds(knnQuery.getIndexName());
+        if (numSeeds <= 0 || filterCardinality > MAX_SEEDED_FILTER_SELECTIVITY * context.reader().maxDoc()) {
+            return null;
+        }
+
+        final int numSamples = (int) Math.min(filterCardinality, (long) numSeeds * FILTER_SEED_SAMPLES_PER_SEED);
+        final ScoreDoc[] samples = new ScoreDoc[numSamples];
+        final BitSetIterator iterator = new BitSetIterator(filterBitSet, filterCardinality);
+        // Take every stride-th matching document, so that samples spread over the whole segment.
+        final double stride = (double) filterCardinality / numSamples;
+        int position = 0;
+        for (int i = 0; i < numSamples; ++i) {
+            final int target = (int) (i * stride);
+            int doc = iterator.docID();
+            while (position <= target) {
+                doc = iterator.nextDoc();
+                ++position;
+            }
+            samples[i] = new ScoreDoc(doc, 0);
+        }
+
+        final ExactSearcher.ExactSearcherContext exactSearcherContext = ExactSearcher.ExactSearcherContext.builder()
+            .k(numSeeds)
+            .useQuantizedVectorsForSearch(true)
+            .field(knnQuery.getField())
+            .matchedDocsIterator(new TopDocsDISI(new TopDocs(new TotalHits(numSamples, TotalHits.Relation.EQUAL_TO), samples)))
+            .numberOfMatchedDocs(numSamples)
+            .floatQueryVector(knnQuery.getQueryVector())
+            .byteQueryVector(knnQuery.getByteQueryVector())
+            .isMemoryOptimizedSearchEnabled(knnQuery.isMemoryOptimizedSearch())
+            .build();
+        final TopDocs seeds = exactSearch(context, exactSearcherContext);
+        return seeds.scoreDocs.length == 0 ? null : seeds;
+    }
+
     protected BitSet getFilteredDocsBitSet(final LeafReaderContext ctx) throws IOException {
         if (this.filterWeight == null) {
             return new FixedBitSet(0);
@@ -432,7 +543,30 @@ public abstract class KNNWeight extends Weight {
             exactSearcherContextBuilder.maxResultWindow(knnQuery.getContext().getMaxResultWindow());
         }
 
-        return exactSearch(context, exactSearcherContextBuilder.build());
+        final long startNanos = System.nanoTime();
+        final TopDocs result = exactSearch(context, exactSearcherContextBuilder.build());
+        recordLatency(KNNLatencyPhase.EXACT_SEARCH, startNanos);
+        return result;
+    }
+
+    /**
+     * Records the work done by an approximate search on the given segment in the node level stats. Overridden to surface the
+     * metrics of a single request, e.g. in its profile output.
+     */
+    protected void recordSearchMetrics(final LeafReaderContext context, final KNNSearchMetrics searchMetrics) {
+        KNNCounter.KNN_QUERY_VISITED_NODES.add(searchMetrics.getVisitedNodes());
+        KNNCounter.KNN_QUERY_DISTANCE_COMPUTATIONS.add(searchMetrics.getDistanceComputations());
+        KNNCounter.KNN_QUERY_FILTER_REJECTIONS.add(searchMetrics.getFilterRejections());
+        if (searchMetrics.getEarlyTerminationReason() != KNNSearchMetrics.EarlyTerminationReason.NONE) {
+            KNNCounter.KNN_QUERY_EARLY_TERMINATIONS.increment();
+        }
+    }
+
+    /**
+     * Records the latency of a query phase, started at the given {@link System#nanoTime()}, in the node level query latency stats.
+     */
+    protected void recordLatency(final KNNLatencyPhase phase, final long startNanos) {
+        KNNQueryLatencyStats.record(knnQuery.getIndexName(), knnQuery.getField(), phase, System.nanoTime() - startNanos);
     }
 
     /**
@@ -572,6 +706,17 @@ public abstract class KNNWeight extends Weight {
         final int k
     ) throws IOException;
 
+    /**
+     * Returns whether the vector index backing the given segment is currently being loaded by another search. Only
+     * implementations loading vector indices into native memory can report a pending load.
+     *
+     * @param context LeafReaderContext of the segment to search.
+     * @return true if the vector index of the segment is being loaded, false otherwise.
+     */
+    protected boolean isGraphLoadInProgress(final LeafReaderContext context) {
+        return false;
+    }
+
     protected void addExplainIfRequired(final KNNQueryResult[] results, final KNNEngine knnEngine, final SpaceType spaceType) {
         if (knnQuery.isExplain()) {
             Arrays.stream(results).forEach(result -> {
@@ -629,15 +774,23 @@ public abstract class KNNWeight extends Weight {
             filterIdsCount,
             KNNSettings.getFilteredExactSearchThreshold(knnQuery.getIndexName())
         );
-        int filterThresholdValue = KNNSettings.getFilteredExactSearchThreshold(knnQuery.getIndexName());
         // Refer this GitHub around more details https://github.com/opensearch-project/k-NN/issues/1049 on the logic
         if (isFilterIdCountLessThanK(filterIdsCount)) return true;
+        return isExactSearchPreferred(filterIdsCount);
+    }
+
+    /**
+     * Whether scoring the given number of documents exhaustively is cheap enough to replace a graph search, based on
+     * {@link KNNSettings#ADVANCED_FILTERED_EXACT_SEARCH_THRESHOLD} when it is set.
+     *
+     * @param numberOfDocs number of documents to score
+     * @return true if an exact search over the documents is preferred
+     */
+    boolean isExactSearchPreferred(final int numberOfDocs) {
+        int filterThresholdValue = KNNSettings.getFilteredExactSearchThreshold(knnQuery.getIndexName());
         // See user has defined Exact Search filtered threshold. if yes, then use that setting.
         if (isExactSearchThresholdSettingSet(filterThresholdValue)) {
-            if (filterThresholdValue >= filterIdsCount) {
-                return true;
-            }
-            return false;
+            return filterThresholdValue >= numberOfDocs;
         }
 
         // if no setting is set, then use the default max distance computation value to see if we can do exact search.
@@ -645,7 +798,7 @@ public abstract class KNNWeight extends Weight {
          * TODO we can have a different MAX_DISTANCE_COMPUTATIONS for binary index as computation cost for binary index
          * is cheaper than computation cost for non binary vector
          */
-        return isMaxDistCompGreaterThanEstimatedDistComp(filterIdsCount);
+        return isMaxDistCompGreaterThanEstimatedDistComp(numberOfDocs);
     }
 
     private boolean isMaxDistCompGreaterThanEstimatedDistComp(int filterDocsCardinality) {
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.NumericUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Tracks the k-th best score among the results of segments searched concurrently, so that each segment can drop the results
+ * that can no longer be among the top k across all segments as soon as its own search completes.
+ * <p>
+ * Like Lucene's {@code MaxScoreAccumulator}, segments share the best k-th score any single segment reported, kept lock free as a
+ * sortable int in a {@link LongAccumulator}. A segment having k results at or above a score proves that the k-th best score across
+ * all segments is at least as high, hence every result kept by {@link ResultUtil#reduceToTopK} once all segments completed is also
+ * kept here. Results of early segments may survive even though a later segment pushes them out, and segments having fewer than k
+ * results never raise the threshold.
+ */
+public class MinCompetitiveScoreTracker {
+    private final int k;
+    private final LongAccumulator maxKthScore = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    public MinCompetitiveScoreTracker(final int k) {
+        this.k = k;
+    }
+
+    /**
+     * Shares the k-th best score of a segment with the other segments, then removes from its results the ones scoring below the
+     * best k-th score reported so far.
+     *
+     * @param perLeafResult results of a segment, updated in place
+     */
+    public void offerAndPrune(final PerLeafResult perLeafResult) {
+        final ScoreDoc[] scoreDocs = perLeafResult.getResult().scoreDocs;
+        final float minScore = offer(scoreDocs);
+
+        final List<ScoreDoc> competitiveScoreDocs = new ArrayList<>(scoreDocs.length);
+        for (ScoreDoc scoreDoc : scoreDocs) {
+            if (scoreDoc.score >= minScore) {
+                competitiveScoreDocs.add(scoreDoc);
+            }
+        }
+        if (competitiveScoreDocs.size() < scoreDocs.length) {
+            final ScoreDoc[] filteredScoreDocs = competitiveScoreDocs.toArray(new ScoreDoc[0]);
+            perLeafResult.setResult(new TopDocs(new TotalHits(filteredScoreDocs.length, TotalHits.Relation.EQUAL_TO), filteredScoreDocs));
+        }
+    }
+
+    private float offer(final ScoreDoc[] scoreDocs) {
+        if (k > 0 && scoreDocs.length >= k) {
+            final float[] scores = new float[scoreDocs.length];
+            for (int i = 0; i < scoreDocs.length; i++) {
+                scores[i] = scoreDocs[i].score;
+            }
+            Arrays.sort(scores);
+            maxKthScore.accumulate(NumericUtils.floatToSortableInt(scores[scores.length - k]));
+        }
+        final long kthScore = maxKthScore.get();
+        // Until a segment reported k results, every result is competitive.
+        return kthScore == Long.MIN_VALUE ? -Float.MAX_VALUE : NumericUtils.sortableIntToFloat((int) kthScore);
+    }
+}
@@ -8,6 +8,7 @@ package org.opensearch.knn.index.query;
 import com.google.common.annotations.VisibleForTesting;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.DocIdSetIterator;
@@ -15,41 +16,57 @@ import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopKnnCollector;
+import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
+import org.opensearch.knn.common.FieldInfoExtractor;
+import org.opensearch.knn.index.KNNSettings;
+import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationErrorStats;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
  * A wrapper {@link Query} that adds full-precision rescoring to radial search on quantized indices
  * and exclude vectors if 'true distance' > radius.
  *
- * <p><b>Currently unreachable:</b> radial search on quantized indices is blocked unconditionally by
- * {@link org.opensearch.knn.index.mapper.KNNVectorFieldType#validateSupportRadialSearch}, so no
- * supported request path constructs this query today (see
- * {@link org.opensearch.knn.index.mapper.KNNVectorFieldType#isRescoringRequiredForRadial}, which
- * always returns {@code false}). The implementation is retained, rather than deleted, for when
- * radial search on quantized indices is re-enabled behind a more robust scoring approach — see
- * <a href="https://github.com/opensearch-project/k-NN/issues/3452">#3452</a>.</p>
- *
  * <h2>Problem</h2>
- * <p>Radial search on quantized indices (e.g., 32x scalar quantization) computes similarity scores
+ * <p>Radial search on quantized indices (e.g., binary quantization) computes similarity scores
  * using quantized vectors. These scores contain quantization error, which can produce <b>false
  * positives</b> — vectors whose quantized score falls within the user's radius but whose true
- * full-precision score does not.</p>
+ * full-precision score does not — and <b>false negatives</b>, vectors within the radius whose
+ * quantized score falls outside of it.</p>
  *
  * <h2>Solution</h2>
- * <p>This query wraps the inner radial search query ({@link KNNQuery} for Faiss or
- * {@code FloatVectorSimilarityQuery} for Lucene) and adds a second-phase rescoring step.
- * The inner query performs the first-pass radial search on quantized vectors with the user's
- * radius. The wrapper then rescores the first-pass candidates using full-precision vectors
- * and filters out any results that fall outside the true radius.</p>
+ * <p>For Faiss binary quantized indices, where the inner query is a {@link KNNQuery}, the quantized
+ * first pass does not use the user's radius, which is not expressed in quantized units. Each segment
+ * widens and maps the radius onto the hamming scale with the quantization error statistics recorded
+ * when the segment was written (see {@link QuantizationErrorStats#toQuantizedRadius}), keeping a vector
+ * within the true radius with probability {@link #FIRST_PASS_RECALL}. The documents within the
+ * quantized radius are then verified against full-precision vectors in doc id order. When a segment
+ * has more candidates than {@code index.knn.advanced.radial_search_max_candidates}, has no error
+ * statistics, or is nested, it is searched exactly with full-precision vectors instead. The first
+ * pass scores every quantized vector when filtered exact search would, see
+ * {@code index.knn.advanced.filtered_exact_search_threshold}. Larger segments search the graph for the
+ * {@code radial_search_max_candidates + 1} nearest quantized vectors instead, as the radial search of
+ * the graph takes the radius in full-precision units.</p>
+ *
+ * <p>Other inner queries, such as {@code FloatVectorSimilarityQuery} for Lucene, perform the
+ * first-pass radial search themselves with the user's radius, and the wrapper rescores their
+ * candidates using full-precision vectors and filters out any results that fall outside the true
+ * radius.</p>
  *
  * @see RescoreKNNVectorQuery similar pattern for Lucene engine top-K rescoring
  * @see org.opensearch.knn.index.query.nativelib.NativeEngineKnnVectorQuery similar pattern for Faiss engine top-K rescoring
@@ -57,6 +74,9 @@ import java.util.Objects;
 @Getter
 @EqualsAndHashCode(callSuper = false)
 public class RescoreRadialSearchQuery extends Query {
+    // Probability for a vector within the radius to survive the quantized first pass.
+    static final double FIRST_PASS_RECALL = 0.999;
+
     private static ExactSearcher EXACT_SEARCHER_SINGLETON;
 
     /** The inner radial search query that operates on quantized vectors. */
@@ -179,11 +199,18 @@ public class RescoreRadialSearchQuery extends Query {
      *   <li>Return a {@link KNNScorer} over the final results</li>
      * </ol>
      *
+     * <p>When the inner query is a {@link KNNQuery}, the inner weight only provides the filter, and
+     * the first pass runs on the quantized vectors of the segment with the widened quantized radius.</p>
+     *
      * <p>The {@code boost} factor is stored for use when constructing the final {@link KNNScorer},
      * which multiplies each document's score by the boost value.</p>
      */
     private static class RescoreWeight extends Weight {
         private final Weight innerWeight;
+        // Set when the first pass runs on the quantized vectors instead of the inner scorer.
+        private final KNNWeight knnWeight;
+        private final BitSetProducer parentsFilter;
+        private final int maxCandidates;
         private final float boost;
         private final String field;
         private final float[] queryVector;
@@ -206,6 +233,15 @@ public class RescoreRadialSearchQuery extends Query {
             this.radius = rescoreQuery.radius;
             this.memoryOptimizedSearchEnabled = rescoreQuery.memoryOptimizedSearchEnabled;
             this.maxResultsSize = rescoreQuery.maxResultsSize;
+            if (rescoreQuery.innerQuery instanceof KNNQuery knnQuery && innerWeight instanceof KNNWeight weight) {
+                this.knnWeight = weight;
+                this.parentsFilter = knnQuery.getParentsFilter();
+                this.maxCandidates = KNNSettings.getRadialSearchMaxCandidates(knnQuery.getIndexName());
+            } else {
+                this.knnWeight = null;
+                this.parentsFilter = null;
+                this.maxCandidates = 0;
+            }
         }
 
         @Override
@@ -225,6 +261,9 @@ public class RescoreRadialSearchQuery extends Query {
          */
         @Override
         public ScorerSupplier scorerSupplier(final LeafReaderContext context) throws IOException {
+            if (knnWeight != null) {
+                return quantizedScorerSupplier(context);
+            }
             final ScorerSupplier innerScorerSupplier = innerWeight.scorerSupplier(context);
             if (innerScorerSupplier == null) {
                 return null;
@@ -259,22 +298,10 @@ public class RescoreRadialSearchQuery extends Query {
                         numDocsToRescore = matchedDocs.cost();
                     }
 
-                    // 4. Build ExactSearcherContext — rescore with full-precision vectors
-                    final ExactSearcher.ExactSearcherContext exactSearcherContext = ExactSearcher.ExactSearcherContext.builder()
-                        .matchedDocsIterator(docsToRescore)
-                        .numberOfMatchedDocs(numDocsToRescore)
-                        .useQuantizedVectorsForSearch(false)
-                        .maxResultWindow((int) Math.min(maxResultsSize, numDocsToRescore))
-                        .radius(radius)
-                        .field(field)
-                        .floatQueryVector(queryVector)
-                        .isMemoryOptimizedSearchEnabled(memoryOptimizedSearchEnabled)
-                        .build();
-
-                    // 5. Rescore — ExactSearcher handles radius → minScore conversion internally
-                    final TopDocs rescored = EXACT_SEARCHER_SINGLETON.searchLeaf(context, exactSearcherContext);
-
-                    // 6. Return scorer over rescored results
+                    // 4. Rescore with full-precision vectors — ExactSearcher handles radius → minScore conversion internally
+                    final TopDocs rescored = rescore(context, docsToRescore, numDocsToRescore);
+
+                    // 5. Return scorer over rescored results
                     return new KNNScorer(rescored, boost);
                 }
 
@@ -288,6 +315,136 @@ public class RescoreRadialSearchQuery extends Query {
             };
         }
 
+        /**
+         * Returns a {@link ScorerSupplier} searching the segment with its quantized vectors, then verifying the candidates with
+         * full-precision vectors, or {@code null} if the field has no vectors in this segment.
+         */
+        private ScorerSupplier quantizedScorerSupplier(final LeafReaderContext context) throws IOException {
+            final FieldInfo fieldInfo = FieldInfoExtractor.getFieldInfo(context.reader(), field);
+            if (fieldInfo == null) {
+                return null;
+            }
+            return new ScorerSupplier() {
+                @Override
+                public Scorer get(long leadCost) throws IOException {
+                    return new KNNScorer(searchQuantizedLeaf(context, fieldInfo), boost);
+                }
+
+                @Override
+                public long cost() {
+                    return context.reader().maxDoc();
+                }
+            };
+        }
+
+        private TopDocs searchQuantizedLeaf(final LeafReaderContext context, final FieldInfo fieldInfo) throws IOException {
+            final boolean isFiltered = knnWeight.getFilterWeight() != null;
+            final BitSet filterBitSet = knnWeight.getFilteredDocsBitSet(context);
+            final int filterCardinality = filterBitSet.cardinality();
+            if (isFiltered && filterCardinality == 0) {
+                return TopDocsCollector.EMPTY_TOPDOCS;
+            }
+
+            // Nested fields keep the best child of each parent, which a per vector radius cannot bound.
+            final int numberOfDocs = isFiltered ? filterCardinality : context.reader().maxDoc();
+            final double quantizedRadius = parentsFilter == null ? getQuantizedRadius(context, fieldInfo) : Double.NaN;
+            if (Double.isNaN(quantizedRadius) == false) {
+                // One more than the cap tells whether the candidates exceed it.
+                final int firstPassSize = Math.min(maxCandidates + 1, numberOfDocs);
+                final TopDocs candidates = selectCandidates(
+                    firstPass(context, filterBitSet, filterCardinality, isFiltered, numberOfDocs, firstPassSize),
+                    quantizedRadius,
+                    maxCandidates
+                );
+                if (candidates != null) {
+                    if (candidates.scoreDocs.length == 0) {
+                        return TopDocsCollector.EMPTY_TOPDOCS;
+                    }
+                    // TopDocsDISI sorts the candidates by doc id, so full-precision vectors are read in storage order.
+                    return rescore(context, new TopDocsDISI(candidates), candidates.scoreDocs.length);
+                }
+            }
+
+            // Too many candidates, or no error statistics to bound the quantized radius: scan full-precision vectors.
+            if (isFiltered) {
+                return rescore(context, new BitSetIterator(filterBitSet, filterCardinality), filterCardinality);
+            }
+            return rescore(context, null, numberOfDocs);
+        }
+
+        /**
+         * Returns the {@code k} nearest quantized vectors to the quantized query, sorted by descending hamming score. The quantized
+         * vectors are all scored when filtered exact search would be, otherwise the graph is searched. The graph is searched for the
+         * nearest neighbors rather than within a radius, as its radial search takes the radius in full-precision units.
+         */
+        private TopDocs firstPass(
+            final LeafReaderContext context,
+            final BitSet filterBitSet,
+            final int filterCardinality,
+            final boolean isFiltered,
+            final int numberOfDocs,
+            final int k
+        ) throws IOException {
+            if (knnWeight.isExactSearchPreferred(numberOfDocs)) {
+                final ExactSearcher.ExactSearcherContext firstPassContext = ExactSearcher.ExactSearcherContext.builder()
+                    .matchedDocsIterator(isFiltered ? new BitSetIterator(filterBitSet, filterCardinality) : null)
+                    .numberOfMatchedDocs(filterCardinality)
+                    .useQuantizedVectorsForSearch(true)
+                    .k(k)
+                    .field(field)
+                    .floatQueryVector(queryVector)
+                    .isMemoryOptimizedSearchEnabled(memoryOptimizedSearchEnabled)
+                    .build();
+                return EXACT_SEARCHER_SINGLETON.searchLeaf(context, firstPassContext);
+            }
+            final TopDocs graphResults = knnWeight.approximateSearch(context, filterBitSet, filterCardinality, k);
+            final ScoreDoc[] scoreDocs = graphResults.scoreDocs.clone();
+            Arrays.sort(scoreDocs, (a, b) -> Float.compare(b.score, a.score));
+            return new TopDocs(graphResults.totalHits, scoreDocs);
+        }
+
+        /**
+         * Maps the radius onto the hamming distance between binary codes of the segment.
+         *
+         * @return widened quantized radius, NaN if the segment has no usable quantization error statistics
+         */
+        private double getQuantizedRadius(final LeafReaderContext context, final FieldInfo fieldInfo) throws IOException {
+            final SegmentLevelQuantizationInfo quantizationInfo = SegmentLevelQuantizationInfo.build(context.reader(), fieldInfo, field);
+            // ADC scores are not hamming distances, the statistics do not apply to them.
+            if (quantizationInfo == null
+                || quantizationInfo.getQuantizationState() == null
+                || SegmentLevelQuantizationUtil.isAdcEnabled(quantizationInfo)) {
+                return Double.NaN;
+            }
+            // Segments written before the statistics were recorded are searched exactly.
+            final QuantizationErrorStats errorStats = quantizationInfo.getQuantizationState().getErrorStats();
+            if (errorStats == null || (memoryOptimizedSearchEnabled && radius <= 0)) {
+                return Double.NaN;
+            }
+            // The statistics are measured on squared l2 distances, which memory optimized search expresses as a score.
+            final float distance = memoryOptimizedSearchEnabled ? SpaceType.L2.scoreToDistanceTranslation(radius) : radius;
+            return errorStats.toQuantizedRadius(distance, FIRST_PASS_RECALL);
+        }
+
+        /**
+         * Rescores the given documents with full-precision vectors, keeping the ones within the radius.
+         */
+        private TopDocs rescore(final LeafReaderContext context, final DocIdSetIterator docsToRescore, final long numDocsToRescore)
+            throws IOException {
+            final ExactSearcher.ExactSearcherContext exactSearcherContext = ExactSearcher.ExactSearcherContext.builder()
+                .matchedDocsIterator(docsToRescore)
+                .numberOfMatchedDocs(numDocsToRescore)
+                .useQuantizedVectorsForSearch(false)
+                .maxResultWindow((int) Math.min(maxResultsSize, numDocsToRescore))
+                .radius(radius)
+                .field(field)
+                .floatQueryVector(queryVector)
+                .isMemoryOptimizedSearchEnabled(memoryOptimizedSearchEnabled)
+                .parentsFilter(parentsFilter)
+                .build();
+            return EXACT_SEARCHER_SINGLETON.searchLeaf(context, exactSearcherContext);
+        }
+
         /**
          * Returns {@code true} because the rescore result is deterministic for the same
          * query parameters and segment state — safe to cache.
@@ -311,4 +468,29 @@ public class RescoreRadialSearchQuery extends Query {
             return collector.topDocs();
         }
     }
+
+    /**
+     * Keeps the first pass results within the quantized radius, the hamming distance of a result being {@code 1 / score - 1}.
+     *
+     * @param firstPass       first pass results on quantized vectors, sorted by descending score
+     * @param quantizedRadius widened radius in hamming distance
+     * @param maxCandidates   maximum number of candidates to keep
+     * @return results within the quantized radius, null if there are more than {@code maxCandidates}
+     */
+    static TopDocs selectCandidates(final TopDocs firstPass, final double quantizedRadius, final int maxCandidates) {
+        // Hamming distances are integers, so the threshold score is computed exactly like the scores of the first pass.
+        final float maxHammingDistance = (float) Math.floor(Math.max(quantizedRadius, 0));
+        final float minScore = 1.0f / (1 + maxHammingDistance);
+        int numCandidates = 0;
+        while (numCandidates < firstPass.scoreDocs.length && firstPass.scoreDocs[numCandidates].score >= minScore) {
+            ++numCandidates;
+        }
+        if (numCandidates > maxCandidates) {
+            return null;
+        }
+        return new TopDocs(
+            new TotalHits(numCandidates, TotalHits.Relation.EQUAL_TO),
+            Arrays.copyOf(firstPass.scoreDocs, numCandidates)
+        );
+    }
 }
@@ -107,8 +107,11 @@ final class DocAndScoreQuery extends Query {
                                     }
 
                                     @Override
-                                    public int advance(int target) throws IOException {
-                                        return slowAdvance(target);
+                                    public int advance(int target) {
+                                        // Docs are sorted, so jump to the first one at or after the target
+                                        int docIndex = Arrays.binarySearch(docs, Math.max(upTo, lower), upper, target + context.docBase);
+                                        upTo = docIndex < 0 ? -1 - docIndex : docIndex;
+                                        return docIdNoShadow();
                                     }
 
                                     @Override
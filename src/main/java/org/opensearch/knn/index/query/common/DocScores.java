@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.common;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Documents matched in a segment and their scores, held in parallel arrays sorted by ascending segment doc id so that no doc id or
+ * score gets boxed.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class DocScores {
+    public static final DocScores EMPTY = new DocScores(new int[0], new float[0]);
+
+    private final int[] docs;
+    private final float[] scores;
+
+    /**
+     * @return number of matched documents
+     */
+    public int size() {
+        return docs.length;
+    }
+
+    /**
+     * @param doc segment doc id
+     * @return score of the document, NaN if it was not matched
+     */
+    public float getScore(final int doc) {
+        final int index = Arrays.binarySearch(docs, doc);
+        return index >= 0 ? scores[index] : Float.NaN;
+    }
+}
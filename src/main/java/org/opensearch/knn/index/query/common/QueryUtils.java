@@ -15,6 +15,7 @@ import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.BitSet;
 import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
@@ -24,12 +25,8 @@ import org.opensearch.knn.index.query.iterators.GroupedNestedDocIdSetIterator;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.Callable;
 
 /**
@@ -40,6 +37,7 @@ public class QueryUtils {
     private QueryUtils() {}
 
     private static final QueryUtils INSTANCE = new QueryUtils();
+    private static final int MAX_INITIAL_LEAF_RESULTS = 1 << 14;
 
     // Public method to get the singleton instance
     public static QueryUtils getInstance() {
@@ -95,53 +93,66 @@ public class QueryUtils {
      * @param indexSearcher the index searcher
      * @param leafReaderContexts the leaf reader contexts
      * @param weight the search weight
-     * @return a list of maps, each mapping document IDs to their scores
+     * @return the matched documents and their scores of every leaf, in the order of the given leaf reader contexts
      * @throws IOException
      */
-    public List<Map<Integer, Float>> doSearch(
+    public List<DocScores> doSearch(
         final IndexSearcher indexSearcher,
         final List<LeafReaderContext> leafReaderContexts,
         final Weight weight
     ) throws IOException {
-        List<Callable<Map<Integer, Float>>> tasks = new ArrayList<>(leafReaderContexts.size());
+        List<Callable<DocScores>> tasks = new ArrayList<>(leafReaderContexts.size());
         for (LeafReaderContext leafReaderContext : leafReaderContexts) {
             tasks.add(() -> searchLeaf(leafReaderContext, weight));
         }
         return indexSearcher.getTaskExecutor().invokeAll(tasks);
     }
 
-    private Map<Integer, Float> searchLeaf(final LeafReaderContext ctx, final Weight weight) throws IOException {
-        Map<Integer, Float> leafDocScores = new HashMap<>();
+    private DocScores searchLeaf(final LeafReaderContext ctx, final Weight weight) throws IOException {
         Scorer scorer = weight.scorer(ctx);
         if (scorer == null) {
-            return Collections.emptyMap();
+            return DocScores.EMPTY;
         }
 
         DocIdSetIterator iterator = scorer.iterator();
+        // The cost is only an estimate, the arrays grow past it if needed
+        int[] docs = new int[(int) Math.min(iterator.cost(), MAX_INITIAL_LEAF_RESULTS)];
+        float[] scores = new float[docs.length];
+        int size = 0;
         iterator.nextDoc();
         while (iterator.docID() != DocIdSetIterator.NO_MORE_DOCS) {
-            leafDocScores.put(scorer.docID(), scorer.score());
+            if (size == docs.length) {
+                docs = ArrayUtil.grow(docs, size + 1);
+                scores = ArrayUtil.growExact(scores, docs.length);
+            }
+            docs[size] = scorer.docID();
+            scores[size] = scorer.score();
+            size++;
             iterator.nextDoc();
         }
-        return leafDocScores;
+        if (size < docs.length) {
+            docs = ArrayUtil.copyOfSubArray(docs, 0, size);
+            scores = ArrayUtil.copyOfSubArray(scores, 0, size);
+        }
+        return new DocScores(docs, scores);
     }
 
     /**
      * For the specified nested field document IDs, retrieves all sibling nested field document IDs.
      *
      * @param leafReaderContext the leaf reader context
-     * @param docIds the document IDs of the nested field
+     * @param docIds the document IDs of the nested field, sorted in ascending order
      * @param parentsFilter a bitset mapping parent document IDs to their nested field document IDs
      * @return an iterator of document IDs for all filtered sibling nested field documents corresponding to the given document IDs
      * @throws IOException
      */
     public DocIdSetIterator getAllSiblings(
         final LeafReaderContext leafReaderContext,
-        final Set<Integer> docIds,
+        final int[] docIds,
         final BitSetProducer parentsFilter,
         final Bits queryFilter
     ) throws IOException {
-        if (docIds.isEmpty()) {
+        if (docIds.length == 0) {
             return DocIdSetIterator.empty();
         }
 
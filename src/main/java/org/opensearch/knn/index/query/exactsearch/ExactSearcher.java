@@ -28,6 +28,7 @@ import org.opensearch.common.lucene.Lucene;
 import org.opensearch.knn.common.FieldInfoExtractor;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.codec.util.KNNCodecUtil;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
 import org.opensearch.knn.index.query.SegmentLevelQuantizationUtil;
 import org.opensearch.knn.index.engine.KNNEngine;
@@ -292,6 +293,8 @@ public class ExactSearcher {
      * <ol>
      *   <li><b>Binary vectors</b> — uses the raw byte query vector directly.</li>
      *   <li><b>Byte vectors</b> — casts the float query vector to bytes before scoring.</li>
+     *   <li><b>Float vectors of IVF-PQ models with memory optimized search</b> — scores the PQ codes
+     *       of the FAISS index file with per-query lookup tables, outside of rescore mode.</li>
      *   <li><b>Float vectors (no quantization or rescore mode)</b> — uses the float query vector
      *       with full-precision document vectors.</li>
      *   <li><b>Float vectors with ADC quantization</b> — transforms the query vector via
@@ -352,6 +355,28 @@ public class ExactSearcher {
         // Float vector path
         final SegmentLevelQuantizationInfo quantizationInfo = SegmentLevelQuantizationInfo.build(reader, fieldInfo, context.getField());
 
+        // PQ codes of IVF-PQ models are scored with per-query lookup tables, so full precision vectors are never read.
+        // Cosine is excluded as codes are scored with inner product on normalized vectors, which is not a cosine score.
+        // Codes are read through the memory optimized searcher, so only fields opted in to it and segments having their
+        // FAISS index file take this path.
+        if (quantizationInfo == null
+            && scorerMode == VectorScorerMode.SCORE
+            && spaceType != SpaceType.COSINESIMIL
+            && Boolean.TRUE.equals(context.isMemoryOptimizedSearchEnabled)
+            && FieldInfoExtractor.isProductQuantizedModelField(modelDao, fieldInfo)
+            && KNNCodecUtil.getNativeEngineFileFromFieldInfo(fieldInfo, reader.getSegmentInfo().info) != null) {
+            final KNNVectorValues<?> pqCodeValues = KNNVectorValuesFactory.getVectorValues(fieldInfo, reader, true);
+            return VectorScorers.createScorer(
+                (KNNVectorValuesIterator.DocIdsIteratorValues) pqCodeValues.getVectorValuesIterator(),
+                context.getFloatQueryVector(),
+                scorerMode,
+                spaceType,
+                fieldInfo,
+                context.getMatchedDocsIterator(),
+                parentBitSet
+            );
+        }
+
         if (quantizationInfo == null || scorerMode == VectorScorerMode.RESCORE) {
             return VectorScorers.createScorer(
                 iteratorValues,
@@ -10,10 +10,7 @@ import org.apache.lucene.util.BitSet;
 import org.apache.lucene.util.Bits;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Set;
+import java.util.Arrays;
 
 /**
  * A `DocIdSetIterator` that iterates over all nested document IDs belongs to the same parent document for a given
@@ -21,23 +18,33 @@ import java.util.Set;
  *
  * It is permissible for {@link #docIds} to contain multiple nested document IDs linked to a single parent document.
  * In such cases, this iterator will still iterate over each nested document ID only once.
+ *
+ * Nested documents of a parent are stored right before it, so each given document ID expands to the contiguous range
+ * between the previous parent and its own parent, found with {@link BitSet#prevSetBit} and {@link BitSet#nextSetBit}.
  */
 public class GroupedNestedDocIdSetIterator extends DocIdSetIterator {
     private final BitSet parentBitSet;
     private final Bits filterBits;
-    private final List<Integer> docIds;
+    private final int[] docIds;
     private long cost;
-    private int currentIndex;
+    // Index of the first document ID not expanded yet.
+    private int nextIndex;
     private int currentDocId;
-    private int currentParentId;
-
-    public GroupedNestedDocIdSetIterator(final BitSet parentBitSet, final Set<Integer> docIds, final Bits filterBits) {
+    // Exclusive end of the current sibling range, which is the ID of their parent document.
+    private int rangeEnd;
+
+    /**
+     * @param parentBitSet bits set at every parent document ID
+     * @param docIds nested document IDs, sorted in ascending order, duplicates allowed
+     * @param filterBits nested documents to iterate over
+     */
+    public GroupedNestedDocIdSetIterator(final BitSet parentBitSet, final int[] docIds, final Bits filterBits) {
+        assert isSorted(docIds) : "Nested document IDs must be sorted";
         this.parentBitSet = parentBitSet;
-        this.docIds = new ArrayList<>(docIds);
-        this.docIds.sort(Comparator.naturalOrder());
+        this.docIds = docIds;
         this.filterBits = filterBits;
-        currentIndex = -1;
         currentDocId = -1;
+        rangeEnd = -1;
         cost = -1;
     }
 
@@ -48,44 +55,32 @@ public class GroupedNestedDocIdSetIterator extends DocIdSetIterator {
 
     @Override
     public int nextDoc() throws IOException {
-        while (true) {
-            if (doNextDoc() != NO_MORE_DOCS) {
-                if (!filterBits.get(currentDocId)) {
-                    continue;
-                }
-
-                return currentDocId;
-            }
-
-            return currentDocId;
-        }
-    }
-
-    public int doNextDoc() throws IOException {
         if (currentDocId == NO_MORE_DOCS) {
             return currentDocId;
         }
-
-        if (currentDocId == -1) {
-            moveToNextIndex();
-            return currentDocId;
-        }
-
-        currentDocId++;
-        assert currentDocId <= currentParentId;
-        if (currentDocId == currentParentId) {
-            moveToNextIndex();
-        }
-        return currentDocId;
+        return advance(currentDocId + 1);
     }
 
     @Override
-    public int advance(final int i) throws IOException {
+    public int advance(final int target) throws IOException {
         if (currentDocId == NO_MORE_DOCS) {
             return currentDocId;
         }
 
-        return slowAdvance(i);
+        int docId = target;
+        while (true) {
+            if (docId >= rangeEnd) {
+                docId = moveToRange(docId);
+                if (docId == NO_MORE_DOCS) {
+                    return currentDocId = NO_MORE_DOCS;
+                }
+            }
+            for (; docId < rangeEnd; docId++) {
+                if (filterBits.get(docId)) {
+                    return currentDocId = docId;
+                }
+            }
+        }
     }
 
     @Override
@@ -98,14 +93,15 @@ public class GroupedNestedDocIdSetIterator extends DocIdSetIterator {
 
     private long calculateCost() {
         long numDocs = 0;
-        int lastDocId = -1;
+        int lastRangeEnd = -1;
         for (int docId : docIds) {
-            if (docId < lastDocId) {
+            if (docId < lastRangeEnd) {
                 continue;
             }
 
-            for (lastDocId = parentBitSet.prevSetBit(docId) + 1; lastDocId < parentBitSet.nextSetBit(docId); lastDocId++) {
-                if (filterBits.get(lastDocId)) {
+            lastRangeEnd = parentBitSet.nextSetBit(docId);
+            for (int siblingId = parentBitSet.prevSetBit(docId) + 1; siblingId < lastRangeEnd; siblingId++) {
+                if (filterBits.get(siblingId)) {
                     numDocs++;
                 }
             }
@@ -113,21 +109,38 @@ public class GroupedNestedDocIdSetIterator extends DocIdSetIterator {
         return numDocs;
     }
 
-    private void moveToNextIndex() {
-        currentIndex++;
-        while (currentIndex < docIds.size()) {
-            // Advance currentIndex until the docId at the currentIndex is greater than currentDocId.
-            // This ensures proper handling when docIds contain multiple entries under the same parent ID
-            // that have already been iterated.
-            if (docIds.get(currentIndex) <= currentDocId) {
-                currentIndex++;
-                continue;
+    /**
+     * Moves to the first sibling range ending after the target.
+     *
+     * @return the first document ID of the range that is at least the target, or {@link #NO_MORE_DOCS}
+     */
+    private int moveToRange(final int target) {
+        int index = Arrays.binarySearch(docIds, nextIndex, docIds.length, target);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        // The last document ID below the target may share its range with the target.
+        if (index > nextIndex && parentBitSet.nextSetBit(docIds[index - 1]) > target) {
+            index--;
+        }
+        if (index == docIds.length) {
+            nextIndex = index;
+            return NO_MORE_DOCS;
+        }
+
+        final int docId = docIds[index];
+        rangeEnd = parentBitSet.nextSetBit(docId);
+        assert rangeEnd != NO_MORE_DOCS;
+        nextIndex = index + 1;
+        return Math.max(parentBitSet.prevSetBit(docId) + 1, target);
+    }
+
+    private static boolean isSorted(final int[] docIds) {
+        for (int i = 1; i < docIds.length; i++) {
+            if (docIds[i - 1] > docIds[i]) {
+                return false;
             }
-            currentDocId = parentBitSet.prevSetBit(docIds.get(currentIndex)) + 1;
-            currentParentId = parentBitSet.nextSetBit(docIds.get(currentIndex));
-            assert currentParentId != NO_MORE_DOCS;
-            return;
         }
-        currentDocId = NO_MORE_DOCS;
+        return true;
     }
 }
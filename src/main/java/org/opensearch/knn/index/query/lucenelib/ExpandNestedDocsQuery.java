@@ -21,12 +21,12 @@ import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.Bits;
+import org.opensearch.knn.index.query.common.DocScores;
 import org.opensearch.knn.index.query.common.QueryUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.Callable;
 
 /**
@@ -49,7 +49,7 @@ public class ExpandNestedDocsQuery extends Query {
         Weight weight = docAndScoreQuery.createWeight(searcher, scoreMode, boost);
         IndexReader reader = searcher.getIndexReader();
         List<LeafReaderContext> leafReaderContexts = reader.leaves();
-        List<Map<Integer, Float>> perLeafResults;
+        List<DocScores> perLeafResults;
         perLeafResults = queryUtils.doSearch(searcher, leafReaderContexts, weight);
         TopDocs[] topDocs = retrieveAll(searcher, leafReaderContexts, perLeafResults);
         int sum = 0;
@@ -66,7 +66,7 @@ public class ExpandNestedDocsQuery extends Query {
     private TopDocs[] retrieveAll(
         final IndexSearcher indexSearcher,
         final List<LeafReaderContext> leafReaderContexts,
-        final List<Map<Integer, Float>> perLeafResults
+        final List<DocScores> perLeafResults
     ) throws IOException {
         // Construct query
         List<Callable<TopDocs>> nestedQueryTasks = new ArrayList<>(leafReaderContexts.size());
@@ -78,7 +78,7 @@ public class ExpandNestedDocsQuery extends Query {
                 Bits queryFilter = queryUtils.createBits(leafReaderContext, filterWeight);
                 DocIdSetIterator allSiblings = queryUtils.getAllSiblings(
                     leafReaderContext,
-                    perLeafResults.get(finalI).keySet(),
+                    perLeafResults.get(finalI).getDocs(),
                     internalNestedKnnVectorQuery.getParentFilter(),
                     queryFilter
                 );
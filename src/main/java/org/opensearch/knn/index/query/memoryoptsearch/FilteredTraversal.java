@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.memoryoptsearch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.search.knn.KnnSearchStrategy;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * How memory-optimized search traverses a HNSW graph when a filter is given, set with the {@code filtered_traversal} method
+ * parameter.
+ * <p>
+ * The regular traversal only expands the direct neighbors of a node. Filtered out neighbors are still scored and used as stepping
+ * stones, which wastes most of the distance computations when few documents pass the filter. The ACORN-1 traversal only scores
+ * accepted nodes, and expands the neighbors of filtered out neighbors instead, reaching the two-hop neighborhood of a node before
+ * giving up on it.
+ * <p>
+ * ACORN-1 degrades recall with less selective filters, which is why Lucene 10.4 disabled it (see:
+ * https://github.com/opensearch-project/k-NN/issues/3327). The default, {@link #AUTO}, hence only uses it for selective filters,
+ * where the regular traversal wastes most of its distance computations on filtered out nodes.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FilteredTraversal {
+    /**
+     * ACORN-1 when the filter accepts at most {@link #AUTO_ACORN_MAX_FILTER_RATIO} of the documents of a segment, regular traversal
+     * otherwise.
+     */
+    AUTO("auto"),
+    /**
+     * ACORN-1 whenever a filter is given.
+     */
+    ACORN("acorn"),
+    /**
+     * Regular traversal, filtered out nodes are only excluded from the results.
+     */
+    HNSW("hnsw");
+
+    // Above, enough direct neighbors pass the filter for the regular traversal to stay connected.
+    static final float AUTO_ACORN_MAX_FILTER_RATIO = 0.05f;
+
+    // Lucene switches to ACORN-1 when the percentage of accepted documents is below the threshold of the strategy, so 100 always
+    // uses it and 0 never does.
+    static final KnnSearchStrategy.Hnsw ACORN_SEARCH_STRATEGY = new KnnSearchStrategy.Hnsw(100);
+    static final KnnSearchStrategy.Hnsw HNSW_SEARCH_STRATEGY = new KnnSearchStrategy.Hnsw(0);
+
+    private final String name;
+
+    /**
+     * Returns the search strategy of this traversal for a segment.
+     *
+     * @param filterCardinality number of documents accepted by the filter, 0 without filter
+     * @param maxDoc            number of documents in the segment
+     * @return search strategy to create the collector with
+     */
+    public KnnSearchStrategy.Hnsw getSearchStrategy(final int filterCardinality, final int maxDoc) {
+        if (filterCardinality <= 0 || maxDoc <= 0 || this == HNSW) {
+            return HNSW_SEARCH_STRATEGY;
+        }
+        if (this == ACORN) {
+            return ACORN_SEARCH_STRATEGY;
+        }
+        return (float) filterCardinality / maxDoc <= AUTO_ACORN_MAX_FILTER_RATIO ? ACORN_SEARCH_STRATEGY : HNSW_SEARCH_STRATEGY;
+    }
+
+    /**
+     * @param name name of the traversal, case-insensitive
+     * @return matching traversal, null if there is none
+     */
+    public static FilteredTraversal fromName(final String name) {
+        return Arrays.stream(values()).filter(traversal -> traversal.name.equalsIgnoreCase(name)).findFirst().orElse(null);
+    }
+
+    /**
+     * @return comma separated names of all traversals, for error messages
+     */
+    public static String names() {
+        return Arrays.stream(values()).map(FilteredTraversal::getName).collect(Collectors.joining(", "));
+    }
+}
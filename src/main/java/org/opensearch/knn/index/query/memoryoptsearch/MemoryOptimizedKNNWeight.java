@@ -13,11 +13,9 @@ import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.search.AcceptDocs;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
-import org.apache.lucene.search.KnnCollector;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
-import org.apache.lucene.search.join.DiversifyingNearestChildrenKnnCollectorManager;
 import org.apache.lucene.search.knn.KnnCollectorManager;
 import org.apache.lucene.search.knn.KnnSearchStrategy;
 import org.apache.lucene.search.knn.TopKnnCollectorManager;
@@ -28,14 +26,21 @@ import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.query.KNNQuery;
+import org.opensearch.knn.index.query.KNNSearchMetrics;
 import org.opensearch.knn.index.query.KNNWeight;
 import org.opensearch.knn.index.query.MemoryOptimizedSearchScoreConverter;
+import org.opensearch.knn.index.query.request.MethodParameter;
+import org.opensearch.knn.memoryoptsearch.DistanceCountingKnnCollector;
+import org.opensearch.knn.memoryoptsearch.faiss.BeamSearchStrategy;
 import org.opensearch.lucene.OptimisticKnnCollectorManager;
 import org.opensearch.lucene.ReentrantKnnCollectorManager;
 
 import java.io.IOException;
+import java.util.Map;
 
 import static org.opensearch.knn.common.KNNConstants.DEFAULT_LUCENE_RADIAL_SEARCH_DECAY;
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_BEAM_WIDTH;
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_FILTERED_TRAVERSAL;
 import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_ERRORS;
 
 /**
@@ -46,26 +51,32 @@ import static org.opensearch.knn.plugin.stats.KNNCounter.GRAPH_QUERY_ERRORS;
  */
 @Log4j2
 public class MemoryOptimizedKNNWeight extends KNNWeight {
-    // ACORN activates when the filtering rate is below this threshold, so 0 ensures no filtering rate
-    // can satisfy it, effectively disabling ACORN. This matches Lucene 10.4's decision to disable ACORN
-    // due to observed recall degradation with filtered searches (see: https://github.com/opensearch-project/k-NN/issues/3327).
-    private static final KnnSearchStrategy.Hnsw DEFAULT_HNSW_SEARCH_STRATEGY = new KnnSearchStrategy.Hnsw(0);
-
     private final KnnCollectorManager knnCollectorManager;
+    // Whether the weight was created for a radial search, whose collector manager collects by radius instead of top k.
+    private final boolean radialSearch;
+    private final FilteredTraversal filteredTraversal;
+    // Null to keep the regular traversal.
+    private final Integer beamWidth;
     @Setter
     private ReentrantKnnCollectorManager reentrantKNNCollectorManager;
 
     public MemoryOptimizedKNNWeight(KNNQuery query, float boost, final Weight filterWeight, IndexSearcher searcher, Integer k) {
         super(query, boost, filterWeight);
+        this.filteredTraversal = resolveFilteredTraversal(query.getMethodParameters());
+        this.beamWidth = resolveBeamWidth(query.getMethodParameters());
 
-        if (k != null && k > 0) {
+        this.radialSearch = k == null || k <= 0;
+        if (radialSearch == false) {
             // ANN Search
             if (query.getParentsFilter() == null) {
                 // Non-nested case
                 this.knnCollectorManager = new OptimisticKnnCollectorManager(k, new TopKnnCollectorManager(k, searcher));
             } else {
-                // Nested case
-                this.knnCollectorManager = new DiversifyingNearestChildrenKnnCollectorManager(k, query.getParentsFilter(), searcher);
+                // Nested case, collecting the best child of k parents
+                this.knnCollectorManager = new OptimisticKnnCollectorManager(
+                    k,
+                    new NestedBestChildKnnCollectorManager(k, query.getParentsFilter())
+                );
             }
         } else {
             // Radius search: use Lucene 10.5's decay-based radial search with resultSimilarity = radius.
@@ -106,7 +117,8 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
                             filterIdsBitSet,
                             reader,
                             knnEngine,
-                            spaceType
+                            spaceType,
+                            k
                         );
                     }
 
@@ -130,7 +142,8 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
                         filterIdsBitSet,
                         reader,
                         knnEngine,
-                        spaceType
+                        spaceType,
+                        k
                     );
                 }
 
@@ -144,7 +157,8 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
                         filterIdsBitSet,
                         reader,
                         knnEngine,
-                        spaceType
+                        spaceType,
+                        k
                     );
                 }
 
@@ -157,11 +171,22 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
                     filterIdsBitSet,
                     reader,
                     knnEngine,
-                    spaceType
+                    spaceType,
+                    k
                 );
             } else {
                 // Radius search
-                return queryIndex(knnQuery.getVector(), cardinality, cardinality, context, filterIdsBitSet, reader, knnEngine, spaceType);
+                return queryIndex(
+                    knnQuery.getVector(),
+                    cardinality,
+                    cardinality,
+                    context,
+                    filterIdsBitSet,
+                    reader,
+                    knnEngine,
+                    spaceType,
+                    0
+                );
             }
         } catch (Exception e) {
             GRAPH_QUERY_ERRORS.increment();
@@ -177,7 +202,8 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
         final BitSet filterIdsBitSet,
         final SegmentReader reader,
         final KNNEngine knnEngine,
-        final SpaceType spaceType
+        final SpaceType spaceType,
+        final int k
     ) throws IOException {
         assert (targetVector instanceof float[] || targetVector instanceof byte[]);
 
@@ -190,11 +216,35 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
         }
 
         // Create a collector + bitset
-        final KnnCollectorManager collectorManager = reentrantKNNCollectorManager != null
-            ? reentrantKNNCollectorManager
-            : knnCollectorManager;
-        final KnnCollector knnCollector = collectorManager.newCollector(visitedLimit, DEFAULT_HNSW_SEARCH_STRATEGY, context);
-        final AcceptDocs acceptDocs = getAcceptedDocs(reader, cardinality, filterIdsBitSet);
+        final KnnCollectorManager collectorManager;
+        final TopDocs seeds = getSeeds(context);
+        if (k > 0 && radialSearch) {
+            // Nearest neighbors of a radial search, e.g. the quantized first pass of a rescored radial search, whose radius is not
+            // expressed in quantized units. Segments are searched independently, hence no searcher to share the minimum score with.
+            collectorManager = new TopKnnCollectorManager(k, null);
+        } else if (reentrantKNNCollectorManager != null) {
+            collectorManager = reentrantKNNCollectorManager;
+        } else if (seeds != null) {
+            // Start from the given seeds, e.g. filter matching documents close to the query
+            collectorManager = new ReentrantKnnCollectorManager(
+                knnCollectorManager,
+                Map.of(context.ord, seeds),
+                knnQuery.getVectorDataType() == VectorDataType.FLOAT ? knnQuery.getQueryVector() : knnQuery.getByteQueryVector(),
+                knnQuery.getField()
+            );
+        } else {
+            collectorManager = knnCollectorManager;
+        }
+        final KnnSearchStrategy.Hnsw searchStrategy = BeamSearchStrategy.of(
+            filteredTraversal.getSearchStrategy(cardinality, reader.maxDoc()),
+            beamWidth
+        );
+        // The searcher owns the scorer, hence reports the vectors it computed a distance against through the collector.
+        final DistanceCountingKnnCollector knnCollector = new DistanceCountingKnnCollector(
+            collectorManager.newCollector(visitedLimit, searchStrategy, context)
+        );
+        final RejectionCountingBits filterBits = cardinality == 0 ? null : new RejectionCountingBits(filterIdsBitSet);
+        final AcceptDocs acceptDocs = getAcceptedDocs(reader, cardinality, filterIdsBitSet, filterBits);
 
         // Start searching index
         if (targetVector instanceof float[] floatTargetVector) {
@@ -203,6 +253,18 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
             reader.getVectorReader().search(knnQuery.getField(), (byte[]) targetVector, knnCollector, acceptDocs);
         }
 
+        recordSearchMetrics(
+            context,
+            new KNNSearchMetrics(
+                knnCollector.visitedCount(),
+                knnCollector.getDistanceComputations(),
+                filterBits == null ? 0 : filterBits.rejections,
+                knnCollector.earlyTerminated()
+                    ? KNNSearchMetrics.EarlyTerminationReason.VISIT_LIMIT
+                    : KNNSearchMetrics.EarlyTerminationReason.NONE
+            )
+        );
+
         // Make results to return
         TopDocs topDocs = knnCollector.topDocs();
         // Align `hitCount` logic with the non-memory-optimized path by setting it to the size of the result set.
@@ -221,7 +283,24 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
         return topDocs;
     }
 
-    private AcceptDocs getAcceptedDocs(SegmentReader reader, int cardinality, BitSet filterIdsBitSet) {
+    private static FilteredTraversal resolveFilteredTraversal(final Map<String, ?> methodParameters) {
+        final Object name = methodParameters != null ? methodParameters.get(METHOD_PARAMETER_FILTERED_TRAVERSAL) : null;
+        if (name == null) {
+            return FilteredTraversal.AUTO;
+        }
+        final FilteredTraversal filteredTraversal = FilteredTraversal.fromName(name.toString());
+        return filteredTraversal != null ? filteredTraversal : FilteredTraversal.AUTO;
+    }
+
+    private static Integer resolveBeamWidth(final Map<String, ?> methodParameters) {
+        final Object value = methodParameters != null ? methodParameters.get(METHOD_PARAMETER_BEAM_WIDTH) : null;
+        if (value == null) {
+            return null;
+        }
+        return MethodParameter.BEAM_WIDTH.parse(value);
+    }
+
+    private AcceptDocs getAcceptedDocs(SegmentReader reader, int cardinality, BitSet filterIdsBitSet, Bits filterBits) {
         final AcceptDocs acceptDocs;
         if (cardinality == 0) {
             // We may want to use liveDocs here rather than null, to ensure that deleted docs are not considered in k-NN search
@@ -232,7 +311,7 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
             acceptDocs = new AcceptDocs() {
                 @Override
                 public Bits bits() {
-                    return filterIdsBitSet;
+                    return filterBits;
                 }
 
                 @Override
@@ -248,4 +327,30 @@ public class MemoryOptimizedKNNWeight extends KNNWeight {
         }
         return acceptDocs;
     }
+
+    /**
+     * Counts the candidates rejected by the filter. A segment is searched by a single thread, hence a plain counter is enough.
+     */
+    private static class RejectionCountingBits implements Bits {
+        private final Bits delegate;
+        private long rejections;
+
+        RejectionCountingBits(final Bits delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean get(int index) {
+            if (delegate.get(index)) {
+                return true;
+            }
+            ++rejections;
+            return false;
+        }
+
+        @Override
+        public int length() {
+            return delegate.length();
+        }
+    }
 }
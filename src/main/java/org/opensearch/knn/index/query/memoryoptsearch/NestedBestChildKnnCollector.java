@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.memoryoptsearch;
+
+import org.apache.lucene.internal.hppc.IntIntHashMap;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.KnnCollector;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BitSet;
+
+/**
+ * {@link KnnCollector} keeping the best scoring child of at most k parents, so that a graph search on a nested field returns k
+ * distinct parents instead of k children that may share a few parents.
+ * <p>
+ * Children are grouped under the next set bit of the parent bitset. The best child of every collected parent is kept in a min heap
+ * ordered by score, and a hash map tracks the heap position of every parent, so that a better child of a collected parent replaces
+ * the previous one in place. Once k parents are collected, the score of the worst one bounds the graph search, like the k-th score
+ * of a regular top k collector.
+ * <p>
+ * Visit counting and the search strategy are left to the decorated collector, only the collection of results is replaced.
+ */
+public class NestedBestChildKnnCollector extends KnnCollector.Decorator {
+    private static final int INITIAL_HEAP_SIZE = 16;
+
+    private final BitSet parentBitSet;
+    private final int k;
+    // Min heap on scores, where the i-th entry holds the best child of parents[i] and its score.
+    private int[] parents;
+    private int[] children;
+    private float[] scores;
+    private int size;
+    private final IntIntHashMap parentToHeapIndex = new IntIntHashMap();
+
+    /**
+     * @param collector    collector to decorate, accounting for visited nodes
+     * @param k            maximum number of parents to collect
+     * @param parentBitSet bits set at every parent document ID of the segment
+     */
+    public NestedBestChildKnnCollector(final KnnCollector collector, final int k, final BitSet parentBitSet) {
+        super(collector);
+        this.k = k;
+        this.parentBitSet = parentBitSet;
+        final int initialSize = Math.min(k, INITIAL_HEAP_SIZE);
+        this.parents = new int[initialSize];
+        this.children = new int[initialSize];
+        this.scores = new float[initialSize];
+    }
+
+    @Override
+    public int k() {
+        return k;
+    }
+
+    @Override
+    public boolean collect(final int docId, final float similarity) {
+        final int parent = parentBitSet.nextSetBit(docId);
+        if (parent == DocIdSetIterator.NO_MORE_DOCS) {
+            // Not a nested document.
+            return false;
+        }
+
+        final int index = parentToHeapIndex.getOrDefault(parent, -1);
+        if (index >= 0) {
+            if (similarity <= scores[index]) {
+                return false;
+            }
+            children[index] = docId;
+            scores[index] = similarity;
+            downHeap(index);
+            return true;
+        }
+
+        if (size < k) {
+            if (size == parents.length) {
+                parents = ArrayUtil.grow(parents, size + 1);
+                children = ArrayUtil.growExact(children, parents.length);
+                scores = ArrayUtil.growExact(scores, parents.length);
+            }
+            set(size, parent, docId, similarity);
+            upHeap(size++);
+            return true;
+        }
+
+        if (similarity <= scores[0]) {
+            return false;
+        }
+        // Evict the worst parent.
+        parentToHeapIndex.remove(parents[0]);
+        set(0, parent, docId, similarity);
+        downHeap(0);
+        return true;
+    }
+
+    @Override
+    public float minCompetitiveSimilarity() {
+        return size < k ? Float.NEGATIVE_INFINITY : scores[0];
+    }
+
+    @Override
+    public TopDocs topDocs() {
+        final ScoreDoc[] scoreDocs = new ScoreDoc[size];
+        for (int i = 0; i < size; i++) {
+            scoreDocs[i] = new ScoreDoc(children[i], scores[i]);
+        }
+        ArrayUtil.introSort(scoreDocs, (a, b) -> a.score != b.score ? Float.compare(b.score, a.score) : Integer.compare(a.doc, b.doc));
+        final TotalHits.Relation relation = earlyTerminated() ? TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO : TotalHits.Relation.EQUAL_TO;
+        return new TopDocs(new TotalHits(visitedCount(), relation), scoreDocs);
+    }
+
+    private void upHeap(int index) {
+        final int parent = parents[index];
+        final int child = children[index];
+        final float score = scores[index];
+        while (index > 0) {
+            final int up = (index - 1) >>> 1;
+            if (scores[up] <= score) {
+                break;
+            }
+            set(index, parents[up], children[up], scores[up]);
+            index = up;
+        }
+        set(index, parent, child, score);
+    }
+
+    private void downHeap(int index) {
+        final int parent = parents[index];
+        final int child = children[index];
+        final float score = scores[index];
+        while (true) {
+            int down = 2 * index + 1;
+            if (down >= size) {
+                break;
+            }
+            if (down + 1 < size && scores[down + 1] < scores[down]) {
+                down++;
+            }
+            if (scores[down] >= score) {
+                break;
+            }
+            set(index, parents[down], children[down], scores[down]);
+            index = down;
+        }
+        set(index, parent, child, score);
+    }
+
+    private void set(final int index, final int parent, final int child, final float score) {
+        parents[index] = parent;
+        children[index] = child;
+        scores[index] = score;
+        parentToHeapIndex.put(parent, index);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.memoryoptsearch;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.KnnCollector;
+import org.apache.lucene.search.TopKnnCollector;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.search.knn.KnnCollectorManager;
+import org.apache.lucene.search.knn.KnnSearchStrategy;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.FixedBitSet;
+
+import java.io.IOException;
+
+/**
+ * Creates {@link NestedBestChildKnnCollector}s collecting the best child of k parents per segment.
+ * <p>
+ * Unlike Lucene's {@code DiversifyingNearestChildrenKnnCollectorManager}, it supports optimistic collection, so that with
+ * {@link org.opensearch.lucene.OptimisticKnnCollectorManager} each segment first collects its expected share of the k parents only.
+ */
+@RequiredArgsConstructor
+public class NestedBestChildKnnCollectorManager implements KnnCollectorManager {
+    private final int k;
+    private final BitSetProducer parentsFilter;
+
+    @Override
+    public KnnCollector newCollector(final int visitedLimit, final KnnSearchStrategy searchStrategy, final LeafReaderContext context)
+        throws IOException {
+        return newCollector(visitedLimit, searchStrategy, context, k);
+    }
+
+    @Override
+    public boolean isOptimistic() {
+        return true;
+    }
+
+    @Override
+    public KnnCollector newOptimisticCollector(
+        final int visitedLimit,
+        final KnnSearchStrategy searchStrategy,
+        final LeafReaderContext context,
+        final int k
+    ) throws IOException {
+        return newCollector(visitedLimit, searchStrategy, context, k);
+    }
+
+    private KnnCollector newCollector(
+        final int visitedLimit,
+        final KnnSearchStrategy searchStrategy,
+        final LeafReaderContext context,
+        final int k
+    ) throws IOException {
+        BitSet parentBitSet = parentsFilter.getBitSet(context);
+        if (parentBitSet == null) {
+            // No parent in this segment, hence nothing to collect.
+            parentBitSet = new FixedBitSet(Math.max(1, context.reader().maxDoc()));
+        }
+        return new NestedBestChildKnnCollector(new TopKnnCollector(k, visitedLimit, searchStrategy), k, parentBitSet);
+    }
+}
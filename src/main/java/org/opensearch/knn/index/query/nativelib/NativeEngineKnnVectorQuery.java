@@ -8,7 +8,9 @@ package org.opensearch.knn.index.query.nativelib;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
@@ -20,28 +22,37 @@ import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
-import org.apache.lucene.search.join.DiversifyingNearestChildrenKnnCollectorManager;
 import org.apache.lucene.search.knn.KnnCollectorManager;
 import org.apache.lucene.search.knn.TopKnnCollectorManager;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.IOSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.StopWatch;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.query.DefaultKNNWeight;
 import org.opensearch.knn.index.query.KNNQuery;
 import org.opensearch.knn.index.query.KNNWeight;
+import org.opensearch.knn.index.query.MinCompetitiveScoreTracker;
 import org.opensearch.knn.index.query.PerLeafResult;
 import org.opensearch.knn.index.query.ResultUtil;
+import org.opensearch.knn.index.query.SegmentLevelQuantizationInfo;
 import org.opensearch.knn.index.query.TopDocsDISI;
 import org.opensearch.knn.index.query.common.QueryUtils;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.index.query.memoryoptsearch.MemoryOptimizedKNNWeight;
+import org.opensearch.knn.index.query.memoryoptsearch.NestedBestChildKnnCollectorManager;
 import org.opensearch.knn.index.query.memoryoptsearch.optimistic.OptimisticSearchStrategyUtils;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
 import org.opensearch.knn.index.util.IndexHyperParametersUtil;
+import org.opensearch.knn.plugin.stats.KNNLatencyPhase;
+import org.opensearch.knn.plugin.stats.KNNQueryLatencyStats;
 import org.opensearch.knn.profile.KNNProfileUtil;
 import org.opensearch.knn.profile.LongMetric;
 import org.opensearch.knn.profile.query.KNNMetrics;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationErrorStats;
+import org.opensearch.lucene.OptimisticKnnCollectorManager;
 import org.opensearch.lucene.ReentrantKnnCollectorManager;
 import org.opensearch.search.profile.AbstractProfileBreakdown;
 import org.opensearch.search.profile.ContextualProfileBreakdown;
@@ -54,9 +65,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.opensearch.knn.profile.StopWatchUtils.startStopWatch;
 import static org.opensearch.knn.profile.StopWatchUtils.stopStopWatchAndLog;
@@ -92,7 +102,8 @@ public class NativeEngineKnnVectorQuery extends Query {
     public Weight createWeight(IndexSearcher indexSearcher, ScoreMode scoreMode, float boost) throws IOException {
         // Create Weight depending on whether 2-phase search is needed
         final boolean isShardLevelRescoringDisabled = KNNSettings.isShardLevelRescoringDisabledForDiskBasedVector(knnQuery.getIndexName());
-        final Integer firstPassKFor2PhaseSearch = getFirstPassK(isShardLevelRescoringDisabled);
+        final IndexReader reader = indexSearcher.getIndexReader();
+        final Integer firstPassKFor2PhaseSearch = getFirstPassK(isShardLevelRescoringDisabled, reader);
         final int effectiveK = getEffectiveK(knnQuery.getK());
         final IOSupplier<KNNWeight> weightSupplier = getKNNWeightSupplier(firstPassKFor2PhaseSearch, indexSearcher, scoreMode, effectiveK);
 
@@ -109,7 +120,6 @@ public class NativeEngineKnnVectorQuery extends Query {
         }
 
         // Run search
-        final IndexReader reader = indexSearcher.getIndexReader();
         List<LeafReaderContext> leafReaderContexts = reader.leaves();
         List<PerLeafResult> perLeafResults;
         final int finalK = knnQuery.getK();
@@ -119,20 +129,25 @@ public class NativeEngineKnnVectorQuery extends Query {
             // Search with max(firstPassK, effectiveK) to honor ef_search exploration,
             // then trim to firstPassK for the rescore input.
             final int searchK = Math.max(firstPassKFor2PhaseSearch, effectiveK);
-            perLeafResults = doSearch(indexSearcher, leafReaderContexts, knnWeight, searchK);
-            if (isShardLevelRescoringDisabled == false) {
-                ResultUtil.reduceToTopK(perLeafResults, firstPassKFor2PhaseSearch);
+            if (isPipelinedRescoreApplicable(leafReaderContexts)) {
+                perLeafResults = doPipelinedSearchAndRescore(
+                    indexSearcher,
+                    leafReaderContexts,
+                    knnWeight,
+                    searchK,
+                    isShardLevelRescoringDisabled ? null : new MinCompetitiveScoreTracker(firstPassKFor2PhaseSearch),
+                    finalK
+                );
+            } else {
+                perLeafResults = doSearchThenRescore(
+                    indexSearcher,
+                    leafReaderContexts,
+                    knnWeight,
+                    searchK,
+                    isShardLevelRescoringDisabled ? null : firstPassKFor2PhaseSearch,
+                    finalK
+                );
             }
-
-            StopWatch stopWatch = new StopWatch().start();
-            perLeafResults = doRescore(indexSearcher, leafReaderContexts, knnWeight, perLeafResults, finalK);
-            long rescoreTime = stopWatch.stop().totalTime().millis();
-            log.debug(
-                "Rescoring results took {} ms. oversampled k:{}, segments:{}",
-                rescoreTime,
-                firstPassKFor2PhaseSearch,
-                leafReaderContexts.size()
-            );
         }
 
         // For non-memory-optimized search, reduce to top k across segments.
@@ -177,6 +192,74 @@ public class NativeEngineKnnVectorQuery extends Query {
         return queryUtils.createDocAndScoreQuery(reader, topK, knnWeight).createWeight(indexSearcher, scoreMode, boost);
     }
 
+    /**
+     * Rescoring a segment right after its first pass is only possible when no step needs the first pass results of all segments.
+     * Memory optimized search may re-enter segments once every first pass completed, see {@link #reentrantSearch}.
+     */
+    private boolean isPipelinedRescoreApplicable(final List<LeafReaderContext> leafReaderContexts) {
+        return KNNSettings.isPipelinedRescoreEnabled(knnQuery.getIndexName())
+            && (knnQuery.isMemoryOptimizedSearch() == false || leafReaderContexts.size() <= 1);
+    }
+
+    private List<PerLeafResult> doSearchThenRescore(
+        final IndexSearcher indexSearcher,
+        final List<LeafReaderContext> leafReaderContexts,
+        final KNNWeight knnWeight,
+        final int searchK,
+        final Integer shardLevelFirstPassK,
+        final int k
+    ) throws IOException {
+        List<PerLeafResult> perLeafResults = doSearch(indexSearcher, leafReaderContexts, knnWeight, searchK);
+        if (shardLevelFirstPassK != null) {
+            ResultUtil.reduceToTopK(perLeafResults, shardLevelFirstPassK);
+        }
+
+        StopWatch stopWatch = new StopWatch().start();
+        perLeafResults = doRescore(indexSearcher, leafReaderContexts, knnWeight, perLeafResults, k);
+        final TimeValue rescoreTook = stopWatch.stop().totalTime();
+        KNNQueryLatencyStats.record(knnQuery.getIndexName(), knnQuery.getField(), KNNLatencyPhase.RESCORE, rescoreTook.nanos());
+        log.debug(
+            "Rescoring results took {} ms. first pass k:{}, segments:{}",
+            rescoreTook.millis(),
+            searchK,
+            leafReaderContexts.size()
+        );
+        return perLeafResults;
+    }
+
+    /**
+     * Runs the first pass and the rescoring of each segment in a single task, so a segment whose first pass completes early is
+     * rescored without waiting for slower segments. With shard level rescoring, each segment drops the candidates below the
+     * k-th best first pass score reported so far before rescoring, see {@link MinCompetitiveScoreTracker}.
+     */
+    private List<PerLeafResult> doPipelinedSearchAndRescore(
+        final IndexSearcher indexSearcher,
+        final List<LeafReaderContext> leafReaderContexts,
+        final KNNWeight knnWeight,
+        final int searchK,
+        @Nullable final MinCompetitiveScoreTracker minCompetitiveScoreTracker,
+        final int k
+    ) throws IOException {
+        // Segments are rescored concurrently, hence the rescore latency is the time spent rescoring summed over segments.
+        final LongAdder rescoreNanos = new LongAdder();
+        final List<Callable<PerLeafResult>> tasks = new ArrayList<>(leafReaderContexts.size());
+        for (LeafReaderContext leafReaderContext : leafReaderContexts) {
+            tasks.add(() -> {
+                final PerLeafResult perLeafResult = searchLeaf(leafReaderContext, knnWeight, searchK);
+                if (minCompetitiveScoreTracker != null) {
+                    minCompetitiveScoreTracker.offerAndPrune(perLeafResult);
+                }
+                final long startNanos = System.nanoTime();
+                final PerLeafResult rescoredResult = rescoreLeaf(leafReaderContext, knnWeight, perLeafResult, k);
+                rescoreNanos.add(System.nanoTime() - startNanos);
+                return rescoredResult;
+            });
+        }
+        final List<PerLeafResult> perLeafResults = indexSearcher.getTaskExecutor().invokeAll(tasks);
+        KNNQueryLatencyStats.record(knnQuery.getIndexName(), knnQuery.getField(), KNNLatencyPhase.RESCORE, rescoreNanos.sum());
+        return perLeafResults;
+    }
+
     private boolean isRescoreRequired(Integer firstPassKFor2PhaseSearch) {
         // `firstPassKFor2PhaseSearch` is non-null value when rescoring is needed, which has an expanded `k` value.
         return firstPassKFor2PhaseSearch != null;
@@ -200,18 +283,71 @@ public class NativeEngineKnnVectorQuery extends Query {
         return () -> (KNNWeight) knnQuery.createWeight(indexSearcher, scoreMode, 1);
     }
 
-    private Integer getFirstPassK(final boolean isShardLevelRescoringDisabled) {
+    private Integer getFirstPassK(final boolean isShardLevelRescoringDisabled, final IndexReader reader) throws IOException {
         final RescoreContext rescoreContext = knnQuery.getRescoreContext();
         if (rescoreContext != null && rescoreContext.isRescoreEnabled()) {
             // We need 2-phase search where using expanded `k` for the first stage search.
             final int dimension = knnQuery.getQueryVector().length;
-            return rescoreContext.getFirstPassK(knnQuery.getK(), dimension);
+            final int firstPassK = rescoreContext.getFirstPassK(knnQuery.getK(), dimension);
+            if (rescoreContext.isUserProvided() == false && rescoreContext.isAllowOverrideOversampleFactor()) {
+                final int errorBasedFirstPassK = getQuantizationErrorBasedFirstPassK(reader);
+                if (errorBasedFirstPassK > 0) {
+                    return errorBasedFirstPassK;
+                }
+            }
+            return firstPassK;
         }
 
         // We don't need 2-phase, hence there's no first pass k.
         return null;
     }
 
+    /**
+     * Sizes the first pass from the quantization error statistics of the segments, when a target recall is configured. The same
+     * first pass k applies to every segment, hence the statistics of the segment with the largest relative error are used.
+     *
+     * @return first pass k, or -1 if no target recall is configured or a segment has no usable statistics.
+     */
+    private int getQuantizationErrorBasedFirstPassK(final IndexReader reader) throws IOException {
+        final double targetRecall = KNNSettings.getRescoreTargetRecall(knnQuery.getIndexName());
+        if (targetRecall <= 0) {
+            return -1;
+        }
+
+        QuantizationErrorStats worstErrorStats = null;
+        long numVectors = 0;
+        for (LeafReaderContext leafReaderContext : reader.leaves()) {
+            final LeafReader leafReader = leafReaderContext.reader();
+            final FieldInfo fieldInfo = leafReader.getFieldInfos().fieldInfo(knnQuery.getField());
+            if (fieldInfo == null) {
+                continue;
+            }
+            final SegmentLevelQuantizationInfo quantizationInfo = SegmentLevelQuantizationInfo.build(
+                leafReader,
+                fieldInfo,
+                knnQuery.getField()
+            );
+            if (quantizationInfo == null || quantizationInfo.getQuantizationState() == null) {
+                continue;
+            }
+            // Segments written before the statistics were recorded fall back to the dimension based oversampling.
+            final QuantizationErrorStats errorStats = quantizationInfo.getQuantizationState().getErrorStats();
+            if (errorStats == null || Double.isFinite(errorStats.getRelativeError()) == false) {
+                return -1;
+            }
+            if (worstErrorStats == null || errorStats.getRelativeError() > worstErrorStats.getRelativeError()) {
+                worstErrorStats = errorStats;
+            }
+            numVectors += leafReader.numDocs();
+        }
+
+        if (worstErrorStats == null) {
+            return -1;
+        }
+        final int firstPassK = worstErrorStats.estimateFirstPassK(knnQuery.getK(), numVectors, targetRecall);
+        return firstPassK > 0 ? Math.min(RescoreContext.MAX_FIRST_PASS_RESULTS, firstPassK) : -1;
+    }
+
     /**
      * For memory-optimized search, returns max(k, ef_search) so the HNSW graph explores a wider
      * candidate set. Results are trimmed back to k without a full-precision rescore.
@@ -310,10 +446,9 @@ public class NativeEngineKnnVectorQuery extends Query {
         if (perLeafResult.getResult().scoreDocs.length == 0) {
             return perLeafResult;
         }
-        Set<Integer> docIds = Arrays.stream(perLeafResult.getResult().scoreDocs).map(scoreDoc -> scoreDoc.doc).collect(Collectors.toSet());
         DocIdSetIterator allSiblings = queryUtils.getAllSiblings(
             leafReaderContext,
-            docIds,
+            sortedDocIds(perLeafResult.getResult()),
             knnQuery.getParentsFilter(),
             perLeafResult.getFilterBits()
         );
@@ -350,15 +485,36 @@ public class NativeEngineKnnVectorQuery extends Query {
         KNNWeight knnWeight,
         int k
     ) throws IOException {
+        // With native optimistic search, each segment first collects its expected share of the top k only
+        final boolean isNativeOptimisticSearch = isNativeOptimisticSearchApplicable(leafReaderContexts, knnWeight, k);
+        final int[] perLeafKs = new int[leafReaderContexts.size()];
+        final int maxDoc = indexSearcher.getIndexReader().maxDoc();
+        for (int i = 0; i < leafReaderContexts.size(); ++i) {
+            perLeafKs[i] = isNativeOptimisticSearch
+                ? Math.min(
+                    k,
+                    OptimisticKnnCollectorManager.perLeafTopKCalculation(k, leafReaderContexts.get(i).reader().maxDoc() / (float) maxDoc)
+                )
+                : k;
+        }
+
         // Collect search tasks
         List<Callable<PerLeafResult>> tasks = new ArrayList<>(leafReaderContexts.size());
-        for (LeafReaderContext leafReaderContext : leafReaderContexts) {
-            tasks.add(() -> searchLeaf(leafReaderContext, knnWeight, k));
+        for (int i = 0; i < leafReaderContexts.size(); ++i) {
+            final LeafReaderContext leafReaderContext = leafReaderContexts.get(i);
+            final int perLeafK = perLeafKs[i];
+            tasks.add(() -> searchLeaf(leafReaderContext, knnWeight, perLeafK));
         }
 
         // Execute search tasks
         final List<PerLeafResult> perLeafResults = indexSearcher.getTaskExecutor().invokeAll(tasks);
 
+        if (isNativeOptimisticSearch) {
+            final StopWatch stopWatch = startStopWatch(log);
+            nativeReentrantSearch(perLeafResults, perLeafKs, knnWeight, leafReaderContexts, k, indexSearcher);
+            stopStopWatchAndLog(log, stopWatch, "2ndNativeOptimisticSearch", knnQuery.getShardId(), "All Shards", knnQuery.getField());
+        }
+
         // For memory optimized search, it should kick off 2nd search if optimistic
         if (knnQuery.isMemoryOptimizedSearch() && perLeafResults.size() > 1) {
             log.debug(
@@ -443,7 +599,7 @@ public class NativeEngineKnnVectorQuery extends Query {
         if (secondDeepDiveTasks.isEmpty() == false) {
             final KnnCollectorManager collectorManager = knnQuery.getParentsFilter() == null
                 ? new TopKnnCollectorManager(k, indexSearcher)
-                : new DiversifyingNearestChildrenKnnCollectorManager(k, knnQuery.getParentsFilter(), indexSearcher);
+                : new NestedBestChildKnnCollectorManager(k, knnQuery.getParentsFilter());
 
             final ReentrantKnnCollectorManager reentrantCollectorManager = new ReentrantKnnCollectorManager(
                 collectorManager,
@@ -467,6 +623,91 @@ public class NativeEngineKnnVectorQuery extends Query {
         }
     }
 
+    /**
+     * Optimistic search on native engine indices is limited to top k float vector search without nested fields, where the graph
+     * search can be seeded, see {@link KNNWeight#setSeeds}.
+     */
+    private boolean isNativeOptimisticSearchApplicable(
+        final List<LeafReaderContext> leafReaderContexts,
+        final KNNWeight knnWeight,
+        final int k
+    ) {
+        return knnQuery.isMemoryOptimizedSearch() == false
+            && leafReaderContexts.size() > 1
+            && k > 0
+            && knnQuery.getRadius() == null
+            && knnQuery.getParentsFilter() == null
+            && knnWeight instanceof DefaultKNNWeight
+            && KNNSettings.isNativeOptimisticSearchEnabled(knnQuery.getIndexName());
+    }
+
+    /**
+     * Second phase of native optimistic search. A segment whose last result still scores at or above the k-th best score across
+     * segments may hold more of the top k results, so it is searched again with the full k. Approximate searches start the graph
+     * search from the results of the first phase, which are already close to the query.
+     */
+    private void nativeReentrantSearch(
+        final List<PerLeafResult> perLeafResults,
+        final int[] perLeafKs,
+        final KNNWeight knnWeight,
+        final List<LeafReaderContext> leafReaderContexts,
+        final int k,
+        final IndexSearcher indexSearcher
+    ) throws IOException {
+        int totalResults = 0;
+        for (PerLeafResult perLeafResult : perLeafResults) {
+            totalResults += perLeafResult.getResult().scoreDocs.length;
+        }
+        if (totalResults == 0) {
+            return;
+        }
+
+        final float minTopKScore = OptimisticSearchStrategyUtils.findKthLargestScore(perLeafResults, k, totalResults);
+        final List<Callable<TopDocs>> secondDeepDiveTasks = new ArrayList<>();
+        final List<Integer> contextIndices = new ArrayList<>();
+        for (int i = 0; i < leafReaderContexts.size(); ++i) {
+            final LeafReaderContext leafReaderContext = leafReaderContexts.get(i);
+            final PerLeafResult perLeafResult = perLeafResults.get(i);
+            final TopDocs perLeaf = perLeafResult.getResult();
+            // Segments searched with the full k already, or whose results all fall below the global bar, are final
+            if (perLeafKs[i] >= k
+                || perLeaf.scoreDocs.length == 0
+                || perLeaf.scoreDocs[perLeaf.scoreDocs.length - 1].score < minTopKScore) {
+                continue;
+            }
+            if (perLeafResult.getSearchMode() == PerLeafResult.SearchMode.APPROXIMATE_SEARCH) {
+                secondDeepDiveTasks.add(() -> {
+                    knnWeight.setSeeds(leafReaderContext, perLeaf);
+                    try {
+                        return removeDeletedDocs(
+                            leafReaderContext,
+                            knnWeight.approximateSearch(
+                                leafReaderContext,
+                                perLeafResult.getFilterBits(),
+                                perLeafResult.getFilterBitsCardinality(),
+                                k
+                            )
+                        );
+                    } finally {
+                        knnWeight.setSeeds(leafReaderContext, null);
+                    }
+                });
+            } else {
+                secondDeepDiveTasks.add(() -> searchLeaf(leafReaderContext, knnWeight, k).getResult());
+            }
+            contextIndices.add(i);
+        }
+
+        if (secondDeepDiveTasks.isEmpty()) {
+            return;
+        }
+        log.debug("Running second native optimistic search on {} of {} segments", secondDeepDiveTasks.size(), leafReaderContexts.size());
+        final List<TopDocs> deepDiveTopDocs = indexSearcher.getTaskExecutor().invokeAll(secondDeepDiveTasks);
+        for (int i = 0; i < deepDiveTopDocs.size(); ++i) {
+            perLeafResults.get(contextIndices.get(i)).setResult(deepDiveTopDocs.get(i));
+        }
+    }
+
     private List<PerLeafResult> doRescore(
         final IndexSearcher indexSearcher,
         List<LeafReaderContext> leafReaderContexts,
@@ -478,65 +719,84 @@ public class NativeEngineKnnVectorQuery extends Query {
         for (int i = 0; i < perLeafResults.size(); i++) {
             LeafReaderContext leafReaderContext = leafReaderContexts.get(i);
             int finalI = i;
-            rescoreTasks.add(() -> {
-                PerLeafResult perLeafeResult = perLeafResults.get(finalI);
-                if (perLeafeResult.getResult().scoreDocs.length == 0) {
-                    return perLeafeResult;
-                }
-                final Set<Integer> docIds = Arrays.stream(perLeafeResult.getResult().scoreDocs)
-                    .map(scoreDoc -> scoreDoc.doc)
-                    .collect(Collectors.toSet());
-                DocIdSetIterator matchedDocs;
-                if (knnQuery.getParentsFilter() != null) {
-                    matchedDocs = queryUtils.getAllSiblings(
-                        leafReaderContext,
-                        docIds,
-                        knnQuery.getParentsFilter(),
-                        perLeafeResult.getFilterBits()
-                    );
-                } else {
-                    matchedDocs = new TopDocsDISI(perLeafeResult.getResult());
-                }
-                final ExactSearcher.ExactSearcherContext exactSearcherContext = ExactSearcher.ExactSearcherContext.builder()
-                    .matchedDocsIterator(matchedDocs)
-                    .numberOfMatchedDocs(matchedDocs.cost())
-                    // setting to false because in re-scoring we want to do exact search on full precision vectors
-                    .useQuantizedVectorsForSearch(false)
-                    .k(k)
-                    .radius(knnQuery.getRadius())
-                    .field(knnQuery.getField())
-                    .floatQueryVector(knnQuery.getQueryVector())
-                    .byteQueryVector(knnQuery.getByteQueryVector())
-                    .isMemoryOptimizedSearchEnabled(knnQuery.isMemoryOptimizedSearch())
-                    .parentsFilter(knnQuery.getParentsFilter())
-                    .build();
-                TopDocs rescoreResult = knnWeight.exactSearch(leafReaderContext, exactSearcherContext);
-                return new PerLeafResult(
-                    perLeafeResult.getFilterBits(),
-                    perLeafeResult.getFilterBitsCardinality(),
-                    rescoreResult,
-                    PerLeafResult.SearchMode.EXACT_SEARCH
-                );
-            });
+            rescoreTasks.add(() -> rescoreLeaf(leafReaderContext, knnWeight, perLeafResults.get(finalI), k));
         }
         return indexSearcher.getTaskExecutor().invokeAll(rescoreTasks);
     }
 
+    private PerLeafResult rescoreLeaf(
+        final LeafReaderContext leafReaderContext,
+        final KNNWeight knnWeight,
+        final PerLeafResult perLeafResult,
+        final int k
+    ) throws IOException {
+        if (perLeafResult.getResult().scoreDocs.length == 0) {
+            return perLeafResult;
+        }
+        DocIdSetIterator matchedDocs;
+        if (knnQuery.getParentsFilter() != null) {
+            matchedDocs = queryUtils.getAllSiblings(
+                leafReaderContext,
+                sortedDocIds(perLeafResult.getResult()),
+                knnQuery.getParentsFilter(),
+                perLeafResult.getFilterBits()
+            );
+        } else {
+            matchedDocs = new TopDocsDISI(perLeafResult.getResult());
+        }
+        final ExactSearcher.ExactSearcherContext exactSearcherContext = ExactSearcher.ExactSearcherContext.builder()
+            .matchedDocsIterator(matchedDocs)
+            .numberOfMatchedDocs(matchedDocs.cost())
+            // setting to false because in re-scoring we want to do exact search on full precision vectors
+            .useQuantizedVectorsForSearch(false)
+            .k(k)
+            .radius(knnQuery.getRadius())
+            .field(knnQuery.getField())
+            .floatQueryVector(knnQuery.getQueryVector())
+            .byteQueryVector(knnQuery.getByteQueryVector())
+            .isMemoryOptimizedSearchEnabled(knnQuery.isMemoryOptimizedSearch())
+            .parentsFilter(knnQuery.getParentsFilter())
+            .build();
+        TopDocs rescoreResult = knnWeight.exactSearch(leafReaderContext, exactSearcherContext);
+        return new PerLeafResult(
+            perLeafResult.getFilterBits(),
+            perLeafResult.getFilterBitsCardinality(),
+            rescoreResult,
+            PerLeafResult.SearchMode.EXACT_SEARCH
+        );
+    }
+
     private PerLeafResult searchLeaf(LeafReaderContext ctx, KNNWeight queryWeight, int k) throws IOException {
         final PerLeafResult perLeafResult = queryWeight.searchLeaf(ctx, k);
+        if (ctx.reader().getLiveDocs() != null) {
+            perLeafResult.setResult(removeDeletedDocs(ctx, perLeafResult.getResult()));
+        }
+        return perLeafResult;
+    }
+
+    private static TopDocs removeDeletedDocs(final LeafReaderContext ctx, final TopDocs topDocs) {
         final Bits liveDocs = ctx.reader().getLiveDocs();
-        if (liveDocs != null) {
-            List<ScoreDoc> list = new ArrayList<>();
-            for (ScoreDoc scoreDoc : perLeafResult.getResult().scoreDocs) {
-                if (liveDocs.get(scoreDoc.doc)) {
-                    list.add(scoreDoc);
-                }
+        if (liveDocs == null) {
+            return topDocs;
+        }
+        List<ScoreDoc> list = new ArrayList<>();
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            if (liveDocs.get(scoreDoc.doc)) {
+                list.add(scoreDoc);
             }
-            ScoreDoc[] filteredScoreDoc = list.toArray(new ScoreDoc[0]);
-            TotalHits totalHits = new TotalHits(filteredScoreDoc.length, TotalHits.Relation.EQUAL_TO);
-            perLeafResult.setResult(new TopDocs(totalHits, filteredScoreDoc));
         }
-        return perLeafResult;
+        ScoreDoc[] filteredScoreDoc = list.toArray(new ScoreDoc[0]);
+        TotalHits totalHits = new TotalHits(filteredScoreDoc.length, TotalHits.Relation.EQUAL_TO);
+        return new TopDocs(totalHits, filteredScoreDoc);
+    }
+
+    private static int[] sortedDocIds(final TopDocs topDocs) {
+        final int[] docIds = new int[topDocs.scoreDocs.length];
+        for (int i = 0; i < docIds.length; i++) {
+            docIds[i] = topDocs.scoreDocs[i].doc;
+        }
+        Arrays.sort(docIds);
+        return docIds;
     }
 
     @Override
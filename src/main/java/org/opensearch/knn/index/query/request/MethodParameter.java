@@ -16,13 +16,19 @@ import lombok.RequiredArgsConstructor;
 import org.opensearch.Version;
 import org.opensearch.common.ValidationException;
 import org.opensearch.core.ParseField;
+import org.opensearch.knn.index.query.memoryoptsearch.FilteredTraversal;
+import org.opensearch.knn.memoryoptsearch.faiss.BeamSearchStrategy;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_BEAM_WIDTH;
 import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_EF_SEARCH;
+import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_FILTERED_TRAVERSAL;
 import static org.opensearch.knn.common.KNNConstants.METHOD_PARAMETER_NPROBES;
+import static org.opensearch.knn.index.query.KNNQueryBuilder.BEAM_WIDTH_FIELD;
 import static org.opensearch.knn.index.query.KNNQueryBuilder.EF_SEARCH_FIELD;
+import static org.opensearch.knn.index.query.KNNQueryBuilder.FILTERED_TRAVERSAL_FIELD;
 import static org.opensearch.knn.index.query.KNNQueryBuilder.NPROBE_FIELD;
 
 /**
@@ -69,6 +75,53 @@ public enum MethodParameter {
             validationException.addValidationError(METHOD_PARAMETER_NPROBES + " should be greater than 0");
             return validationException;
         }
+    },
+
+    FILTERED_TRAVERSAL(METHOD_PARAMETER_FILTERED_TRAVERSAL, Version.V_3_8_0, FILTERED_TRAVERSAL_FIELD) {
+        @Override
+        public String parse(Object value) {
+            final FilteredTraversal filteredTraversal = FilteredTraversal.fromName(String.valueOf(value));
+            if (filteredTraversal == null) {
+                throw new IllegalArgumentException(
+                    METHOD_PARAMETER_FILTERED_TRAVERSAL + " value must be one of [" + FilteredTraversal.names() + "]"
+                );
+            }
+            return filteredTraversal.getName();
+        }
+
+        @Override
+        public ValidationException validate(Object value) {
+            if (value != null && FilteredTraversal.fromName(String.valueOf(value)) != null) {
+                return null;
+            }
+
+            ValidationException validationException = new ValidationException();
+            validationException.addValidationError(
+                METHOD_PARAMETER_FILTERED_TRAVERSAL + " should be one of [" + FilteredTraversal.names() + "]"
+            );
+            return validationException;
+        }
+    },
+
+    BEAM_WIDTH(METHOD_PARAMETER_BEAM_WIDTH, Version.V_3_8_0, BEAM_WIDTH_FIELD) {
+        @Override
+        public Integer parse(Object value) {
+            return parseInteger(value, METHOD_PARAMETER_BEAM_WIDTH);
+        }
+
+        @Override
+        public ValidationException validate(Object value) {
+            final Integer beamWidth = parse(value);
+            if (beamWidth != null && beamWidth > 0 && beamWidth <= BeamSearchStrategy.MAX_BEAM_WIDTH) {
+                return null;
+            }
+
+            ValidationException validationException = new ValidationException();
+            validationException.addValidationError(
+                METHOD_PARAMETER_BEAM_WIDTH + " should be greater than 0 and at most " + BeamSearchStrategy.MAX_BEAM_WIDTH
+            );
+            return validationException;
+        }
     };
 
     private final String name;
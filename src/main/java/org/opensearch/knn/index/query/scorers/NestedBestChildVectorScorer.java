@@ -5,14 +5,12 @@
 
 package org.opensearch.knn.index.query.scorers;
 
-import org.apache.lucene.search.ConjunctionUtils;
+import org.apache.lucene.search.DocAndFloatFeatureBuffer;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.VectorScorer;
 import org.apache.lucene.util.BitSet;
 import org.opensearch.common.Nullable;
 
-import java.util.Arrays;
-
 import java.io.IOException;
 
 /**
@@ -36,18 +34,20 @@ import java.io.IOException;
  * <ol>
  *   <li>Finds the next child document (respecting the optional filter).</li>
  *   <li>Determines the parent for that child via {@code parentBitSet.nextSetBit()}.</li>
- *   <li>Iterates over all children belonging to that parent, scoring each one.</li>
+ *   <li>Scores all children belonging to that parent as one block, through
+ *       {@link VectorScorer.Bulk#nextDocsAndScores} bounded by the parent doc id.</li>
  *   <li>Returns the doc id of the best-scoring child; {@link #score()} returns its score.</li>
  * </ol>
+ * Children are scored in batches, so a batch fetched for a parent group may already hold the
+ * first children of the next groups, which are consumed by the following {@code nextDoc()} calls.
  *
  * <h2>Filtered vs Unfiltered</h2>
  * <ul>
  *   <li><b>Unfiltered</b> ({@code acceptedChildrenIterator == null}): every vector document is
  *       considered. The underlying vector iterator drives iteration directly.</li>
- *   <li><b>Filtered</b>: the {@code filterIdsIterator} is intersected with the vector
- *       iterator via {@link #maybeIntersectWithFilter}, producing a single iterator
- *       that yields only doc ids present in both. This keeps the two iterators in lockstep
- *       so the vector scorer is always positioned correctly when {@link #score()} is called.</li>
+ *   <li><b>Filtered</b>: the {@code filterIdsIterator} is passed to
+ *       {@link VectorScorer#bulk(DocIdSetIterator)}, which only scores doc ids present in both
+ *       the filter and the vector iterator.</li>
  * </ul>
  *
  * <h2>Example</h2>
@@ -67,9 +67,16 @@ import java.io.IOException;
  */
 class NestedBestChildVectorScorer implements VectorScorer {
     private final VectorScorer childrenVectorScorer;
-    private final DocIdSetIterator childIterator;
+    @Nullable
+    private final DocIdSetIterator filterIdsIterator;
+    // Created on first use, as it positions the underlying iterators.
+    private VectorScorer.Bulk childrenBulkScorer;
+    private final DocAndFloatFeatureBuffer buffer = new DocAndFloatFeatureBuffer();
+    private final long cost;
     private final BitSet parentBitSet;
     private final DocIdSetIterator iterator;
+    // Position of the next child to consume in the buffer.
+    private int bufferIndex;
     private int bestChild = -1;
     private float currentScore = Float.NEGATIVE_INFINITY;
 
@@ -91,9 +98,11 @@ class NestedBestChildVectorScorer implements VectorScorer {
      */
     NestedBestChildVectorScorer(@Nullable DocIdSetIterator filterIdsIterator, BitSet parentBitSet, VectorScorer childrenVectorScorer) {
         this.childrenVectorScorer = childrenVectorScorer;
+        this.filterIdsIterator = filterIdsIterator;
         this.parentBitSet = parentBitSet;
-        DocIdSetIterator vectorIterator = childrenVectorScorer.iterator();
-        this.childIterator = maybeIntersectWithFilter(vectorIterator, filterIdsIterator);
+        // Conjunctions cost as much as their cheapest iterator.
+        final long vectorCost = childrenVectorScorer.iterator().cost();
+        this.cost = filterIdsIterator == null ? vectorCost : Math.min(filterIdsIterator.cost(), vectorCost);
         this.iterator = createIterator();
     }
 
@@ -115,20 +124,6 @@ class NestedBestChildVectorScorer implements VectorScorer {
         return iterator;
     }
 
-    /**
-     * Returns the vector iterator directly if no filter is provided, otherwise intersects
-     * it with the filter so that only doc ids present in both are yielded.
-     */
-    private static DocIdSetIterator maybeIntersectWithFilter(
-        DocIdSetIterator vectorIterator,
-        @Nullable DocIdSetIterator filterIdsIterator
-    ) {
-        if (filterIdsIterator == null) {
-            return vectorIterator;
-        }
-        return ConjunctionUtils.intersectIterators(Arrays.asList(filterIdsIterator, vectorIterator));
-    }
-
     /**
      * Creates a {@link DocIdSetIterator} that groups children by parent and yields the
      * best-scoring child per parent. Each {@code nextDoc()} call advances through one
@@ -143,25 +138,23 @@ class NestedBestChildVectorScorer implements VectorScorer {
 
             @Override
             public int nextDoc() throws IOException {
-                int nextChild = childIterator.docID();
-                if (nextChild == -1) {
-                    nextChild = childIterator.nextDoc();
-                }
-                if (nextChild == NO_MORE_DOCS) {
+                if (bufferIndex == buffer.size && fillBuffer(NO_MORE_DOCS) == false) {
                     bestChild = NO_MORE_DOCS;
                     return NO_MORE_DOCS;
                 }
 
                 currentScore = Float.NEGATIVE_INFINITY;
-                int currentParent = parentBitSet.nextSetBit(nextChild);
+                final int currentParent = parentBitSet.nextSetBit(buffer.docs[bufferIndex]);
 
                 do {
-                    float score = childrenVectorScorer.score();
-                    if (score > currentScore) {
-                        bestChild = nextChild;
-                        currentScore = score;
+                    for (; bufferIndex < buffer.size && buffer.docs[bufferIndex] < currentParent; bufferIndex++) {
+                        if (buffer.features[bufferIndex] > currentScore) {
+                            bestChild = buffer.docs[bufferIndex];
+                            currentScore = buffer.features[bufferIndex];
+                        }
                     }
-                } while ((nextChild = childIterator.nextDoc()) != NO_MORE_DOCS && nextChild < currentParent);
+                    // Either the buffer holds the next parent group, or the rest of this group is fetched.
+                } while (bufferIndex == buffer.size && fillBuffer(currentParent));
 
                 return bestChild;
             }
@@ -180,8 +173,22 @@ class NestedBestChildVectorScorer implements VectorScorer {
 
             @Override
             public long cost() {
-                return childIterator.cost();
+                return cost;
             }
         };
     }
+
+    /**
+     * Scores the next batch of children below {@code upTo} into the buffer.
+     *
+     * @return {@code false} if there are no more children below {@code upTo}
+     */
+    private boolean fillBuffer(final int upTo) throws IOException {
+        if (childrenBulkScorer == null) {
+            childrenBulkScorer = childrenVectorScorer.bulk(filterIdsIterator);
+        }
+        childrenBulkScorer.nextDocsAndScores(upTo, null, buffer);
+        bufferIndex = 0;
+        return buffer.size > 0;
+    }
 }
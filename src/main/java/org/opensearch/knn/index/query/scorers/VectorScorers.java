@@ -23,6 +23,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.knn.common.FieldInfoExtractor;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValuesIterator;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissScorableByteVectorValues;
 import org.opensearch.knn.memoryoptsearch.faiss.FlatVectorsScorerProvider;
 
 import java.io.IOException;
@@ -38,6 +39,7 @@ import static org.opensearch.knn.index.query.MemoryOptimizedSearchScoreConverter
  *   <li>{@link BinaryDocValues} → delegates to {@link KNNBinaryDocValuesScorer}</li>
  *   <li>{@link FloatVectorValues} → uses the provided {@link VectorScorerMode} (score or rescore)</li>
  *   <li>{@link ByteVectorValues} with float target → ADC (Asymmetric Distance Computation) scoring</li>
+ *   <li>{@link FaissScorableByteVectorValues} with float target → scoring codes such as PQ codes with the searcher's scorer</li>
  *   <li>{@link ByteVectorValues} with byte target → uses the provided {@link VectorScorerMode}</li>
  * </ul>
  */
@@ -165,6 +167,10 @@ public final class VectorScorers {
         if (knnVectorValues instanceof ByteVectorValues byteVectorValues && FieldInfoExtractor.isAdc(fieldInfo)) {
             return createADCScorer(fieldInfo, byteVectorValues, target, spaceType);
         }
+        if (knnVectorValues instanceof FaissScorableByteVectorValues scorableByteVectorValues) {
+            // Codes of float vectors, such as PQ codes, are scored against the float query by the searcher's scorer.
+            return scorableByteVectorValues.scorer(target);
+        }
         throw new IllegalArgumentException("Unsupported KnnVectorValues type: " + knnVectorValues.getClass());
     }
 
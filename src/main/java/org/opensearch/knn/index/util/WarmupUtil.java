@@ -24,6 +24,9 @@ import java.io.IOException;
  */
 @UtilityClass
 public class WarmupUtil {
+    // Granularity at which the OS loads file bytes into the page cache.
+    private static final int PAGE_SIZE = 4096;
+
     /**
      * Warms up float vector data by reading all underlying bytes into the page cache.
      * <p>
@@ -76,4 +79,75 @@ public class WarmupUtil {
             indexInput.readByte();
         }
     }
+
+    /**
+     * Brings a byte range of an {@link IndexInput} into the page cache.
+     * <p>
+     * The range is first handed to {@link IndexInput#prefetch(long, long)}, which issues {@code madvise(WILLNEED)} for memory mapped
+     * inputs so the OS can read the whole range ahead asynchronously. As the advice is only a hint, one byte per page is then read to
+     * make sure the range is resident once this method returns.
+     *
+     * @param indexInput the index input to warm up
+     * @param offset the start offset of the range
+     * @param length the number of bytes in the range
+     * @return the number of bytes brought into the page cache
+     * @throws IOException if an I/O error occurs during reading
+     */
+    public static long prefetch(@NonNull final IndexInput indexInput, final long offset, final long length) throws IOException {
+        if (length <= 0) {
+            return 0;
+        }
+        indexInput.prefetch(offset, length);
+        final long end = offset + length;
+        for (long position = offset; position < end; position += PAGE_SIZE) {
+            indexInput.seek(position);
+            indexInput.readByte();
+        }
+        indexInput.seek(end - 1);
+        indexInput.readByte();
+        return length;
+    }
+
+    /**
+     * Brings all bytes of an {@link IndexInput} into the page cache. See {@link #prefetch(IndexInput, long, long)}.
+     *
+     * @param indexInput the index input to warm up
+     * @return the number of bytes brought into the page cache
+     * @throws IOException if an I/O error occurs during reading
+     */
+    public static long prefetchAll(@NonNull final IndexInput indexInput) throws IOException {
+        return prefetch(indexInput, 0, indexInput.length());
+    }
+
+    /**
+     * Brings float vector data into the page cache, prefetching the backing slice when {@code floatVectorValues} implements
+     * {@link HasIndexSlice}, and falling back to {@link #readAll(FloatVectorValues)} otherwise.
+     *
+     * @param floatVectorValues the float vector values to warm up
+     * @return the number of bytes brought into the page cache
+     * @throws IOException if an I/O error occurs during reading
+     */
+    public static long prefetchAll(@NonNull final FloatVectorValues floatVectorValues) throws IOException {
+        if (floatVectorValues instanceof HasIndexSlice hasIndexSlice && hasIndexSlice.getSlice() != null) {
+            return prefetchAll(hasIndexSlice.getSlice());
+        }
+        readAll(floatVectorValues);
+        return (long) floatVectorValues.size() * floatVectorValues.getVectorByteLength();
+    }
+
+    /**
+     * Brings byte vector data into the page cache, prefetching the backing slice when {@code byteVectorValues} implements
+     * {@link HasIndexSlice}, and falling back to {@link #readAll(ByteVectorValues)} otherwise.
+     *
+     * @param byteVectorValues the byte vector values to warm up
+     * @return the number of bytes brought into the page cache
+     * @throws IOException if an I/O error occurs during reading
+     */
+    public static long prefetchAll(@NonNull final ByteVectorValues byteVectorValues) throws IOException {
+        if (byteVectorValues instanceof HasIndexSlice hasIndexSlice && hasIndexSlice.getSlice() != null) {
+            return prefetchAll(hasIndexSlice.getSlice());
+        }
+        readAll(byteVectorValues);
+        return (long) byteVectorValues.size() * byteVectorValues.getVectorByteLength();
+    }
 }
@@ -14,10 +14,12 @@ import org.apache.lucene.index.SegmentReader;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.knn.common.exception.MemoryOptimizedSearchOldIndicesNotSupportedException;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissWarmupPlanner;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.opensearch.knn.common.FieldInfoExtractor.isMemoryOptimizedSearchField;
 
@@ -28,9 +30,8 @@ import static org.opensearch.knn.common.FieldInfoExtractor.isMemoryOptimizedSear
  * the JVM heap. Warming up these fields forces the underlying data into the OS page cache
  * so that the first real searches avoid cold-read latency.
  * <p>
- * The warmup is performed by issuing a no-op search via the codec's
- * {@link org.apache.lucene.codecs.KnnVectorsReader#search} with a {@code null} query vector,
- * which triggers the reader to touch the on-disk structures without producing results.
+ * The warmup is delegated to the codec's {@link WarmableReader}, which touches the on-disk
+ * structures of the field, optionally restricted to the top nodes of its graph.
  */
 @Log4j2
 public class MemoryOptimizedSearchWarmup {
@@ -46,29 +47,57 @@ public class MemoryOptimizedSearchWarmup {
         if (mapperService == null) {
             return Collections.emptyList();
         }
+        return warmUpSegment(leafReader, mapperService, indexName, FaissWarmupPlanner.FULL_WARMUP_PERCENTAGE).getFields();
+    }
 
+    /**
+     * Warms up memory-optimized k-NN fields in the given leaf reader, restricted to the top nodes of each graph when
+     * {@code topNodesPercentage} is below 100.
+     *
+     * @param leafReader         the segment-level reader to warm up
+     * @param mapperService      the mapper service used to resolve field types; if {@code null}, no warmup is performed
+     * @param indexName          the name of the index, used to check memory-optimized search support
+     * @param topNodesPercentage percentage of graph nodes to warm up, in [0, 100]
+     * @return the fields successfully warmed up, along with the bytes touched and the time taken
+     */
+    public SegmentWarmupStats warmUpSegment(
+        final LeafReader leafReader,
+        final MapperService mapperService,
+        final String indexName,
+        final double topNodesPercentage
+    ) {
+        final long startNanos = System.nanoTime();
         final SegmentReader segmentReader = Lucene.segmentReader(leafReader);
+        final String segmentName = segmentReader.getSegmentName();
+        if (mapperService == null) {
+            return new SegmentWarmupStats(segmentName, Collections.emptyList(), 0, 0);
+        }
 
         final List<FieldInfo> memOptSearchFields = getFieldsForMemoryOptimizedSearch(leafReader, mapperService, indexName);
         final List<String> warmedUp = new ArrayList<>();
+        long bytesTouched = 0;
 
         for (FieldInfo field : memOptSearchFields) {
-            if (warmUpField(field, segmentReader)) {
+            final long fieldBytes = warmUpField(field, segmentReader, topNodesPercentage);
+            if (fieldBytes >= 0) {
                 warmedUp.add(field.getName());
+                bytesTouched += fieldBytes;
             }
         }
 
-        return warmedUp;
+        final long tookInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return new SegmentWarmupStats(segmentName, warmedUp, bytesTouched, tookInMillis);
     }
 
     /**
-     * Warms up a single k-NN field by issuing a no-op search through the codec's vector reader.
+     * Warms up a single k-NN field through the codec's vector reader.
      *
-     * @param field         the field to warm up
-     * @param segmentReader the segment reader providing access to the vector reader
-     * @return {@code true} if the warmup succeeded, {@code false} if an exception occurred
+     * @param field              the field to warm up
+     * @param segmentReader      the segment reader providing access to the vector reader
+     * @param topNodesPercentage percentage of graph nodes to warm up, in [0, 100]
+     * @return the number of bytes brought into the page cache, or -1 if an exception occurred
      */
-    private boolean warmUpField(final FieldInfo field, final SegmentReader segmentReader) {
+    private long warmUpField(final FieldInfo field, final SegmentReader segmentReader, final double topNodesPercentage) {
         try {
             assert segmentReader.getVectorReader() instanceof PerFieldKnnVectorsFormat.FieldsReader : "Expected PerFieldKnnVectorsFormat"
                 + ".FieldsReader";
@@ -78,13 +107,13 @@ public class MemoryOptimizedSearchWarmup {
             assert vectorsReader instanceof WarmableReader;
             if (vectorsReader instanceof WarmableReader warmableReader) {
                 log.info("Warming up reader for field: {}", field.getName());
-                warmableReader.warmUp(field.getName());
+                return warmableReader.warmUp(field.getName(), topNodesPercentage);
             }
-            return true;
+            return 0;
         } catch (Exception e) {
             // Expected during warmup initialization
             log.error("Warm up failed for {}", field.getName(), e);
-            return false;
+            return -1;
         }
     }
 
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.warmup;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Outcome of warming up memory-optimized fields of a single segment.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SegmentWarmupStats implements Writeable, ToXContentObject {
+    private static final String SEGMENT = "segment";
+    private static final String FIELDS = "fields";
+    private static final String BYTES_TOUCHED = "bytes_touched";
+    private static final String TOOK_IN_MILLIS = "took_in_millis";
+
+    private final String segmentName;
+    // Fields successfully warmed up
+    private final List<String> fields;
+    // Bytes brought into the page cache, 0 when unknown
+    private final long bytesTouched;
+    private final long tookInMillis;
+
+    public SegmentWarmupStats(final StreamInput in) throws IOException {
+        this.segmentName = in.readString();
+        this.fields = in.readStringList();
+        this.bytesTouched = in.readVLong();
+        this.tookInMillis = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        out.writeString(segmentName);
+        out.writeStringCollection(fields);
+        out.writeVLong(bytesTouched);
+        out.writeVLong(tookInMillis);
+    }
+
+    @Override
+    public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+        builder.startObject();
+        builder.field(SEGMENT, segmentName);
+        builder.field(FIELDS, fields);
+        builder.field(BYTES_TOUCHED, bytesTouched);
+        builder.field(TOOK_IN_MILLIS, tookInMillis);
+        return builder.endObject();
+    }
+}
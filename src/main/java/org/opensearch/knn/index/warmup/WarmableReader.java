@@ -28,4 +28,20 @@ public interface WarmableReader {
      * @throws IOException if an I/O error occurs while reading the underlying data
      */
     void warmUp(final String fieldName) throws IOException;
+
+    /**
+     * Warms up the given field, restricted to the given share of graph nodes.
+     * <p>
+     * Nodes on the topmost levels of the graph are warmed up first since they are visited by almost every search.
+     * A percentage of 100 is equivalent to {@link #warmUp(String)}.
+     *
+     * @param fieldName the name of the vector field to warm up
+     * @param topNodesPercentage percentage of graph nodes to warm up, in [0, 100]
+     * @return the number of bytes brought into the page cache, or 0 if unknown
+     * @throws IOException if an I/O error occurs while reading the underlying data
+     */
+    default long warmUp(final String fieldName, final double topNodesPercentage) throws IOException {
+        warmUp(fieldName);
+        return 0;
+    }
 }
@@ -114,6 +114,14 @@ class FaissService {
      */
     public static native void insertToByteIndex(int[] ids, long vectorsAddress, int dim, long indexAddress, int threadCount);
 
+    /**
+     * Renumbers the vectors of a faiss HNSW index storing flat float vectors, in breadth first order of the base layer of its graph.
+     * The id mapping is permuted along, so that search results are unchanged. Any other index is left as is.
+     *
+     * @param indexAddress address of native memory where index is stored
+     */
+    public static native void reorderIndex(long indexAddress);
+
     /**
      * Writes a faiss index.
      *
@@ -318,6 +326,29 @@ class FaissService {
         int[] parentIds
     );
 
+    /**
+     * Query an HNSW index, starting the search of the bottom layer from the given documents instead of the entry point of the graph.
+     * Other index types ignore the seeds and run the regular search.
+     *
+     * @param indexPointer     pointer to index in memory
+     * @param queryVector      vector to be used for query
+     * @param k                neighbors to be returned
+     * @param methodParameters method parameter
+     * @param filterIds        list of doc ids to include in the query result, null for no filter
+     * @param filterIdsType    how to filter ids: Batch or BitMap
+     * @param seedIds          doc ids to start the search from
+     * @return KNNQueryResult array of k neighbors
+     */
+    public static native KNNQueryResult[] queryIndexWithSeeds(
+        long indexPointer,
+        float[] queryVector,
+        int k,
+        Map<String, ?> methodParameters,
+        long[] filterIds,
+        int filterIdsType,
+        int[] seedIds
+    );
+
     /**
      * Query a binary index with filter
      *
@@ -11,6 +11,8 @@
 
 package org.opensearch.knn.jni;
 
+import java.nio.ByteBuffer;
+
 /**
  * Common class for providing the JNI related functionality to various JNIServices.
  */
@@ -143,6 +145,55 @@ public class JNICommons {
      */
     public static native long storeByteVectorData(long memoryAddress, byte[][] data, long initialCapacity, boolean append);
 
+    /**
+     * Same as {@link #storeVectorData(long, float[][], long, boolean)}, except that the vectors are read from a direct buffer
+     * holding consecutive floats in native byte order. The staged bytes are copied at once, without pinning a Java array per
+     * vector.
+     *
+     * <p>
+     * The function is not threadsafe. If multiple threads are trying to insert on same memory location, then it can
+     * lead to data corruption.
+     * </p>
+     *
+     * @param memoryAddress   The address of the memory location where data will be stored.
+     * @param data            direct buffer staging the vectors.
+     * @param numBytes        number of bytes to store, read from the start of the buffer.
+     * @param initialCapacity The initial capacity of the memory location, in number of floats.
+     * @param append          append the data or rewrite the memory location
+     * @return memory address where the data is stored.
+     */
+    public static native long storeVectorDataFromBuffer(
+        long memoryAddress,
+        ByteBuffer data,
+        int numBytes,
+        long initialCapacity,
+        boolean append
+    );
+
+    /**
+     * Same as {@link #storeBinaryVectorData(long, byte[][], long, boolean)}, except that the vectors are read from a direct
+     * buffer, see {@link #storeVectorDataFromBuffer(long, ByteBuffer, int, long, boolean)}.
+     */
+    public static native long storeBinaryVectorDataFromBuffer(
+        long memoryAddress,
+        ByteBuffer data,
+        int numBytes,
+        long initialCapacity,
+        boolean append
+    );
+
+    /**
+     * Same as {@link #storeByteVectorData(long, byte[][], long, boolean)}, except that the vectors are read from a direct
+     * buffer, see {@link #storeVectorDataFromBuffer(long, ByteBuffer, int, long, boolean)}.
+     */
+    public static native long storeByteVectorDataFromBuffer(
+        long memoryAddress,
+        ByteBuffer data,
+        int numBytes,
+        long initialCapacity,
+        boolean append
+    );
+
     /**
      * Free up the memory allocated for the data stored in memory address. This function should be used with the memory
      * address returned by {@link JNICommons#storeVectorData(long, float[][], long, boolean)}
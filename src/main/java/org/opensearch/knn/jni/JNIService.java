@@ -123,6 +123,28 @@ public class JNIService {
         );
     }
 
+    /**
+     * Renumbers the vectors of a float Faiss HNSW index in breadth first order of its base layer, so that graph neighbors are stored
+     * close to each other. The id mapping of the index is permuted along, hence document ids are left unchanged. Indices that do
+     * not store their own float vectors in an HNSW graph are left as is.
+     *
+     * @param indexAddress address of native memory where index is stored
+     * @param knnEngine    knn engine
+     * @param parameters   parameters to build index
+     */
+    public static void reorderIndex(long indexAddress, KNNEngine knnEngine, Map<String, Object> parameters) {
+        if (KNNEngine.FAISS == knnEngine) {
+            if (IndexUtil.isBinaryIndex(knnEngine, parameters) == false && IndexUtil.isByteIndex(parameters) == false) {
+                FaissService.reorderIndex(indexAddress);
+            }
+            return;
+        }
+
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "reorderIndex not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
     /**
      * Create an index for the native library. The memory occupied by the vectorsAddress will be freed up during the
      * function call. So Java layer doesn't need to free up the memory. This is not an ideal behavior because Java layer
@@ -321,6 +343,45 @@ public class JNIService {
         );
     }
 
+    /**
+     * Query an index, starting the search of the bottom layer of the graph from the given documents. Only supported by faiss.
+     *
+     * @param indexPointer     pointer to index in memory
+     * @param queryVector      vector to be used for query
+     * @param k                neighbors to be returned
+     * @param methodParameters method parameter
+     * @param knnEngine        engine to query index
+     * @param filteredIds      array of ints on which should be used for search.
+     * @param filterIdsType    how to filter ids: Batch or BitMap
+     * @param seedIds          doc ids to start the search from
+     * @return KNNQueryResult array of k neighbors
+     */
+    public static KNNQueryResult[] queryIndexWithSeeds(
+        long indexPointer,
+        float[] queryVector,
+        int k,
+        @Nullable Map<String, ?> methodParameters,
+        KNNEngine knnEngine,
+        long[] filteredIds,
+        int filterIdsType,
+        int[] seedIds
+    ) {
+        if (KNNEngine.FAISS == knnEngine) {
+            return FaissService.queryIndexWithSeeds(
+                indexPointer,
+                queryVector,
+                k,
+                methodParameters,
+                ArrayUtils.isNotEmpty(filteredIds) ? filteredIds : null,
+                filterIdsType,
+                seedIds
+            );
+        }
+        throw new IllegalArgumentException(
+            String.format(Locale.ROOT, "QueryIndexWithSeeds not supported for provided engine : %s", knnEngine.getName())
+        );
+    }
+
     /**
      * Query a binary index
      *
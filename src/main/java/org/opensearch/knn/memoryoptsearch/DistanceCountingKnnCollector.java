@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch;
+
+import org.apache.lucene.search.KnnCollector;
+
+/**
+ * Collector asking the {@link VectorSearcher} to report the number of vectors it computed a distance against. Only the searcher owns
+ * the scorer, the collector alone sees visited nodes, which a searcher may count differently from the vectors it actually scored.
+ * <p>
+ * Searchers that don't count distance computations leave the count at 0.
+ */
+public class DistanceCountingKnnCollector extends KnnCollector.Decorator {
+    private long distanceComputations;
+
+    public DistanceCountingKnnCollector(final KnnCollector collector) {
+        super(collector);
+    }
+
+    /**
+     * Adds the distance computations done by a search through this collector.
+     *
+     * @param count number of vectors a distance was computed against
+     */
+    public void addDistanceComputations(final long count) {
+        distanceComputations += count;
+    }
+
+    /**
+     * @return number of vectors a distance was computed against, by all searches through this collector
+     */
+    public long getDistanceComputations() {
+        return distanceComputations;
+    }
+}
@@ -100,4 +100,19 @@ public interface VectorSearcher extends Closeable {
      * @throws IOException if an I/O error occurs during warmup
      */
     void warmUp() throws IOException;
+
+    /**
+     * Warms up the underlying data needed by searches, restricted to the given share of the graph nodes.
+     * <p>
+     * Graph based implementations warm up the nodes on the topmost levels, which are visited by almost every search, along with their
+     * neighbor lists and vectors. A percentage of 100 warms up everything, as {@link #warmUp()} does.
+     *
+     * @param topNodesPercentage percentage of graph nodes to warm up, in [0, 100]
+     * @return the number of bytes brought into the page cache
+     * @throws IOException if an I/O error occurs during warmup
+     */
+    default long warmUp(double topNodesPercentage) throws IOException {
+        warmUp();
+        return 0;
+    }
 }
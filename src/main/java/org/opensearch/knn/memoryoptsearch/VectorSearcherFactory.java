@@ -11,6 +11,7 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
 
 import java.io.IOException;
+import java.util.Set;
 
 /**
  * Factory to create {@link VectorSearcher}.
@@ -27,6 +28,8 @@ public interface VectorSearcherFactory {
      *
      * @param directory Lucene's Directory.
      * @param fileName Logical file name to load.
+     * @param segmentFiles Files of the segment the file belongs to, see {@link org.apache.lucene.index.SegmentInfo#files()}.
+     *                     Companion files written next to the file are looked up in it rather than by listing the directory.
      * @param fieldInfo Field info containing metadata for ADC extraction
      * @param ioContext IOContext to use when opening the file
      * @param flatVectorsReader Reader providing flat vector scoring and storage
@@ -36,6 +39,7 @@ public interface VectorSearcherFactory {
     VectorSearcher createVectorSearcher(
         Directory directory,
         String fileName,
+        Set<String> segmentFiles,
         FieldInfo fieldInfo,
         IOContext ioContext,
         FlatVectorsReader flatVectorsReader
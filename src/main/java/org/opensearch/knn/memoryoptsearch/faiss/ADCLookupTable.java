@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+/**
+ * Per-query lookup table for asymmetric distance computation (ADC) between a float query vector and a bit-packed quantized
+ * vector, where each bit represents a dimension and the most significant bit of a byte comes first.
+ * <p>
+ * Both the inner product and the squared L2 distance reduce to a sum of per-dimension query weights selected by the set bits of
+ * the quantized vector:
+ * <ul>
+ *     <li>inner product: {@code sum(b_i * q_i)}</li>
+ *     <li>squared L2: {@code sum((b_i - q_i)^2) = sum(q_i^2) + sum(b_i * (1 - 2 * q_i))}, since {@code b_i^2 == b_i}</li>
+ * </ul>
+ * Instead of extracting and multiplying every bit, the partial sums of all 16 values of every nibble are precomputed once per
+ * query, so scoring a vector takes two table lookups per byte. Nibble tables keep the table at 16 floats per 4 dimensions, which
+ * stays cache resident for high dimensional vectors, unlike 256 entry byte tables.
+ */
+final class ADCLookupTable {
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_VALUES = 1 << NIBBLE_BITS;
+    private static final int NIBBLE_MASK = NIBBLE_VALUES - 1;
+    private static final int BYTE_TABLE_SIZE = 2 * NIBBLE_VALUES;
+
+    // For the j-th byte, [j * 32, j * 32 + 16) holds the partial sums of the high nibble, followed by the ones of the low nibble.
+    private final float[] table;
+    private final float bias;
+    private final int codeSize;
+
+    private ADCLookupTable(final float[] weights, final float bias) {
+        this.codeSize = (weights.length + Byte.SIZE - 1) / Byte.SIZE;
+        this.table = new float[codeSize * BYTE_TABLE_SIZE];
+        this.bias = bias;
+        for (int nibble = 0; nibble < 2 * codeSize; ++nibble) {
+            final int base = nibble * NIBBLE_VALUES;
+            final int firstDimension = nibble * NIBBLE_BITS;
+            for (int value = 1; value < NIBBLE_VALUES; ++value) {
+                // Extend the sum of the value without its lowest set bit, bit 3 of a nibble maps to its first dimension.
+                final int dimension = firstDimension + NIBBLE_BITS - 1 - Integer.numberOfTrailingZeros(value);
+                final float weight = dimension < weights.length ? weights[dimension] : 0;
+                table[base + value] = table[base + (value & (value - 1))] + weight;
+            }
+        }
+    }
+
+    /**
+     * Builds the table computing {@code sum(b_i * q_i)} for the given query.
+     */
+    static ADCLookupTable innerProduct(final float[] queryVector) {
+        return new ADCLookupTable(queryVector, 0);
+    }
+
+    /**
+     * Builds the table computing {@code sum((b_i - q_i)^2)} for the given query.
+     */
+    static ADCLookupTable l2Squared(final float[] queryVector) {
+        final float[] weights = new float[queryVector.length];
+        float squaredNorm = 0;
+        for (int i = 0; i < queryVector.length; ++i) {
+            weights[i] = 1 - 2 * queryVector[i];
+            squaredNorm += queryVector[i] * queryVector[i];
+        }
+        return new ADCLookupTable(weights, squaredNorm);
+    }
+
+    /**
+     * Computes the inner product or squared L2 distance, depending on how this table was built, against the given quantized vector.
+     *
+     * @param quantizedVector bit-packed quantized vector, at least as long as the query dimension divided by 8, rounded up.
+     * @return computed value.
+     */
+    float compute(final byte[] quantizedVector) {
+        // Two accumulators to break the dependency chain between consecutive lookups.
+        float sum0 = bias;
+        float sum1 = 0;
+        for (int i = 0, base = 0; i < codeSize; ++i, base += BYTE_TABLE_SIZE) {
+            final int value = quantizedVector[i] & 0xFF;
+            sum0 += table[base + (value >>> NIBBLE_BITS)];
+            sum1 += table[base + NIBBLE_VALUES + (value & NIBBLE_MASK)];
+        }
+        return sum0 + sum1;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.KnnCollector;
+import org.apache.lucene.search.knn.KnnSearchStrategy;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.SparseFixedBitSet;
+import org.apache.lucene.util.hnsw.HnswGraph;
+import org.apache.lucene.util.hnsw.NeighborQueue;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+
+import java.io.IOException;
+
+import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+
+/**
+ * HNSW graph searcher expanding several candidates per step, see {@link BeamSearchStrategy}.
+ * <p>
+ * Lucene's searcher scores the neighbors of one candidate at a time, so when vectors are read from disk, every step waits on the pages
+ * of a few vectors. Here, the unvisited neighbors of up to beam width candidates are gathered first, then scored with a single
+ * {@link RandomVectorScorer#bulkScore} call. The prefetching scorers of {@link FlatVectorsScorerProvider} prefetch the vectors of the
+ * whole batch in offset order before scoring it, so that their reads overlap.
+ * <p>
+ * Upper levels are searched greedily, like Lucene does with one entry point. When entry points are given, upper levels are skipped and
+ * the base level search starts from all of them, like Lucene does for {@link KnnSearchStrategy.Seeded} strategies. On the base level,
+ * candidates whose score is below the minimum competitive similarity of the collector are never expanded, which bounds the extra
+ * distance computations of a wide beam.
+ */
+final class BeamHnswGraphSearcher {
+    private BeamHnswGraphSearcher() {}
+
+    /**
+     * Searches the graph and collects accepted vectors into the collector.
+     *
+     * @param scorer     scorer of the query against the vectors of the graph
+     * @param collector  collector of internal vector ids
+     * @param graph      graph to search, which is only used by this call
+     * @param acceptOrds accepted internal vector ids, null if all are accepted
+     * @param beamWidth  maximum number of candidates expanded per step
+     * @throws IOException
+     */
+    static void search(
+        final RandomVectorScorer scorer,
+        final KnnCollector collector,
+        final HnswGraph graph,
+        final Bits acceptOrds,
+        final int beamWidth
+    ) throws IOException {
+        final int entryNode = graph.entryNode();
+        if (entryNode == -1) {
+            return;
+        }
+
+        final Batch batch = new Batch(graph.maxConn() * 2 * beamWidth);
+        float entryScore = scorer.score(entryNode);
+        collector.incVisitedCount(1);
+        int entryPoint = entryNode;
+
+        // Greedy descent to the closest node of level 1, scoring the whole neighbor list at once.
+        for (int level = graph.numLevels() - 1; level >= 1; level--) {
+            boolean improved = true;
+            while (improved) {
+                if (collector.earlyTerminated()) {
+                    return;
+                }
+                improved = false;
+                batch.size = 0;
+                graph.seek(level, entryPoint);
+                for (int neighbor = graph.nextNeighbor(); neighbor != NO_MORE_DOCS; neighbor = graph.nextNeighbor()) {
+                    batch.add(neighbor);
+                }
+                if (batch.size == 0) {
+                    break;
+                }
+                collector.incVisitedCount(batch.size);
+                scorer.bulkScore(batch.nodes, batch.scores, batch.size);
+                for (int i = 0; i < batch.size; i++) {
+                    if (batch.scores[i] > entryScore) {
+                        entryScore = batch.scores[i];
+                        entryPoint = batch.nodes[i];
+                        improved = true;
+                    }
+                }
+            }
+        }
+
+        batch.size = 0;
+        batch.add(entryPoint);
+        batch.scores[0] = entryScore;
+        searchBaseLevel(scorer, collector, graph, acceptOrds, beamWidth, batch);
+    }
+
+    /**
+     * Searches the base level of the graph from the given entry points and collects accepted vectors into the collector. Without
+     * entry points, the search starts from the entry point of the graph.
+     *
+     * @param scorer      scorer of the query against the vectors of the graph
+     * @param collector   collector of internal vector ids
+     * @param graph       graph to search, which is only used by this call
+     * @param acceptOrds  accepted internal vector ids, null if all are accepted
+     * @param beamWidth   maximum number of candidates expanded per step
+     * @param entryPoints internal vector ids to start from, only iterated with {@link DocIdSetIterator#nextDoc()}
+     * @throws IOException
+     */
+    static void search(
+        final RandomVectorScorer scorer,
+        final KnnCollector collector,
+        final HnswGraph graph,
+        final Bits acceptOrds,
+        final int beamWidth,
+        final DocIdSetIterator entryPoints
+    ) throws IOException {
+        final Batch batch = new Batch(graph.maxConn() * 2 * beamWidth);
+        for (int node = entryPoints.nextDoc(); node != NO_MORE_DOCS; node = entryPoints.nextDoc()) {
+            batch.add(node);
+        }
+        if (batch.size == 0) {
+            search(scorer, collector, graph, acceptOrds, beamWidth);
+            return;
+        }
+
+        collector.incVisitedCount(batch.size);
+        scorer.bulkScore(batch.nodes, batch.scores, batch.size);
+        searchBaseLevel(scorer, collector, graph, acceptOrds, beamWidth, batch);
+    }
+
+    /**
+     * @param batch scored entry points of the base level, reused for the next steps
+     */
+    private static void searchBaseLevel(
+        final RandomVectorScorer scorer,
+        final KnnCollector collector,
+        final HnswGraph graph,
+        final Bits acceptOrds,
+        final int beamWidth,
+        final Batch batch
+    ) throws IOException {
+        final BitSet visited = new SparseFixedBitSet(graph.size());
+        final NeighborQueue candidates = new NeighborQueue(Math.max(collector.k(), beamWidth), true);
+        for (int i = 0; i < batch.size; i++) {
+            final int entryPoint = batch.nodes[i];
+            if (visited.get(entryPoint)) {
+                continue;
+            }
+            visited.set(entryPoint);
+            candidates.add(entryPoint, batch.scores[i]);
+            if (acceptOrds == null || acceptOrds.get(entryPoint)) {
+                collector.collect(entryPoint, batch.scores[i]);
+            }
+        }
+        float minAcceptedSimilarity = Math.nextUp(collector.minCompetitiveSimilarity());
+
+        while (candidates.size() > 0 && collector.earlyTerminated() == false) {
+            // Gather the unvisited neighbors of the best competitive candidates.
+            batch.size = 0;
+            int numExpanded = 0;
+            while (numExpanded < beamWidth && candidates.size() > 0 && candidates.topScore() >= minAcceptedSimilarity) {
+                graph.seek(0, candidates.pop());
+                numExpanded++;
+                for (int neighbor = graph.nextNeighbor(); neighbor != NO_MORE_DOCS; neighbor = graph.nextNeighbor()) {
+                    if (visited.get(neighbor) == false) {
+                        visited.set(neighbor);
+                        batch.add(neighbor);
+                    }
+                }
+            }
+            if (numExpanded == 0) {
+                // The best candidate is not competitive anymore, neither are the others.
+                break;
+            }
+            if (batch.size == 0) {
+                continue;
+            }
+
+            collector.incVisitedCount(batch.size);
+            scorer.bulkScore(batch.nodes, batch.scores, batch.size);
+            for (int i = 0; i < batch.size; i++) {
+                final float score = batch.scores[i];
+                if (score >= minAcceptedSimilarity) {
+                    candidates.add(batch.nodes[i], score);
+                    if ((acceptOrds == null || acceptOrds.get(batch.nodes[i])) && collector.collect(batch.nodes[i], score)) {
+                        minAcceptedSimilarity = Math.nextUp(collector.minCompetitiveSimilarity());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Internal vector ids to score together, along with their scores.
+     */
+    private static class Batch {
+        private int[] nodes;
+        private float[] scores;
+        private int size;
+
+        private Batch(final int initialCapacity) {
+            this.nodes = new int[Math.max(1, initialCapacity)];
+            this.scores = new float[nodes.length];
+        }
+
+        private void add(final int node) {
+            if (size == nodes.length) {
+                nodes = ArrayUtil.grow(nodes, size + 1);
+                scores = ArrayUtil.growExact(scores, nodes.length);
+            }
+            nodes[size++] = node;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.Getter;
+import org.apache.lucene.search.knn.KnnSearchStrategy;
+
+import java.util.Objects;
+
+/**
+ * HNSW search strategy asking {@link FaissMemoryOptimizedSearcher} to traverse the base level of the graph with
+ * {@link BeamHnswGraphSearcher}, which expands up to {@link #getBeamWidth()} candidates per step and scores all their unvisited neighbors
+ * in one batch. It is set with the {@code beam_width} method parameter.
+ * <p>
+ * The filtered search threshold of the wrapped strategy is kept, so that an ACORN-1 traversal asked by the filtered traversal still
+ * takes precedence.
+ */
+@Getter
+public class BeamSearchStrategy extends KnnSearchStrategy.Hnsw {
+    // Beyond this, a step scores several hundreds of vectors, most of them far from the query.
+    public static final int MAX_BEAM_WIDTH = 32;
+
+    private final int beamWidth;
+
+    public BeamSearchStrategy(final int beamWidth, final int filteredSearchThreshold) {
+        super(filteredSearchThreshold);
+        if (beamWidth <= 0 || beamWidth > MAX_BEAM_WIDTH) {
+            throw new IllegalArgumentException("Beam width must be between 1 and " + MAX_BEAM_WIDTH + ", got " + beamWidth);
+        }
+        this.beamWidth = beamWidth;
+    }
+
+    /**
+     * @param strategy  search strategy picked for the segment
+     * @param beamWidth number of candidates expanded per step, null to keep the regular traversal
+     * @return the given strategy when no beam width is set, otherwise a beam search strategy with the same filtered search threshold
+     */
+    public static KnnSearchStrategy.Hnsw of(final KnnSearchStrategy.Hnsw strategy, final Integer beamWidth) {
+        if (beamWidth == null) {
+            return strategy;
+        }
+        return new BeamSearchStrategy(beamWidth, strategy.filteredSearchThreshold());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BeamSearchStrategy that = (BeamSearchStrategy) o;
+        return beamWidth == that.beamWidth && filteredSearchThreshold() == that.filteredSearchThreshold();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(beamWidth, filteredSearchThreshold());
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.codecs.hnsw.FlatVectorsScorer;
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+import org.apache.lucene.util.hnsw.RandomVectorScorerSupplier;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * {@link FlatVectorsScorer} scoring the vectors of a {@link FaissColocatedHNSWIndex}. Vectors having a record are scored a block at a
+ * time, reading the records of a block at once, and other vectors are scored in bulk by the given scorer of the FAISS index file.
+ * Any other vector values are scored by the given scorer.
+ */
+@RequiredArgsConstructor
+public class FaissColocatedFlatVectorsScorer implements FlatVectorsScorer {
+    private final FlatVectorsScorer delegateScorer;
+
+    @Override
+    public RandomVectorScorerSupplier getRandomVectorScorerSupplier(
+        final VectorSimilarityFunction similarityFunction,
+        final KnnVectorValues vectorValues
+    ) throws IOException {
+        return delegateScorer.getRandomVectorScorerSupplier(similarityFunction, vectorValues);
+    }
+
+    @Override
+    public RandomVectorScorer getRandomVectorScorer(
+        final VectorSimilarityFunction similarityFunction,
+        final KnnVectorValues vectorValues,
+        final float[] target
+    ) throws IOException {
+        if (vectorValues instanceof FaissColocatedHNSWIndex.ColocatedFloatVectorValues colocatedValues) {
+            return new ColocatedRandomVectorScorer(
+                colocatedValues,
+                similarityFunction,
+                target,
+                delegateScorer.getRandomVectorScorer(similarityFunction, colocatedValues.flatVectors(), target)
+            );
+        }
+        return delegateScorer.getRandomVectorScorer(similarityFunction, vectorValues, target);
+    }
+
+    @Override
+    public RandomVectorScorer getRandomVectorScorer(
+        final VectorSimilarityFunction similarityFunction,
+        final KnnVectorValues vectorValues,
+        final byte[] target
+    ) throws IOException {
+        return delegateScorer.getRandomVectorScorer(similarityFunction, vectorValues, target);
+    }
+
+    @Override
+    public String toString() {
+        return "FaissColocatedFlatVectorsScorer(delegate=" + delegateScorer + ")";
+    }
+
+    private static class ColocatedRandomVectorScorer extends RandomVectorScorer.AbstractRandomVectorScorer {
+        private final FaissColocatedHNSWIndex.ColocatedFloatVectorValues values;
+        private final VectorSimilarityFunction similarityFunction;
+        private final float[] target;
+        // Scores vectors without a record, read from the FAISS index file.
+        private final RandomVectorScorer flatScorer;
+        private final FaissColocatedHNSWIndex.Layout layout;
+        private final IndexInput blocks;
+        private final float[] vector;
+        // Records of a block, from the first to the last scored one.
+        private float[] blockFloats = new float[0];
+        // Record in the high bits and position in the given nodes in the low bits, of nodes having a record.
+        private long[] recordAndPositions = new long[0];
+        private int[] flatNodes = new int[0];
+        private int[] flatPositions = new int[0];
+        private float[] flatScores = new float[0];
+
+        private ColocatedRandomVectorScorer(
+            final FaissColocatedHNSWIndex.ColocatedFloatVectorValues values,
+            final VectorSimilarityFunction similarityFunction,
+            final float[] target,
+            final RandomVectorScorer flatScorer
+        ) {
+            super(values);
+            this.values = values;
+            this.similarityFunction = similarityFunction;
+            this.target = target;
+            this.flatScorer = flatScorer;
+            this.layout = values.layout();
+            this.blocks = values.blocks();
+            this.vector = new float[values.dimension()];
+        }
+
+        @Override
+        public float score(int node) throws IOException {
+            if (values.recordOf(node) < 0) {
+                return flatScorer.score(node);
+            }
+            return similarityFunction.compare(target, values.vectorValue(node));
+        }
+
+        @Override
+        public float bulkScore(final int[] nodes, final float[] scores, final int numNodes) throws IOException {
+            if (recordAndPositions.length < numNodes) {
+                recordAndPositions = new long[ArrayUtil.oversize(numNodes, Long.BYTES)];
+                flatNodes = new int[recordAndPositions.length];
+                flatPositions = new int[recordAndPositions.length];
+                flatScores = new float[recordAndPositions.length];
+            }
+
+            // Split the nodes between the ones having a record and the ones read from the FAISS index file.
+            int numRecords = 0;
+            int numFlatNodes = 0;
+            for (int i = 0; i < numNodes; i++) {
+                final int record = values.recordOf(nodes[i]);
+                if (record >= 0) {
+                    recordAndPositions[numRecords++] = ((long) record << 32) | i;
+                } else {
+                    flatNodes[numFlatNodes] = nodes[i];
+                    flatPositions[numFlatNodes++] = i;
+                }
+            }
+
+            float maxScore = Float.NEGATIVE_INFINITY;
+            if (numFlatNodes > 0) {
+                maxScore = flatScorer.bulkScore(flatNodes, flatScores, numFlatNodes);
+                for (int i = 0; i < numFlatNodes; i++) {
+                    scores[flatPositions[i]] = flatScores[i];
+                }
+            }
+
+            // Records sorted by record are grouped by block, each group is read at once.
+            Arrays.sort(recordAndPositions, 0, numRecords);
+            final int recordsPerBlock = layout.recordsPerBlock();
+            for (int from = 0, to; from < numRecords; from = to) {
+                final int block = (int) (recordAndPositions[from] >>> 32) / recordsPerBlock;
+                to = from + 1;
+                while (to < numRecords && (int) (recordAndPositions[to] >>> 32) / recordsPerBlock == block) {
+                    to++;
+                }
+
+                final long start = layout.vectorOffset((int) (recordAndPositions[from] >>> 32));
+                final long end = layout.vectorOffset((int) (recordAndPositions[to - 1] >>> 32)) + (long) vector.length * Float.BYTES;
+                final int numFloats = Math.toIntExact((end - start) / Float.BYTES);
+                if (blockFloats.length < numFloats) {
+                    blockFloats = new float[ArrayUtil.oversize(numFloats, Float.BYTES)];
+                }
+                blocks.seek(start);
+                // Neighbor ids between vectors are read as floats too, they are skipped below.
+                blocks.readFloats(blockFloats, 0, numFloats);
+
+                for (int i = from; i < to; i++) {
+                    final int record = (int) (recordAndPositions[i] >>> 32);
+                    final int position = (int) ((layout.vectorOffset(record) - start) / Float.BYTES);
+                    System.arraycopy(blockFloats, position, vector, 0, vector.length);
+                    final float score = similarityFunction.compare(target, vector);
+                    scores[(int) recordAndPositions[i]] = score;
+                    maxScore = Math.max(maxScore, score);
+                }
+            }
+            return maxScore;
+        }
+    }
+}
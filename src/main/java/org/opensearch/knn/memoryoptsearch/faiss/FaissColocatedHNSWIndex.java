@@ -0,0 +1,387 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.Getter;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.ByteVectorValues;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.VectorEncoding;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.knn.common.KNNConstants;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A FAISS HNSW index whose hub vectors, the ones on upper levels, have their base level read from a companion block file, written next
+ * to the FAISS index file, in which the neighbor list of a hub is stored right before the vector itself.
+ * <p>
+ * A graph search scores a vector before expanding its neighbor list. With both in the same record, the expansion reads the page that
+ * was loaded for scoring, instead of a page of the neighbor lists section and another one of the vectors section of the FAISS index
+ * file. Hubs are visited by almost every query, hence only they have a record, and the other vectors, upper levels and the id mapping
+ * are read from the FAISS index file. Records are grouped into blocks aligned on {@link #BLOCK_SIZE}, so that a record never spans two
+ * blocks unless it is larger than a block, and the records of a block are scored at once, see {@link FaissColocatedFlatVectorsScorer}.
+ * <p>
+ * Block file layout:
+ * <pre>
+ * Index header
+ * Dimension, number of vectors, maximum number of base level neighbors, block size and number of records as ints
+ * Ascending ids of the vectors having a record as ints, padded to the block size
+ * Blocks of max(1, block size / record size) records, each padded to a multiple of the block size, where a record is
+ *   the base level neighbor ids, padded with -1, followed by the float vector
+ * Footer
+ * </pre>
+ * Only float HNSW indices with flat storage are supported, see {@link #isSupported(FaissIndex)}.
+ */
+public class FaissColocatedHNSWIndex extends FaissIndex implements FaissHNSWProvider, Closeable {
+    public static final String CODEC_NAME = "FaissColocatedHNSW";
+    public static final int VERSION_START = 0;
+    public static final int VERSION_CURRENT = VERSION_START;
+    public static final int BLOCK_SIZE = 4096;
+    // Index type of this index, which is not a section of the FAISS index file.
+    public static final String IHCF = "IHCf";
+
+    // Index of the FAISS index file, reading the vectors without a record.
+    @Getter
+    private final FaissIdMapIndex idMapIndex;
+    @Getter
+    private final FaissHNSW faissHnsw;
+    // Null when the mapping is an identity mapping.
+    @Getter
+    private final FaissIdMap idMap;
+    @Getter
+    private final Layout layout;
+    // Vectors having a record, and the number of records before the i-th word of it.
+    private final FixedBitSet hasRecord;
+    private final int[] wordRanks;
+    private final IndexInput blockInput;
+
+    private FaissColocatedHNSWIndex(
+        final FaissIdMapIndex idMapIndex,
+        final Layout layout,
+        final FixedBitSet hasRecord,
+        final IndexInput blockInput
+    ) {
+        super(IHCF);
+        this.idMapIndex = idMapIndex;
+        this.faissHnsw = idMapIndex.getFaissHnsw();
+        this.idMap = idMapIndex.getIdMap();
+        this.layout = layout;
+        this.hasRecord = hasRecord;
+        this.blockInput = blockInput;
+        this.dimension = idMapIndex.getDimension();
+        this.totalNumberOfVectors = idMapIndex.getTotalNumberOfVectors();
+        this.spaceType = idMapIndex.getSpaceType();
+
+        final long[] words = hasRecord.getBits();
+        this.wordRanks = new int[words.length];
+        for (int i = 1; i < words.length; i++) {
+            wordRanks[i] = wordRanks[i - 1] + Long.bitCount(words[i - 1]);
+        }
+    }
+
+    /**
+     * @param engineFileName Name of a FAISS index file, which may be a compound file.
+     * @return name of the block file of the FAISS index file.
+     */
+    public static String blockFileName(final String engineFileName) {
+        return engineFileName.substring(0, engineFileName.lastIndexOf('.')) + KNNConstants.FAISS_COLOCATED_GRAPH_EXTENSION;
+    }
+
+    /**
+     * @param faissIndex Top level index loaded from a FAISS index file.
+     * @return whether the base level of the index can be written to and read from a block file.
+     */
+    public static boolean isSupported(final FaissIndex faissIndex) {
+        return faissIndex instanceof FaissIdMapIndex idMapIndex
+            && idMapIndex.getNestedIndex() instanceof FaissHNSWIndex hnswIndex
+            && hnswIndex.getFlatVectors() instanceof FaissIndexFloatFlat;
+    }
+
+    /**
+     * @param numLevels Number of levels of a vector, as stored in the levels section of the FAISS index file.
+     * @return whether the vector is a hub, which has a record in the block file.
+     */
+    public static boolean isHub(final int numLevels) {
+        return numLevels > 1;
+    }
+
+    /**
+     * Reads the header of a block file, and returns an index reading the base level of the given FAISS index from it.
+     *
+     * @param faissIndex Top level index loaded from the FAISS index file, see {@link #isSupported(FaissIndex)}.
+     * @param blockInput Input stream to the block file, which is closed with the returned index.
+     * @return FAISS HNSW index reading the base level of hubs from the block file.
+     * @throws IOException
+     */
+    public static FaissColocatedHNSWIndex load(final FaissIndex faissIndex, final IndexInput blockInput) throws IOException {
+        if (isSupported(faissIndex) == false) {
+            throw new UnsupportedFaissIndexException(
+                "Faiss index [" + faissIndex.getIndexType() + "] does not support the co-located graph layout."
+            );
+        }
+        final FaissIdMapIndex idMapIndex = (FaissIdMapIndex) faissIndex;
+
+        CodecUtil.checkHeader(blockInput, CODEC_NAME, VERSION_START, VERSION_CURRENT);
+        blockInput.seek(CodecUtil.indexHeaderLength(CODEC_NAME, ""));
+        final int dimension = blockInput.readInt();
+        final int numVectors = blockInput.readInt();
+        final int maxNumNeighbors = blockInput.readInt();
+        final int blockSize = blockInput.readInt();
+        final int numRecords = blockInput.readInt();
+        if (dimension != idMapIndex.getDimension()
+            || numVectors != idMapIndex.getTotalNumberOfVectors()
+            || maxNumNeighbors != idMapIndex.getFaissHnsw().getMaxNumNeighbors()
+            || numRecords < 0
+            || numRecords > numVectors) {
+            throw new CorruptIndexException(
+                "Block file does not match its FAISS index, got dimension="
+                    + dimension
+                    + ", numVectors="
+                    + numVectors
+                    + ", maxNumNeighbors="
+                    + maxNumNeighbors
+                    + ", numRecords="
+                    + numRecords,
+                blockInput
+            );
+        }
+        final FixedBitSet hasRecord = new FixedBitSet(Math.max(1, numVectors));
+        for (int i = 0, previous = -1; i < numRecords; i++) {
+            final int internalVectorId = blockInput.readInt();
+            if (internalVectorId <= previous || internalVectorId >= numVectors) {
+                throw new CorruptIndexException("Vector ids having a record are not increasing, got " + internalVectorId, blockInput);
+            }
+            hasRecord.set(internalVectorId);
+            previous = internalVectorId;
+        }
+        final Layout layout = new Layout(
+            dimension,
+            maxNumNeighbors,
+            blockSize,
+            IndexOutput.alignOffset(blockInput.getFilePointer(), blockSize)
+        );
+        CodecUtil.retrieveChecksum(blockInput);
+
+        return new FaissColocatedHNSWIndex(idMapIndex, layout, hasRecord, blockInput);
+    }
+
+    /**
+     * @return index of the record of the given vector in the block file, -1 if it has none.
+     */
+    public int recordOf(final int internalVectorId) {
+        if (hasRecord.get(internalVectorId) == false) {
+            return -1;
+        }
+        final int word = internalVectorId >> 6;
+        // Java masks the shift distance to its lowest 6 bits, so the mask keeps the bits of the word before the vector.
+        return wordRanks[word] + Long.bitCount(hasRecord.getBits()[word] & ((1L << internalVectorId) - 1));
+    }
+
+    /**
+     * Returns a graph reading the base level of hubs from the block file, and everything else from the FAISS index file.
+     *
+     * @param indexInput Input stream to the FAISS index file.
+     * @return HNSW graph, which is not thread safe, see {@link FaissHnswGraph}.
+     */
+    public FaissHnswGraph newGraph(final IndexInput indexInput) {
+        final IndexInput blocks = blockInput.clone();
+        return new FaissHnswGraph(faissHnsw, indexInput) {
+            @Override
+            public void seek(int level, int internalVectorId) {
+                final int record = level == 0 ? recordOf(internalVectorId) : -1;
+                if (record >= 0) {
+                    loadNeighborIdList(blocks, layout.recordOffset(record), layout.maxNumNeighbors());
+                } else {
+                    super.seek(level, internalVectorId);
+                }
+            }
+        };
+    }
+
+    /**
+     * Brings the records of the given nodes into the page cache, nodes without a record are skipped.
+     *
+     * @param nodes Ascending node ids.
+     * @return Number of bytes brought into the page cache.
+     * @throws IOException
+     */
+    public long warmUpRecords(final int[] nodes) throws IOException {
+        final int[] records = new int[nodes.length];
+        int numRecords = 0;
+        for (final int node : nodes) {
+            final int record = recordOf(node);
+            if (record >= 0) {
+                records[numRecords++] = record;
+            }
+        }
+        return FaissWarmupPlanner.recordRanges(layout, Arrays.copyOf(records, numRecords)).prefetch(blockInput.clone());
+    }
+
+    /**
+     * @param nodes Ascending node ids.
+     * @return Ascending ids of the given nodes without a record, which are read from the FAISS index file.
+     */
+    public int[] nodesWithoutRecord(final int[] nodes) {
+        return Arrays.stream(nodes).filter(node -> hasRecord.get(node) == false).toArray();
+    }
+
+    @Override
+    protected void doLoad(IndexInput input) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " is not a section of a FAISS index file.");
+    }
+
+    @Override
+    public VectorEncoding getVectorEncoding() {
+        return VectorEncoding.FLOAT32;
+    }
+
+    /**
+     * Vectors having a record are read from the block file, others from the given input stream to the FAISS index file.
+     */
+    @Override
+    public FloatVectorValues getFloatValues(final IndexInput indexInput) throws IOException {
+        return new ColocatedFloatVectorValues(blockInput.clone(), idMapIndex.getFloatValues(indexInput));
+    }
+
+    @Override
+    public ByteVectorValues getByteValues(IndexInput indexInput) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support " + ByteVectorValues.class.getSimpleName());
+    }
+
+    @Override
+    public void close() throws IOException {
+        blockInput.close();
+    }
+
+    /**
+     * Offsets of the records in a block file.
+     *
+     * @param dimension       Vector dimension.
+     * @param maxNumNeighbors Maximum number of base level neighbors of a vector.
+     * @param blockSize       Size of a block in bytes.
+     * @param dataOffset      Offset of the first block.
+     */
+    public record Layout(int dimension, int maxNumNeighbors, int blockSize, long dataOffset) {
+        /**
+         * @return size of a record in bytes.
+         */
+        public int recordSize() {
+            return (maxNumNeighbors + dimension) * Integer.BYTES;
+        }
+
+        /**
+         * @return number of records in a block.
+         */
+        public int recordsPerBlock() {
+            return Math.max(1, blockSize / recordSize());
+        }
+
+        /**
+         * @return distance in bytes between the starting offsets of two consecutive blocks.
+         */
+        public long blockStride() {
+            final long size = (long) recordsPerBlock() * recordSize();
+            return (size + blockSize - 1) / blockSize * blockSize;
+        }
+
+        /**
+         * @return offset of the given record, starting with its neighbor list.
+         */
+        public long recordOffset(final int record) {
+            final int recordsPerBlock = recordsPerBlock();
+            final long blockOffset = dataOffset + (record / recordsPerBlock) * blockStride();
+            return blockOffset + (long) (record % recordsPerBlock) * recordSize();
+        }
+
+        /**
+         * @return offset of the vector of the given record, right after its neighbor list.
+         */
+        public long vectorOffset(final int record) {
+            return recordOffset(record) + (long) maxNumNeighbors * Integer.BYTES;
+        }
+    }
+
+    /**
+     * Float vectors read from their record when they have one, otherwise from the FAISS index file. Vectors are not laid out at a
+     * multiple of their size in the block file, hence it is not exposed as an index slice.
+     */
+    final class ColocatedFloatVectorValues extends FloatVectorValues {
+        private final IndexInput blocks;
+        private final FloatVectorValues flatVectors;
+        private final float[] buffer;
+
+        private ColocatedFloatVectorValues(final IndexInput blocks, final FloatVectorValues flatVectors) {
+            this.blocks = blocks;
+            this.flatVectors = flatVectors;
+            this.buffer = new float[dimension];
+        }
+
+        /**
+         * @return input stream to the block file, owned by these vector values.
+         */
+        IndexInput blocks() {
+            return blocks;
+        }
+
+        /**
+         * @return vectors of the FAISS index file.
+         */
+        FloatVectorValues flatVectors() {
+            return flatVectors;
+        }
+
+        Layout layout() {
+            return layout;
+        }
+
+        int recordOf(final int internalVectorId) {
+            return FaissColocatedHNSWIndex.this.recordOf(internalVectorId);
+        }
+
+        @Override
+        public float[] vectorValue(int internalVectorId) throws IOException {
+            final int record = recordOf(internalVectorId);
+            if (record < 0) {
+                return flatVectors.vectorValue(internalVectorId);
+            }
+            blocks.seek(layout.vectorOffset(record));
+            blocks.readFloats(buffer, 0, buffer.length);
+            return buffer;
+        }
+
+        @Override
+        public int dimension() {
+            return dimension;
+        }
+
+        @Override
+        public int size() {
+            return totalNumberOfVectors;
+        }
+
+        @Override
+        public int ordToDoc(int internalVectorId) {
+            return idMap == null ? internalVectorId : idMap.ordToDoc(internalVectorId);
+        }
+
+        @Override
+        public Bits getAcceptOrds(final Bits acceptDocs) {
+            return idMap == null ? acceptDocs : idMap.getAcceptOrds(acceptDocs);
+        }
+
+        @Override
+        public FloatVectorValues copy() throws IOException {
+            return new ColocatedFloatVectorValues(blocks.clone(), flatVectors.copy());
+        }
+    }
+}
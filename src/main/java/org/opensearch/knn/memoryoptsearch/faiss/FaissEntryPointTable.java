@@ -0,0 +1,208 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.Getter;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.VectorEncoding;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.knn.KnnSearchStrategy;
+import org.apache.lucene.store.BufferedChecksumIndexInput;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.hnsw.NeighborQueue;
+import org.opensearch.knn.common.KNNConstants;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Entry points of a FAISS HNSW graph learned at merge time, read from a companion file written next to the FAISS index file.
+ * <p>
+ * The vectors of a segment are clustered with k-means, and every centroid is mapped to the graph node closest to it. A search scores
+ * the query against the centroids, which are kept on heap, and starts the base level traversal from the nodes of the closest ones
+ * through {@link KnnSearchStrategy.Seeded}, with {@link BeamHnswGraphSearcher} when a beam width is set. This skips the descent of
+ * the upper levels, whose pages are read from disk, and starts next to the query when vectors are clustered, where the single entry
+ * point of the graph may be far from it.
+ * <p>
+ * Entry point table file layout:
+ * <pre>
+ * Index header
+ * Dimension and number of centroids as ints
+ * For every centroid, the internal vector id of its node as an int, followed by the float centroid
+ * Footer
+ * </pre>
+ * Only HNSW and CAGRA indices storing float vectors are supported, see {@link #isSupported(FaissIndex)}. For CAGRA graphs, the table
+ * replaces the random entry points of {@link FaissMemoryOptimizedSearcher.RandomEntryPointsKnnSearchStrategy}.
+ */
+public class FaissEntryPointTable {
+    public static final String CODEC_NAME = "FaissEntryPointTable";
+    public static final int VERSION_START = 0;
+    public static final int VERSION_CURRENT = VERSION_START;
+    // Number of closest centroids whose nodes a search starts from.
+    public static final int NUM_ENTRY_POINTS = 4;
+
+    @Getter
+    private final int dimension;
+    private final float[][] centroids;
+    // Internal vector id of the node closest to each centroid.
+    private final int[] nodes;
+
+    public FaissEntryPointTable(final float[][] centroids, final int[] nodes) {
+        if (centroids.length == 0 || centroids.length != nodes.length) {
+            throw new IllegalArgumentException(
+                "Entry point table needs one node per centroid, got " + centroids.length + " centroids and " + nodes.length + " nodes"
+            );
+        }
+        this.dimension = centroids[0].length;
+        this.centroids = centroids;
+        this.nodes = nodes;
+    }
+
+    /**
+     * @param engineFileName Name of a FAISS index file, which may be a compound file.
+     * @return name of the entry point table file of the FAISS index file.
+     */
+    public static String fileName(final String engineFileName) {
+        return engineFileName.substring(0, engineFileName.lastIndexOf('.')) + KNNConstants.FAISS_ENTRY_POINT_TABLE_EXTENSION;
+    }
+
+    /**
+     * @param faissIndex Top level index loaded from a FAISS index file.
+     * @return whether an entry point table can be learned from the vectors of the index and used to search its graph.
+     */
+    public static boolean isSupported(final FaissIndex faissIndex) {
+        return faissIndex instanceof FaissIdMapIndex idMapIndex
+            && idMapIndex.getNestedIndex() instanceof AbstractFaissHNSWIndex hnswIndex
+            && hnswIndex.getFlatVectors() != null
+            && FaissEmptyIndex.isEmptyIndex(hnswIndex.getFlatVectors()) == false
+            && hnswIndex.getFlatVectors().getVectorEncoding() == VectorEncoding.FLOAT32;
+    }
+
+    /**
+     * @return number of centroids of the table.
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * Writes the table, framed by an index header and a footer.
+     *
+     * @param output    Output stream to the entry point table file.
+     * @param segmentId Id of the segment having the FAISS index file.
+     * @throws IOException
+     */
+    public void write(final IndexOutput output, final byte[] segmentId) throws IOException {
+        CodecUtil.writeIndexHeader(output, CODEC_NAME, VERSION_CURRENT, segmentId, "");
+        output.writeInt(dimension);
+        output.writeInt(nodes.length);
+        for (int i = 0; i < nodes.length; i++) {
+            output.writeInt(nodes[i]);
+            for (final float value : centroids[i]) {
+                output.writeInt(Float.floatToIntBits(value));
+            }
+        }
+        CodecUtil.writeFooter(output);
+    }
+
+    /**
+     * Reads a whole entry point table file and verifies its checksum.
+     *
+     * @param faissIndex Top level index loaded from the FAISS index file, see {@link #isSupported(FaissIndex)}.
+     * @param input      Input stream to the entry point table file, which is not closed.
+     * @return entry point table of the FAISS index.
+     * @throws IOException
+     */
+    public static FaissEntryPointTable read(final FaissIndex faissIndex, final IndexInput input) throws IOException {
+        final ChecksumIndexInput checksumInput = new BufferedChecksumIndexInput(input);
+        CodecUtil.checkHeader(checksumInput, CODEC_NAME, VERSION_START, VERSION_CURRENT);
+        checksumInput.seek(CodecUtil.indexHeaderLength(CODEC_NAME, ""));
+        final int dimension = checksumInput.readInt();
+        final int numCentroids = checksumInput.readInt();
+        if (dimension != faissIndex.getDimension() || numCentroids <= 0) {
+            throw new CorruptIndexException(
+                "Entry point table does not match its FAISS index, got dimension=" + dimension + ", numCentroids=" + numCentroids,
+                checksumInput
+            );
+        }
+
+        final float[][] centroids = new float[numCentroids][dimension];
+        final int[] nodes = new int[numCentroids];
+        for (int i = 0; i < numCentroids; i++) {
+            nodes[i] = checksumInput.readInt();
+            if (nodes[i] < 0 || nodes[i] >= faissIndex.getTotalNumberOfVectors()) {
+                throw new CorruptIndexException("Entry point table refers to a missing node " + nodes[i], checksumInput);
+            }
+            checksumInput.readFloats(centroids[i], 0, dimension);
+        }
+        CodecUtil.checkFooter(checksumInput);
+        return new FaissEntryPointTable(centroids, nodes);
+    }
+
+    /**
+     * Returns a strategy starting the search from the nodes of the {@link #NUM_ENTRY_POINTS} centroids closest to the query.
+     *
+     * @param query              Query vector.
+     * @param similarityFunction Similarity function of the index.
+     * @param originalStrategy   Strategy of the collector, kept for the base level traversal.
+     * @return seeded search strategy, whose entry points are internal vector ids.
+     */
+    public KnnSearchStrategy.Seeded getSearchStrategy(
+        final float[] query,
+        final VectorSimilarityFunction similarityFunction,
+        final KnnSearchStrategy originalStrategy
+    ) {
+        final int numEntryPoints = Math.min(NUM_ENTRY_POINTS, nodes.length);
+        final NeighborQueue closest = new NeighborQueue(numEntryPoints, false);
+        for (int i = 0; i < centroids.length; i++) {
+            closest.insertWithOverflow(nodes[i], similarityFunction.compare(query, centroids[i]));
+        }
+
+        // Several centroids may share their closest node.
+        final int[] entryPoints = Arrays.stream(closest.nodes()).limit(closest.size()).sorted().distinct().toArray();
+        return new KnnSearchStrategy.Seeded(new ArrayDocIdSetIterator(entryPoints), entryPoints.length, originalStrategy);
+    }
+
+    /**
+     * Iterates over sorted internal vector ids.
+     */
+    private static class ArrayDocIdSetIterator extends DocIdSetIterator {
+        private final int[] ids;
+        private int index = -1;
+
+        private ArrayDocIdSetIterator(final int[] ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public int docID() {
+            if (index < 0) {
+                return -1;
+            }
+            return index < ids.length ? ids[index] : NO_MORE_DOCS;
+        }
+
+        @Override
+        public int nextDoc() {
+            index++;
+            return docID();
+        }
+
+        @Override
+        public int advance(int target) throws IOException {
+            return slowAdvance(target);
+        }
+
+        @Override
+        public long cost() {
+            return ids.length;
+        }
+    }
+}
@@ -56,19 +56,25 @@ public class FaissHnswGraph extends HnswGraph {
         // Ex: [1, 5, 20, 100, -1, -1, ..., -1]
         final long begin = o + faissHnsw.getCumNumberNeighborPerLevel()[level];
         final long end = o + faissHnsw.getCumNumberNeighborPerLevel()[level + 1];
-        loadNeighborIdList(begin, end);
+        loadNeighborIdList(indexInput, faissHnsw.getNeighbors().getBaseOffset() + Integer.BYTES * begin, Math.toIntExact(end - begin));
     }
 
-    private void loadNeighborIdList(final long begin, final long end) {
+    /**
+     * Loads a neighbor list terminated by `-1` or by its maximum length.
+     *
+     * @param input Input stream to read the neighbor list from.
+     * @param offset Offset of the first neighbor id in `input`.
+     * @param maxLength The maximum number of neighbors in the list.
+     */
+    protected void loadNeighborIdList(final IndexInput input, final long offset, final int maxLength) {
         // Make sure we have sufficient space for neighbor list
-        final long maxLength = end - begin;
         if (neighborIdList == null || neighborIdList.length < maxLength) {
-            neighborIdList = new int[(int) (maxLength)];
+            neighborIdList = new int[maxLength];
         }
 
         // Seek to the first offset of neighbor list
         try {
-            indexInput.seek(faissHnsw.getNeighbors().getBaseOffset() + Integer.BYTES * begin);
+            input.seek(offset);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -76,8 +82,8 @@ public class FaissHnswGraph extends HnswGraph {
         // Fill the array with neighbor ids
         int index = 0;
         try {
-            for (long i = begin; i < end; i++) {
-                final int neighborId = indexInput.readInt();
+            for (int i = 0; i < maxLength; i++) {
+                final int neighborId = input.readInt();
                 // The idea is that a vector does not always have a complete list of neighbor vectors.
                 // FAISS assigns a fixed size to the neighbor list and uses -1 to indicate missing entries.
                 // Therefore, we can safely stop once hit -1.
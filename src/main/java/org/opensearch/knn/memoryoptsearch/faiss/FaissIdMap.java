@@ -0,0 +1,241 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.packed.DirectMonotonicReader;
+import org.apache.lucene.util.packed.PackedInts;
+import org.apache.lucene.util.packed.PackedLongValues;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Bidirectional mapping between the internal vector ids of a FAISS index, called ordinals, and Lucene document ids, for fields where
+ * not every document has a vector, or where vectors were renumbered for locality at merge time.
+ * <p>
+ * Ordinals are mapped to document ids with the monotonic encoded document id array of {@link MonotonicIntegerSequenceEncoder}, or with
+ * the packed document ids read by {@link #read}. Document ids are mapped back with a rank-select index: a bit set of the documents
+ * having a vector, along with the number of set bits before every 64 bits word, so that the rank of a document is the number of
+ * documents having a vector before it. The rank is the ordinal when ordinals are in document order, otherwise it is translated with
+ * {@link #rankToOrd}. The rank-select index is only built when every document has at most one vector, while the rank translation of
+ * renumbered vectors is built on first use, as only seeded searches and {@link #docToOrd} need it.
+ * <p>
+ * Bulk methods translate a whole block of ids at once, so that exhaustive searches do not go through one virtual call per candidate.
+ */
+public final class FaissIdMap {
+    private final LongValues ordToDocReader;
+    private final int numOrds;
+    private final boolean isPermuted;
+    // Null when a document has several vectors.
+    private final FixedBitSet docsWithVector;
+    // Number of documents having a vector before the i-th word of docsWithVector.
+    private final int[] wordRanks;
+    // Ordinal of the i-th vector in document order, null until first used, or when ordinals are in document order.
+    private volatile PackedInts.Reader rankToOrd;
+
+    /**
+     * @param ordToDocReader increasing document ids, indexed by ordinal
+     * @param numOrds        number of ordinals
+     */
+    public FaissIdMap(final DirectMonotonicReader ordToDocReader, final int numOrds) {
+        this(ordToDocReader, numOrds, numOrds == 0 ? 0 : Math.toIntExact(ordToDocReader.get(numOrds - 1)) + 1, false);
+    }
+
+    private FaissIdMap(final LongValues ordToDocReader, final int numOrds, final int maxDoc, final boolean isPermuted) {
+        this.ordToDocReader = ordToDocReader;
+        this.numOrds = numOrds;
+        this.isPermuted = isPermuted;
+
+        final FixedBitSet docs = new FixedBitSet(Math.max(1, maxDoc));
+        for (int ord = 0; ord < numOrds; ord++) {
+            docs.set((int) ordToDocReader.get(ord));
+        }
+        if (docs.cardinality() != numOrds) {
+            this.docsWithVector = null;
+            this.wordRanks = null;
+            return;
+        }
+
+        final long[] words = docs.getBits();
+        this.docsWithVector = docs;
+        this.wordRanks = new int[words.length];
+        for (int i = 1; i < words.length; i++) {
+            wordRanks[i] = wordRanks[i - 1] + Long.bitCount(words[i - 1]);
+        }
+    }
+
+    /**
+     * Reads the 64 bits document ids written by FAISS in a single pass, whether they are increasing or were renumbered at merge time.
+     *
+     * @param numOrds number of ordinals
+     * @param input   input positioned at the 64 bits document ids, indexed by ordinal
+     * @return the mapping, null if it is an identity mapping
+     */
+    public static FaissIdMap read(final int numOrds, final IndexInput input) throws IOException {
+        // The monotonic builder stores the deltas to a line fitted per page, which stays compact for increasing ids, and no larger than
+        // the packed ids themselves otherwise.
+        final PackedLongValues.Builder ordToDoc = PackedLongValues.monotonicBuilder(PackedInts.COMPACT);
+        boolean isIdentity = true;
+        boolean isIncreasing = true;
+        long previous = 0;
+        int maxDoc = 0;
+        for (int ord = 0; ord < numOrds; ord++) {
+            final int doc = Math.toIntExact(input.readLong());
+            isIdentity &= doc == ord;
+            isIncreasing &= doc >= previous;
+            previous = doc;
+            maxDoc = Math.max(maxDoc, doc + 1);
+            ordToDoc.add(doc);
+        }
+        if (isIdentity) {
+            return null;
+        }
+        return new FaissIdMap(ordToDoc.build(), numOrds, maxDoc, isIncreasing == false);
+    }
+
+    /**
+     * @return whether document ids can be mapped back to ordinals, see {@link #docToOrd}
+     */
+    public boolean hasDocToOrd() {
+        return docsWithVector != null;
+    }
+
+    /**
+     * @return whether ordinals are not in document order, i.e. vectors were renumbered for locality
+     */
+    public boolean isPermuted() {
+        return isPermuted;
+    }
+
+    /**
+     * @return number of ordinals
+     */
+    public int size() {
+        return numOrds;
+    }
+
+    /**
+     * @param ord internal vector id
+     * @return document id of the vector
+     */
+    public int ordToDoc(final int ord) {
+        return (int) ordToDocReader.get(ord);
+    }
+
+    /**
+     * @param doc document id
+     * @return internal vector id of the document, -1 if the document has no vector
+     * @throws UnsupportedOperationException if a document has several vectors
+     */
+    public int docToOrd(final int doc) {
+        if (docsWithVector == null) {
+            throw new UnsupportedOperationException("Document ids cannot be mapped to internal vector ids, a document has several vectors");
+        }
+        if (doc >= docsWithVector.length() || docsWithVector.get(doc) == false) {
+            return -1;
+        }
+        return rankToOrd(rank(doc));
+    }
+
+    /**
+     * Translates the rank of a vector in document order, which is its ordinal in Lucene's flat vectors, into the internal vector id of
+     * the FAISS index.
+     *
+     * @param rank number of vectors before the vector in document order
+     * @return internal vector id of the vector
+     */
+    public int rankToOrd(final int rank) {
+        if (isPermuted == false) {
+            return rank;
+        }
+        final PackedInts.Reader ords = rankToOrd;
+        return (int) (ords == null ? buildRankToOrd() : ords).get(rank);
+    }
+
+    private synchronized PackedInts.Reader buildRankToOrd() {
+        if (rankToOrd != null) {
+            return rankToOrd;
+        }
+        final int bitsPerOrd = PackedInts.bitsRequired(Math.max(0, numOrds - 1));
+        final PackedInts.Mutable ords = PackedInts.getMutable(numOrds, bitsPerOrd, PackedInts.COMPACT);
+        if (docsWithVector != null) {
+            // Every document has one vector, whose rank is the rank of its document.
+            for (int ord = 0; ord < numOrds; ord++) {
+                ords.set(rank((int) ordToDocReader.get(ord)), ord);
+            }
+        } else {
+            // Document ids and ordinals are non-negative ints, so sorting the packed pairs sorts by document id, then by ordinal,
+            // vectors of the same document being kept in ordinal order.
+            final long[] docsAndOrds = new long[numOrds];
+            for (int ord = 0; ord < numOrds; ord++) {
+                docsAndOrds[ord] = (ordToDocReader.get(ord) << 32) | ord;
+            }
+            Arrays.sort(docsAndOrds);
+            for (int rank = 0; rank < numOrds; rank++) {
+                ords.set(rank, (int) docsAndOrds[rank]);
+            }
+        }
+        rankToOrd = ords;
+        return ords;
+    }
+
+    /**
+     * Translates the first {@code count} ordinals into document ids.
+     */
+    public void ordsToDocs(final int[] ords, final int[] docs, final int count) {
+        for (int i = 0; i < count; i++) {
+            docs[i] = (int) ordToDocReader.get(ords[i]);
+        }
+    }
+
+    /**
+     * Translates the first {@code count} document ids into ordinals, dropping the documents without a vector from both arrays.
+     *
+     * @return number of documents having a vector, which are moved to the front of both arrays
+     */
+    public int docsToOrds(final int[] docs, final int[] ords, final int count) {
+        int numTranslated = 0;
+        for (int i = 0; i < count; i++) {
+            final int ord = docToOrd(docs[i]);
+            if (ord >= 0) {
+                docs[numTranslated] = docs[i];
+                ords[numTranslated++] = ord;
+            }
+        }
+        return numTranslated;
+    }
+
+    /**
+     * @param acceptDocs accepted document ids, null if all documents are accepted
+     * @return accepted ordinals, null if all ordinals are accepted
+     */
+    public Bits getAcceptOrds(final Bits acceptDocs) {
+        if (acceptDocs == null) {
+            return null;
+        }
+        return new Bits() {
+            @Override
+            public boolean get(int ord) {
+                return acceptDocs.get((int) ordToDocReader.get(ord));
+            }
+
+            @Override
+            public int length() {
+                return numOrds;
+            }
+        };
+    }
+
+    private int rank(final int doc) {
+        final int word = doc >> 6;
+        // Java masks the shift distance to its lowest 6 bits, so the mask keeps the bits of the word before the document.
+        return wordRanks[word] + Long.bitCount(docsWithVector.getBits()[word] & ((1L << doc) - 1));
+    }
+}
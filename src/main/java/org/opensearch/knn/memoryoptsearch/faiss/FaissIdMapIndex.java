@@ -12,9 +12,9 @@ import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.index.VectorEncoding;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.Bits;
-import org.apache.lucene.util.packed.DirectMonotonicReader;
 import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissBinaryHnswIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissBinaryIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.AbstractFaissIVFIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.vectorvalues.FaissFloatVectorValues;
 
 import java.io.IOException;
@@ -28,6 +28,8 @@ import java.io.IOException;
  * However, these IDs only cover the sparse 30% of Lucene documents, so an ID mapping is needed to convert the internal physical vector ID
  * into the corresponding Lucene document ID.
  * If the mapping is an identity mapping, where each `i` is mapped to itself, we omit storing it to save memory.
+ * Vector IDs are increasing with document IDs, unless the graph was renumbered for locality at merge time, in which case the mapping
+ * carries the permutation.
  */
 public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvider {
     public static final String IXMP = "IxMp";
@@ -36,7 +38,9 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
     @Getter
     private FaissIndex nestedIndex;
     private FaissHNSWProvider hnswGetter;
-    private DirectMonotonicReader idMappingReader;
+    // Null when the mapping is an identity mapping.
+    @Getter
+    private FaissIdMap idMap;
 
     public FaissIdMapIndex(final String indexType) {
         super(indexType);
@@ -61,8 +65,11 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
         if (nestedIndex instanceof AbstractFaissHNSWIndex || nestedIndex instanceof FaissBinaryHnswIndex) {
             this.nestedIndex = nestedIndex;
             this.hnswGetter = (FaissHNSWProvider) nestedIndex;
+        } else if (nestedIndex instanceof AbstractFaissIVFIndex) {
+            // IVF index has no HNSW graph, vector search is done by scanning its inverted lists.
+            this.nestedIndex = nestedIndex;
         } else {
-            throw new IllegalStateException("Invalid nested HNSW index type, got index type=" + nestedIndex.getIndexType());
+            throw new IllegalStateException("Invalid nested index type, got index type=" + nestedIndex.getIndexType());
         }
 
         final int numElements = Math.toIntExact(input.readLong());
@@ -72,8 +79,9 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
         // However, in a sparse case where not all documents having KNN field, we need this mapping table to convert inner vector id to
         // Lucene document id.
         // Another case is parent-child nested case. In which, this mapping table will map internal vector id to parent document id.
-        // NOTE : If the mapping is an identity function that maps `i` to `i`, then the reader will be null.
-        idMappingReader = MonotonicIntegerSequenceEncoder.encode(numElements, input);
+        // NOTE : If the mapping is an identity function that maps `i` to `i`, then the mapping will be null.
+        // Graphs renumbered for locality at merge time have no increasing mapping, which is kept as is.
+        idMap = FaissIdMap.read(numElements, input);
     }
 
     @Override
@@ -83,7 +91,7 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
 
     @Override
     public FloatVectorValues getFloatValues(IndexInput indexInput) throws IOException {
-        if (idMappingReader == null) {
+        if (idMap == null) {
             // Handle 'dense' case where all documents have at least one KNN field, which has exactly one vector.
             // No re-mapping is required.
             return nestedIndex.getFloatValues(indexInput);
@@ -95,7 +103,7 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
 
     @Override
     public ByteVectorValues getByteValues(IndexInput indexInput) throws IOException {
-        if (idMappingReader == null) {
+        if (idMap == null) {
             // Handle 'dense' case where all documents have at least one KNN field, which has exactly one vector.
             // No re-mapping is required.
             return nestedIndex.getByteValues(indexInput);
@@ -133,27 +141,13 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
             @Override
             public int ordToDoc(int internalVectorId) {
                 // Convert an internal vector id to Lucene document id.
-                return (int) idMappingReader.get(internalVectorId);
+                return idMap.ordToDoc(internalVectorId);
             }
 
             @Override
             public Bits getAcceptOrds(final Bits acceptDocs) {
-                if (acceptDocs != null) {
-                    return new Bits() {
-                        @Override
-                        public boolean get(int internalVectorId) {
-                            // Convert internal vector ordinal to Lucene document id, then check acceptDocs directly.
-                            return acceptDocs.get((int) idMappingReader.get(internalVectorId));
-                        }
-
-                        @Override
-                        public int length() {
-                            return vectorValues.size();
-                        }
-                    };
-                }
-
-                return null;
+                // Convert internal vector ordinal to Lucene document id, then check acceptDocs directly.
+                return idMap.getAcceptOrds(acceptDocs);
             }
 
             @Override
@@ -173,11 +167,11 @@ public class FaissIdMapIndex extends FaissBinaryIndex implements FaissHNSWProvid
 
     private FloatVectorValues sparseFloatValues(IndexInput indexInput) throws IOException {
         final FloatVectorValues vectorValues = nestedIndex.getFloatValues(indexInput);
-        return new FaissFloatVectorValues.SparseFloatVectorValuesImpl(vectorValues, idMappingReader);
+        return new FaissFloatVectorValues.SparseFloatVectorValuesImpl(vectorValues, idMap);
     }
 
     @Override
     public FaissHNSW getFaissHnsw() {
-        return hnswGetter.getFaissHnsw();
+        return hnswGetter == null ? null : hnswGetter.getFaissHnsw();
     }
 }
@@ -7,8 +7,10 @@ package org.opensearch.knn.memoryoptsearch.faiss;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.lucene.codecs.hnsw.FlatVectorsScorer;
+import org.apache.lucene.codecs.lucene95.HasIndexSlice;
 import org.apache.lucene.index.ByteVectorValues;
 import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.index.KnnVectorValues;
 import org.apache.lucene.index.KnnVectorValues.DocIndexIterator;
 import org.apache.lucene.index.VectorEncoding;
@@ -19,6 +21,7 @@ import org.apache.lucene.search.KnnCollector;
 import org.apache.lucene.search.knn.KnnSearchStrategy;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.IOUtils;
 import org.apache.lucene.util.hnsw.HnswGraphSearcher;
 import org.apache.lucene.util.hnsw.OrdinalTranslatedKnnCollector;
 import org.apache.lucene.util.hnsw.RandomVectorScorer;
@@ -26,8 +29,12 @@ import org.opensearch.knn.common.FieldInfoExtractor;
 import org.opensearch.knn.common.RobustUniqueRandomIterator;
 import org.opensearch.knn.index.KNNVectorSimilarityFunction;
 import org.opensearch.knn.index.util.WarmupUtil;
+import org.opensearch.knn.memoryoptsearch.DistanceCountingKnnCollector;
 import org.opensearch.knn.memoryoptsearch.VectorSearcher;
 import org.opensearch.knn.memoryoptsearch.faiss.cagra.FaissCagraHNSW;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.AbstractFaissIVFIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissIVFPQFlatVectorsScorer;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissIndexIVFPQ;
 
 import java.io.IOException;
 
@@ -41,7 +48,13 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
     private final FaissIndex faissIndex;
     private final FlatVectorsScorer flatVectorsScorer;
     private final FaissHNSW hnsw;
+    // Non-null when the index is an IVF index, which is searched by scanning inverted lists instead of traversing a graph.
+    private final AbstractFaissIVFIndex ivfIndex;
     private final VectorSimilarityFunction vectorSimilarityFunction;
+    // Null when vector ids are document ids.
+    private final FaissIdMap idMap;
+    // Null when no entry point table was learned for the graph.
+    private final FaissEntryPointTable entryPointTable;
     private boolean isAdc;
 
     /**
@@ -53,6 +66,19 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
         final FaissIndex faissIndex,
         final FieldInfo fieldInfo,
         final FlatVectorsScorer flatVectorsScorer
+    ) {
+        this(indexInput, faissIndex, fieldInfo, flatVectorsScorer, null);
+    }
+
+    /**
+     * Constructor that also accepts the entry point table learned for the graph at merge time, null if there is none.
+     */
+    public FaissMemoryOptimizedSearcher(
+        final IndexInput indexInput,
+        final FaissIndex faissIndex,
+        final FieldInfo fieldInfo,
+        final FlatVectorsScorer flatVectorsScorer,
+        final FaissEntryPointTable entryPointTable
     ) {
         this.indexInput = indexInput;
         this.faissIndex = faissIndex;
@@ -66,19 +92,44 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
 
         this.isAdc = FieldInfoExtractor.isAdc(fieldInfo);
         this.flatVectorsScorer = flatVectorsScorer;
-        this.hnsw = extractFaissHnsw(faissIndex);
+        this.ivfIndex = extractFaissIvf(faissIndex);
+        this.hnsw = ivfIndex == null ? extractFaissHnsw(faissIndex) : null;
+        this.idMap = extractIdMap(faissIndex);
+        this.entryPointTable = entryPointTable;
+    }
+
+    private static AbstractFaissIVFIndex extractFaissIvf(final FaissIndex faissIndex) {
+        if (faissIndex instanceof FaissIdMapIndex idMapIndex && idMapIndex.getNestedIndex() instanceof AbstractFaissIVFIndex ivf) {
+            return ivf;
+        }
+        return null;
     }
 
     private static FaissHNSW extractFaissHnsw(final FaissIndex faissIndex) {
-        if (faissIndex instanceof FaissIdMapIndex idMapIndex) {
-            return idMapIndex.getFaissHnsw();
+        if (faissIndex instanceof FaissIdMapIndex || faissIndex instanceof FaissColocatedHNSWIndex) {
+            return ((FaissHNSWProvider) faissIndex).getFaissHnsw();
         }
 
         throw new IllegalArgumentException("Faiss index [" + faissIndex.getIndexType() + "] does not have HNSW as an index.");
     }
 
+    private static FaissIdMap extractIdMap(final FaissIndex faissIndex) {
+        if (faissIndex instanceof FaissIdMapIndex idMapIndex) {
+            return idMapIndex.getIdMap();
+        }
+        if (faissIndex instanceof FaissColocatedHNSWIndex colocatedIndex) {
+            return colocatedIndex.getIdMap();
+        }
+        return null;
+    }
+
     @Override
     public void search(float[] target, KnnCollector knnCollector, AcceptDocs acceptDocs) throws IOException {
+        if (ivfIndex != null) {
+            searchIvf(target, knnCollector, acceptDocs);
+            return;
+        }
+
         final KnnVectorValues knnVectorValues = isAdc
             ? faissIndex.getByteValues(indexInput.clone())
             : faissIndex.getFloatValues(indexInput.clone());
@@ -87,17 +138,22 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
             VectorEncoding.FLOAT32,
             flatVectorsScorer.getRandomVectorScorer(vectorSimilarityFunction, knnVectorValues, target),
             knnCollector,
-            acceptDocs
+            acceptDocs,
+            isAdc ? null : target
         );
     }
 
     @Override
     public void search(byte[] target, KnnCollector knnCollector, AcceptDocs acceptDocs) throws IOException {
+        if (ivfIndex != null) {
+            throw new IllegalArgumentException("Search for vector encoding [" + VectorEncoding.BYTE + "] is not supported in IVF index");
+        }
         search(
             VectorEncoding.BYTE,
             flatVectorsScorer.getRandomVectorScorer(vectorSimilarityFunction, faissIndex.getByteValues(indexInput.clone()), target),
             knnCollector,
-            acceptDocs
+            acceptDocs,
+            null
         );
     }
 
@@ -105,12 +161,16 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
      * Returns a {@link FaissScorableByteVectorValues} that wraps the raw byte vectors from the
      * FAISS index with scoring support via {@link FlatVectorsScorer}.
      * <p>Each call creates a new instance backed by a fresh index input slice.
+     * <p>For IVF-PQ, byte vectors are PQ codes, which are scored against a float query through per-query lookup tables.
      */
     @Override
     public ByteVectorValues getByteVectorValues(DocIndexIterator iterator) throws IOException {
+        final FlatVectorsScorer scorer = ivfIndex instanceof FaissIndexIVFPQ ivfpq
+            ? new FaissIVFPQFlatVectorsScorer(ivfpq, indexInput)
+            : flatVectorsScorer;
         return new FaissScorableByteVectorValues(
             faissIndex.getByteValues(indexInput.clone()),
-            flatVectorsScorer,
+            scorer,
             vectorSimilarityFunction,
             iterator
         );
@@ -118,34 +178,118 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
 
     @Override
     public void warmUp() throws IOException {
-        // Warm up graph
+        warmUp(FaissWarmupPlanner.FULL_WARMUP_PERCENTAGE);
+    }
+
+    /**
+     * Warms up the whole index file followed by flat vectors when {@code topNodesPercentage} is 100.
+     * Otherwise, only the levels section, and the neighbor lists and vectors of the nodes selected by {@link FaissWarmupPlanner} are
+     * warmed up, which for co-located graphs are the upper level neighbor lists and the block file records of hub nodes.
+     * IVF indices are always fully warmed up since a search scans whole inverted lists.
+     */
+    @Override
+    public long warmUp(final double topNodesPercentage) throws IOException {
         final IndexInput warmUpIndexInput = indexInput.clone();
-        WarmupUtil.readAll(warmUpIndexInput);
+        if (ivfIndex != null || topNodesPercentage >= FaissWarmupPlanner.FULL_WARMUP_PERCENTAGE) {
+            // Warm up graph
+            long bytes = WarmupUtil.prefetchAll(warmUpIndexInput);
+
+            // Inverted lists are stored in .faiss, which was fully read above.
+            if (ivfIndex != null) {
+                return bytes;
+            }
 
-        // Warm up flat vectors
-        // This can warm up .veb, .vec or .faiss
-        if (faissIndex.getVectorEncoding() == VectorEncoding.FLOAT32) {
-            WarmupUtil.readAll(faissIndex.getFloatValues(warmUpIndexInput));
-        } else if (faissIndex.getVectorEncoding() == VectorEncoding.BYTE) {
-            WarmupUtil.readAll(faissIndex.getByteValues(warmUpIndexInput));
+            // Warm up flat vectors
+            // This can warm up .veb, .vec or .faiss
+            if (faissIndex.getVectorEncoding() == VectorEncoding.FLOAT32) {
+                bytes += WarmupUtil.prefetchAll(faissIndex.getFloatValues(warmUpIndexInput));
+            } else if (faissIndex.getVectorEncoding() == VectorEncoding.BYTE) {
+                bytes += WarmupUtil.prefetchAll(faissIndex.getByteValues(warmUpIndexInput));
+            }
+            return bytes;
         }
+
+        int[] nodes = FaissWarmupPlanner.selectTopNodes(hnsw, warmUpIndexInput, topNodesPercentage);
+        long bytes = hnsw.getLevels().getSectionSize();
+        FaissIndex vectorIndex = faissIndex;
+        if (faissIndex instanceof FaissColocatedHNSWIndex colocatedIndex) {
+            // Base level neighbor lists and vectors of hubs are read from the records of the block file, only upper levels from .faiss.
+            // Other nodes have no upper levels, and are read from .faiss as without a block file.
+            bytes += FaissWarmupPlanner.upperLevelNeighborRanges(hnsw, nodes).prefetch(warmUpIndexInput);
+            bytes += colocatedIndex.warmUpRecords(nodes);
+            nodes = colocatedIndex.nodesWithoutRecord(nodes);
+            vectorIndex = colocatedIndex.getIdMapIndex();
+        }
+        bytes += FaissWarmupPlanner.neighborRanges(hnsw, nodes).prefetch(warmUpIndexInput);
+
+        final KnnVectorValues vectorValues;
+        if (vectorIndex.getVectorEncoding() == VectorEncoding.FLOAT32) {
+            vectorValues = vectorIndex.getFloatValues(warmUpIndexInput);
+        } else if (vectorIndex.getVectorEncoding() == VectorEncoding.BYTE) {
+            vectorValues = vectorIndex.getByteValues(warmUpIndexInput);
+        } else {
+            return bytes;
+        }
+        final long vectorByteLength = vectorValues.getVectorByteLength();
+        if (vectorValues instanceof HasIndexSlice hasIndexSlice && hasIndexSlice.getSlice() != null) {
+            bytes += FaissWarmupPlanner.vectorRanges(nodes, vectorByteLength).prefetch(hasIndexSlice.getSlice());
+        } else {
+            for (final int node : nodes) {
+                if (vectorValues instanceof FloatVectorValues floatVectorValues) {
+                    floatVectorValues.vectorValue(node);
+                } else {
+                    ((ByteVectorValues) vectorValues).vectorValue(node);
+                }
+            }
+            bytes += nodes.length * vectorByteLength;
+        }
+        return bytes;
     }
 
     @Override
     public void close() throws IOException {
-        indexInput.close();
+        IOUtils.close(indexInput, faissIndex instanceof FaissColocatedHNSWIndex colocatedIndex ? colocatedIndex : null);
+    }
+
+    private void searchIvf(final float[] target, final KnnCollector knnCollector, final AcceptDocs acceptDocs) throws IOException {
+        // Vector values are only used to translate between internal vector ids and Lucene document ids, vectors are never read from it.
+        final FloatVectorValues vectorValues = faissIndex.getFloatValues(indexInput.clone());
+        final Bits acceptedOrds = vectorValues.getAcceptOrds(acceptDocs.bits());
+        final KnnCollector collector = new OrdinalTranslatedKnnCollector(knnCollector, vectorValues::ordToDoc);
+        ivfIndex.search(indexInput.clone(), target, collector, acceptedOrds);
     }
 
     private void search(
         final VectorEncoding vectorEncoding,
         final RandomVectorScorer scorer,
         final KnnCollector knnCollector,
-        final AcceptDocs acceptDocs
+        final AcceptDocs acceptDocs,
+        final float[] floatTarget
     ) throws IOException {
         if (faissIndex.getTotalNumberOfVectors() == 0 || knnCollector.k() == 0) {
             return;
         }
 
+        if (knnCollector instanceof DistanceCountingKnnCollector distanceCountingCollector) {
+            final CountingRandomVectorScorer countingScorer = new CountingRandomVectorScorer(scorer);
+            try {
+                doSearch(vectorEncoding, countingScorer, knnCollector, acceptDocs, floatTarget);
+            } finally {
+                distanceCountingCollector.addDistanceComputations(countingScorer.count);
+            }
+            return;
+        }
+        doSearch(vectorEncoding, scorer, knnCollector, acceptDocs, floatTarget);
+    }
+
+    private void doSearch(
+        final VectorEncoding vectorEncoding,
+        final RandomVectorScorer scorer,
+        final KnnCollector knnCollector,
+        final AcceptDocs acceptDocs,
+        final float[] floatTarget
+    ) throws IOException {
+
         if (!this.isAdc && faissIndex.getVectorEncoding() != vectorEncoding) {
             throw new IllegalArgumentException(
                 "Search for vector encoding ["
@@ -158,48 +302,187 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
         }
 
         // Set up required components for vector search
-        final KnnCollector collector = createKnnCollector(knnCollector, scorer);
+        final KnnCollector collector = seedFromEntryPointTable(createKnnCollector(knnCollector, scorer), knnCollector, floatTarget);
         final Bits acceptedOrds = scorer.getAcceptOrds(acceptDocs.bits());
 
         if (knnCollector.k() < scorer.maxOrd()) {
             // Do ANN search with Lucene's HNSW graph searcher.
-            HnswGraphSearcher.search(scorer, collector, new FaissHnswGraph(hnsw, indexInput.clone()), acceptedOrds);
+            final FaissHnswGraph graph = faissIndex instanceof FaissColocatedHNSWIndex colocatedIndex
+                ? colocatedIndex.newGraph(indexInput.clone())
+                : new FaissHnswGraph(hnsw, indexInput.clone());
+            // Lucene only counts the accepted documents of bit set filters, while ordinals are accepted through a translating view.
+            // Count them from the filter when the strategy asks for ACORN-1, so that the searcher can switch to it.
+            int filteredDocCount = 0;
+            if (acceptedOrds != null && isFilteredSearchRequested(collector.getSearchStrategy())) {
+                filteredDocCount = Math.min(acceptDocs.cost(), graph.size());
+            }
+            // ACORN-1 keeps Lucene's traversal, the beam only replaces the regular one.
+            final int beamWidth = getBeamWidth(collector.getSearchStrategy());
+            if (beamWidth > 0 && filteredDocCount == 0) {
+                if (collector.getSearchStrategy() instanceof KnnSearchStrategy.Seeded seeded) {
+                    BeamHnswGraphSearcher.search(scorer, collector, graph, acceptedOrds, beamWidth, seeded.entryPoints());
+                } else {
+                    BeamHnswGraphSearcher.search(scorer, collector, graph, acceptedOrds, beamWidth);
+                }
+            } else {
+                HnswGraphSearcher.search(scorer, collector, graph, acceptedOrds, filteredDocCount);
+            }
         } else {
             // if k is larger than the number of vectors we expect to visit in an HNSW search,
             // we can just iterate over all vectors and collect them.
-            int numVectors = scorer.maxOrd();
-            int[] ords = new int[EXHAUSTIVE_BULK_SCORE_ORDS];
-            float[] scores = new float[EXHAUSTIVE_BULK_SCORE_ORDS];
-            int numOrds = 0;
-            for (int i = 0; i < numVectors; i++) {
-                if (acceptedOrds == null || acceptedOrds.get(i)) {
-                    if (knnCollector.earlyTerminated()) {
-                        break;
-                    }
-                    ords[numOrds++] = i;
-                    if (numOrds == ords.length) {
-                        knnCollector.incVisitedCount(numOrds);
-                        if (scorer.bulkScore(ords, scores, numOrds) > knnCollector.minCompetitiveSimilarity()) {
-                            for (int j = 0; j < numOrds; j++) {
-                                knnCollector.collect(scorer.ordToDoc(ords[j]), scores[j]);
-                            }
-                        }
-                        numOrds = 0;
-                    }
+            if (acceptedOrds != null && idMap != null && idMap.hasDocToOrd()) {
+                // Visit the accepted documents only, instead of checking the document of every vector against the filter.
+                exhaustiveSearch(scorer, knnCollector, acceptDocs.iterator(), idMap);
+            } else {
+                exhaustiveSearch(scorer, knnCollector, acceptedOrds, idMap);
+            }
+        }
+    }
+
+    private static void exhaustiveSearch(
+        final RandomVectorScorer scorer,
+        final KnnCollector knnCollector,
+        final Bits acceptedOrds,
+        final FaissIdMap idMap
+    ) throws IOException {
+        final int numVectors = scorer.maxOrd();
+        final int[] ords = new int[EXHAUSTIVE_BULK_SCORE_ORDS];
+        final int[] docs = new int[EXHAUSTIVE_BULK_SCORE_ORDS];
+        final float[] scores = new float[EXHAUSTIVE_BULK_SCORE_ORDS];
+        int numOrds = 0;
+        for (int i = 0; i < numVectors; i++) {
+            if (acceptedOrds == null || acceptedOrds.get(i)) {
+                if (knnCollector.earlyTerminated()) {
+                    break;
+                }
+                ords[numOrds++] = i;
+                if (numOrds == ords.length) {
+                    scoreAndCollect(scorer, knnCollector, idMap, ords, docs, scores, numOrds);
+                    numOrds = 0;
                 }
             }
+        }
+
+        if (numOrds > 0) {
+            scoreAndCollect(scorer, knnCollector, idMap, ords, docs, scores, numOrds);
+        }
+    }
+
+    private static void exhaustiveSearch(
+        final RandomVectorScorer scorer,
+        final KnnCollector knnCollector,
+        final DocIdSetIterator acceptedDocs,
+        final FaissIdMap idMap
+    ) throws IOException {
+        final int[] ords = new int[EXHAUSTIVE_BULK_SCORE_ORDS];
+        final int[] docs = new int[EXHAUSTIVE_BULK_SCORE_ORDS];
+        final float[] scores = new float[EXHAUSTIVE_BULK_SCORE_ORDS];
+        int numDocs = 0;
+        for (int doc = acceptedDocs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = acceptedDocs.nextDoc()) {
+            if (knnCollector.earlyTerminated()) {
+                break;
+            }
+            docs[numDocs++] = doc;
+            if (numDocs == docs.length) {
+                collect(scorer, knnCollector, ords, docs, scores, idMap.docsToOrds(docs, ords, numDocs));
+                numDocs = 0;
+            }
+        }
 
-            if (numOrds > 0) {
-                knnCollector.incVisitedCount(numOrds);
-                if (scorer.bulkScore(ords, scores, numOrds) > knnCollector.minCompetitiveSimilarity()) {
-                    for (int j = 0; j < numOrds; j++) {
-                        knnCollector.collect(scorer.ordToDoc(ords[j]), scores[j]);
-                    }
+        if (numDocs > 0) {
+            collect(scorer, knnCollector, ords, docs, scores, idMap.docsToOrds(docs, ords, numDocs));
+        }
+    }
+
+    /**
+     * Scores a block of ordinals, and translates them into document ids only when one of them is competitive.
+     */
+    private static void scoreAndCollect(
+        final RandomVectorScorer scorer,
+        final KnnCollector knnCollector,
+        final FaissIdMap idMap,
+        final int[] ords,
+        final int[] docs,
+        final float[] scores,
+        final int numOrds
+    ) throws IOException {
+        knnCollector.incVisitedCount(numOrds);
+        if (scorer.bulkScore(ords, scores, numOrds) > knnCollector.minCompetitiveSimilarity()) {
+            if (idMap != null) {
+                idMap.ordsToDocs(ords, docs, numOrds);
+            } else {
+                for (int j = 0; j < numOrds; j++) {
+                    docs[j] = scorer.ordToDoc(ords[j]);
                 }
             }
+            for (int j = 0; j < numOrds; j++) {
+                knnCollector.collect(docs[j], scores[j]);
+            }
         }
     }
 
+    /**
+     * Scores a block of ordinals whose document ids are already known.
+     */
+    private static void collect(
+        final RandomVectorScorer scorer,
+        final KnnCollector knnCollector,
+        final int[] ords,
+        final int[] docs,
+        final float[] scores,
+        final int numOrds
+    ) throws IOException {
+        if (numOrds == 0) {
+            return;
+        }
+        knnCollector.incVisitedCount(numOrds);
+        if (scorer.bulkScore(ords, scores, numOrds) > knnCollector.minCompetitiveSimilarity()) {
+            for (int j = 0; j < numOrds; j++) {
+                knnCollector.collect(docs[j], scores[j]);
+            }
+        }
+    }
+
+    private static boolean isFilteredSearchRequested(final KnnSearchStrategy searchStrategy) {
+        if (searchStrategy instanceof KnnSearchStrategy.Seeded seeded) {
+            return isFilteredSearchRequested(seeded.originalStrategy());
+        }
+        return searchStrategy instanceof KnnSearchStrategy.Hnsw hnsw && hnsw.filteredSearchThreshold() > 0;
+    }
+
+    /**
+     * @return beam width of the strategy, or of the strategy whose entry points a {@link KnnSearchStrategy.Seeded} strategy gives, 0
+     * for the regular traversal
+     */
+    private static int getBeamWidth(final KnnSearchStrategy searchStrategy) {
+        if (searchStrategy instanceof KnnSearchStrategy.Seeded seeded) {
+            return getBeamWidth(seeded.originalStrategy());
+        }
+        return searchStrategy instanceof BeamSearchStrategy beamSearchStrategy ? beamSearchStrategy.getBeamWidth() : 0;
+    }
+
+    /**
+     * Starts the search from the entry points of the learned table closest to the query, unless the caller gave entry points. Random
+     * entry points of CAGRA graphs are replaced as well. The strategy of the caller is kept as the original strategy, so that a beam
+     * search starts from the entry points of the table too.
+     */
+    private KnnCollector seedFromEntryPointTable(final KnnCollector collector, final KnnCollector knnCollector, final float[] target) {
+        if (entryPointTable == null || target == null || knnCollector.getSearchStrategy() instanceof KnnSearchStrategy.Seeded) {
+            return collector;
+        }
+        final KnnSearchStrategy seededStrategy = entryPointTable.getSearchStrategy(
+            target,
+            vectorSimilarityFunction,
+            knnCollector.getSearchStrategy()
+        );
+        return new KnnCollector.Decorator(collector) {
+            @Override
+            public KnnSearchStrategy getSearchStrategy() {
+                return seededStrategy;
+            }
+        };
+    }
+
     @VisibleForTesting
     KnnCollector createKnnCollector(final KnnCollector knnCollector, final RandomVectorScorer scorer) {
         final KnnCollector ordinalTranslatedKnnCollector = new OrdinalTranslatedKnnCollector(knnCollector, scorer::ordToDoc);
@@ -219,9 +502,101 @@ public class FaissMemoryOptimizedSearcher implements VectorSearcher {
             };
         }
 
+        if (idMap != null && idMap.isPermuted() && knnCollector.getSearchStrategy() instanceof KnnSearchStrategy.Seeded seeded) {
+            // Entry points are ordinals of Lucene's flat vectors, in document order, while the graph was renumbered at merge time.
+            final KnnSearchStrategy translatedStrategy = new KnnSearchStrategy.Seeded(
+                new RankToOrdDocIdSetIterator(seeded.entryPoints(), idMap),
+                seeded.numberOfEntryPoints(),
+                seeded.originalStrategy()
+            );
+            return new KnnCollector.Decorator(ordinalTranslatedKnnCollector) {
+                @Override
+                public KnnSearchStrategy getSearchStrategy() {
+                    return translatedStrategy;
+                }
+            };
+        }
+
         return ordinalTranslatedKnnCollector;
     }
 
+    /**
+     * Counts the vectors scored through it, for {@link DistanceCountingKnnCollector}. A search runs on a single thread, hence a plain
+     * counter.
+     */
+    private static class CountingRandomVectorScorer implements RandomVectorScorer {
+        private final RandomVectorScorer delegate;
+        private long count;
+
+        private CountingRandomVectorScorer(final RandomVectorScorer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public float score(final int node) throws IOException {
+            ++count;
+            return delegate.score(node);
+        }
+
+        @Override
+        public float bulkScore(final int[] nodes, final float[] scores, final int numNodes) throws IOException {
+            count += numNodes;
+            return delegate.bulkScore(nodes, scores, numNodes);
+        }
+
+        @Override
+        public int maxOrd() {
+            return delegate.maxOrd();
+        }
+
+        @Override
+        public int ordToDoc(final int ord) {
+            return delegate.ordToDoc(ord);
+        }
+
+        @Override
+        public Bits getAcceptOrds(final Bits acceptDocs) {
+            return delegate.getAcceptOrds(acceptDocs);
+        }
+    }
+
+    /**
+     * Translates entry points given as ordinals of Lucene's flat vectors, which follow document order, into the internal vector ids of
+     * a graph renumbered at merge time. Like the entry points of {@link RandomEntryPointsKnnSearchStrategy}, translated ids are not
+     * sorted, hence only {@link #nextDoc()} is supported.
+     */
+    private static class RankToOrdDocIdSetIterator extends DocIdSetIterator {
+        private final DocIdSetIterator ranks;
+        private final FaissIdMap idMap;
+        private int ord = -1;
+
+        private RankToOrdDocIdSetIterator(final DocIdSetIterator ranks, final FaissIdMap idMap) {
+            this.ranks = ranks;
+            this.idMap = idMap;
+        }
+
+        @Override
+        public int docID() {
+            return ord;
+        }
+
+        @Override
+        public int nextDoc() throws IOException {
+            final int rank = ranks.nextDoc();
+            return ord = rank == NO_MORE_DOCS ? NO_MORE_DOCS : idMap.rankToOrd(rank);
+        }
+
+        @Override
+        public int advance(int target) {
+            throw new UnsupportedOperationException("DISI in RankToOrdDocIdSetIterator does not support advance(int)");
+        }
+
+        @Override
+        public long cost() {
+            return ranks.cost();
+        }
+    }
+
     /**
      * Knn search strategy having a doc-id-iterator returning random document ids.
      * This is not designed for general purpose, it is particularly designed for populating random document ids for Cagra index.
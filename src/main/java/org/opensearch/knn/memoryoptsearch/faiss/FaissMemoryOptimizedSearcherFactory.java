@@ -17,12 +17,17 @@ import org.opensearch.knn.memoryoptsearch.VectorSearcher;
 import org.opensearch.knn.memoryoptsearch.VectorSearcherFactory;
 
 import java.io.IOException;
+import java.util.Set;
 
 /**
  * This factory returns {@link VectorSearcher} that performs vector search directly on FAISS index.
  * Note that we pass `RANDOM` as advice to prevent the underlying storage from performing read-ahead. Since vector search naturally accesses
  * random vector locations, read-ahead does not improve performance. By passing the `RANDOM` context, we explicitly indicate that
  * this searcher will access vectors randomly.
+ * When a block file of {@link FaissColocatedHNSWIndex} was written next to the FAISS index, the base level and vectors of hub nodes are
+ * read from it instead.
+ * When an entry point table of {@link FaissEntryPointTable} was written next to the FAISS index, it is loaded on heap and searches start
+ * from its entry points.
  */
 @Log4j2
 public class FaissMemoryOptimizedSearcherFactory implements VectorSearcherFactory {
@@ -31,6 +36,7 @@ public class FaissMemoryOptimizedSearcherFactory implements VectorSearcherFactor
     public VectorSearcher createVectorSearcher(
         final Directory directory,
         final String fileName,
+        final Set<String> segmentFiles,
         final FieldInfo fieldInfo,
         final IOContext ioContext,
         final FlatVectorsReader flatVectorsReader
@@ -40,12 +46,24 @@ public class FaissMemoryOptimizedSearcherFactory implements VectorSearcherFactor
             // Try load it. Not all FAISS index types are currently supported at the moment.
             final FaissIndex faissIndex = FaissIndex.load(indexInput);
             FaissFlatIndexFactory.maybeSetFlatBinaryIndex(faissIndex, fieldInfo, flatVectorsReader);
+            final FaissEntryPointTable entryPointTable = loadEntryPointTable(directory, segmentFiles, fileName, faissIndex);
             final FlatVectorsScorer vectorScorer = FlatVectorsScorerProvider.getFlatVectorsScorer(
                 fieldInfo,
                 faissIndex.getVectorSimilarityFunction(),
                 flatVectorsReader.getFlatVectorScorer(fieldInfo.name)
             );
-            return new FaissMemoryOptimizedSearcher(indexInput, faissIndex, fieldInfo, vectorScorer);
+            final String blockFileName = FaissColocatedHNSWIndex.blockFileName(fileName);
+            if (FaissColocatedHNSWIndex.isSupported(faissIndex) && segmentFiles.contains(blockFileName)) {
+                // Vectors without a record in the block file are scored by the same scorer as without a block file.
+                return new FaissMemoryOptimizedSearcher(
+                    indexInput,
+                    loadColocatedIndex(faissIndex, directory.openInput(blockFileName, ioContext)),
+                    fieldInfo,
+                    new FaissColocatedFlatVectorsScorer(vectorScorer),
+                    entryPointTable
+                );
+            }
+            return new FaissMemoryOptimizedSearcher(indexInput, faissIndex, fieldInfo, vectorScorer, entryPointTable);
         } catch (UnsupportedFaissIndexException e) {
             // Clean up input stream.
             try {
@@ -56,4 +74,30 @@ public class FaissMemoryOptimizedSearcherFactory implements VectorSearcherFactor
         }
     }
 
+    private static FaissEntryPointTable loadEntryPointTable(
+        final Directory directory,
+        final Set<String> segmentFiles,
+        final String fileName,
+        final FaissIndex faissIndex
+    ) throws IOException {
+        final String tableFileName = FaissEntryPointTable.fileName(fileName);
+        if (FaissEntryPointTable.isSupported(faissIndex) == false || segmentFiles.contains(tableFileName) == false) {
+            return null;
+        }
+        // The table is small and kept on heap, hence it is read once.
+        try (IndexInput tableInput = directory.openInput(tableFileName, IOContext.READONCE)) {
+            return FaissEntryPointTable.read(faissIndex, tableInput);
+        }
+    }
+
+    private static FaissColocatedHNSWIndex loadColocatedIndex(final FaissIndex faissIndex, final IndexInput blockInput)
+        throws IOException {
+        try {
+            return FaissColocatedHNSWIndex.load(faissIndex, blockInput);
+        } catch (IOException | RuntimeException e) {
+            IOUtils.closeWhileHandlingException(blockInput);
+            throw e;
+        }
+    }
+
 }
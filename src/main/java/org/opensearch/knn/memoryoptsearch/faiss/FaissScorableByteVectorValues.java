@@ -120,7 +120,22 @@ public class FaissScorableByteVectorValues extends ByteVectorValues implements H
         if (size() == 0) return null;
 
         final FaissScorableByteVectorValues scorerCopy = copy();
-        final RandomVectorScorer rvs = flatVectorsScorer.getRandomVectorScorer(similarityFunction, scorerCopy, target);
+        return toVectorScorer(scorerCopy, flatVectorsScorer.getRandomVectorScorer(similarityFunction, scorerCopy, target));
+    }
+
+    /**
+     * Returns a {@link VectorScorer} scoring byte vectors against a float {@code target}, or {@code null} for an empty index.
+     * This is for byte vectors that are codes of float vectors, such as PQ codes, the underlying {@link FlatVectorsScorer}
+     * must support float targets.
+     */
+    public VectorScorer scorer(float[] target) throws IOException {
+        if (size() == 0) return null;
+
+        final FaissScorableByteVectorValues scorerCopy = copy();
+        return toVectorScorer(scorerCopy, flatVectorsScorer.getRandomVectorScorer(similarityFunction, scorerCopy, target));
+    }
+
+    private static VectorScorer toVectorScorer(final FaissScorableByteVectorValues scorerCopy, final RandomVectorScorer rvs) {
         final DocIndexIterator iterator = scorerCopy.iterator();
 
         return new VectorScorer() {
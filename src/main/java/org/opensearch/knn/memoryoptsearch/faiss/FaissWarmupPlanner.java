@@ -0,0 +1,211 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.packed.DirectMonotonicReader;
+import org.opensearch.knn.index.util.WarmupUtil;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Plans which byte ranges of a FAISS HNSW graph are brought into the page cache when only part of the graph is warmed up.
+ * <p>
+ * HNSW searches start from the entry point at the top level and descend level by level, hence nodes on upper levels are visited by
+ * almost every query while most bottom level nodes are only visited by a few. Warming up the top K% of nodes by level, along with their
+ * neighbor lists and vectors, removes most cold reads of the first hops at a fraction of the cost of warming up the whole graph.
+ * <p>
+ * Nodes are selected level by level from the top, a level is either fully selected or not at all. The top level is always selected as
+ * it holds the entry point.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FaissWarmupPlanner {
+    public static final double FULL_WARMUP_PERCENTAGE = 100;
+
+    // Ranges closer than this are merged, as the OS reads at page granularity anyway.
+    private static final long MERGE_GAP_BYTES = 4096;
+
+    /**
+     * Selects nodes in the top {@code topNodesPercentage} percent of the graph by level.
+     * The levels section is read twice, once to count nodes per level and once to collect selected nodes, which also brings it
+     * into the page cache.
+     *
+     * @param hnsw HNSW graph.
+     * @param indexInput Input stream to the FAISS index file.
+     * @param topNodesPercentage Percentage of nodes to select, in [0, 100].
+     * @return Ascending ids of selected nodes.
+     * @throws IOException
+     */
+    public static int[] selectTopNodes(final FaissHNSW hnsw, final IndexInput indexInput, final double topNodesPercentage)
+        throws IOException {
+        final FaissSection levels = hnsw.getLevels();
+        final int numNodes = Math.toIntExact(levels.getSectionSize() / Integer.BYTES);
+        if (numNodes == 0) {
+            return new int[0];
+        }
+
+        // levels[i] is the number of levels node `i` belongs to, hence counts[l] is the number of nodes whose top level is `l - 1`.
+        int[] counts = new int[Math.max(hnsw.getMaxLevel(), 0) + 2];
+        indexInput.seek(levels.getBaseOffset());
+        for (int i = 0; i < numNodes; ++i) {
+            final int numLevels = indexInput.readInt();
+            if (numLevels >= counts.length) {
+                counts = Arrays.copyOf(counts, numLevels + 1);
+            }
+            ++counts[numLevels];
+        }
+
+        // Walk down from the top until the budget is exhausted.
+        final long budget = (long) Math.floor(numNodes * Math.min(Math.max(topNodesPercentage, 0), FULL_WARMUP_PERCENTAGE) / 100);
+        int threshold = counts.length - 1;
+        while (threshold > 0 && counts[threshold] == 0) {
+            --threshold;
+        }
+        long numSelected = counts[threshold];
+        while (threshold > 1 && numSelected + counts[threshold - 1] <= budget) {
+            --threshold;
+            numSelected += counts[threshold];
+        }
+
+        final int[] nodes = new int[Math.toIntExact(numSelected)];
+        indexInput.seek(levels.getBaseOffset());
+        for (int i = 0, j = 0; i < numNodes; ++i) {
+            if (indexInput.readInt() >= threshold) {
+                nodes[j++] = i;
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Returns the byte ranges of the neighbor lists of the given nodes, across all levels.
+     *
+     * @param hnsw HNSW graph.
+     * @param nodes Ascending node ids.
+     * @return Coalesced byte ranges within the FAISS index file.
+     */
+    public static Ranges neighborRanges(final FaissHNSW hnsw, final int[] nodes) {
+        return neighborRanges(hnsw, nodes, 0);
+    }
+
+    /**
+     * Returns the byte ranges of the neighbor lists of the given nodes above the base level, for graphs whose base level is read from
+     * a {@link FaissColocatedHNSWIndex} block file.
+     *
+     * @param hnsw HNSW graph.
+     * @param nodes Ascending node ids.
+     * @return Coalesced byte ranges within the FAISS index file.
+     */
+    public static Ranges upperLevelNeighborRanges(final FaissHNSW hnsw, final int[] nodes) {
+        // Base level lists come first in the neighbor lists of a node.
+        return neighborRanges(hnsw, nodes, hnsw.getMaxNumNeighbors());
+    }
+
+    private static Ranges neighborRanges(final FaissHNSW hnsw, final int[] nodes, final int numSkippedNeighbors) {
+        final DirectMonotonicReader offsets = hnsw.getOffsetsReader();
+        final long baseOffset = hnsw.getNeighbors().getBaseOffset();
+        final Ranges ranges = new Ranges();
+        for (final int node : nodes) {
+            final long begin = offsets.get(node) + numSkippedNeighbors;
+            final long end = offsets.get(node + 1);
+            ranges.add(baseOffset + begin * Integer.BYTES, (end - begin) * Integer.BYTES);
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns the byte ranges of the given records in a {@link FaissColocatedHNSWIndex} block file, each holding the base level
+     * neighbor list and the vector of a hub node.
+     *
+     * @param layout Layout of the block file.
+     * @param records Ascending record indices, see {@link FaissColocatedHNSWIndex#recordOf(int)}.
+     * @return Coalesced byte ranges within the block file.
+     */
+    public static Ranges recordRanges(final FaissColocatedHNSWIndex.Layout layout, final int[] records) {
+        final Ranges ranges = new Ranges();
+        for (final int record : records) {
+            ranges.add(layout.recordOffset(record), layout.recordSize());
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns the byte ranges of the vectors of the given nodes, assuming fixed size vectors laid out by node id.
+     *
+     * @param nodes Ascending node ids.
+     * @param vectorByteLength Size of a single vector in bytes.
+     * @return Coalesced byte ranges within the vector storage.
+     */
+    public static Ranges vectorRanges(final int[] nodes, final long vectorByteLength) {
+        final Ranges ranges = new Ranges();
+        for (final int node : nodes) {
+            ranges.add(node * vectorByteLength, vectorByteLength);
+        }
+        return ranges;
+    }
+
+    /**
+     * Ascending byte ranges where ranges close to each other are merged as they are added.
+     */
+    public static final class Ranges {
+        private long[] offsets = new long[16];
+        private long[] lengths = new long[16];
+        private int size;
+
+        /**
+         * Adds a range which must not start before the previously added one.
+         */
+        void add(final long offset, final long length) {
+            if (length <= 0) {
+                return;
+            }
+            if (size > 0) {
+                final long lastEnd = offsets[size - 1] + lengths[size - 1];
+                if (offset <= lastEnd + MERGE_GAP_BYTES) {
+                    lengths[size - 1] = Math.max(lastEnd, offset + length) - offsets[size - 1];
+                    return;
+                }
+            }
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            offsets[size] = offset;
+            lengths[size] = length;
+            ++size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long getOffset(final int i) {
+            return offsets[i];
+        }
+
+        public long getLength(final int i) {
+            return lengths[i];
+        }
+
+        /**
+         * Brings all ranges into the page cache.
+         *
+         * @param indexInput Input the ranges refer to.
+         * @return Number of bytes brought into the page cache.
+         * @throws IOException
+         */
+        public long prefetch(final IndexInput indexInput) throws IOException {
+            long bytes = 0;
+            for (int i = 0; i < size; ++i) {
+                bytes += WarmupUtil.prefetch(indexInput, offsets[i], lengths[i]);
+            }
+            return bytes;
+        }
+    }
+}
@@ -20,7 +20,6 @@ import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.codec.KNN1040Codec.KNN1040ScalarQuantizedVectorScorer;
 import org.opensearch.knn.index.codec.scorer.PrefetchableFlatVectorScorer;
 import org.opensearch.knn.index.engine.faiss.FaissSQEncoder;
-import org.opensearch.knn.plugin.script.KNNScoringUtil;
 
 import java.io.IOException;
 import java.util.EnumMap;
@@ -140,21 +139,26 @@ public class FlatVectorsScorerProvider {
                 );
             }
 
+            // The lookup table is built once per query, then shared by every vector scored against it.
             return switch (spaceType) {
-                case L2 -> new RandomVectorScorer.AbstractRandomVectorScorer(knnVectorValues) {
-                    @Override
-                    public float score(int internalVectorId) throws IOException {
-                        final byte[] quantizedByteVector = byteVectorValues.vectorValue(internalVectorId);
-                        return SpaceType.L2.scoreTranslation(KNNScoringUtil.l2SquaredADC(target, quantizedByteVector));
-                    }
-                };
-                case INNER_PRODUCT, COSINESIMIL -> new RandomVectorScorer.AbstractRandomVectorScorer(knnVectorValues) {
-                    @Override
-                    public float score(int internalVectorId) throws IOException {
-                        final byte[] quantizedByteVector = byteVectorValues.vectorValue(internalVectorId);
-                        return SpaceType.INNER_PRODUCT.scoreTranslation(-1 * KNNScoringUtil.innerProductADC(target, quantizedByteVector));
-                    }
-                };
+                case L2 -> {
+                    final ADCLookupTable lookupTable = ADCLookupTable.l2Squared(target);
+                    yield new QuantizedVectorScorer(byteVectorValues) {
+                        @Override
+                        float score(final byte[] quantizedVector) {
+                            return SpaceType.L2.scoreTranslation(lookupTable.compute(quantizedVector));
+                        }
+                    };
+                }
+                case INNER_PRODUCT, COSINESIMIL -> {
+                    final ADCLookupTable lookupTable = ADCLookupTable.innerProduct(target);
+                    yield new QuantizedVectorScorer(byteVectorValues) {
+                        @Override
+                        float score(final byte[] quantizedVector) {
+                            return SpaceType.INNER_PRODUCT.scoreTranslation(-1 * lookupTable.compute(quantizedVector));
+                        }
+                    };
+                }
                 default -> throw new IllegalArgumentException("Unsupported space type: " + spaceType);
             };
         }
@@ -177,11 +181,10 @@ public class FlatVectorsScorerProvider {
             byte[] target
         ) {
             if (knnVectorValues instanceof ByteVectorValues byteVectorValues) {
-                return new RandomVectorScorer.AbstractRandomVectorScorer(knnVectorValues) {
+                return new QuantizedVectorScorer(byteVectorValues) {
                     @Override
-                    public float score(int internalVectorId) throws IOException {
-                        final byte[] quantizedByteVector = byteVectorValues.vectorValue(internalVectorId);
-                        return KNNVectorSimilarityFunction.HAMMING.compare(target, quantizedByteVector);
+                    float score(final byte[] quantizedVector) {
+                        return KNNVectorSimilarityFunction.HAMMING.compare(target, quantizedVector);
                     }
                 };
             }
@@ -211,4 +214,35 @@ public class FlatVectorsScorerProvider {
             throw new UnsupportedOperationException();
         }
     }
+
+    /**
+     * Base scorer over quantized byte vectors that also implements {@link #bulkScore}, so that callers such as the exhaustive search
+     * in {@link FaissMemoryOptimizedSearcher} can pass a batch of ordinals per call. The batch is still scored one vector at a time:
+     * each code is read, then scored against the per-query state of the subclass, e.g. its lookup table.
+     */
+    private abstract static class QuantizedVectorScorer extends RandomVectorScorer.AbstractRandomVectorScorer {
+        private final ByteVectorValues byteVectorValues;
+
+        QuantizedVectorScorer(final ByteVectorValues byteVectorValues) {
+            super(byteVectorValues);
+            this.byteVectorValues = byteVectorValues;
+        }
+
+        abstract float score(byte[] quantizedVector);
+
+        @Override
+        public float score(final int internalVectorId) throws IOException {
+            return score(byteVectorValues.vectorValue(internalVectorId));
+        }
+
+        @Override
+        public float bulkScore(final int[] internalVectorIds, final float[] scores, final int numVectors) throws IOException {
+            float maxScore = Float.NEGATIVE_INFINITY;
+            for (int i = 0; i < numVectors; ++i) {
+                scores[i] = score(byteVectorValues.vectorValue(internalVectorIds[i]));
+                maxScore = Math.max(maxScore, scores[i]);
+            }
+            return maxScore;
+        }
+    }
 }
@@ -10,6 +10,8 @@ import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissBinaryHnswIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissIndexBinaryFlat;
 import org.opensearch.knn.memoryoptsearch.faiss.cagra.FaissHNSWCagraBinaryIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.cagra.FaissHNSWCagraIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissIndexIVFFlat;
+import org.opensearch.knn.memoryoptsearch.faiss.ivf.FaissIndexIVFPQ;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -38,6 +40,10 @@ public class IndexTypeToFaissIndexMapping {
         mapping.put(FaissHNSWCagraIndex.IHNC, FaissHNSWCagraIndex::new);
         mapping.put(FaissHNSWCagraIndex.IHNC2, FaissHNSWCagraIndex::new);
 
+        // IVF index
+        mapping.put(FaissIndexIVFFlat.IWFL, (indexType) -> new FaissIndexIVFFlat());
+        mapping.put(FaissIndexIVFPQ.IWPQ, (indexType) -> new FaissIndexIVFPQ());
+
         // Binary index
         mapping.put(FaissIndexBinaryFlat.IBXF, (indexType) -> new FaissIndexBinaryFlat());
         mapping.put(FaissBinaryHnswIndex.IBHF, (indexType) -> new FaissBinaryHnswIndex(indexType, new FaissHNSW()));
@@ -0,0 +1,273 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.ivf;
+
+import lombok.Getter;
+import org.apache.lucene.index.ByteVectorValues;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.VectorEncoding;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.KnnCollector;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.knn.index.SpaceType;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndexFloatFlat;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Base class of IVF indices. An IVF index partitions vectors into `nlist` inverted lists using a coarse quantizer, and a search only
+ * scans the lists of the `nprobe` centroids closest to the query.
+ * Only the coarse quantizer header and the offsets of each inverted list are loaded, codes and ids are read from the
+ * {@link IndexInput} while scanning, so no off-heap memory is required.
+ * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/IndexIVF.h">IndexIVF.h</a>
+ */
+public abstract class AbstractFaissIVFIndex extends FaissIndex {
+    // DirectMap::Hashtable, see faiss/invlists/DirectMap.h
+    private static final byte DIRECT_MAP_HASHTABLE = 2;
+
+    @Getter
+    protected int numLists;
+    @Getter
+    protected int numProbes;
+    @Getter
+    protected FaissIndexFloatFlat coarseQuantizer;
+    @Getter
+    protected FaissInvertedLists invertedLists;
+    private volatile int[] ordinalToSlot;
+
+    public AbstractFaissIVFIndex(final String indexType) {
+        super(indexType);
+    }
+
+    /**
+     * Read IVF header, followed by the coarse quantizer and the direct map.
+     * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/impl/index_read.cpp">read_ivf_header</a>
+     *
+     * @param input Input stream reading bytes from Faiss index file.
+     * @throws IOException
+     */
+    protected void readIVFHeader(final IndexInput input) throws IOException {
+        readCommonHeader(input);
+        numLists = Math.toIntExact(input.readLong());
+        numProbes = Math.toIntExact(input.readLong());
+
+        final FaissIndex quantizer = FaissIndex.load(input);
+        if (quantizer instanceof FaissIndexFloatFlat floatFlat) {
+            coarseQuantizer = floatFlat;
+        } else {
+            throw new IllegalStateException("Unsupported coarse quantizer type=" + quantizer.getIndexType() + " in " + indexType);
+        }
+        if (coarseQuantizer.getTotalNumberOfVectors() != numLists) {
+            throw new IllegalStateException(
+                "Coarse quantizer has " + coarseQuantizer.getTotalNumberOfVectors() + " centroids while nlist=" + numLists
+            );
+        }
+
+        // Skip direct map, we map vector ids to their location lazily if required.
+        final byte directMapType = input.readByte();
+        input.skipBytes(input.readLong() * Long.BYTES);
+        if (directMapType == DIRECT_MAP_HASHTABLE) {
+            // Pairs of (vector id, list position)
+            input.skipBytes(input.readLong() * 2 * Long.BYTES);
+        }
+    }
+
+    @Override
+    public VectorEncoding getVectorEncoding() {
+        return VectorEncoding.FLOAT32;
+    }
+
+    @Override
+    public ByteVectorValues getByteValues(IndexInput indexInput) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support " + ByteVectorValues.class.getSimpleName());
+    }
+
+    /**
+     * Returns random accessor to vectors stored in inverted lists. The first vector read builds a table mapping vector ids to their
+     * location within inverted lists, which requires reading ids in all lists.
+     */
+    @Override
+    public FloatVectorValues getFloatValues(final IndexInput indexInput) throws IOException {
+        return new IVFFloatVectorValues(indexInput);
+    }
+
+    /**
+     * Scans the inverted lists of the `nprobe` closest centroids and collects similarities of vectors stored in them.
+     * Collected ids are internal vector ids, the caller is responsible for translating them to Lucene document ids.
+     *
+     * @param indexInput Input stream to the FAISS index file.
+     * @param query Float query vector.
+     * @param knnCollector Collector collecting internal vector ids.
+     * @param acceptedOrds Accepted internal vector ids, or null if all vectors are accepted.
+     * @throws IOException
+     */
+    public void search(final IndexInput indexInput, final float[] query, final KnnCollector knnCollector, final Bits acceptedOrds)
+        throws IOException {
+        if (totalNumberOfVectors == 0 || knnCollector.k() == 0) {
+            return;
+        }
+
+        final int[] probes = findNearestLists(indexInput, query);
+        final IndexInput codesInput = indexInput.clone();
+        final IndexInput idsInput = indexInput.clone();
+        final ListScorer listScorer = newListScorer(indexInput.clone(), query);
+        final int codeSize = invertedLists.getCodeSize();
+
+        for (final int listNo : probes) {
+            final long listSize = invertedLists.getListSize(listNo);
+            if (listSize == 0) {
+                continue;
+            }
+            listScorer.setList(listNo);
+            final long codesOffset = invertedLists.getCodesOffset(listNo);
+            idsInput.seek(invertedLists.getIdsOffset(listNo));
+            for (long i = 0; i < listSize; ++i) {
+                if (knnCollector.earlyTerminated()) {
+                    return;
+                }
+                final int internalVectorId = (int) idsInput.readLong();
+                if (acceptedOrds != null && acceptedOrds.get(internalVectorId) == false) {
+                    continue;
+                }
+                codesInput.seek(codesOffset + i * codeSize);
+                final float score = listScorer.score(codesInput);
+                knnCollector.incVisitedCount(1);
+                if (score > knnCollector.minCompetitiveSimilarity()) {
+                    knnCollector.collect(internalVectorId, score);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the `nprobe` lists whose centroids are the most similar to the query, the most similar first.
+     */
+    int[] findNearestLists(final IndexInput indexInput, final float[] query) throws IOException {
+        final VectorSimilarityFunction similarityFunction = getVectorSimilarityFunction().getVectorSimilarityFunction();
+        final FloatVectorValues centroids = coarseQuantizer.getFloatValues(indexInput);
+        // Pack sortable score bits and list number into a long so that a single sort orders lists by similarity.
+        final long[] scoreAndListNo = new long[numLists];
+        for (int listNo = 0; listNo < numLists; ++listNo) {
+            final float score = similarityFunction.compare(query, centroids.vectorValue(listNo));
+            scoreAndListNo[listNo] = ((long) NumericUtils.floatToSortableInt(score) << 32) | listNo;
+        }
+        Arrays.sort(scoreAndListNo);
+
+        final int numProbesToScan = Math.max(1, Math.min(numProbes, numLists));
+        final int[] probes = new int[numProbesToScan];
+        for (int i = 0; i < numProbesToScan; ++i) {
+            probes[i] = (int) scoreAndListNo[numLists - 1 - i];
+        }
+        return probes;
+    }
+
+    /**
+     * Creates a scorer computing similarities between the query and codes stored in inverted lists.
+     *
+     * @param indexInput Dedicated input stream the scorer can use to read auxiliary data such as centroids.
+     * @param query Float query vector.
+     * @return Scorer for the query.
+     * @throws IOException
+     */
+    protected abstract ListScorer newListScorer(IndexInput indexInput, float[] query) throws IOException;
+
+    /**
+     * Decodes a code into a float vector.
+     *
+     * @param codesInput Input stream positioned at the code.
+     * @param listNo The list the code belongs to.
+     * @param centroids Centroids of the coarse quantizer.
+     * @param vector Destination of decoded vector.
+     * @throws IOException
+     */
+    protected abstract void decode(IndexInput codesInput, int listNo, FloatVectorValues centroids, float[] vector) throws IOException;
+
+    /**
+     * Converts a raw FAISS metric value into Lucene's similarity score so that IVF results are comparable with other indices.
+     *
+     * @param metricValue Squared L2 distance for L2, inner product for inner product.
+     * @return Similarity score, where a higher score means a more similar vector.
+     */
+    protected float toScore(final float metricValue) {
+        if (spaceType == SpaceType.L2) {
+            return SpaceType.L2.scoreTranslation(metricValue);
+        }
+        // Inner product translation expects a negated inner product, which is what FAISS reports as distance.
+        return SpaceType.INNER_PRODUCT.scoreTranslation(-metricValue);
+    }
+
+    /**
+     * Returns the table mapping internal vector ids to their slot within inverted lists, building it on first use.
+     */
+    protected int[] getOrdinalToSlot(final IndexInput indexInput) throws IOException {
+        int[] table = ordinalToSlot;
+        if (table == null) {
+            synchronized (this) {
+                table = ordinalToSlot;
+                if (table == null) {
+                    table = invertedLists.buildOrdinalToSlotTable(indexInput.clone(), totalNumberOfVectors);
+                    ordinalToSlot = table;
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Scores codes of one inverted list at a time against a query.
+     */
+    protected interface ListScorer {
+        /**
+         * Prepares the scorer for scanning the given list, e.g. computing the residual of the query.
+         */
+        void setList(int listNo) throws IOException;
+
+        /**
+         * Reads one code from the given input and returns its similarity score.
+         */
+        float score(IndexInput codesInput) throws IOException;
+    }
+
+    private class IVFFloatVectorValues extends FloatVectorValues {
+        private final IndexInput indexInput;
+        private final FloatVectorValues centroids;
+        private final float[] buffer;
+
+        private IVFFloatVectorValues(final IndexInput indexInput) throws IOException {
+            this.indexInput = indexInput;
+            this.centroids = coarseQuantizer.getFloatValues(indexInput.clone());
+            this.buffer = new float[dimension];
+        }
+
+        @Override
+        public float[] vectorValue(final int internalVectorId) throws IOException {
+            final int slot = getOrdinalToSlot(indexInput)[internalVectorId];
+            final int listNo = invertedLists.slotToList(slot);
+            indexInput.seek(invertedLists.slotToCodeOffset(listNo, slot));
+            decode(indexInput, listNo, centroids, buffer);
+            return buffer;
+        }
+
+        @Override
+        public int dimension() {
+            return dimension;
+        }
+
+        @Override
+        public int size() {
+            return totalNumberOfVectors;
+        }
+
+        @Override
+        public FloatVectorValues copy() throws IOException {
+            return new IVFFloatVectorValues(indexInput.clone());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.ivf;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.codecs.hnsw.FlatVectorsScorer;
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+import org.apache.lucene.util.hnsw.RandomVectorScorerSupplier;
+
+import java.io.IOException;
+
+/**
+ * {@link FlatVectorsScorer} scoring PQ codes of an IVF-PQ index against a float query with per-query lookup tables.
+ * Codebooks are read from the FAISS index file, which embeds the product quantizer trained for the model.
+ * The similarity function is implied by the index, hence the given one is ignored.
+ */
+@RequiredArgsConstructor
+public class FaissIVFPQFlatVectorsScorer implements FlatVectorsScorer {
+    private final FaissIndexIVFPQ index;
+    private final IndexInput indexInput;
+
+    @Override
+    public RandomVectorScorer getRandomVectorScorer(
+        final VectorSimilarityFunction similarityFunction,
+        final KnnVectorValues vectorValues,
+        final float[] target
+    ) throws IOException {
+        return index.newAdcScorer(indexInput.clone(), vectorValues, target);
+    }
+
+    @Override
+    public RandomVectorScorer getRandomVectorScorer(
+        final VectorSimilarityFunction similarityFunction,
+        final KnnVectorValues vectorValues,
+        final byte[] target
+    ) {
+        throw new UnsupportedOperationException("PQ codes can only be scored against a float query");
+    }
+
+    @Override
+    public RandomVectorScorerSupplier getRandomVectorScorerSupplier(
+        final VectorSimilarityFunction similarityFunction,
+        final KnnVectorValues vectorValues
+    ) {
+        throw new UnsupportedOperationException("PQ codes do not support " + RandomVectorScorerSupplier.class.getSimpleName());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.ivf;
+
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.VectorUtil;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+import org.opensearch.knn.index.SpaceType;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Scores PQ codes of an IVF-PQ index against a float query in random order, which is what exact search and rescoring require.
+ * A single table of `M * 2^nbits` entries is built per query, and each code is scored with `M` lookups into it:
+ * <ul>
+ *     <li>L2 without residual: the table holds squared L2 distances to sub-centroids.</li>
+ *     <li>L2 with residual: `||q - c - r||^2` is expanded into `||q - c||^2 + (||r||^2 + 2 * <c, r>) - 2 * <q, r>`, where the first term
+ *     is computed once per list, the second comes from the query independent table of the list and the last from the inner product
+ *     table.</li>
+ *     <li>Inner product: `<q, c + r>` is `<q, c> + <q, r>`, where the first term is computed once per list.</li>
+ * </ul>
+ * Unlike a search over inverted lists, vectors are not visited list by list, so per list terms are cached lazily.
+ */
+class FaissIVFPQVectorScorer extends RandomVectorScorer.AbstractRandomVectorScorer {
+    private final FaissIndexIVFPQ index;
+    private final FaissProductQuantizer productQuantizer;
+    private final FaissInvertedLists invertedLists;
+    private final IndexInput codesInput;
+    private final float[] query;
+    private final boolean isL2;
+    private final boolean byResidual;
+    // L2 distance table for L2 without residual, inner product table otherwise.
+    private final float[] queryTable;
+    private final byte[] code;
+    // Below are only used with residual encoding.
+    private final FloatVectorValues centroids;
+    // `||q - c||^2` for L2, `<q, c>` for inner product. NaN until computed.
+    private final float[] listTerms;
+    private final float[] residualTermBuffer;
+    private float[] residualTermTable;
+    private int residualTermTableListNo = -1;
+
+    FaissIVFPQVectorScorer(
+        final FaissIndexIVFPQ index,
+        final IndexInput indexInput,
+        final KnnVectorValues vectorValues,
+        final float[] query
+    ) throws IOException {
+        super(vectorValues);
+        this.index = index;
+        this.productQuantizer = index.getProductQuantizer();
+        this.invertedLists = index.getInvertedLists();
+        this.codesInput = indexInput;
+        this.query = query;
+        this.isL2 = index.getVectorSimilarityFunction() == SpaceType.L2.getKnnVectorSimilarityFunction();
+        this.byResidual = index.isByResidual();
+        this.queryTable = new float[productQuantizer.getNumSubQuantizers() * productQuantizer.getNumSubCentroids()];
+        this.code = new byte[productQuantizer.getCodeSize()];
+
+        if (isL2 && byResidual == false) {
+            productQuantizer.computeL2DistanceTable(query, queryTable);
+        } else {
+            productQuantizer.computeInnerProductTable(query, queryTable);
+        }
+
+        if (byResidual) {
+            centroids = index.getCoarseQuantizer().getFloatValues(indexInput.clone());
+            listTerms = new float[index.getNumLists()];
+            Arrays.fill(listTerms, Float.NaN);
+            residualTermBuffer = isL2 ? new float[queryTable.length] : null;
+        } else {
+            centroids = null;
+            listTerms = null;
+            residualTermBuffer = null;
+        }
+    }
+
+    @Override
+    public float score(final int internalVectorId) throws IOException {
+        final int slot = index.getOrdinalToSlot(codesInput)[internalVectorId];
+        final int listNo = invertedLists.slotToList(slot);
+        codesInput.seek(invertedLists.slotToCodeOffset(listNo, slot));
+        codesInput.readBytes(code, 0, code.length);
+
+        final float lookup = productQuantizer.lookup(queryTable, code);
+        if (byResidual == false) {
+            return index.toScore(lookup);
+        }
+        if (isL2) {
+            final float residualTerm = productQuantizer.lookup(getResidualTermTable(listNo), code);
+            return index.toScore(getListTerm(listNo) + residualTerm - 2 * lookup);
+        }
+        return index.toScore(getListTerm(listNo) + lookup);
+    }
+
+    private float getListTerm(final int listNo) throws IOException {
+        float listTerm = listTerms[listNo];
+        if (Float.isNaN(listTerm)) {
+            final float[] centroid = centroids.vectorValue(listNo);
+            listTerm = isL2 ? VectorUtil.squareDistance(query, centroid) : VectorUtil.dotProduct(query, centroid);
+            listTerms[listNo] = listTerm;
+        }
+        return listTerm;
+    }
+
+    private float[] getResidualTermTable(final int listNo) throws IOException {
+        if (listNo != residualTermTableListNo) {
+            residualTermTable = index.getResidualTermTable(centroids, listNo, residualTermBuffer);
+            residualTermTableListNo = listNo;
+        }
+        return residualTermTable;
+    }
+}
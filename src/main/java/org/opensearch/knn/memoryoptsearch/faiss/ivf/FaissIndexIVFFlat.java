@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.ivf;
+
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.IndexInput;
+
+import java.io.IOException;
+
+/**
+ * An IVF index storing raw float vectors in its inverted lists.
+ * This is the ported version of `IndexIVFFlat` from FAISS.
+ * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/IndexIVFFlat.h">IndexIVFFlat.h</a>
+ */
+public class FaissIndexIVFFlat extends AbstractFaissIVFIndex {
+    public static final String IWFL = "IwFl";
+
+    public FaissIndexIVFFlat() {
+        super(IWFL);
+    }
+
+    /**
+     * Partially load IVF header, coarse quantizer and inverted lists.
+     * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/impl/index_read.cpp">read_index</a>
+     *
+     * @param input Input stream reading bytes from Faiss index file.
+     * @throws IOException
+     */
+    @Override
+    protected void doLoad(IndexInput input) throws IOException {
+        readIVFHeader(input);
+        invertedLists = FaissInvertedLists.load(input, numLists);
+        if (invertedLists.getCodeSize() != (long) Float.BYTES * dimension) {
+            throw new IllegalStateException(
+                "Got code size=" + invertedLists.getCodeSize() + " in " + IWFL + " while dimension=" + dimension
+            );
+        }
+    }
+
+    @Override
+    protected ListScorer newListScorer(final IndexInput indexInput, final float[] query) {
+        final VectorSimilarityFunction similarityFunction = getVectorSimilarityFunction().getVectorSimilarityFunction();
+        final float[] vector = new float[dimension];
+
+        return new ListScorer() {
+            @Override
+            public void setList(int listNo) {
+                // Raw vectors are independent of their list.
+            }
+
+            @Override
+            public float score(IndexInput codesInput) throws IOException {
+                codesInput.readFloats(vector, 0, vector.length);
+                return similarityFunction.compare(query, vector);
+            }
+        };
+    }
+
+    @Override
+    protected void decode(IndexInput codesInput, int listNo, FloatVectorValues centroids, float[] vector) throws IOException {
+        codesInput.readFloats(vector, 0, vector.length);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.ivf;
+
+import lombok.Getter;
+import org.apache.lucene.index.ByteVectorValues;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.VectorUtil;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+import org.opensearch.knn.index.SpaceType;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An IVF index storing product quantized codes in its inverted lists. When `by_residual` is set, codes encode the residual between a
+ * vector and the centroid of its list.
+ * Distances are computed with an asymmetric distance table built from the float query, so codes never have to be decoded while
+ * searching.
+ * This is the ported version of `IndexIVFPQ` from FAISS.
+ * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/IndexIVFPQ.h">IndexIVFPQ.h</a>
+ */
+public class FaissIndexIVFPQ extends AbstractFaissIVFIndex {
+    public static final String IWPQ = "IwPQ";
+    // Upper bound of floats kept in cached residual term tables. Beyond it, tables are computed whenever a scorer moves to another list.
+    static final long MAX_CACHED_RESIDUAL_TERM_FLOATS = 16L * 1024 * 1024;
+
+    @Getter
+    private boolean byResidual;
+    @Getter
+    private FaissProductQuantizer productQuantizer;
+    // Query independent residual term tables per list, see FaissProductQuantizer#computeResidualTermTable. Null if not cached.
+    private AtomicReferenceArray<float[]> residualTermTables;
+
+    public FaissIndexIVFPQ() {
+        super(IWPQ);
+    }
+
+    /**
+     * Partially load IVF header, coarse quantizer, product quantizer and inverted lists.
+     * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/impl/index_read.cpp">read_index</a>
+     *
+     * @param input Input stream reading bytes from Faiss index file.
+     * @throws IOException
+     */
+    @Override
+    protected void doLoad(IndexInput input) throws IOException {
+        readIVFHeader(input);
+        byResidual = input.readByte() != 0;
+        final int codeSize = Math.toIntExact(input.readLong());
+        productQuantizer = FaissProductQuantizer.load(input);
+        if (productQuantizer.getCodeSize() != codeSize || productQuantizer.getDimension() != dimension) {
+            throw new IllegalStateException(
+                "Inconsistent product quantizer, code size="
+                    + productQuantizer.getCodeSize()
+                    + ", dimension="
+                    + productQuantizer.getDimension()
+                    + " while IVF has code size="
+                    + codeSize
+                    + ", dimension="
+                    + dimension
+            );
+        }
+        invertedLists = FaissInvertedLists.load(input, numLists);
+        if (invertedLists.getCodeSize() != codeSize) {
+            throw new IllegalStateException("Inverted lists code size=" + invertedLists.getCodeSize() + " while IVF code size=" + codeSize);
+        }
+        final long residualTermFloats = (long) numLists * productQuantizer.getNumSubQuantizers() * productQuantizer.getNumSubCentroids();
+        if (byResidual && spaceType == SpaceType.L2 && residualTermFloats <= MAX_CACHED_RESIDUAL_TERM_FLOATS) {
+            residualTermTables = new AtomicReferenceArray<>(numLists);
+        }
+    }
+
+    /**
+     * Returns random accessor to PQ codes stored in inverted lists, where each code is `code_size` bytes long.
+     * Codes are meant to be scored with a scorer from {@link #newAdcScorer}.
+     */
+    @Override
+    public ByteVectorValues getByteValues(final IndexInput indexInput) {
+        return new PQCodeVectorValues(indexInput);
+    }
+
+    /**
+     * Creates a scorer computing asymmetric distances between a float query and PQ codes looked up by internal vector id.
+     * Lookup tables are built once per query, therefore scoring a vector costs `M` table lookups regardless of its dimension.
+     *
+     * @param indexInput Dedicated input stream to the FAISS index file.
+     * @param vectorValues Vector values translating internal vector ids to Lucene document ids.
+     * @param query Float query vector.
+     * @return Scorer for the query.
+     * @throws IOException
+     */
+    public RandomVectorScorer newAdcScorer(final IndexInput indexInput, final KnnVectorValues vectorValues, final float[] query)
+        throws IOException {
+        return new FaissIVFPQVectorScorer(this, indexInput, vectorValues, query);
+    }
+
+    /**
+     * Returns the residual term table of the given list. Cached tables are shared across queries, otherwise the table is computed
+     * into the given buffer.
+     */
+    float[] getResidualTermTable(final FloatVectorValues centroids, final int listNo, final float[] buffer) throws IOException {
+        if (residualTermTables == null) {
+            productQuantizer.computeResidualTermTable(centroids.vectorValue(listNo), buffer);
+            return buffer;
+        }
+        float[] table = residualTermTables.get(listNo);
+        if (table == null) {
+            // Racing threads compute identical tables, so whichever wins is fine.
+            table = new float[buffer.length];
+            productQuantizer.computeResidualTermTable(centroids.vectorValue(listNo), table);
+            residualTermTables.set(listNo, table);
+        }
+        return table;
+    }
+
+    @Override
+    protected ListScorer newListScorer(final IndexInput indexInput, final float[] query) throws IOException {
+        final float[] table = new float[productQuantizer.getNumSubQuantizers() * productQuantizer.getNumSubCentroids()];
+        final byte[] code = new byte[productQuantizer.getCodeSize()];
+
+        if (spaceType == SpaceType.L2) {
+            if (byResidual == false) {
+                productQuantizer.computeL2DistanceTable(query, table);
+            }
+            final FloatVectorValues centroids = byResidual ? coarseQuantizer.getFloatValues(indexInput) : null;
+            final float[] residual = byResidual ? new float[dimension] : null;
+
+            return new ListScorer() {
+                @Override
+                public void setList(int listNo) throws IOException {
+                    if (byResidual) {
+                        // The distance between query and `centroid + r` equals the distance between `query - centroid` and `r`.
+                        final float[] centroid = centroids.vectorValue(listNo);
+                        for (int i = 0; i < dimension; ++i) {
+                            residual[i] = query[i] - centroid[i];
+                        }
+                        productQuantizer.computeL2DistanceTable(residual, table);
+                    }
+                }
+
+                @Override
+                public float score(IndexInput codesInput) throws IOException {
+                    codesInput.readBytes(code, 0, code.length);
+                    return toScore(productQuantizer.lookup(table, code));
+                }
+            };
+        }
+
+        // Inner product is linear, so <query, centroid + r> = <query, centroid> + <query, r> and one table serves all lists.
+        productQuantizer.computeInnerProductTable(query, table);
+        final FloatVectorValues centroids = byResidual ? coarseQuantizer.getFloatValues(indexInput) : null;
+
+        return new ListScorer() {
+            private float centroidInnerProduct;
+
+            @Override
+            public void setList(int listNo) throws IOException {
+                if (byResidual) {
+                    centroidInnerProduct = VectorUtil.dotProduct(query, centroids.vectorValue(listNo));
+                }
+            }
+
+            @Override
+            public float score(IndexInput codesInput) throws IOException {
+                codesInput.readBytes(code, 0, code.length);
+                return toScore(centroidInnerProduct + productQuantizer.lookup(table, code));
+            }
+        };
+    }
+
+    @Override
+    protected void decode(IndexInput codesInput, int listNo, FloatVectorValues centroids, float[] vector) throws IOException {
+        final byte[] code = new byte[productQuantizer.getCodeSize()];
+        codesInput.readBytes(code, 0, code.length);
+        productQuantizer.decode(code, vector);
+        if (byResidual) {
+            final float[] centroid = centroids.vectorValue(listNo);
+            for (int i = 0; i < dimension; ++i) {
+                vector[i] += centroid[i];
+            }
+        }
+    }
+
+    private class PQCodeVectorValues extends ByteVectorValues {
+        private final IndexInput indexInput;
+        private final byte[] code;
+
+        private PQCodeVectorValues(final IndexInput indexInput) {
+            this.indexInput = indexInput;
+            this.code = new byte[productQuantizer.getCodeSize()];
+        }
+
+        @Override
+        public byte[] vectorValue(final int internalVectorId) throws IOException {
+            final int slot = getOrdinalToSlot(indexInput)[internalVectorId];
+            indexInput.seek(invertedLists.slotToCodeOffset(invertedLists.slotToList(slot), slot));
+            indexInput.readBytes(code, 0, code.length);
+            return code;
+        }
+
+        @Override
+        public int dimension() {
+            return code.length;
+        }
+
+        @Override
+        public int size() {
+            return totalNumberOfVectors;
+        }
+
+        @Override
+        public ByteVectorValues copy() {
+            return new PQCodeVectorValues(indexInput.clone());
+        }
+    }
+}
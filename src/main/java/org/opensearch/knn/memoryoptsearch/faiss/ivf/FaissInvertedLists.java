@@ -0,0 +1,175 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.ivf;
+
+import lombok.Getter;
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndexLoadUtils;
+import org.opensearch.knn.memoryoptsearch.faiss.UnsupportedFaissIndexException;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Partially loaded inverted lists of an IVF index. Only the offsets of each list are kept in memory, codes and ids are read from
+ * the {@link IndexInput} at search time.
+ * Each list is stored as `codes` (list size * code size bytes) followed by `ids` (list size * 8 bytes).
+ * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/impl/index_read.cpp">read_InvertedLists</a>
+ */
+public class FaissInvertedLists {
+    // Array inverted lists
+    public static final String ILAR = "ilar";
+    // Inverted lists were not stored (IO_FLAG_SKIP_IVF_DATA)
+    public static final String IL00 = "il00";
+    private static final String FULL_SIZES = "full";
+    private static final String SPARSE_SIZES = "sprs";
+
+    @Getter
+    private final int numLists;
+    @Getter
+    private final int codeSize;
+    private final long[] listSizes;
+    private final long[] codesOffsets;
+    private final long[] idsOffsets;
+    // listStartSlots[i] is the number of vectors stored in lists [0, i)
+    private final long[] listStartSlots;
+
+    private FaissInvertedLists(final int numLists, final int codeSize) {
+        this.numLists = numLists;
+        this.codeSize = codeSize;
+        this.listSizes = new long[numLists];
+        this.codesOffsets = new long[numLists];
+        this.idsOffsets = new long[numLists];
+        this.listStartSlots = new long[numLists];
+    }
+
+    /**
+     * Partially load inverted lists, recording the offset of codes and ids of each list then skipping them.
+     *
+     * @param input Input stream positioned at the inverted lists section.
+     * @param expectedNumLists The number of lists declared in the IVF header.
+     * @return Loaded inverted lists.
+     * @throws IOException
+     */
+    public static FaissInvertedLists load(final IndexInput input, final int expectedNumLists) throws IOException {
+        final String listsType = FaissIndexLoadUtils.readIndexType(input);
+        if (ILAR.equals(listsType) == false) {
+            throw new UnsupportedFaissIndexException("Inverted lists type [" + listsType + "] is not supported.");
+        }
+
+        final int numLists = Math.toIntExact(input.readLong());
+        if (numLists != expectedNumLists) {
+            throw new IllegalStateException("Inverted lists have " + numLists + " lists while IVF header declared " + expectedNumLists);
+        }
+        final FaissInvertedLists invertedLists = new FaissInvertedLists(numLists, Math.toIntExact(input.readLong()));
+        invertedLists.readListSizes(input);
+
+        long slot = 0;
+        for (int i = 0; i < numLists; ++i) {
+            final long listSize = invertedLists.listSizes[i];
+            invertedLists.listStartSlots[i] = slot;
+            slot += listSize;
+            if (listSize > 0) {
+                invertedLists.codesOffsets[i] = input.getFilePointer();
+                input.skipBytes(listSize * invertedLists.codeSize);
+                invertedLists.idsOffsets[i] = input.getFilePointer();
+                input.skipBytes(listSize * Long.BYTES);
+            }
+        }
+        return invertedLists;
+    }
+
+    private void readListSizes(final IndexInput input) throws IOException {
+        final String sizesType = FaissIndexLoadUtils.readIndexType(input);
+        if (FULL_SIZES.equals(sizesType)) {
+            final long numSizes = input.readLong();
+            if (numSizes != numLists) {
+                throw new IllegalStateException("Got " + numSizes + " list sizes while having " + numLists + " lists");
+            }
+            input.readLongs(listSizes, 0, numLists);
+        } else if (SPARSE_SIZES.equals(sizesType)) {
+            // Pairs of (list number, list size) for non-empty lists only.
+            final long numValues = input.readLong();
+            for (long i = 0; i < numValues; i += 2) {
+                final int listNo = Math.toIntExact(input.readLong());
+                listSizes[listNo] = input.readLong();
+            }
+        } else {
+            throw new IllegalStateException("Unknown inverted list sizes type [" + sizesType + "]");
+        }
+    }
+
+    public long getListSize(final int listNo) {
+        return listSizes[listNo];
+    }
+
+    /**
+     * @return File offset of the first code in the given list.
+     */
+    public long getCodesOffset(final int listNo) {
+        return codesOffsets[listNo];
+    }
+
+    /**
+     * @return File offset of the first id in the given list.
+     */
+    public long getIdsOffset(final int listNo) {
+        return idsOffsets[listNo];
+    }
+
+    /**
+     * Returns the list containing the given slot, where a slot is the position of a vector when all lists are laid out back to back.
+     */
+    public int slotToList(final long slot) {
+        int listNo = Arrays.binarySearch(listStartSlots, slot);
+        if (listNo < 0) {
+            return -listNo - 2;
+        }
+        // Skip empty lists sharing the same start slot.
+        while (listNo + 1 < numLists && listStartSlots[listNo + 1] == slot) {
+            ++listNo;
+        }
+        return listNo;
+    }
+
+    /**
+     * Returns the file offset of the code stored in the given slot.
+     */
+    public long slotToCodeOffset(final int listNo, final long slot) {
+        return codesOffsets[listNo] + (slot - listStartSlots[listNo]) * codeSize;
+    }
+
+    /**
+     * Build a table mapping an internal vector id to its slot by reading ids of every list. This is only required for random access
+     * by vector id, vector search scans lists sequentially and does not need it.
+     *
+     * @param input Input stream to the FAISS index file.
+     * @param totalNumberOfVectors The number of vectors in the IVF index.
+     * @return Table whose i-th element is the slot of the vector whose internal id is i.
+     * @throws IOException
+     */
+    public int[] buildOrdinalToSlotTable(final IndexInput input, final int totalNumberOfVectors) throws IOException {
+        final int[] ordinalToSlot = new int[totalNumberOfVectors];
+        Arrays.fill(ordinalToSlot, -1);
+        for (int listNo = 0; listNo < numLists; ++listNo) {
+            final long listSize = listSizes[listNo];
+            if (listSize == 0) {
+                continue;
+            }
+            input.seek(idsOffsets[listNo]);
+            for (long i = 0; i < listSize; ++i) {
+                final long internalVectorId = input.readLong();
+                if (internalVectorId < 0 || internalVectorId >= totalNumberOfVectors) {
+                    throw new IllegalStateException(
+                        "Inverted list " + listNo + " has vector id " + internalVectorId + " out of range [0, " + totalNumberOfVectors + ")"
+                    );
+                }
+                ordinalToSlot[(int) internalVectorId] = Math.toIntExact(listStartSlots[listNo] + i);
+            }
+        }
+        return ordinalToSlot;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.ivf;
+
+import lombok.Getter;
+import org.apache.lucene.store.IndexInput;
+
+import java.io.IOException;
+
+/**
+ * Product quantizer splitting a vector into `M` sub-vectors, each encoded as the index of its closest sub-centroid among
+ * `2^nbits` sub-centroids. Sub-centroids are small (dimension * 2^nbits floats) and are kept on heap.
+ * Distances are computed asymmetrically: the query is kept in float and a per-query table of distances between query sub-vectors and
+ * every sub-centroid is built, then the distance to a code is the sum of `M` table lookups.
+ * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/impl/ProductQuantizer.h">ProductQuantizer.h</a>
+ */
+@Getter
+public class FaissProductQuantizer {
+    private final int dimension;
+    private final int numSubQuantizers;
+    private final int numBits;
+    private final int numSubCentroids;
+    private final int subDimension;
+    private final int codeSize;
+    // Laid out as [numSubQuantizers][numSubCentroids][subDimension]
+    private final float[] centroids;
+
+    private FaissProductQuantizer(final int dimension, final int numSubQuantizers, final int numBits, final float[] centroids) {
+        this.dimension = dimension;
+        this.numSubQuantizers = numSubQuantizers;
+        this.numBits = numBits;
+        this.numSubCentroids = 1 << numBits;
+        this.subDimension = dimension / numSubQuantizers;
+        this.codeSize = (numSubQuantizers * numBits + 7) / 8;
+        this.centroids = centroids;
+    }
+
+    /**
+     * Load product quantizer.
+     * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/impl/index_read.cpp">read_ProductQuantizer</a>
+     *
+     * @param input Input stream reading bytes from Faiss index file.
+     * @return Loaded product quantizer.
+     * @throws IOException
+     */
+    public static FaissProductQuantizer load(final IndexInput input) throws IOException {
+        final int dimension = Math.toIntExact(input.readLong());
+        final int numSubQuantizers = Math.toIntExact(input.readLong());
+        final int numBits = Math.toIntExact(input.readLong());
+        if (numSubQuantizers <= 0 || dimension % numSubQuantizers != 0) {
+            throw new IllegalStateException("Dimension " + dimension + " is not a multiple of M=" + numSubQuantizers);
+        }
+        if (numBits <= 0 || numBits > 16) {
+            throw new IllegalStateException("Unsupported number of bits per sub-quantizer, nbits=" + numBits);
+        }
+
+        final int numCentroidFloats = Math.toIntExact(input.readLong());
+        if (numCentroidFloats != dimension * (1 << numBits)) {
+            throw new IllegalStateException(
+                "Got " + numCentroidFloats + " centroid values while expecting " + dimension * (1 << numBits)
+            );
+        }
+        final float[] centroids = new float[numCentroidFloats];
+        input.readFloats(centroids, 0, numCentroidFloats);
+        return new FaissProductQuantizer(dimension, numSubQuantizers, numBits, centroids);
+    }
+
+    /**
+     * Fills the table with squared L2 distances between each query sub-vector and each sub-centroid.
+     *
+     * @param query Query vector, or the residual of the query for indices encoding residuals.
+     * @param table Table of size M * 2^nbits.
+     */
+    public void computeL2DistanceTable(final float[] query, final float[] table) {
+        for (int m = 0, t = 0; m < numSubQuantizers; ++m) {
+            final int queryOffset = m * subDimension;
+            for (int j = 0; j < numSubCentroids; ++j, ++t) {
+                final int centroidOffset = t * subDimension;
+                float distance = 0;
+                for (int k = 0; k < subDimension; ++k) {
+                    final float diff = query[queryOffset + k] - centroids[centroidOffset + k];
+                    distance += diff * diff;
+                }
+                table[t] = distance;
+            }
+        }
+    }
+
+    /**
+     * Fills the table with inner products between each query sub-vector and each sub-centroid.
+     *
+     * @param query Query vector.
+     * @param table Table of size M * 2^nbits.
+     */
+    public void computeInnerProductTable(final float[] query, final float[] table) {
+        for (int m = 0, t = 0; m < numSubQuantizers; ++m) {
+            final int queryOffset = m * subDimension;
+            for (int j = 0; j < numSubCentroids; ++j, ++t) {
+                final int centroidOffset = t * subDimension;
+                float innerProduct = 0;
+                for (int k = 0; k < subDimension; ++k) {
+                    innerProduct += query[queryOffset + k] * centroids[centroidOffset + k];
+                }
+                table[t] = innerProduct;
+            }
+        }
+    }
+
+    /**
+     * Fills the table with the query independent term of the L2 distance to `centroid + r`, which is `||r_m||^2 + 2 * <c_m, r_m>` for
+     * each sub-centroid `r_m` and the matching sub-vector `c_m` of the centroid.
+     * Together with an inner product table, it expands `||q - c - r||^2` into
+     * `||q - c||^2 + (||r||^2 + 2 * <c, r>) - 2 * <q, r>` so that residual codes can be scored without a per list query table.
+     * FYI FAISS - <a href="https://github.com/facebookresearch/faiss/blob/main/faiss/IndexIVFPQ.cpp">precompute_table</a>
+     *
+     * @param centroid Centroid of the inverted list.
+     * @param table Table of size M * 2^nbits.
+     */
+    public void computeResidualTermTable(final float[] centroid, final float[] table) {
+        for (int m = 0, t = 0; m < numSubQuantizers; ++m) {
+            final int centroidOffsetInVector = m * subDimension;
+            for (int j = 0; j < numSubCentroids; ++j, ++t) {
+                final int subCentroidOffset = t * subDimension;
+                float term = 0;
+                for (int k = 0; k < subDimension; ++k) {
+                    final float value = centroids[subCentroidOffset + k];
+                    term += value * value + 2 * centroid[centroidOffsetInVector + k] * value;
+                }
+                table[t] = term;
+            }
+        }
+    }
+
+    /**
+     * Sums table entries selected by the code, which is the asymmetric distance between the query and the encoded vector.
+     *
+     * @param table Table computed by {@link #computeL2DistanceTable} or {@link #computeInnerProductTable}.
+     * @param code Encoded vector.
+     * @return Sum of selected entries.
+     */
+    public float lookup(final float[] table, final byte[] code) {
+        float sum = 0;
+        if (numBits == 8) {
+            for (int m = 0; m < numSubQuantizers; ++m) {
+                sum += table[m * numSubCentroids + (code[m] & 0xFF)];
+            }
+        } else {
+            for (int m = 0; m < numSubQuantizers; ++m) {
+                sum += table[m * numSubCentroids + subCentroidIndex(code, m)];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Decodes the code into a vector made of the selected sub-centroids.
+     *
+     * @param code Encoded vector.
+     * @param vector Destination of decoded vector.
+     */
+    public void decode(final byte[] code, final float[] vector) {
+        for (int m = 0; m < numSubQuantizers; ++m) {
+            final int centroidOffset = (m * numSubCentroids + subCentroidIndex(code, m)) * subDimension;
+            System.arraycopy(centroids, centroidOffset, vector, m * subDimension, subDimension);
+        }
+    }
+
+    // Codes are packed as a little-endian bit stream, `nbits` bits per sub-quantizer. See PQDecoderGeneric in FAISS.
+    private int subCentroidIndex(final byte[] code, final int m) {
+        final int bitOffset = m * numBits;
+        final int byteOffset = bitOffset >>> 3;
+        int window = 0;
+        for (int i = 0; i < 3 && byteOffset + i < code.length; ++i) {
+            window |= (code[byteOffset + i] & 0xFF) << (i * 8);
+        }
+        return (window >>> (bitOffset & 7)) & (numSubCentroids - 1);
+    }
+}
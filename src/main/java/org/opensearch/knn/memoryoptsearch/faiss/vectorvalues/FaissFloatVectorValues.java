@@ -9,7 +9,7 @@ import org.apache.lucene.codecs.lucene95.HasIndexSlice;
 import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.Bits;
-import org.apache.lucene.util.packed.DirectMonotonicReader;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIdMap;
 import org.opensearch.knn.memoryoptsearch.faiss.WrappedFloatVectorValues;
 
 import java.io.IOException;
@@ -73,17 +73,17 @@ public class FaissFloatVectorValues extends FloatVectorValues implements HasInde
 
     /**
      * A {@link FloatVectorValues} wrapper for sparse or nested cases that maps internal vector IDs
-     * to Lucene document IDs via a {@link DirectMonotonicReader}.
+     * to Lucene document IDs via a {@link FaissIdMap}.
      * <p>
      * Delegates vector reads to the wrapped {@link FloatVectorValues} and translates ordinals
      * in {@link #ordToDoc(int)} and {@link #getAcceptOrds(Bits)}.
      */
     public static class SparseFloatVectorValuesImpl extends WrappedFloatVectorValues implements HasIndexSlice {
-        private final DirectMonotonicReader idMappingReader;
+        private final FaissIdMap idMap;
 
-        public SparseFloatVectorValuesImpl(final FloatVectorValues vectorValues, final DirectMonotonicReader idMappingReader) {
+        public SparseFloatVectorValuesImpl(final FloatVectorValues vectorValues, final FaissIdMap idMap) {
             super(vectorValues);
-            this.idMappingReader = idMappingReader;
+            this.idMap = idMap;
             if ((vectorValues instanceof HasIndexSlice) == false) {
                 throw new IllegalArgumentException(
                     "SparseFloatVectorValuesImpl needs an instance of "
@@ -108,7 +108,7 @@ public class FaissFloatVectorValues extends FloatVectorValues implements HasInde
 
         @Override
         public int ordToDoc(int internalVectorId) {
-            return (int) idMappingReader.get(internalVectorId);
+            return idMap.ordToDoc(internalVectorId);
         }
 
         @Override
@@ -118,20 +118,7 @@ public class FaissFloatVectorValues extends FloatVectorValues implements HasInde
 
         @Override
         public Bits getAcceptOrds(final Bits acceptDocs) {
-            if (acceptDocs != null) {
-                return new Bits() {
-                    @Override
-                    public boolean get(int internalVectorId) {
-                        return acceptDocs.get((int) idMappingReader.get(internalVectorId));
-                    }
-
-                    @Override
-                    public int length() {
-                        return floatVectorValues.size();
-                    }
-                };
-            }
-            return null;
+            return idMap.getAcceptOrds(acceptDocs);
         }
 
         @Override
@@ -141,7 +128,7 @@ public class FaissFloatVectorValues extends FloatVectorValues implements HasInde
 
         @Override
         public FloatVectorValues copy() throws IOException {
-            return new SparseFloatVectorValuesImpl(floatVectorValues.copy(), idMappingReader);
+            return new SparseFloatVectorValuesImpl(floatVectorValues.copy(), idMap);
         }
 
         @Override
@@ -15,6 +15,7 @@ public enum KNNCounter {
     GRAPH_QUERY_REQUESTS("graph_query_requests"),
     GRAPH_INDEX_ERRORS("graph_index_errors"),
     GRAPH_INDEX_REQUESTS("graph_index_requests"),
+    GRAPH_LOAD_REJECTIONS("graph_load_rejections"),
     KNN_QUERY_REQUESTS("knn_query_requests"),
     SCRIPT_COMPILATIONS("script_compilations"),
     SCRIPT_COMPILATION_ERRORS("script_compilation_errors"),
@@ -26,7 +27,11 @@ public enum KNNCounter {
     MIN_SCORE_QUERY_REQUESTS("min_score_query_requests"),
     MIN_SCORE_QUERY_WITH_FILTER_REQUESTS("min_score_query_with_filter_requests"),
     MAX_DISTANCE_QUERY_REQUESTS("max_distance_query_requests"),
-    MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS("max_distance_query_with_filter_requests");
+    MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS("max_distance_query_with_filter_requests"),
+    KNN_QUERY_VISITED_NODES("knn_query_visited_nodes"),
+    KNN_QUERY_DISTANCE_COMPUTATIONS("knn_query_distance_computations"),
+    KNN_QUERY_FILTER_REJECTIONS("knn_query_filter_rejections"),
+    KNN_QUERY_EARLY_TERMINATIONS("knn_query_early_terminations");
 
     private String name;
     private AtomicLong count;
@@ -66,6 +71,15 @@ public enum KNNCounter {
         count.getAndIncrement();
     }
 
+    /**
+     * Add a value to a counter
+     *
+     * @param delta value to add
+     */
+    public void add(long delta) {
+        count.getAndAdd(delta);
+    }
+
     /**
      * @param value counter value
      * Set the value of a counter
@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.stats;
+
+import java.util.Locale;
+
+/**
+ * Phases of a k-NN query whose latencies are tracked in {@link KNNQueryLatencyStats}
+ */
+public enum KNNLatencyPhase {
+    GRAPH_LOAD,
+    ANN_SEARCH,
+    EXACT_SEARCH,
+    RESCORE,
+    BITSET_CREATION;
+
+    /**
+     * Get name of the phase
+     *
+     * @return name
+     */
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
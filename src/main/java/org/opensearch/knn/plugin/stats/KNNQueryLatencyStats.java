@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.stats;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Keeps track of the latencies of k-NN query phases, per index and field, on this node.
+ * <p>
+ * Latencies are exposed both as reset-on-read windows, see {@link #snapshotAndReset()}, and as cumulative values that reading has no
+ * effect on, see {@link #snapshot()}, for readers that must not interfere with each other. The latencies of an index are dropped once
+ * the index is removed from this node, see {@link #remove(String)}.
+ */
+@UtilityClass
+public class KNNQueryLatencyStats {
+    private static final Map<String, Map<String, Map<KNNLatencyPhase, LatencyHistogram>>> LATENCIES = new ConcurrentHashMap<>();
+
+    /**
+     * Records the latency of a query phase
+     *
+     * @param indexName name of the queried index
+     * @param field name of the queried field
+     * @param phase query phase
+     * @param tookInNanos latency in nanoseconds
+     */
+    public static void record(final String indexName, final String field, final KNNLatencyPhase phase, final long tookInNanos) {
+        if (indexName == null || field == null) {
+            return;
+        }
+        LATENCIES.computeIfAbsent(indexName, ignored -> new ConcurrentHashMap<>())
+            .computeIfAbsent(field, ignored -> createHistograms())
+            .get(phase)
+            .record(tookInNanos);
+    }
+
+    /**
+     * Returns the latencies recorded since the index was opened on this node.
+     *
+     * @return map of index name to field name to phase name to latency metrics
+     */
+    public static Map<String, Map<String, Map<String, Map<String, Object>>>> snapshot() {
+        return snapshot(LatencyHistogram::snapshot);
+    }
+
+    /**
+     * Returns the latencies recorded since the previous call, then starts a new window.
+     *
+     * @return map of index name to field name to phase name to latency metrics
+     */
+    public static Map<String, Map<String, Map<String, Map<String, Object>>>> snapshotAndReset() {
+        return snapshot(LatencyHistogram::snapshotAndReset);
+    }
+
+    private static Map<String, Map<String, Map<String, Map<String, Object>>>> snapshot(
+        final Function<LatencyHistogram, Map<String, Object>> histogramSnapshot
+    ) {
+        final Map<String, Map<String, Map<String, Map<String, Object>>>> snapshot = new HashMap<>();
+        for (final Map.Entry<String, Map<String, Map<KNNLatencyPhase, LatencyHistogram>>> indexEntry : LATENCIES.entrySet()) {
+            final Map<String, Map<String, Map<String, Object>>> indexSnapshot = new HashMap<>();
+            for (final Map.Entry<String, Map<KNNLatencyPhase, LatencyHistogram>> fieldEntry : indexEntry.getValue().entrySet()) {
+                final Map<String, Map<String, Object>> fieldSnapshot = new HashMap<>();
+                for (final Map.Entry<KNNLatencyPhase, LatencyHistogram> phaseEntry : fieldEntry.getValue().entrySet()) {
+                    final Map<String, Object> phaseSnapshot = histogramSnapshot.apply(phaseEntry.getValue());
+                    if (phaseSnapshot.isEmpty() == false) {
+                        fieldSnapshot.put(phaseEntry.getKey().getName(), phaseSnapshot);
+                    }
+                }
+                if (fieldSnapshot.isEmpty() == false) {
+                    indexSnapshot.put(fieldEntry.getKey(), fieldSnapshot);
+                }
+            }
+            if (indexSnapshot.isEmpty() == false) {
+                snapshot.put(indexEntry.getKey(), indexSnapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Drops the latencies of an index, which bounds the tracked fields to the ones of the indices on this node.
+     *
+     * @param indexName name of the removed index
+     */
+    public static void remove(final String indexName) {
+        LATENCIES.remove(indexName);
+    }
+
+    private static Map<KNNLatencyPhase, LatencyHistogram> createHistograms() {
+        final Map<KNNLatencyPhase, LatencyHistogram> histograms = new EnumMap<>(KNNLatencyPhase.class);
+        for (final KNNLatencyPhase phase : KNNLatencyPhase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+        return histograms;
+    }
+}
@@ -113,6 +113,25 @@ public class KNNStats {
                 StatNames.MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS.getName(),
                 createNodeStat(new KNNCounterSupplier(KNNCounter.MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS))
             );
+
+        // Approximate search work stats
+        builder.put(StatNames.KNN_QUERY_VISITED_NODES.getName(), createNodeStat(new KNNCounterSupplier(KNNCounter.KNN_QUERY_VISITED_NODES)))
+            .put(
+                StatNames.KNN_QUERY_DISTANCE_COMPUTATIONS.getName(),
+                createNodeStat(new KNNCounterSupplier(KNNCounter.KNN_QUERY_DISTANCE_COMPUTATIONS))
+            )
+            .put(
+                StatNames.KNN_QUERY_FILTER_REJECTIONS.getName(),
+                createNodeStat(new KNNCounterSupplier(KNNCounter.KNN_QUERY_FILTER_REJECTIONS))
+            )
+            .put(
+                StatNames.KNN_QUERY_EARLY_TERMINATIONS.getName(),
+                createNodeStat(new KNNCounterSupplier(KNNCounter.KNN_QUERY_EARLY_TERMINATIONS))
+            );
+
+        // Query phase latencies, reset every time they are read, and their cumulative counterpart that reads don't reset
+        builder.put(StatNames.QUERY_LATENCY_STATS.getName(), createNodeStat(KNNQueryLatencyStats::snapshotAndReset));
+        builder.put(StatNames.QUERY_LATENCY_CUMULATIVE_STATS.getName(), createNodeStat(KNNQueryLatencyStats::snapshot));
     }
 
     private void addNativeMemoryStats(ImmutableMap.Builder<String, KNNStat<?>> builder) {
@@ -142,6 +161,15 @@ public class KNNStats {
             .put(StatNames.GRAPH_QUERY_REQUESTS.getName(), createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_QUERY_REQUESTS)))
             .put(StatNames.GRAPH_INDEX_ERRORS.getName(), createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_INDEX_ERRORS)))
             .put(StatNames.GRAPH_INDEX_REQUESTS.getName(), createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_INDEX_REQUESTS)))
+            .put(
+                StatNames.NATIVE_MEMORY_PRESSURE_LEVEL.getName(),
+                createNodeStat(new NativeMemoryCacheManagerSupplier<>(NativeMemoryCacheManager::getPressureLevel))
+            )
+            .put(
+                StatNames.NATIVE_MEMORY_IN_FLIGHT_LOAD_SIZE.getName(),
+                createNodeStat(new NativeMemoryCacheManagerSupplier<>(NativeMemoryCacheManager::getInFlightLoadSizeInKilobytes))
+            )
+            .put(StatNames.GRAPH_LOAD_REJECTIONS.getName(), createNodeStat(new KNNCounterSupplier(KNNCounter.GRAPH_LOAD_REJECTIONS)))
             .put(StatNames.CIRCUIT_BREAKER_TRIGGERED.getName(), createClusterStat(new KNNCircuitBreakerSupplier()));
     }
 
@@ -0,0 +1,144 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.stats;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free latency histogram with log-linear buckets, similar to HDR histograms: every power of two range is split into
+ * {@value #SUB_BUCKETS} linear sub buckets, which bounds the relative error of reported percentiles to about 6%.
+ * <p>
+ * Latencies are recorded in microseconds. {@link #snapshot()} returns everything recorded since the histogram was created and has no
+ * side effect. {@link #snapshotAndReset()} returns what was recorded since its previous call and starts a new window. The window is
+ * derived from the cumulative buckets, so both views share a single recording path, and a value recorded concurrently with a window
+ * read lands in either that window or the next one, never in neither.
+ */
+public class LatencyHistogram {
+    public static final String COUNT = "count";
+    public static final String SUM_IN_MICROS = "sum_in_micros";
+    public static final String MAX_IN_MICROS = "max_in_micros";
+    public static final String P50_IN_MICROS = "p50_in_micros";
+    public static final String P90_IN_MICROS = "p90_in_micros";
+    public static final String P99_IN_MICROS = "p99_in_micros";
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values of 2^40 micros and above, roughly 12 days, share the last bucket.
+    private static final int MAX_MAGNITUDE = 40;
+    private static final int NUM_BUCKETS = bucketIndex((1L << MAX_MAGNITUDE) - 1) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(NUM_BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator windowMax = new LongAccumulator(Math::max, 0);
+    // Cumulative bucket counts and sum as of the start of the current window, guarded by the instance monitor.
+    private final long[] windowStartBuckets = new long[NUM_BUCKETS];
+    private long windowStartSum;
+
+    /**
+     * Records a latency
+     *
+     * @param tookInNanos latency in nanoseconds
+     */
+    public void record(final long tookInNanos) {
+        final long micros = Math.max(tookInNanos / 1000, 0);
+        buckets.incrementAndGet(bucketIndex(micros));
+        sum.add(micros);
+        max.accumulate(micros);
+        windowMax.accumulate(micros);
+    }
+
+    /**
+     * Returns the count, sum, max and percentiles of all the recorded latencies.
+     *
+     * @return map of the metric name to its value, the map is empty when nothing was recorded
+     */
+    public Map<String, Object> snapshot() {
+        final long[] counts = new long[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; ++i) {
+            counts[i] = buckets.get(i);
+        }
+        return toSnapshot(counts, sum.sum(), max.get());
+    }
+
+    /**
+     * Returns the count, sum, max and percentiles of the latencies recorded since the previous call, then starts a new window.
+     *
+     * @return map of the metric name to its value, the map is empty when nothing was recorded in the window
+     */
+    public synchronized Map<String, Object> snapshotAndReset() {
+        final long[] counts = new long[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; ++i) {
+            final long cumulative = buckets.get(i);
+            counts[i] = cumulative - windowStartBuckets[i];
+            windowStartBuckets[i] = cumulative;
+        }
+        final long cumulativeSum = sum.sum();
+        final long sumInMicros = cumulativeSum - windowStartSum;
+        windowStartSum = cumulativeSum;
+        return toSnapshot(counts, sumInMicros, windowMax.getThenReset());
+    }
+
+    private static Map<String, Object> toSnapshot(final long[] counts, final long sumInMicros, final long maxInMicros) {
+        long count = 0;
+        for (final long bucketCount : counts) {
+            count += bucketCount;
+        }
+        final Map<String, Object> snapshot = new HashMap<>();
+        if (count == 0) {
+            return snapshot;
+        }
+
+        snapshot.put(COUNT, count);
+        snapshot.put(SUM_IN_MICROS, sumInMicros);
+        snapshot.put(MAX_IN_MICROS, maxInMicros);
+        snapshot.put(P50_IN_MICROS, percentile(counts, count, 0.50, maxInMicros));
+        snapshot.put(P90_IN_MICROS, percentile(counts, count, 0.90, maxInMicros));
+        snapshot.put(P99_IN_MICROS, percentile(counts, count, 0.99, maxInMicros));
+        return snapshot;
+    }
+
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int magnitude = Math.min(Long.SIZE - 1 - Long.numberOfLeadingZeros(value), MAX_MAGNITUDE);
+        if (magnitude == MAX_MAGNITUDE) {
+            return (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS - 1;
+        }
+        // The leading bit is implied by the magnitude, the next SUB_BUCKET_BITS bits select the sub bucket.
+        final int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value that maps to the given bucket.
+     */
+    static long bucketUpperBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    private static long percentile(final long[] counts, final long count, final double quantile, final long maxInMicros) {
+        final long rank = Math.max((long) Math.ceil(quantile * count), 1);
+        long seen = 0;
+        for (int i = 0; i < counts.length; ++i) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), maxInMicros);
+            }
+        }
+        return maxInMicros;
+    }
+}
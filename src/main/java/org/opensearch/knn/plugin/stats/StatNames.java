@@ -27,6 +27,11 @@ public enum StatNames {
 
     CIRCUIT_BREAKER_TRIGGERED("circuit_breaker_triggered"),
 
+    // Admission control stats
+    NATIVE_MEMORY_PRESSURE_LEVEL("native_memory_pressure_level"),
+    NATIVE_MEMORY_IN_FLIGHT_LOAD_SIZE("native_memory_in_flight_load_size"),
+    GRAPH_LOAD_REJECTIONS(KNNCounter.GRAPH_LOAD_REJECTIONS.getName()),
+
     // Engine Stats
     FAISS_LOADED("faiss_initialized"),
     NMSLIB_LOADED("nmslib_initialized"),
@@ -66,7 +71,17 @@ public enum StatNames {
     MIN_SCORE_QUERY_WITH_FILTER_REQUESTS(KNNCounter.MIN_SCORE_QUERY_WITH_FILTER_REQUESTS.getName()),
 
     MAX_DISTANCE_QUERY_REQUESTS(KNNCounter.MAX_DISTANCE_QUERY_REQUESTS.getName()),
-    MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS(KNNCounter.MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS.getName());
+    MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS(KNNCounter.MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS.getName()),
+
+    // Work done by approximate searches
+    KNN_QUERY_VISITED_NODES(KNNCounter.KNN_QUERY_VISITED_NODES.getName()),
+    KNN_QUERY_DISTANCE_COMPUTATIONS(KNNCounter.KNN_QUERY_DISTANCE_COMPUTATIONS.getName()),
+    KNN_QUERY_FILTER_REJECTIONS(KNNCounter.KNN_QUERY_FILTER_REJECTIONS.getName()),
+    KNN_QUERY_EARLY_TERMINATIONS(KNNCounter.KNN_QUERY_EARLY_TERMINATIONS.getName()),
+
+    // Latencies of query phases per index and field, reset on read, and since the index was opened
+    QUERY_LATENCY_STATS("query_latency_stats"),
+    QUERY_LATENCY_CUMULATIVE_STATS("query_latency_cumulative_stats");
 
     private String name;
 
@@ -8,21 +8,35 @@ package org.opensearch.knn.plugin.transport;
 import org.opensearch.core.action.support.DefaultShardOperationFailedException;
 import org.opensearch.action.support.broadcast.BroadcastResponse;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Response returned for k-NN Warmup. Returns total number of shards Warmup was performed on, as well as
- * the number of shards that succeeded and the number of shards that failed.
+ * the number of shards that succeeded and the number of shards that failed. For each successful shard, the bytes touched and the time
+ * taken to warm up memory optimized fields of each segment are reported.
  */
 public class KNNWarmupResponse extends BroadcastResponse implements ToXContentObject {
+    private static final String SHARDS = "shards";
 
-    public KNNWarmupResponse() {}
+    private final List<KNNWarmupShardResult> shardResults;
+
+    public KNNWarmupResponse() {
+        this.shardResults = Collections.emptyList();
+    }
 
     public KNNWarmupResponse(StreamInput in) throws IOException {
         super(in);
+        if (in.getVersion().onOrAfter(KNNWarmupShardResult.MIN_VERSION)) {
+            this.shardResults = in.readList(KNNWarmupShardResult::new);
+        } else {
+            this.shardResults = Collections.emptyList();
+        }
     }
 
     public KNNWarmupResponse(
@@ -30,7 +44,42 @@ public class KNNWarmupResponse extends BroadcastResponse implements ToXContentOb
         int successfulShards,
         int failedShards,
         List<DefaultShardOperationFailedException> shardFailures
+    ) {
+        this(totalShards, successfulShards, failedShards, shardFailures, Collections.emptyList());
+    }
+
+    public KNNWarmupResponse(
+        int totalShards,
+        int successfulShards,
+        int failedShards,
+        List<DefaultShardOperationFailedException> shardFailures,
+        List<KNNWarmupShardResult> shardResults
     ) {
         super(totalShards, successfulShards, failedShards, shardFailures);
+        this.shardResults = shardResults;
+    }
+
+    public List<KNNWarmupShardResult> getShardResults() {
+        return shardResults;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        if (out.getVersion().onOrAfter(KNNWarmupShardResult.MIN_VERSION)) {
+            out.writeList(shardResults);
+        }
+    }
+
+    @Override
+    protected void addCustomFields(XContentBuilder builder, Params params) throws IOException {
+        if (shardResults.isEmpty()) {
+            return;
+        }
+        builder.startArray(SHARDS);
+        for (KNNWarmupShardResult shardResult : shardResults) {
+            shardResult.toXContent(builder, params);
+        }
+        builder.endArray();
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.transport;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.opensearch.Version;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.knn.index.warmup.SegmentWarmupStats;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of warming up a single shard, made of warm up stats of each of its segments.
+ * Nodes before {@link #MIN_VERSION} reply with an empty result, which is read as a result without shard id nor segments.
+ */
+@Getter
+@AllArgsConstructor
+public class KNNWarmupShardResult implements Writeable, ToXContentObject {
+    private static final String INDEX = "index";
+    private static final String SHARD = "shard";
+    private static final String SEGMENTS = "segments";
+    static final Version MIN_VERSION = Version.V_3_8_0;
+
+    private final ShardId shardId;
+    private final List<SegmentWarmupStats> segments;
+
+    public KNNWarmupShardResult(final StreamInput in) throws IOException {
+        if (in.getVersion().onOrAfter(MIN_VERSION)) {
+            this.shardId = new ShardId(in);
+            this.segments = in.readList(SegmentWarmupStats::new);
+        } else {
+            this.shardId = null;
+            this.segments = Collections.emptyList();
+        }
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        if (out.getVersion().onOrAfter(MIN_VERSION)) {
+            shardId.writeTo(out);
+            out.writeList(segments);
+        }
+    }
+
+    @Override
+    public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+        builder.startObject();
+        if (shardId != null) {
+            builder.field(INDEX, shardId.getIndexName());
+            builder.field(SHARD, shardId.id());
+        }
+        builder.startArray(SEGMENTS);
+        for (final SegmentWarmupStats segment : segments) {
+            segment.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder.endObject();
+    }
+}
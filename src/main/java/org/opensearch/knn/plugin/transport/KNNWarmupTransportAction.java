@@ -26,6 +26,9 @@ import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.opensearch.knn.common.KNNConstants.WARMUP_THREAD_POOL;
 
 /**
  * Transport Action for warming up k-NN indices. TransportBroadcastByNodeAction will distribute the request to
@@ -35,11 +38,12 @@ import java.util.List;
 public class KNNWarmupTransportAction extends TransportBroadcastByNodeAction<
     KNNWarmupRequest,
     KNNWarmupResponse,
-    TransportBroadcastByNodeAction.EmptyResult> {
+    KNNWarmupShardResult> {
 
     public static Logger logger = LogManager.getLogger(KNNWarmupTransportAction.class);
 
     private IndicesService indicesService;
+    private ThreadPool threadPool;
 
     @Inject
     public KNNWarmupTransportAction(
@@ -59,11 +63,12 @@ public class KNNWarmupTransportAction extends TransportBroadcastByNodeAction<
             ThreadPool.Names.SEARCH
         );
         this.indicesService = indicesService;
+        this.threadPool = transportService.getThreadPool();
     }
 
     @Override
-    protected EmptyResult readShardResult(StreamInput in) throws IOException {
-        return EmptyResult.readEmptyResultFrom(in);
+    protected KNNWarmupShardResult readShardResult(StreamInput in) throws IOException {
+        return new KNNWarmupShardResult(in);
     }
 
     @Override
@@ -72,11 +77,15 @@ public class KNNWarmupTransportAction extends TransportBroadcastByNodeAction<
         int totalShards,
         int successfulShards,
         int failedShards,
-        List<EmptyResult> emptyResults,
+        List<KNNWarmupShardResult> shardResults,
         List<DefaultShardOperationFailedException> shardFailures,
         ClusterState clusterState
     ) {
-        return new KNNWarmupResponse(totalShards, successfulShards, failedShards, shardFailures);
+        // Results from nodes not reporting stats yet carry no shard id.
+        final List<KNNWarmupShardResult> reportedResults = shardResults.stream()
+            .filter(shardResult -> shardResult.getShardId() != null)
+            .collect(Collectors.toList());
+        return new KNNWarmupResponse(totalShards, successfulShards, failedShards, shardFailures, reportedResults);
     }
 
     @Override
@@ -85,12 +94,12 @@ public class KNNWarmupTransportAction extends TransportBroadcastByNodeAction<
     }
 
     @Override
-    protected EmptyResult shardOperation(KNNWarmupRequest request, ShardRouting shardRouting) throws IOException {
+    protected KNNWarmupShardResult shardOperation(KNNWarmupRequest request, ShardRouting shardRouting) throws IOException {
         KNNIndexShard knnIndexShard = new KNNIndexShard(
             indicesService.indexServiceSafe(shardRouting.shardId().getIndex()).getShard(shardRouting.shardId().id())
         );
-        knnIndexShard.warmup();
-        return EmptyResult.INSTANCE;
+        // Segments are warmed up in parallel on the k-NN warmup thread pool.
+        return new KNNWarmupShardResult(shardRouting.shardId(), knnIndexShard.warmup(threadPool.executor(WARMUP_THREAD_POOL)));
     }
 
     @Override
@@ -12,9 +12,11 @@ import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.BitSet;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.index.query.KNNQuery;
+import org.opensearch.knn.index.query.KNNSearchMetrics;
 import org.opensearch.knn.index.query.memoryoptsearch.MemoryOptimizedKNNWeight;
 import org.opensearch.knn.profile.query.KNNMetrics;
 import org.opensearch.knn.profile.query.KNNQueryTimingType;
+import org.opensearch.search.profile.AbstractProfileBreakdown;
 import org.opensearch.search.profile.ContextualProfileBreakdown;
 
 import java.io.IOException;
@@ -82,4 +84,22 @@ public class ProfileMemoryOptKNNWeight extends MemoryOptimizedKNNWeight {
             () -> super.exactSearch(leafReaderContext, exactSearcherContext)
         );
     }
+
+    @Override
+    protected void recordSearchMetrics(final LeafReaderContext context, final KNNSearchMetrics searchMetrics) {
+        super.recordSearchMetrics(context, searchMetrics);
+        // A segment can be searched more than once, e.g. by the second pass of an optimistic search, hence accumulate.
+        final AbstractProfileBreakdown breakdown = profile.context(context);
+        addToMetric(breakdown, KNNMetrics.VISITED_NODES, searchMetrics.getVisitedNodes());
+        addToMetric(breakdown, KNNMetrics.DISTANCE_COMPUTATIONS, searchMetrics.getDistanceComputations());
+        addToMetric(breakdown, KNNMetrics.FILTER_REJECTIONS, searchMetrics.getFilterRejections());
+        if (searchMetrics.getEarlyTerminationReason() == KNNSearchMetrics.EarlyTerminationReason.VISIT_LIMIT) {
+            addToMetric(breakdown, KNNMetrics.VISIT_LIMIT_TERMINATIONS, 1);
+        }
+    }
+
+    private static void addToMetric(final AbstractProfileBreakdown breakdown, final String name, final long delta) {
+        final LongMetric metric = (LongMetric) breakdown.getMetric(name);
+        metric.setValue(metric.getValue() + delta);
+    }
 }
@@ -21,10 +21,15 @@ public class KNNMetrics {
 
     public static final String NUM_NESTED_DOCS = "num_nested_docs";
     public static final String CARDINALITY = "cardinality";
+    public static final String VISITED_NODES = "visited_nodes";
+    public static final String DISTANCE_COMPUTATIONS = "distance_computations";
+    public static final String FILTER_REJECTIONS = "filter_rejections";
+    // Number of approximate searches that stopped on the visit limit
+    public static final String VISIT_LIMIT_TERMINATIONS = "visit_limit_terminations";
 
     /**
      * Contains profile metric information for KNN Queries based on {@link KNNQueryTimingType} timers. Additionally, it
-     * contains a metric for filter cardinality.
+     * contains a metric for filter cardinality and metrics for the work done by approximate search.
      * @return list of {@link org.opensearch.search.profile.ProfileMetric} for KNNQueries
      *
      */
@@ -35,6 +40,10 @@ public class KNNMetrics {
         }
 
         metrics.add(() -> new LongMetric(CARDINALITY));
+        metrics.add(() -> new LongMetric(VISITED_NODES));
+        metrics.add(() -> new LongMetric(DISTANCE_COMPUTATIONS));
+        metrics.add(() -> new LongMetric(FILTER_REJECTIONS));
+        metrics.add(() -> new LongMetric(VISIT_LIMIT_TERMINATIONS));
 
         return metrics;
     }
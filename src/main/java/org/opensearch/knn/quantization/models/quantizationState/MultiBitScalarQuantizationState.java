@@ -56,6 +56,12 @@ public final class MultiBitScalarQuantizationState implements QuantizationState
     @Builder.Default
     private float[][] rotationMatrix = null;
 
+    /**
+     * Quantization error measured on the training sample, null if it was not measured.
+     */
+    @Builder.Default
+    private QuantizationErrorStats errorStats = null;
+
     @Override
     public ScalarQuantizationParams getQuantizationParams() {
         return quantizationParams;
@@ -88,7 +94,22 @@ public final class MultiBitScalarQuantizationState implements QuantizationState
                 out.writeBoolean(false);
             }
         }
+        out.writeOptionalWriteable(errorStats);
+    }
 
+    /**
+     * Constructor for states without measured quantization error.
+     *
+     * @param quantizationParams The scalar quantization parameters
+     * @param thresholds The thresholds used for quantization
+     * @param rotationMatrix The rotation matrix, null if random rotation is disabled
+     */
+    public MultiBitScalarQuantizationState(
+        @NonNull ScalarQuantizationParams quantizationParams,
+        @NonNull float[][] thresholds,
+        float[][] rotationMatrix
+    ) {
+        this(quantizationParams, thresholds, rotationMatrix, null);
     }
 
     /**
@@ -117,6 +138,10 @@ public final class MultiBitScalarQuantizationState implements QuantizationState
                 }
             }
         }
+
+        if (Version.fromId(version).onOrAfter(Version.V_3_8_0)) {
+            this.errorStats = in.readOptionalWriteable(QuantizationErrorStats::new);
+        }
     }
 
     /**
@@ -220,6 +245,9 @@ public final class MultiBitScalarQuantizationState implements QuantizationState
                 size += RamUsageEstimator.sizeOf(row);
             }
         }
+        if (errorStats != null) {
+            size += RamUsageEstimator.shallowSizeOf(errorStats);
+        }
         return size;
     }
 }
@@ -60,6 +60,12 @@ public final class OneBitScalarQuantizationState implements QuantizationState {
     @Builder.Default
     private float[][] rotationMatrix = null;
 
+    /**
+     * Quantization error measured on the training sample, null if it was not measured.
+     */
+    @Builder.Default
+    private QuantizationErrorStats errorStats = null;
+
     @Override
     public ScalarQuantizationParams getQuantizationParams() {
         return quantizationParams;
@@ -90,6 +96,7 @@ public final class OneBitScalarQuantizationState implements QuantizationState {
         out.writeOptionalArray(belowThresholdMeans != null ? new FloatArrayWrapper[] { new FloatArrayWrapper(belowThresholdMeans) } : null);
         // Serialize aboveThresholdMeans using writeOptionalArray
         out.writeOptionalArray(aboveThresholdMeans != null ? new FloatArrayWrapper[] { new FloatArrayWrapper(aboveThresholdMeans) } : null);
+        out.writeOptionalWriteable(errorStats);
     }
 
     /**
@@ -121,6 +128,10 @@ public final class OneBitScalarQuantizationState implements QuantizationState {
             FloatArrayWrapper[] wrappedAboveThresholdMeans = in.readOptionalArray(FloatArrayWrapper::new, FloatArrayWrapper[]::new);
             this.aboveThresholdMeans = wrappedAboveThresholdMeans != null ? wrappedAboveThresholdMeans[0].getArray() : null;
         }
+
+        if (Version.fromId(version).onOrAfter(Version.V_3_8_0)) {
+            this.errorStats = in.readOptionalWriteable(QuantizationErrorStats::new);
+        }
     }
 
     /**
@@ -223,6 +234,9 @@ public final class OneBitScalarQuantizationState implements QuantizationState {
         if (aboveThresholdMeans != null) {
             size += RamUsageEstimator.sizeOf(aboveThresholdMeans);
         }
+        if (errorStats != null) {
+            size += RamUsageEstimator.shallowSizeOf(errorStats);
+        }
 
         return size;
     }
@@ -0,0 +1,237 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.models.quantizationState;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+
+/**
+ * Statistics of the error quantization introduces in the distances between vectors, measured on the training sample of a segment.
+ * <p>
+ * Quantized distances, e.g. the hamming distance between binary codes, live on a different scale than full precision distances.
+ * They are first mapped onto the full precision scale by inverting the least squares linear fit of the quantized distance on the
+ * full precision one over the sample, then the variance of the delta between the mapped and the full precision distance is recorded.
+ * The fit makes the mean of the delta zero on the sample, so only its variance is kept, which relative to the variance of the full
+ * precision distances tells how much the quantized ranking is shuffled.
+ * <p>
+ * {@link #estimateFirstPassK} turns these statistics into the number of first pass candidates needed to keep the true top k after
+ * rescoring, modelling the distances as normally distributed and the delta as independent normal noise. {@link #toQuantizedRadius}
+ * turns them into the quantized radius a first pass must use to keep the vectors within a full precision radius.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public final class QuantizationErrorStats implements Writeable {
+    // Absolute error of the upper tail approximation.
+    private static final double UPPER_TAIL_ERROR = 7.5e-8;
+    private static final double ACKLAM_TAIL_BOUND = 0.02425;
+    private static final double[] ACKLAM_A = {
+        -3.969683028665376e+01,
+        2.209460984245205e+02,
+        -2.759285104469687e+02,
+        1.383577518672690e+02,
+        -3.066479806614716e+01,
+        2.506628277459239e+00 };
+    private static final double[] ACKLAM_B = {
+        -5.447609879822406e+01,
+        1.615858368580409e+02,
+        -1.556989798598866e+02,
+        6.680131188771972e+01,
+        -1.328068155288572e+01 };
+    private static final double[] ACKLAM_C = {
+        -7.784894002430293e-03,
+        -3.223964580411365e-01,
+        -2.400758277161838e+00,
+        -2.549732539343734e+00,
+        4.374664141464968e+00,
+        2.938163982698783e+00 };
+    private static final double[] ACKLAM_D = { 7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00, 3.754408661907416e+00 };
+
+    private final int numSamples;
+    private final float scoreVariance;
+    private final float deltaVariance;
+    // Least squares fit of the quantized distance on the full precision one, NaN when unknown.
+    private final float slope;
+    private final float intercept;
+
+    public QuantizationErrorStats(final int numSamples, final float scoreVariance, final float deltaVariance) {
+        this(numSamples, scoreVariance, deltaVariance, Float.NaN, Float.NaN);
+    }
+
+    public QuantizationErrorStats(final StreamInput in) throws IOException {
+        this.numSamples = in.readVInt();
+        this.scoreVariance = in.readFloat();
+        this.deltaVariance = in.readFloat();
+        this.slope = in.readFloat();
+        this.intercept = in.readFloat();
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        out.writeVInt(numSamples);
+        out.writeFloat(scoreVariance);
+        out.writeFloat(deltaVariance);
+        out.writeFloat(slope);
+        out.writeFloat(intercept);
+    }
+
+    /**
+     * @return standard deviation of the delta in units of the standard deviation of the full precision distances, NaN when the
+     * full precision distances of the sample do not vary, infinite when the quantized distances are not correlated with them.
+     */
+    public double getRelativeError() {
+        if (scoreVariance <= 0 || Float.isNaN(deltaVariance)) {
+            return Double.NaN;
+        }
+        return Math.sqrt(Math.max(deltaVariance, 0) / scoreVariance);
+    }
+
+    /**
+     * Estimates the smallest number of first pass candidates such that a true top k result is among them with the given probability.
+     * <p>
+     * In standard units, the true top k results score above {@code t = Q^-1(k / n)}, where {@code Q} is the upper tail of the standard
+     * normal distribution. Quantized scores are the true scores plus noise of standard deviation {@code e}, the relative error. For the
+     * k-th result to be kept with probability {@code r}, the first pass must go down to {@code t - e * Q^-1(1 - r)}, and the number of
+     * quantized scores above that point, whose standard deviation is {@code sqrt(1 + e^2)}, is the first pass k. Results above the k-th
+     * one are kept with a higher probability, so the expected recall is at least {@code r}.
+     *
+     * @param k number of results to return
+     * @param numVectors number of vectors searched
+     * @param targetRecall expected recall, in (0, 1)
+     * @return estimated first pass k, at least k, or -1 if the statistics do not allow an estimate
+     */
+    public int estimateFirstPassK(final int k, final long numVectors, final double targetRecall) {
+        final double relativeError = getRelativeError();
+        if (Double.isFinite(relativeError) == false || numVectors <= k) {
+            return -1;
+        }
+        final double topKThreshold = inverseUpperTail((double) k / numVectors);
+        final double firstPassThreshold = (topKThreshold - relativeError * inverseUpperTail(1 - targetRecall)) / Math.sqrt(
+            1 + relativeError * relativeError
+        );
+        // Discount the approximation error, so that lossless quantization needs exactly k.
+        final double firstPassK = Math.ceil(numVectors * (upperTail(firstPassThreshold) - UPPER_TAIL_ERROR));
+        return (int) Math.min(numVectors, Math.max(k, firstPassK));
+    }
+
+    /**
+     * Maps a full precision radius onto the quantized scale, widened so that a vector within the radius has a quantized distance
+     * within the returned one with the given probability.
+     * <p>
+     * A vector at full precision distance {@code s} has the quantized distance {@code slope * (s + delta) + intercept}. It is kept when
+     * its delta is below the radius minus {@code s}, which for {@code s <= radius} holds with probability {@code r} as soon as the
+     * radius is widened by {@code sqrt(deltaVariance) * Q^-1(1 - r)}, the delta having a zero mean.
+     *
+     * @param radius full precision radius, in the distance the statistics were measured with
+     * @param targetRecall probability to keep a vector within the radius, in (0, 1)
+     * @return quantized radius, NaN if the statistics do not allow to map the radius
+     */
+    public double toQuantizedRadius(final double radius, final double targetRecall) {
+        if ((slope > 0) == false || Float.isFinite(intercept) == false || Float.isFinite(deltaVariance) == false) {
+            return Double.NaN;
+        }
+        final double widenedRadius = radius + Math.sqrt(Math.max(deltaVariance, 0)) * inverseUpperTail(1 - targetRecall);
+        final double quantizedRadius = slope * widenedRadius + intercept;
+        return Double.isFinite(quantizedRadius) ? quantizedRadius : Double.NaN;
+    }
+
+    /**
+     * Upper tail {@code P(Z > x)} of the standard normal distribution, Abramowitz and Stegun 26.2.17.
+     */
+    static double upperTail(final double x) {
+        if (x < 0) {
+            return 1 - upperTail(-x);
+        }
+        final double t = 1 / (1 + 0.2316419 * x);
+        final double poly = t * (0.319381530 + t * (-0.356563782 + t * (1.781477937 + t * (-1.821255978 + t * 1.330274429))));
+        return Math.exp(-x * x / 2) / Math.sqrt(2 * Math.PI) * poly;
+    }
+
+    /**
+     * Inverse of {@link #upperTail}, Acklam's rational approximation of the normal quantile, relative error below 1.2e-9.
+     */
+    static double inverseUpperTail(final double p) {
+        if (p <= 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (p >= 1) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        // Work on the tail closest to p to avoid cancellation, the upper quantile of q is the opposite of its lower quantile.
+        final double q = Math.min(p, 1 - p);
+        final double upperQuantile;
+        if (q < ACKLAM_TAIL_BOUND) {
+            final double r = Math.sqrt(-2 * Math.log(q));
+            upperQuantile = -horner(ACKLAM_C, r) / (horner(ACKLAM_D, r) * r + 1);
+        } else {
+            final double r = q - 0.5;
+            upperQuantile = -horner(ACKLAM_A, r * r) * r / (horner(ACKLAM_B, r * r) * r * r + 1);
+        }
+        return p <= 0.5 ? upperQuantile : -upperQuantile;
+    }
+
+    private static double horner(final double[] coefficients, final double x) {
+        double result = 0;
+        for (final double coefficient : coefficients) {
+            result = result * x + coefficient;
+        }
+        return result;
+    }
+
+    /**
+     * Accumulates pairs of full precision and quantized distances with Welford's online algorithm.
+     */
+    public static final class Accumulator {
+        private int count;
+        private double scoreMean;
+        private double quantizedMean;
+        private double scoreM2;
+        private double quantizedM2;
+        private double coMoment;
+
+        public void add(final double score, final double quantizedScore) {
+            count++;
+            final double scoreDelta = score - scoreMean;
+            final double quantizedDelta = quantizedScore - quantizedMean;
+            scoreMean += scoreDelta / count;
+            quantizedMean += quantizedDelta / count;
+            scoreM2 += scoreDelta * (score - scoreMean);
+            quantizedM2 += quantizedDelta * (quantizedScore - quantizedMean);
+            coMoment += scoreDelta * (quantizedScore - quantizedMean);
+        }
+
+        /**
+         * @return statistics of the accumulated pairs, null if fewer than two pairs were added.
+         */
+        public QuantizationErrorStats build() {
+            if (count < 2) {
+                return null;
+            }
+            final double scoreVariance = scoreM2 / count;
+            final double quantizedVariance = quantizedM2 / count;
+            final double covariance = coMoment / count;
+            // The quantized distance is fitted as slope * score + intercept + noise and mapped back with the inverse of the fit, so
+            // the delta is the noise divided by the slope. Without correlation, the quantized distance carries no information.
+            final double deltaVariance = covariance != 0
+                ? (quantizedVariance - covariance * covariance / scoreVariance) * scoreVariance * scoreVariance / (covariance * covariance)
+                : Double.POSITIVE_INFINITY;
+            final double slope = scoreVariance > 0 ? covariance / scoreVariance : Double.NaN;
+            return new QuantizationErrorStats(
+                count,
+                (float) scoreVariance,
+                (float) Math.max(deltaVariance, 0),
+                (float) slope,
+                (float) (quantizedMean - slope * scoreMean)
+            );
+        }
+    }
+}
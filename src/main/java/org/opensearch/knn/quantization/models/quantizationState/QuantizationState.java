@@ -53,4 +53,13 @@ public interface QuantizationState extends Writeable {
      * @return the memory usage in bytes.
      */
     long ramBytesUsed();
+
+    /**
+     * Returns the quantization error measured on the training sample, used to size the first pass of rescoring.
+     *
+     * @return the error statistics, or null if they were not measured.
+     */
+    default QuantizationErrorStats getErrorStats() {
+        return null;
+    }
 }
@@ -9,9 +9,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Value;
+import org.apache.lucene.util.VectorUtil;
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.MultiBitScalarQuantizationState;
 import org.opensearch.knn.quantization.models.quantizationState.OneBitScalarQuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationErrorStats;
 import org.opensearch.knn.quantization.models.requests.TrainingRequest;
 import lombok.experimental.UtilityClass;
 import oshi.util.tuples.Pair;
@@ -26,6 +28,8 @@ import java.io.IOException;
 @UtilityClass
 class QuantizerHelper {
     private static final int ONE_BIT_NUMBER_OF_BITS_PER_COORDINATE = 1;
+    // Number of pairs of sampled vectors the quantization error is measured on.
+    private static final int MAX_ERROR_STATS_PAIRS = 1000;
 
     /**
      * Calculate quantization state for a {@link OneBitScalarQuantizationState}.
@@ -53,6 +57,7 @@ class QuantizerHelper {
             .rotationMatrix(quantizerHelperResult.getRotationMatrix())
             .belowThresholdMeans(quantizerHelperResult.getBelow())
             .aboveThresholdMeans(quantizerHelperResult.getAbove())
+            .errorStats(quantizerHelperResult.getErrorStats())
             .build();
     }
 
@@ -78,6 +83,7 @@ class QuantizerHelper {
             .quantizationParams(quantizationParams)
             .thresholds(quantizerHelperResult.getThresholds())
             .rotationMatrix(quantizerHelperResult.getRotationMatrix())
+            .errorStats(quantizerHelperResult.getErrorStats())
             .build();
     }
 
@@ -126,6 +132,8 @@ class QuantizerHelper {
         // below and above thresholds means are used for transforming vector for ADC in one bit paradigm.
         float[] below;
         float[] above;
+
+        QuantizationErrorStats errorStats;
     }
 
     private static QuantizerHelperResult calculateQuantizationStateHelper(
@@ -147,6 +155,12 @@ class QuantizerHelper {
         Pair<float[], float[]> meanStd = calculateMeanAndStdDev(trainingRequest, sampledIndices, rotationMatrix);
 
         thresholds = calculateThresholds(meanStd.getA(), meanStd.getB(), bitsPerCoordinate);
+        final QuantizationErrorStats errorStats = calculateQuantizationErrorStats(
+            trainingRequest,
+            sampledIndices,
+            thresholds,
+            rotationMatrix
+        );
 
         // if bitsPerCoordinate = 1, there should only be one threshold (used to mean center coordinates).
         if (bitsPerCoordinate == 1) {
@@ -163,10 +177,11 @@ class QuantizerHelper {
                 .rotationMatrix(rotationMatrix)
                 .below(belowAbove.getA())
                 .above(belowAbove.getB())
+                .errorStats(errorStats)
                 .build();
         }
 
-        return QuantizerHelperResult.builder().thresholds(thresholds).rotationMatrix(rotationMatrix).build();
+        return QuantizerHelperResult.builder().thresholds(thresholds).rotationMatrix(rotationMatrix).errorStats(errorStats).build();
     }
 
     public static Pair<float[], float[]> calculateMeanAndStdDev(TrainingRequest<float[]> request, int[] sampledIndices) throws IOException {
@@ -228,6 +243,53 @@ class QuantizerHelper {
         return new Pair<>(mean, stdDev);
     }
 
+    /**
+     * Measures the quantization error on pairs of consecutive sampled vectors, comparing the squared L2 distance between the full
+     * precision vectors with the hamming distance between their codes, which is what the first pass of disk based search ranks by.
+     *
+     * @param request         Training request.
+     * @param sampledIndices  Sampled vector indices, in increasing order.
+     * @param thresholds      Trained thresholds of shape [bits][dimensions].
+     * @param rotationMatrix  Rotation applied before quantization, null if none.
+     * @return error statistics, null if fewer than two pairs could be measured.
+     * @throws IOException if vector access fails.
+     */
+    static QuantizationErrorStats calculateQuantizationErrorStats(
+        TrainingRequest<float[]> request,
+        int[] sampledIndices,
+        float[][] thresholds,
+        float[][] rotationMatrix
+    ) throws IOException {
+        final int bitsPerCoordinate = thresholds.length;
+        final int codeSize = (bitsPerCoordinate * thresholds[0].length + Byte.SIZE - 1) / Byte.SIZE;
+        final int stride = Math.max(1, sampledIndices.length / (MAX_ERROR_STATS_PAIRS + 1));
+        final QuantizationErrorStats.Accumulator accumulator = new QuantizationErrorStats.Accumulator();
+        float[] previousVector = null;
+        byte[] previousCode = null;
+
+        request.resetVectorValues();
+        for (int i = 0; i < sampledIndices.length; i += stride) {
+            float[] vector = request.getVectorAtThePosition(sampledIndices[i]);
+
+            if (vector == null) {
+                throw new IllegalArgumentException("Vector at sampled index " + sampledIndices[i] + " is null.");
+            }
+
+            // The previous vector is kept across reads, hence it must not share the buffer of the vector values.
+            vector = rotationMatrix != null ? RandomGaussianRotation.applyRotation(vector, rotationMatrix) : vector.clone();
+            final byte[] code = new byte[codeSize];
+            BitPacker.quantizeAndPackBits(vector, thresholds, bitsPerCoordinate, code);
+
+            if (previousVector != null) {
+                accumulator.add(VectorUtil.squareDistance(previousVector, vector), VectorUtil.xorBitCount(previousCode, code));
+            }
+            previousVector = vector;
+            previousCode = code;
+        }
+
+        return accumulator.build();
+    }
+
     protected static Pair<float[], float[]> calculateBelowAboveThresholdMeans(
         TrainingRequest<float[]> request,
         float[] thresholds,
@@ -11,6 +11,7 @@ import org.opensearch.knn.index.memory.NativeMemoryAllocation;
 import org.opensearch.knn.jni.JNICommons;
 import org.opensearch.search.SearchHit;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -31,8 +32,15 @@ public class BinaryTrainingDataConsumer extends TrainingDataConsumer {
 
     @Override
     public void accept(List<?> byteVectors) {
+        ByteBuffer stagingBuffer = stageByteVectors(byteVectors);
         long memoryAddress = trainingDataAllocation.getMemoryAddress();
-        memoryAddress = JNICommons.storeBinaryVectorData(memoryAddress, byteVectors.toArray(new byte[0][0]), byteVectors.size());
+        memoryAddress = JNICommons.storeBinaryVectorDataFromBuffer(
+            memoryAddress,
+            stagingBuffer,
+            stagingBuffer.capacity(),
+            stagingBuffer.capacity(),
+            true
+        );
         trainingDataAllocation.setMemoryAddress(memoryAddress);
     }
 
@@ -16,6 +16,7 @@ import org.opensearch.knn.index.memory.NativeMemoryAllocation;
 import org.opensearch.knn.jni.JNICommons;
 import org.opensearch.search.SearchHit;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -35,8 +36,15 @@ public class ByteTrainingDataConsumer extends TrainingDataConsumer {
 
     @Override
     public void accept(List<?> byteVectors) {
+        ByteBuffer stagingBuffer = stageByteVectors(byteVectors);
         long memoryAddress = trainingDataAllocation.getMemoryAddress();
-        memoryAddress = JNICommons.storeByteVectorData(memoryAddress, byteVectors.toArray(new byte[0][0]), byteVectors.size());
+        memoryAddress = JNICommons.storeByteVectorDataFromBuffer(
+            memoryAddress,
+            stagingBuffer,
+            stagingBuffer.capacity(),
+            stagingBuffer.capacity(),
+            true
+        );
         trainingDataAllocation.setMemoryAddress(memoryAddress);
     }
 
@@ -25,6 +25,9 @@ import org.opensearch.knn.quantization.quantizer.Quantizer;
 import org.opensearch.search.SearchHit;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -49,19 +52,28 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
     public void accept(List<?> floats) {
         if (isValidFloatsAndQuantizationConfig(floats)) {
             try {
-                List<byte[]> byteVectors = quantizeVectors(floats);
+                ByteBuffer stagingBuffer = stageByteVectors(quantizeVectors(floats));
                 long memoryAddress = trainingDataAllocation.getMemoryAddress();
-                memoryAddress = JNICommons.storeBinaryVectorData(memoryAddress, byteVectors.toArray(new byte[0][0]), byteVectors.size());
+                memoryAddress = JNICommons.storeBinaryVectorDataFromBuffer(
+                    memoryAddress,
+                    stagingBuffer,
+                    stagingBuffer.capacity(),
+                    stagingBuffer.capacity(),
+                    true
+                );
                 trainingDataAllocation.setMemoryAddress(memoryAddress);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
         } else {
+            ByteBuffer stagingBuffer = stageFloatVectors(floats);
             trainingDataAllocation.setMemoryAddress(
-                JNICommons.storeVectorData(
+                JNICommons.storeVectorDataFromBuffer(
                     trainingDataAllocation.getMemoryAddress(),
-                    floats.stream().map(v -> ArrayUtils.toPrimitive((Float[]) v)).toArray(float[][]::new),
-                    floats.size()
+                    stagingBuffer,
+                    stagingBuffer.capacity(),
+                    stagingBuffer.capacity() / Float.BYTES,
+                    true
                 )
             );
         }
@@ -88,6 +100,21 @@ public class FloatTrainingDataConsumer extends TrainingDataConsumer {
         accept(vectors);
     }
 
+    private static ByteBuffer stageFloatVectors(List<?> floats) {
+        int numFloats = 0;
+        for (Object vector : floats) {
+            numFloats = Math.addExact(numFloats, ((Float[]) vector).length);
+        }
+        ByteBuffer stagingBuffer = ByteBuffer.allocateDirect(Math.multiplyExact(numFloats, Float.BYTES)).order(ByteOrder.nativeOrder());
+        FloatBuffer stagingFloats = stagingBuffer.asFloatBuffer();
+        for (Object vector : floats) {
+            for (Float value : (Float[]) vector) {
+                stagingFloats.put(value);
+            }
+        }
+        return stagingBuffer;
+    }
+
     private List<byte[]> quantizeVectors(List<?> vectors) throws IOException {
         List<byte[]> bytes = new ArrayList<>();
         ScalarQuantizationParams quantizationParams = ScalarQuantizationParams.builder()
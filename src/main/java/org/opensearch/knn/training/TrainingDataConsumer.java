@@ -17,6 +17,8 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.knn.index.memory.NativeMemoryAllocation;
 import org.opensearch.search.SearchHit;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +46,24 @@ public abstract class TrainingDataConsumer {
 
     public abstract void processTrainingVectors(SearchResponse searchResponse, int vectorsToAdd, String fieldName);
 
+    /**
+     * Copies byte vectors back to back into a direct buffer, to be stored in native memory with a single copy.
+     *
+     * @param byteVectors list of byte[] vectors
+     * @return direct buffer holding the vectors, its capacity being their total number of bytes
+     */
+    protected static ByteBuffer stageByteVectors(List<?> byteVectors) {
+        int numBytes = 0;
+        for (Object vector : byteVectors) {
+            numBytes = Math.addExact(numBytes, ((byte[]) vector).length);
+        }
+        ByteBuffer stagingBuffer = ByteBuffer.allocateDirect(numBytes).order(ByteOrder.nativeOrder());
+        for (Object vector : byteVectors) {
+            stagingBuffer.put((byte[]) vector);
+        }
+        return stagingBuffer;
+    }
+
     /**
      * Traverses the hit to the desired field and extracts its value.
      *
@@ -50,6 +50,27 @@ public class KNNQueryBuilderProtoUtilsTests extends OpenSearchTestCase {
         assertEquals((Integer) 5, knnQueryBuilder.getK());
     }
 
+    @Test
+    public void testFromProto_withHighDimensionVector() {
+        final float[] expected = new float[1536];
+        final KnnQuery.Builder knnQueryBuilder = KnnQuery.newBuilder().setField("test_field").setK(5);
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = randomFloat();
+            knnQueryBuilder.addVector(expected[i]);
+        }
+        ObjectMap methodParams = ObjectMap.newBuilder().putFields("ef_search", ObjectMap.Value.newBuilder().setInt32(100).build()).build();
+        knnQueryBuilder.setMethodParameters(methodParams).setFilter(QueryContainer.newBuilder().build());
+        when(mockRegistry.fromProto(any())).thenReturn(mockQueryBuilder);
+
+        QueryBuilder result = KNNQueryBuilderProtoUtils.fromProto(knnQueryBuilder.build(), mockRegistry);
+
+        assertTrue(result instanceof KNNQueryBuilder);
+        KNNQueryBuilder knnQuery = (KNNQueryBuilder) result;
+        assertArrayEquals(expected, (float[]) knnQuery.vector(), 0.0f);
+        assertEquals(mockQueryBuilder, knnQuery.getFilter());
+        assertEquals(100, knnQuery.getMethodParameters().get("ef_search"));
+    }
+
     @Test
     public void testFromProto_withBoost() {
         KnnQuery knnQuery = KnnQuery.newBuilder()
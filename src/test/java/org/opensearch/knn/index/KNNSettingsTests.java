@@ -12,6 +12,7 @@ import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.network.NetworkModule;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.env.Environment;
@@ -36,6 +37,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.opensearch.test.NodeRoles.dataNode;
 
 public class KNNSettingsTests extends KNNTestCase {
@@ -312,4 +315,18 @@ public class KNNSettingsTests extends KNNTestCase {
         int expected = (availableProcessors >= 32) ? 4 : 1;
         assertEquals(expected, threadQtyWithEmpty);
     }
+
+    public void testAdmissionControlSettings_whenUnset_thenDefaultsUsed() {
+        // Cluster settings mocked by unit tests return null for every setting.
+        when(clusterService.getClusterSettings()).thenReturn(mock(ClusterSettings.class));
+        KNNSettings.state().setClusterService(clusterService);
+
+        assertEquals(KNNSettings.KNN_DEFAULT_MEMORY_ADMISSION_CONTROL_ENABLED, KNNSettings.isAdmissionControlEnabled());
+        assertEquals(
+            KNNSettings.KNN_DEFAULT_MEMORY_ADMISSION_CONTROL_IN_FLIGHT_LIMIT_PERCENTAGE.doubleValue(),
+            KNNSettings.getAdmissionControlInFlightLimitPercentage(),
+            0.0
+        );
+        assertEquals(KNNSettings.KNN_DEFAULT_MEMORY_ADMISSION_CONTROL_QUEUE_TIMEOUT, KNNSettings.getAdmissionControlQueueTimeout());
+    }
 }
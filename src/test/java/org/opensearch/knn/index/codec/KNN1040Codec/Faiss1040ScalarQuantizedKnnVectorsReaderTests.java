@@ -38,6 +38,7 @@ import java.util.List;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -83,6 +84,7 @@ public class Faiss1040ScalarQuantizedKnnVectorsReaderTests extends KNNTestCase {
             mockFactory.createVectorSearcher(
                 any(Directory.class),
                 anyString(),
+                anySet(),
                 any(FieldInfo.class),
                 any(IOContext.class),
                 any(FlatVectorsReader.class)
@@ -144,6 +146,7 @@ public class Faiss1040ScalarQuantizedKnnVectorsReaderTests extends KNNTestCase {
             mockFactory.createVectorSearcher(
                 any(Directory.class),
                 anyString(),
+                anySet(),
                 any(FieldInfo.class),
                 any(IOContext.class),
                 any(FlatVectorsReader.class)
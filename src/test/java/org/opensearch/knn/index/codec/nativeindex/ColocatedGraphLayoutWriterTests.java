@@ -0,0 +1,235 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.hnsw.DefaultFlatVectorScorer;
+import org.apache.lucene.codecs.hnsw.FlatVectorsScorer;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.InfoStream;
+import org.apache.lucene.util.StringHelper;
+import org.apache.lucene.util.Version;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.memoryoptsearch.FaissHNSWTests;
+import org.opensearch.knn.memoryoptsearch.FaissIndexTestUtils;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissColocatedFlatVectorsScorer;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissColocatedHNSWIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSW;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissHnswGraph;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIdMapIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndex;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
+
+public class ColocatedGraphLayoutWriterTests extends KNNTestCase {
+    private static final String ENGINE_FILE_NAME = "_0_165_target_field.faiss";
+    private static final int NUM_VECTORS = 100;
+    private static final int DIMENSION = 8;
+
+    @SneakyThrows
+    public void testWrite_whenFloatHnswIndex_thenBlockFileMatchesFaissIndex() {
+        try (Directory directory = new ByteBuffersDirectory()) {
+            final float[][] vectors = writeFaissIndex(directory);
+            ColocatedGraphLayoutWriter.write(createWriteState(directory), ENGINE_FILE_NAME);
+
+            try (IndexInput faissInput = directory.openInput(ENGINE_FILE_NAME, IOContext.DEFAULT)) {
+                final FaissIdMapIndex faissIndex = (FaissIdMapIndex) FaissIndex.load(faissInput);
+                final FaissHnswGraph expectedGraph = new FaissHnswGraph(faissIndex.getFaissHnsw(), faissInput.clone());
+                try (
+                    FaissColocatedHNSWIndex colocatedIndex = FaissColocatedHNSWIndex.load(
+                        faissIndex,
+                        directory.openInput("_0_165_target_field.faissblk", IOContext.DEFAULT)
+                    )
+                ) {
+                    final FaissHnswGraph graph = colocatedIndex.newGraph(faissInput.clone());
+                    final FloatVectorValues vectorValues = colocatedIndex.getFloatValues(faissInput.clone());
+                    final FaissColocatedHNSWIndex.Layout layout = colocatedIndex.getLayout();
+
+                    assertEquals(DIMENSION, colocatedIndex.getDimension());
+                    assertEquals(NUM_VECTORS, vectorValues.size());
+                    assertEquals(0, layout.dataOffset() % FaissColocatedHNSWIndex.BLOCK_SIZE);
+                    final int[] numLevels = readLevels(faissIndex.getFaissHnsw(), faissInput.clone());
+                    int numRecords = 0;
+                    for (int ord = 0; ord < NUM_VECTORS; ord++) {
+                        // Only hubs have a record, numbered in id order.
+                        final int record = colocatedIndex.recordOf(ord);
+                        if (numLevels[ord] > 1) {
+                            assertEquals(numRecords++, record);
+                            // Records never cross a block boundary.
+                            final long offsetInBlock = (layout.recordOffset(record) - layout.dataOffset())
+                                % FaissColocatedHNSWIndex.BLOCK_SIZE;
+                            assertTrue(offsetInBlock + layout.recordSize() <= FaissColocatedHNSWIndex.BLOCK_SIZE);
+                        } else {
+                            assertEquals(-1, record);
+                        }
+
+                        expectedGraph.seek(0, ord);
+                        graph.seek(0, ord);
+                        assertEquals(neighbors(expectedGraph), neighbors(graph));
+                        assertArrayEquals(vectors[ord], vectorValues.vectorValue(ord), 0);
+                        assertEquals(3 * ord, vectorValues.ordToDoc(ord));
+                    }
+                    assertTrue(numRecords > 0);
+                    assertTrue(numRecords < NUM_VECTORS);
+                    // The block file only holds the hub records after its header.
+                    assertEquals(
+                        layout.recordOffset(numRecords - 1) + layout.recordSize() + CodecUtil.footerLength(),
+                        directory.fileLength("_0_165_target_field.faissblk")
+                    );
+
+                    // Upper levels are still read from the FAISS index file.
+                    for (int level = 1; level < graph.numLevels(); level++) {
+                        expectedGraph.seek(level, graph.entryNode());
+                        graph.seek(level, graph.entryNode());
+                        assertEquals(neighbors(expectedGraph), neighbors(graph));
+                    }
+                }
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testBulkScore_whenColocatedVectors_thenScoresMatchVectors() {
+        try (Directory directory = new ByteBuffersDirectory()) {
+            final float[][] vectors = writeFaissIndex(directory);
+            ColocatedGraphLayoutWriter.write(createWriteState(directory), ENGINE_FILE_NAME);
+
+            try (IndexInput faissInput = directory.openInput(ENGINE_FILE_NAME, IOContext.DEFAULT)) {
+                final FaissIndex faissIndex = FaissIndex.load(faissInput);
+                try (
+                    FaissColocatedHNSWIndex colocatedIndex = FaissColocatedHNSWIndex.load(
+                        faissIndex,
+                        directory.openInput("_0_165_target_field.faissblk", IOContext.DEFAULT)
+                    )
+                ) {
+                    final float[] target = vectors[0];
+                    final FlatVectorsScorer flatVectorsScorer = new FaissColocatedFlatVectorsScorer(DefaultFlatVectorScorer.INSTANCE);
+                    final RandomVectorScorer scorer = flatVectorsScorer.getRandomVectorScorer(
+                        VectorSimilarityFunction.EUCLIDEAN,
+                        colocatedIndex.getFloatValues(faissInput.clone()),
+                        target
+                    );
+
+                    // Hubs and other vectors mixed, in no particular order.
+                    final int[] nodes = new int[NUM_VECTORS];
+                    for (int i = 0; i < NUM_VECTORS; i++) {
+                        nodes[i] = (i * 37) % NUM_VECTORS;
+                    }
+                    final float[] scores = new float[NUM_VECTORS];
+                    float expectedMaxScore = Float.NEGATIVE_INFINITY;
+                    for (final int node : nodes) {
+                        expectedMaxScore = Math.max(expectedMaxScore, VectorSimilarityFunction.EUCLIDEAN.compare(target, vectors[node]));
+                    }
+
+                    assertEquals(expectedMaxScore, scorer.bulkScore(nodes, scores, NUM_VECTORS), 0);
+                    for (int i = 0; i < NUM_VECTORS; i++) {
+                        final float expectedScore = VectorSimilarityFunction.EUCLIDEAN.compare(target, vectors[nodes[i]]);
+                        assertEquals(expectedScore, scores[i], 0);
+                        assertEquals(expectedScore, scorer.score(nodes[i]), 0);
+                    }
+                }
+            }
+        }
+    }
+
+    public void testBlockFileName() {
+        assertEquals("_0_165_target_field.faissblk", FaissColocatedHNSWIndex.blockFileName(ENGINE_FILE_NAME));
+        assertEquals("_0_165_target_field.faissblk", FaissColocatedHNSWIndex.blockFileName(ENGINE_FILE_NAME + "c"));
+    }
+
+    private static List<Integer> neighbors(final FaissHnswGraph graph) {
+        final List<Integer> neighbors = new ArrayList<>();
+        for (int neighbor = graph.nextNeighbor(); neighbor != NO_MORE_DOCS; neighbor = graph.nextNeighbor()) {
+            neighbors.add(neighbor);
+        }
+        return neighbors;
+    }
+
+    private static int[] readLevels(final FaissHNSW faissHnsw, final IndexInput input) throws IOException {
+        final int[] numLevels = new int[NUM_VECTORS];
+        input.seek(faissHnsw.getLevels().getBaseOffset());
+        input.readInts(numLevels, 0, NUM_VECTORS);
+        return numLevels;
+    }
+
+    /**
+     * Writes an `IxMp` index mapping the i-th vector to the document 3 * i, which nests an `IHNf` graph with `IxF2` flat vectors.
+     */
+    @SneakyThrows
+    private static float[][] writeFaissIndex(final Directory directory) {
+        final IndexInput hnswInput = FaissHNSWTests.loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin");
+        new FaissHNSW().load(hnswInput, NUM_VECTORS);
+        final byte[] hnswBytes = new byte[Math.toIntExact(hnswInput.getFilePointer())];
+        hnswInput.seek(0);
+        hnswInput.readBytes(hnswBytes, 0, hnswBytes.length);
+
+        final float[][] vectors = new float[NUM_VECTORS][DIMENSION];
+        try (IndexOutput output = directory.createOutput(ENGINE_FILE_NAME, IOContext.DEFAULT)) {
+            final byte[] commonHeader = FaissIndexTestUtils.makeCommonHeader(DIMENSION, NUM_VECTORS, true);
+            output.writeBytes(FaissIdMapIndex.IXMP.getBytes(), 4);
+            output.writeBytes(commonHeader, commonHeader.length);
+            output.writeBytes("IHNf".getBytes(), 4);
+            output.writeBytes(commonHeader, commonHeader.length);
+            output.writeBytes(hnswBytes, hnswBytes.length);
+            output.writeBytes("IxF2".getBytes(), 4);
+            output.writeBytes(commonHeader, commonHeader.length);
+            output.writeLong((long) NUM_VECTORS * DIMENSION);
+            for (final float[] vector : vectors) {
+                for (int i = 0; i < DIMENSION; i++) {
+                    vector[i] = randomFloat();
+                    output.writeInt(Float.floatToIntBits(vector[i]));
+                }
+            }
+            output.writeLong(NUM_VECTORS);
+            for (int i = 0; i < NUM_VECTORS; i++) {
+                output.writeLong(3L * i);
+            }
+        }
+        return vectors;
+    }
+
+    private static SegmentWriteState createWriteState(final Directory directory) {
+        final SegmentInfo segmentInfo = new SegmentInfo(
+            directory,
+            Version.LATEST,
+            Version.LATEST,
+            "_0",
+            3 * NUM_VECTORS,
+            false,
+            false,
+            null,
+            Collections.emptyMap(),
+            StringHelper.randomId(),
+            Collections.emptyMap(),
+            null
+        );
+        return new SegmentWriteState(
+            InfoStream.NO_OUTPUT,
+            directory,
+            segmentInfo,
+            new FieldInfos(new FieldInfo[0]),
+            null,
+            IOContext.DEFAULT
+        );
+    }
+}
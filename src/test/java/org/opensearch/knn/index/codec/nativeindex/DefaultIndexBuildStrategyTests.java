@@ -97,12 +97,10 @@ public class DefaultIndexBuildStrategyTests extends OpenSearchTestCase {
             verify(offHeapVectorTransfer, times(3)).transfer(vectorTransferCapture.capture(), eq(true));
             verify(offHeapVectorTransfer).reset();
 
-            float[] prev = null;
+            // The reused vector is passed as is, the transfer copies it into its staging buffer right away
+            float[] first = vectorTransferCapture.getAllValues().get(0);
             for (float[] vector : vectorTransferCapture.getAllValues()) {
-                if (prev != null) {
-                    assertNotSame(prev, vector);
-                }
-                prev = vector;
+                assertSame(first, vector);
             }
         }
     }
@@ -141,7 +139,7 @@ public class DefaultIndexBuildStrategyTests extends OpenSearchTestCase {
             ArgumentCaptor<float[]> vectorCaptor = ArgumentCaptor.forClass(float[].class);
             // New: Create QuantizationOutput and mock the quantization process
             QuantizationOutput<byte[]> quantizationOutput = mock(QuantizationOutput.class);
-            when(quantizationOutput.getQuantizedVectorCopy()).thenReturn(new byte[] { 1, 2 });
+            when(quantizationOutput.getQuantizedVector()).thenReturn(new byte[] { 1, 2 });
             when(quantizationService.createQuantizationOutput(eq(quantizationState.getQuantizationParams()))).thenReturn(
                 quantizationOutput
             );
@@ -149,8 +147,8 @@ public class DefaultIndexBuildStrategyTests extends OpenSearchTestCase {
             // Quantize the vector with the quantization output
             when(quantizationService.quantize(eq(quantizationState), vectorCaptor.capture(), eq(quantizationOutput))).thenAnswer(
                 invocation -> {
-                    quantizationOutput.getQuantizedVectorCopy();
-                    return quantizationOutput.getQuantizedVectorCopy();
+                    quantizationOutput.getQuantizedVector();
+                    return quantizationOutput.getQuantizedVector();
                 }
             );
             when(quantizationState.getDimensions()).thenReturn(2);
@@ -283,12 +281,10 @@ public class DefaultIndexBuildStrategyTests extends OpenSearchTestCase {
             verify(offHeapVectorTransfer).flush(true);
             verify(offHeapVectorTransfer, times(3)).transfer(vectorTransferCapture.capture(), eq(true));
 
-            float[] prev = null;
+            // The reused vector is passed as is, the transfer copies it into its staging buffer right away
+            float[] first = vectorTransferCapture.getAllValues().get(0);
             for (float[] vector : vectorTransferCapture.getAllValues()) {
-                if (prev != null) {
-                    assertNotSame(prev, vector);
-                }
-                prev = vector;
+                assertSame(first, vector);
             }
         }
     }
@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.codec.nativeindex;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.knn.KnnSearchStrategy;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissEntryPointTable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class EntryPointTableWriterTests extends KNNTestCase {
+    private static final float[][] CLUSTER_CENTERS = { { 0, 0 }, { 100, 0 }, { 0, 100 }, { 100, 100 } };
+    private static final int NUM_VECTORS = 400;
+
+    @SneakyThrows
+    public void testLearn_whenClusteredVectors_thenOneEntryPointPerCluster() {
+        // The i-th vector belongs to the cluster i % 4, so that clusters are interleaved in internal vector id order.
+        final List<float[]> vectors = new ArrayList<>();
+        for (int i = 0; i < NUM_VECTORS; i++) {
+            final float[] center = CLUSTER_CENTERS[i % CLUSTER_CENTERS.length];
+            vectors.add(new float[] { center[0] + randomFloat() * 2 - 1, center[1] + randomFloat() * 2 - 1 });
+        }
+
+        final FaissEntryPointTable table = EntryPointTableWriter.learn(FloatVectorValues.fromFloats(vectors, 2), CLUSTER_CENTERS.length);
+        assertEquals(CLUSTER_CENTERS.length, table.size());
+
+        final KnnSearchStrategy.Seeded seeded = table.getSearchStrategy(
+            CLUSTER_CENTERS[1],
+            VectorSimilarityFunction.EUCLIDEAN,
+            new KnnSearchStrategy.Hnsw(0)
+        );
+        final Set<Integer> clusters = new HashSet<>();
+        final DocIdSetIterator entryPoints = seeded.entryPoints();
+        for (int node = entryPoints.nextDoc(); node != DocIdSetIterator.NO_MORE_DOCS; node = entryPoints.nextDoc()) {
+            clusters.add(node % CLUSTER_CENTERS.length);
+        }
+        assertEquals(Set.of(0, 1, 2, 3), clusters);
+    }
+
+    @SneakyThrows
+    public void testLearn_whenFewerVectorsThanCentroids_thenOneCentroidPerVector() {
+        final List<float[]> vectors = List.of(new float[] { 1, 2 }, new float[] { 3, 4 }, new float[] { 5, 6 });
+
+        final FaissEntryPointTable table = EntryPointTableWriter.learn(FloatVectorValues.fromFloats(vectors, 2), 16);
+
+        assertEquals(vectors.size(), table.size());
+        final KnnSearchStrategy.Seeded seeded = table.getSearchStrategy(
+            new float[] { 5, 6 },
+            VectorSimilarityFunction.EUCLIDEAN,
+            new KnnSearchStrategy.Hnsw(0)
+        );
+        assertEquals(vectors.size(), seeded.numberOfEntryPoints());
+    }
+}
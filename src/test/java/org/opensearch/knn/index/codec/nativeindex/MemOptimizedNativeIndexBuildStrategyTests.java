@@ -126,12 +126,10 @@ public class MemOptimizedNativeIndexBuildStrategyTests extends OpenSearchTestCas
             assertEquals(vectorAddressCaptor.getValue().longValue(), vectorAddressCaptor.getAllValues().get(0).longValue());
             verify(offHeapVectorTransfer, times(0)).reset();
 
-            float[] prev = null;
+            // The reused vector is passed as is, the transfer copies it into its staging buffer right away
+            float[] first = vectorTransferCapture.getAllValues().get(0);
             for (float[] vector : vectorTransferCapture.getAllValues()) {
-                if (prev != null) {
-                    assertNotSame(prev, vector);
-                }
-                prev = vector;
+                assertSame(first, vector);
             }
         }
     }
@@ -171,7 +169,7 @@ public class MemOptimizedNativeIndexBuildStrategyTests extends OpenSearchTestCas
             ArgumentCaptor<float[]> vectorCaptor = ArgumentCaptor.forClass(float[].class);
             // New: Create QuantizationOutput and mock the quantization process
             QuantizationOutput<byte[]> quantizationOutput = mock(QuantizationOutput.class);
-            when(quantizationOutput.getQuantizedVectorCopy()).thenReturn(new byte[] { 1, 2 });
+            when(quantizationOutput.getQuantizedVector()).thenReturn(new byte[] { 1, 2 });
             when(quantizationService.createQuantizationOutput(eq(quantizationState.getQuantizationParams()))).thenReturn(
                 quantizationOutput
             );
@@ -179,8 +177,8 @@ public class MemOptimizedNativeIndexBuildStrategyTests extends OpenSearchTestCas
             // Quantize the vector with the quantization output
             when(quantizationService.quantize(eq(quantizationState), vectorCaptor.capture(), eq(quantizationOutput))).thenAnswer(
                 invocation -> {
-                    quantizationOutput.getQuantizedVectorCopy();
-                    return quantizationOutput.getQuantizedVectorCopy();
+                    quantizationOutput.getQuantizedVector();
+                    return quantizationOutput.getQuantizedVector();
                 }
             );
             when(quantizationState.getDimensions()).thenReturn(2);
@@ -106,4 +106,14 @@ public class OffHeapVectorTransferTests extends KNNTestCase {
             vectorTransfer.close();
         }
     }
+
+    @SneakyThrows
+    public void testTransfer_whenVectorSizeMismatch_thenThrows() {
+        try (MockedStatic<KNNSettings> mockedKNNSettings = mockStatic(KNNSettings.class)) {
+            mockedKNNSettings.when(KNNSettings::getVectorStreamingMemoryLimit).thenReturn(new ByteSizeValue(16));
+            OffHeapFloatVectorTransfer vectorTransfer = new OffHeapFloatVectorTransfer(8, 5);
+            expectThrows(IllegalArgumentException.class, () -> vectorTransfer.transfer(new float[] { 0.1f, 0.2f, 0.3f }, false));
+            vectorTransfer.close();
+        }
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.mapper;
+
+import org.opensearch.knn.KNNTestCase;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+
+public class Base64VectorDecoderTests extends KNNTestCase {
+
+    public void testDecode_whenAnyLength_thenMatchesJdkDecoder() {
+        for (int numBytes = 0; numBytes < 64; ++numBytes) {
+            final byte[] expected = new byte[numBytes];
+            random().nextBytes(expected);
+            assertDecoded(expected, Base64.getEncoder().encodeToString(expected));
+            assertDecoded(expected, Base64.getEncoder().withoutPadding().encodeToString(expected));
+        }
+    }
+
+    public void testDecodeFloats_thenLittleEndianFloatsAreDecoded() {
+        final float[] expected = new float[] { 0f, -1.5f, Float.MAX_VALUE, Float.MIN_VALUE, 3.14159f };
+        final ByteBuffer buffer = ByteBuffer.allocate(expected.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(expected);
+        final char[] chars = ("  " + Base64.getEncoder().encodeToString(buffer.array())).toCharArray();
+
+        final int length = chars.length - 2;
+        assertEquals(expected.length * Float.BYTES, Base64VectorDecoder.decodedLength(chars, 2, length));
+        final float[] floats = new float[expected.length];
+        Base64VectorDecoder.decodeFloats(chars, 2, length, floats);
+        assertArrayEquals(expected, floats, 0f);
+    }
+
+    public void testDecode_whenInvalidInput_thenThrows() {
+        final char[] illegalCharacter = "AB!D".toCharArray();
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> Base64VectorDecoder.decode(illegalCharacter, 0, illegalCharacter.length, new byte[3])
+        );
+
+        final char[] danglingCharacter = "ABCDE".toCharArray();
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> Base64VectorDecoder.decodedLength(danglingCharacter, 0, danglingCharacter.length)
+        );
+
+        final char[] misplacedPadding = "ABC=D".toCharArray();
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> Base64VectorDecoder.decode(misplacedPadding, 0, misplacedPadding.length, new byte[3])
+        );
+    }
+
+    private static void assertDecoded(final byte[] expected, final String encoded) {
+        final char[] chars = encoded.toCharArray();
+        final int length = Base64VectorDecoder.decodedLength(chars, 0, chars.length);
+        assertEquals(expected.length, length);
+        final byte[] decoded = new byte[length];
+        Base64VectorDecoder.decode(chars, 0, chars.length, decoded);
+        assertArrayEquals(expected, decoded);
+    }
+}
@@ -251,11 +251,30 @@ public class KNNVectorFieldTypeTests extends KNNTestCase {
         assertTrue(e.getMessage().contains("Binary"));
     }
 
-    public void testValidateRadialSearch_whenBQQuantized_thenThrows() {
-        // Given: a field type with BQ quantization (QuantizationConfig != EMPTY)
+    public void testValidateRadialSearch_whenBQQuantizedL2_thenPasses() {
+        // Given: a field type with BQ quantization (QuantizationConfig != EMPTY) and l2
+        KNNVectorFieldType fieldType = buildBQFieldType(SpaceType.L2);
+
+        // When/Then: no exception — BQ with l2 is supported via bounded rescoring
+        fieldType.validateSupportRadialSearch(KNNEngine.FAISS);
+    }
+
+    public void testValidateRadialSearch_whenBQQuantizedInnerProduct_thenThrows() {
+        // Given: a field type with BQ quantization and inner product
+        KNNVectorFieldType fieldType = buildBQFieldType(SpaceType.INNER_PRODUCT);
+
+        // When/Then: throws with binary quantization message
+        UnsupportedOperationException e = expectThrows(
+            UnsupportedOperationException.class,
+            () -> fieldType.validateSupportRadialSearch(KNNEngine.FAISS)
+        );
+        assertTrue(e.getMessage().contains("binary quantization"));
+    }
+
+    private KNNVectorFieldType buildBQFieldType(final SpaceType spaceType) {
         KNNMethodContext methodContext = new KNNMethodContext(
             KNNEngine.FAISS,
-            SpaceType.L2,
+            spaceType,
             new MethodComponentContext(METHOD_HNSW, Collections.emptyMap())
         );
         KNNMappingConfig config = new KNNMappingConfig() {
@@ -274,14 +293,7 @@ public class KNNVectorFieldTypeTests extends KNNTestCase {
                 return QuantizationConfig.builder().quantizationType(ScalarQuantizationType.ONE_BIT).build();
             }
         };
-        KNNVectorFieldType fieldType = new KNNVectorFieldType(FIELD_NAME, Collections.emptyMap(), VectorDataType.FLOAT, config);
-
-        // When/Then: throws with binary quantization message
-        UnsupportedOperationException e = expectThrows(
-            UnsupportedOperationException.class,
-            () -> fieldType.validateSupportRadialSearch(KNNEngine.FAISS)
-        );
-        assertTrue(e.getMessage().contains("binary quantization"));
+        return new KNNVectorFieldType(FIELD_NAME, Collections.emptyMap(), VectorDataType.FLOAT, config);
     }
 
     public void testValidateRadialSearch_whenUnsupportedCompressionLevel_thenThrows() {
@@ -459,6 +471,14 @@ public class KNNVectorFieldTypeTests extends KNNTestCase {
         assertTrue(fieldType.isRescoringRequiredForRadial());
     }
 
+    public void testIsRescoringRequired_whenBQQuantized_thenTrue() {
+        // Given: a field type with BQ quantization
+        KNNVectorFieldType fieldType = buildBQFieldType(SpaceType.L2);
+
+        // When/Then: rescoring is required
+        assertTrue(fieldType.isRescoringRequiredForRadial());
+    }
+
     public void testIsRescoringRequired_whenNonQuantized_thenFalse() {
         // Given: a non-quantized field type
         KNNMethodContext methodContext = new KNNMethodContext(
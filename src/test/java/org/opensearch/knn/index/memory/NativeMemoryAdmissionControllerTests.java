@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.memory;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.common.exception.NativeMemoryLoadRejectedException;
+import org.opensearch.knn.plugin.stats.KNNCounter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class NativeMemoryAdmissionControllerTests extends KNNTestCase {
+
+    private static final long CAPACITY_KB = 1000;
+    private static final double LIMIT_PERCENTAGE = 10;
+
+    public void testAcquire_whenDisabled_thenAlwaysAdmitted() {
+        NativeMemoryAdmissionController controller = new NativeMemoryAdmissionController();
+        long first = controller.acquire("a", 80, CAPACITY_KB, false, LIMIT_PERCENTAGE, TimeValue.ZERO);
+        long second = controller.acquire("b", 80, CAPACITY_KB, false, LIMIT_PERCENTAGE, TimeValue.ZERO);
+
+        assertEquals(160, controller.getInFlightSizeInKB());
+        assertEquals(2, controller.getInFlightLoads());
+        assertEquals(NativeMemoryAdmissionController.PressureLevel.CRITICAL, controller.getPressureLevel(CAPACITY_KB, LIMIT_PERCENTAGE));
+
+        controller.release(first);
+        controller.release(second);
+        assertEquals(0, controller.getInFlightSizeInKB());
+        assertEquals(NativeMemoryAdmissionController.PressureLevel.LOW, controller.getPressureLevel(CAPACITY_KB, LIMIT_PERCENTAGE));
+    }
+
+    public void testAcquire_whenOverWatermark_thenRejected() {
+        NativeMemoryAdmissionController controller = new NativeMemoryAdmissionController();
+        long admitted = controller.acquire("a", 60, CAPACITY_KB, true, LIMIT_PERCENTAGE, TimeValue.ZERO);
+        assertEquals(NativeMemoryAdmissionController.PressureLevel.MODERATE, controller.getPressureLevel(CAPACITY_KB, LIMIT_PERCENTAGE));
+
+        NativeMemoryLoadRejectedException e = expectThrows(
+            NativeMemoryLoadRejectedException.class,
+            () -> controller.acquire("b", 60, CAPACITY_KB, true, LIMIT_PERCENTAGE, TimeValue.ZERO)
+        );
+        assertTrue(e.getMessage(), e.getMessage().endsWith("Entry size: 60 KB, In-flight load size: 60 KB, In-flight load limit: 100 KB"));
+        assertTrue(e.toString(), e.toString().startsWith("[KNN] Native memory load rejected by admission control: "));
+        assertEquals(1L, (long) KNNCounter.GRAPH_LOAD_REJECTIONS.getCount());
+        assertEquals(60, controller.getInFlightSizeInKB());
+
+        controller.release(admitted);
+        controller.release(controller.acquire("b", 60, CAPACITY_KB, true, LIMIT_PERCENTAGE, TimeValue.ZERO));
+        assertEquals(0, controller.getInFlightSizeInKB());
+    }
+
+    public void testAcquire_whenNothingInFlight_thenLargeEntryAdmitted() {
+        NativeMemoryAdmissionController controller = new NativeMemoryAdmissionController();
+        long admitted = controller.acquire("a", 500, CAPACITY_KB, true, LIMIT_PERCENTAGE, TimeValue.ZERO);
+        assertEquals(500, admitted);
+        controller.release(admitted);
+    }
+
+    public void testAcquire_whenQueued_thenAdmittedAfterRelease() throws Exception {
+        NativeMemoryAdmissionController controller = new NativeMemoryAdmissionController();
+        long first = controller.acquire("a", 80, CAPACITY_KB, true, LIMIT_PERCENTAGE, TimeValue.ZERO);
+
+        CountDownLatch admittedLatch = new CountDownLatch(1);
+        AtomicLong secondAdmitted = new AtomicLong();
+        Thread waiter = new Thread(() -> {
+            secondAdmitted.set(controller.acquire("b", 80, CAPACITY_KB, true, LIMIT_PERCENTAGE, TimeValue.timeValueSeconds(30)));
+            admittedLatch.countDown();
+        });
+        waiter.start();
+
+        assertBusy(
+            () -> assertEquals(
+                NativeMemoryAdmissionController.PressureLevel.CRITICAL,
+                controller.getPressureLevel(CAPACITY_KB, LIMIT_PERCENTAGE)
+            )
+        );
+        controller.release(first);
+
+        assertTrue(admittedLatch.await(30, TimeUnit.SECONDS));
+        waiter.join();
+        assertEquals(80, secondAdmitted.get());
+        assertEquals(80, controller.getInFlightSizeInKB());
+        controller.release(secondAdmitted.get());
+    }
+}
@@ -49,6 +49,7 @@ import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static org.mockito.Mockito.mock;
@@ -754,13 +755,14 @@ public class NativeMemoryCacheManagerTests extends OpenSearchSingleNodeTestCase
 
         // Create threads that will try to get the same context concurrently
         List<Thread> threads = new ArrayList<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
         for (int i = 0; i < numThreads; i++) {
             Thread t = new Thread(() -> {
                 try {
                     startLatch.await(); // Wait for all threads to be ready
                     nativeMemoryCacheManager.get(sharedContext, false);
                 } catch (Exception e) {
-                    e.printStackTrace();
+                    failure.compareAndSet(null, e);
                 } finally {
                     completionLatch.countDown();
                 }
@@ -773,16 +775,131 @@ public class NativeMemoryCacheManagerTests extends OpenSearchSingleNodeTestCase
 
         // Wait for all threads to complete
         completionLatch.await();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get());
 
-        // open is called for each of the threads
-        verify(sharedContext, times(numThreads)).open();
-        assertEquals(numThreads, openVectorIndexCalls.get());
+        // open is only called by the thread loading the entry, the rest of the threads wait for the shared load
+        verify(sharedContext, times(1)).open();
+        assertEquals(1, openVectorIndexCalls.get());
 
-        // but opening of the indexInput and seek only happens once, since rest of the threads will wait for first
-        // thread and then pick up from cache
+        // opening of the indexInput and seek only happens once
         verify(mockDirectory, times(1)).openInput(any(), any());
         verify(mockReadStream, times(1)).seek(0);
+        assertFalse(nativeMemoryCacheManager.hasPendingLoads());
+    }
+
+    @SneakyThrows
+    public void testGet_whenConcurrentMisses_thenLoadIsShared() {
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        String key = "shared-key";
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        AtomicInteger loadCalls = new AtomicInteger(0);
+        TestNativeMemoryEntryContent blockingContext = new TestNativeMemoryEntryContent(key, 10) {
+            @Override
+            @SneakyThrows
+            public TestNativeMemoryAllocation load() {
+                loadCalls.incrementAndGet();
+                loadStarted.countDown();
+                releaseLoad.await();
+                return super.load();
+            }
+        };
+
+        int numThreads = 4;
+        List<NativeMemoryAllocation> results = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    results.add(nativeMemoryCacheManager.get(blockingContext, true));
+                } catch (Exception e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        loadStarted.await();
+        assertTrue(nativeMemoryCacheManager.isLoadInProgress(key));
+        assertTrue(nativeMemoryCacheManager.hasPendingLoads());
+        releaseLoad.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get());
+
+        assertEquals(1, loadCalls.get());
+        assertEquals(numThreads, results.size());
+        results.forEach(result -> assertSame(results.get(0), result));
+        assertFalse(nativeMemoryCacheManager.isLoadInProgress(key));
+        nativeMemoryCacheManager.close();
+    }
+
+    @SneakyThrows
+    public void testGet_whenConcurrentMissesUnderAdmissionControl_thenOnlyLoadingThreadReserves() {
+        // With a zero in-flight limit and no queueing, any reservation made while the load is in flight is shed.
+        Set<Setting<?>> defaultClusterSettings = new HashSet<>(ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        defaultClusterSettings.addAll(
+            KNNSettings.state()
+                .getSettings()
+                .stream()
+                .filter(s -> s.getProperties().contains(Setting.Property.NodeScope))
+                .collect(Collectors.toList())
+        );
+        Settings settings = Settings.builder()
+            .put(KNNSettings.KNN_MEMORY_ADMISSION_CONTROL_ENABLED, true)
+            .put(KNNSettings.KNN_MEMORY_ADMISSION_CONTROL_IN_FLIGHT_LIMIT, 0.0)
+            .build();
+        when(clusterService.getClusterSettings()).thenReturn(new ClusterSettings(settings, defaultClusterSettings));
+
+        NativeMemoryCacheManager nativeMemoryCacheManager = new NativeMemoryCacheManager();
+        String key = "admitted-key";
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        AtomicInteger loadCalls = new AtomicInteger(0);
+        TestNativeMemoryEntryContent blockingContext = new TestNativeMemoryEntryContent(key, 10) {
+            @Override
+            @SneakyThrows
+            public TestNativeMemoryAllocation load() {
+                loadCalls.incrementAndGet();
+                loadStarted.countDown();
+                releaseLoad.await();
+                return super.load();
+            }
+        };
+
+        int numThreads = 4;
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    nativeMemoryCacheManager.get(blockingContext, true);
+                } catch (Exception e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
 
+        loadStarted.await();
+        assertEquals(10, nativeMemoryCacheManager.getInFlightLoadSizeInKilobytes());
+        releaseLoad.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(1, loadCalls.get());
+        assertEquals(0, nativeMemoryCacheManager.getInFlightLoadSizeInKilobytes());
+        nativeMemoryCacheManager.close();
     }
 
     private static class TestNativeMemoryAllocation implements NativeMemoryAllocation {
@@ -490,7 +490,7 @@ public class KNNQueryBuilderTests extends KNNTestCase {
         assertTrue(e.getMessage().contains("Binary data type does not support radial search"));
     }
 
-    public void testDoToQuery_whenRadialSearchOnDiskMode_thenException() {
+    public void testDoToQuery_whenRadialSearchOnDiskMode_thenRescoreRadialSearchQuery() {
         // Given: a radial search query on a BQ quantized index (QuantizationConfig != EMPTY)
         float[] queryVector = { 1.0f };
         KNNQueryBuilder knnQueryBuilder = KNNQueryBuilder.builder()
@@ -502,7 +502,11 @@ public class KNNQueryBuilderTests extends KNNTestCase {
         Index dummyIndex = new Index("dummy", "dummy");
         QueryShardContext mockQueryShardContext = mock(QueryShardContext.class);
         KNNVectorFieldType mockKNNVectorField = mock(KNNVectorFieldType.class);
+        IndexSettings indexSettings = mock(IndexSettings.class);
         when(mockQueryShardContext.index()).thenReturn(dummyIndex);
+        when(mockQueryShardContext.getIndexSettings()).thenReturn(indexSettings);
+        when(indexSettings.getMaxResultWindow()).thenReturn(1000);
+        when(mockKNNVectorField.transformQueryVector(queryVector)).thenReturn(queryVector);
         when(mockQueryShardContext.fieldMapper(anyString())).thenReturn(mockKNNVectorField);
 
         MethodComponentContext methodComponentContext = new MethodComponentContext(
@@ -533,10 +537,14 @@ public class KNNQueryBuilderTests extends KNNTestCase {
         when(mockKNNVectorField.getVectorDataType()).thenReturn(VectorDataType.FLOAT);
         // Call real validateSupportRadialSearch() so it uses the mocked fields
         doCallRealMethod().when(mockKNNVectorField).validateSupportRadialSearch(any(KNNEngine.class));
+        doCallRealMethod().when(mockKNNVectorField).isRescoringRequiredForRadial();
 
-        // When/Then: BQ (QuantizationConfig != EMPTY) is still blocked for radial search
-        Exception e = expectThrows(UnsupportedOperationException.class, () -> knnQueryBuilder.doToQuery(mockQueryShardContext));
-        assertTrue(e.getMessage().contains("binary quantization"));
+        // When: radial search is attempted
+        Query query = knnQueryBuilder.doToQuery(mockQueryShardContext);
+
+        // Then: BQ with l2 is allowed, and the quantized first pass is verified with full-precision vectors
+        assertTrue(query instanceof RescoreRadialSearchQuery);
+        assertTrue(((RescoreRadialSearchQuery) query).getInnerQuery() instanceof KNNQuery);
     }
 
     // Given: a Faiss index with unsupported SQ compression level (x4, x8, x16)
@@ -651,7 +659,8 @@ public class KNNQueryBuilderTests extends KNNTestCase {
     // elimination by recomputing scores against full-precision vectors.
     //
     // 32x SQ is identified by: QuantizationConfig == EMPTY (not BQ) && CompressionLevel == x32.
-    // BQ indices (QuantizationConfig != EMPTY) remain blocked — see testDoToQuery_whenRadialSearchOnDiskMode_thenException.
+    // BQ indices (QuantizationConfig != EMPTY) are verified with full-precision vectors —
+    // see testDoToQuery_whenRadialSearchOnDiskMode_thenRescoreRadialSearchQuery.
     //
     // The test verifies doToQuery() produces a KNNQuery (Faiss radial path) without throwing
     // UnsupportedOperationException, for both max_distance and min_score query types.
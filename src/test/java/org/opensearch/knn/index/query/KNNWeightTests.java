@@ -18,17 +18,22 @@ import org.apache.lucene.index.SegmentInfo;
 import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.FilteredDocIdSetIterator;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.join.BitSetProducer;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.StringHelper;
 import org.apache.lucene.util.Version;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -42,6 +47,7 @@ import org.opensearch.knn.index.codec.util.KNNCodecUtil;
 import org.opensearch.knn.index.codec.util.KNNVectorAsCollectionOfFloatsSerializer;
 import org.opensearch.knn.index.engine.KNNEngine;
 import org.opensearch.knn.index.engine.MethodComponentContext;
+import org.opensearch.knn.index.memory.NativeMemoryCacheManager;
 import org.opensearch.knn.index.quantizationservice.QuantizationService;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
@@ -51,6 +57,9 @@ import org.opensearch.knn.indices.ModelDao;
 import org.opensearch.knn.indices.ModelMetadata;
 import org.opensearch.knn.indices.ModelState;
 import org.opensearch.knn.jni.JNIService;
+import org.opensearch.knn.plugin.stats.KNNLatencyPhase;
+import org.opensearch.knn.plugin.stats.KNNQueryLatencyStats;
+import org.opensearch.knn.plugin.stats.LatencyHistogram;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 import org.opensearch.knn.quantization.models.quantizationParams.QuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
@@ -83,6 +92,7 @@ import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -342,6 +352,69 @@ public class KNNWeightTests extends KNNWeightTestCase {
         assertEmptyScorer(knnScorer);
     }
 
+    @SneakyThrows
+    public void testScorer_whenGraphIsCached_thenGraphLoadLatencyNotRecorded() {
+        final KNNQueryResult[] knnQueryResults = new KNNQueryResult[] {};
+        jniServiceMockedStatic.when(() -> JNIService.queryIndex(anyLong(), any(), eq(K), isNull(), any(), any(), anyInt(), any()))
+            .thenReturn(knnQueryResults);
+
+        final LeafReaderContext leafReaderContext = mock(LeafReaderContext.class);
+        final SegmentReader reader = mock(SegmentReader.class);
+        when(leafReaderContext.reader()).thenReturn(reader);
+
+        final FSDirectory directory = mock(FSDirectory.class);
+        when(reader.directory()).thenReturn(directory);
+        final SegmentInfo segmentInfo = new SegmentInfo(
+            directory,
+            Version.LATEST,
+            Version.LATEST,
+            SEGMENT_NAME,
+            100,
+            true,
+            false,
+            KNNCodecVersion.CURRENT_DEFAULT,
+            Map.of(),
+            new byte[StringHelper.ID_LENGTH],
+            Map.of(),
+            Sort.RELEVANCE
+        );
+        segmentInfo.setFiles(SEGMENT_FILES_DEFAULT);
+        final SegmentCommitInfo segmentCommitInfo = new SegmentCommitInfo(segmentInfo, 0, 0, 0, 0, 0, new byte[StringHelper.ID_LENGTH]);
+        when(reader.getSegmentInfo()).thenReturn(segmentCommitInfo);
+
+        final Path path = mock(Path.class);
+        when(directory.getDirectory()).thenReturn(path);
+        final FieldInfos fieldInfos = mock(FieldInfos.class);
+        final FieldInfo fieldInfo = mock(FieldInfo.class);
+        when(reader.getFieldInfos()).thenReturn(fieldInfos);
+        when(fieldInfos.fieldInfo(any())).thenReturn(fieldInfo);
+
+        final NativeMemoryCacheManager nativeMemoryCacheManager = NativeMemoryCacheManager.getInstance();
+        KNNQueryLatencyStats.remove(INDEX_NAME);
+        try {
+            // The first search loads the graph
+            when(nativeMemoryCacheManager.isCached(any())).thenReturn(false);
+            new DefaultKNNWeight(new KNNQuery(FIELD_NAME, QUERY_VECTOR, K, INDEX_NAME, null), 0.0f, null).scorer(leafReaderContext);
+            assertEquals(1L, graphLoadCount());
+
+            // The following ones hit the cache
+            when(nativeMemoryCacheManager.isCached(any())).thenReturn(true);
+            new DefaultKNNWeight(new KNNQuery(FIELD_NAME, QUERY_VECTOR, K, INDEX_NAME, null), 0.0f, null).scorer(leafReaderContext);
+            assertEquals(1L, graphLoadCount());
+        } finally {
+            when(nativeMemoryCacheManager.isCached(any())).thenReturn(false);
+            KNNQueryLatencyStats.remove(INDEX_NAME);
+        }
+    }
+
+    private static long graphLoadCount() {
+        return (Long) KNNQueryLatencyStats.snapshot()
+            .get(INDEX_NAME)
+            .get(FIELD_NAME)
+            .get(KNNLatencyPhase.GRAPH_LOAD.getName())
+            .get(LatencyHistogram.COUNT);
+    }
+
     @SneakyThrows
     public static void assertEmptyScorer(Scorer knnScorer) {
         final DocIdSetIterator iterator = knnScorer.iterator();
@@ -454,6 +527,84 @@ public class KNNWeightTests extends KNNWeightTestCase {
         validateANNWithFilterQuery_whenDoingANN_thenSuccess(true);
     }
 
+    @SneakyThrows
+    public void testANNWithFilterQuery_whenFilteredSearchSeedsEnabled_thenClosestSampledDocsSeedTheSearch() {
+        // Given
+        int k = 3;
+        int numSeeds = 2;
+        final ExactSearcher mockedExactSearcher = mock(ExactSearcher.class);
+        KNNWeight.initialize(null, mockedExactSearcher);
+        knnSettingsMockedStatic.when(() -> KNNSettings.getFilteredSearchSeeds(INDEX_NAME)).thenReturn(numSeeds);
+
+        // The filter matches 6 of 100 documents, which is restrictive enough to seed the search
+        final FixedBitSet filterBitSet = new FixedBitSet(100);
+        filterBitSet.set(0, 6);
+        final SegmentReader reader = mockSegmentReader();
+        when(reader.maxDoc()).thenReturn(100);
+        final LeafReaderContext leafReaderContext = mock(LeafReaderContext.class);
+        when(leafReaderContext.reader()).thenReturn(reader);
+
+        final KNNQuery query = KNNQuery.builder()
+            .field(FIELD_NAME)
+            .queryVector(QUERY_VECTOR)
+            .k(k)
+            .indexName(INDEX_NAME)
+            .filterQuery(FILTER_QUERY)
+            .methodParameters(HNSW_METHOD_PARAMETERS)
+            .build();
+        final Weight filterQueryWeight = mock(Weight.class);
+        final Scorer filterScorer = mock(Scorer.class);
+        when(filterQueryWeight.scorer(leafReaderContext)).thenReturn(filterScorer);
+        when(filterScorer.iterator()).thenReturn(new BitSetIterator(filterBitSet, 6));
+        final KNNWeight knnWeight = new DefaultKNNWeight(query, 1.0f, filterQueryWeight);
+
+        final FieldInfos fieldInfos = mock(FieldInfos.class);
+        final FieldInfo fieldInfo = mock(FieldInfo.class);
+        when(reader.getFieldInfos()).thenReturn(fieldInfos);
+        when(fieldInfos.fieldInfo(any())).thenReturn(fieldInfo);
+        when(fieldInfo.attributes()).thenReturn(
+            ImmutableMap.of(KNN_ENGINE, KNNEngine.FAISS.getName(), SPACE_TYPE, SpaceType.L2.getValue())
+        );
+
+        when(mockedExactSearcher.searchLeaf(eq(leafReaderContext), any())).thenReturn(
+            new TopDocs(new TotalHits(2, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(4, 0.9f), new ScoreDoc(1, 0.7f) })
+        );
+        jniServiceMockedStatic.when(
+            () -> JNIService.queryIndexWithSeeds(
+                anyLong(),
+                eq(QUERY_VECTOR),
+                eq(k),
+                eq(HNSW_METHOD_PARAMETERS),
+                any(),
+                eq(filterBitSet.getBits()),
+                anyInt(),
+                eq(new int[] { 4, 1 })
+            )
+        ).thenReturn(getFilteredKNNQueryResults());
+
+        try {
+            // When
+            final KNNScorer knnScorer = (KNNScorer) knnWeight.scorer(leafReaderContext);
+
+            // Then
+            assertNotNull(knnScorer);
+            assertEquals(FILTERED_DOC_ID_TO_SCORES.size(), knnScorer.iterator().cost());
+            final ArgumentCaptor<ExactSearcher.ExactSearcherContext> contextCaptor = ArgumentCaptor.forClass(
+                ExactSearcher.ExactSearcherContext.class
+            );
+            verify(mockedExactSearcher).searchLeaf(eq(leafReaderContext), contextCaptor.capture());
+            // Every matching document is sampled, as there are fewer than 8 per seed
+            assertEquals(numSeeds, contextCaptor.getValue().getK());
+            assertEquals(6, contextCaptor.getValue().getNumberOfMatchedDocs());
+            jniServiceMockedStatic.verify(
+                () -> JNIService.queryIndex(anyLong(), any(), anyInt(), any(), any(), any(), anyInt(), any()),
+                never()
+            );
+        } finally {
+            knnSettingsMockedStatic.when(() -> KNNSettings.getFilteredSearchSeeds(INDEX_NAME)).thenReturn(0);
+        }
+    }
+
     @SneakyThrows
     public void testScorerWithQuantizedVector() {
         // Given
@@ -10,8 +10,10 @@ import org.apache.lucene.search.KnnCollector;
 import org.apache.lucene.search.knn.KnnCollectorManager;
 import org.apache.lucene.search.knn.KnnSearchStrategy;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.query.memoryoptsearch.FilteredTraversal;
 import org.opensearch.knn.index.query.memoryoptsearch.MemoryOptimizedKNNWeight;
 import org.opensearch.knn.index.query.memoryoptsearch.RadiusVectorSimilarityCollector;
+import org.opensearch.knn.plugin.stats.KNNCounter;
 
 import java.lang.reflect.Field;
 
@@ -21,17 +23,35 @@ import static org.opensearch.knn.common.KNNConstants.DEFAULT_LUCENE_RADIAL_SEARC
 
 public class MemoryOptimizedKNNWeightTests extends KNNTestCase {
 
-    public void testAcornIsDisabled() throws Exception {
-        Field field = MemoryOptimizedKNNWeight.class.getDeclaredField("DEFAULT_HNSW_SEARCH_STRATEGY");
-        field.setAccessible(true);
-        KnnSearchStrategy.Hnsw strategy = (KnnSearchStrategy.Hnsw) field.get(null);
-
-        assertEquals(
-            "ACORN threshold must be 0 to disable filtered search and match Lucene 10.4 behavior",
-            0,
-            strategy.filteredSearchThreshold()
+    public void testFilteredTraversal_whenNotSelected_thenAcornOnlyForSelectiveFilters() throws Exception {
+        // Without the filtered_traversal method parameter, the traversal is chosen from the ratio of documents passing the filter.
+        final MemoryOptimizedKNNWeight weight = new MemoryOptimizedKNNWeight(
+            mock(KNNQuery.class),
+            1.0f,
+            null,
+            mock(IndexSearcher.class),
+            null
         );
-        assertFalse("useFilteredSearch must return false for any filtering rate when threshold is 0", strategy.useFilteredSearch(0.5f));
+        final Field traversalField = MemoryOptimizedKNNWeight.class.getDeclaredField("filteredTraversal");
+        traversalField.setAccessible(true);
+        final FilteredTraversal filteredTraversal = (FilteredTraversal) traversalField.get(weight);
+        assertEquals(FilteredTraversal.AUTO, filteredTraversal);
+
+        // Below the threshold
+        for (KnnSearchStrategy.Hnsw strategy : new KnnSearchStrategy.Hnsw[] {
+            filteredTraversal.getSearchStrategy(5, 1000),
+            filteredTraversal.getSearchStrategy(30, 1000) }) {
+            assertTrue("ACORN must be used for selective filters", strategy.useFilteredSearch(0.03f));
+        }
+
+        // Above the threshold or without filter
+        for (KnnSearchStrategy.Hnsw strategy : new KnnSearchStrategy.Hnsw[] {
+            filteredTraversal.getSearchStrategy(0, 1000),
+            filteredTraversal.getSearchStrategy(51, 1000),
+            filteredTraversal.getSearchStrategy(500, 1000) }) {
+            assertEquals("ACORN threshold must be 0 to disable filtered search", 0, strategy.filteredSearchThreshold());
+            assertFalse("useFilteredSearch must return false for any filtering rate when threshold is 0", strategy.useFilteredSearch(0.5f));
+        }
     }
 
     // Validates that the memory-optimized search (MOS) radius path builds the decay-based
@@ -63,4 +83,21 @@ public class MemoryOptimizedKNNWeightTests extends KNNTestCase {
         decayField.setAccessible(true);
         assertEquals(DEFAULT_LUCENE_RADIAL_SEARCH_DECAY, (float) decayField.get(collector), 0.0f);
     }
+
+    public void testRecordSearchMetrics_thenNodeStatsAreAggregated() {
+        final IndexSearcher searcher = mock(IndexSearcher.class);
+        final MemoryOptimizedKNNWeight weight = new MemoryOptimizedKNNWeight(mock(KNNQuery.class), 1.0f, null, searcher, null);
+        final long visitedNodes = KNNCounter.KNN_QUERY_VISITED_NODES.getCount();
+        final long distanceComputations = KNNCounter.KNN_QUERY_DISTANCE_COMPUTATIONS.getCount();
+        final long filterRejections = KNNCounter.KNN_QUERY_FILTER_REJECTIONS.getCount();
+        final long earlyTerminations = KNNCounter.KNN_QUERY_EARLY_TERMINATIONS.getCount();
+
+        weight.recordSearchMetrics(null, new KNNSearchMetrics(100, 240, 30, KNNSearchMetrics.EarlyTerminationReason.NONE));
+        weight.recordSearchMetrics(null, new KNNSearchMetrics(50, 60, 0, KNNSearchMetrics.EarlyTerminationReason.VISIT_LIMIT));
+
+        assertEquals(visitedNodes + 150, (long) KNNCounter.KNN_QUERY_VISITED_NODES.getCount());
+        assertEquals(distanceComputations + 300, (long) KNNCounter.KNN_QUERY_DISTANCE_COMPUTATIONS.getCount());
+        assertEquals(filterRejections + 30, (long) KNNCounter.KNN_QUERY_FILTER_REJECTIONS.getCount());
+        assertEquals(earlyTerminations + 1, (long) KNNCounter.KNN_QUERY_EARLY_TERMINATIONS.getCount());
+    }
 }
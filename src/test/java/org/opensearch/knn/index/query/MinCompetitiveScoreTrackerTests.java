@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.knn.utils.TopDocsTestUtils.buildTopDocs;
+
+public class MinCompetitiveScoreTrackerTests extends KNNTestCase {
+
+    public void testOfferAndPrune_whenFewerThanKResultsSeen_thenNothingIsPruned() {
+        final MinCompetitiveScoreTracker tracker = new MinCompetitiveScoreTracker(5);
+        final PerLeafResult perLeafResult = perLeafResult(Map.of(0, 1f, 1, 3f, 2, 2f));
+
+        tracker.offerAndPrune(perLeafResult);
+
+        assertEquals(3, perLeafResult.getResult().scoreDocs.length);
+    }
+
+    public void testOfferAndPrune_whenKResultsSeen_thenResultsBelowKthBestScoreArePruned() {
+        final MinCompetitiveScoreTracker tracker = new MinCompetitiveScoreTracker(2);
+        final PerLeafResult first = perLeafResult(Map.of(0, 1f, 1, 2f));
+        final PerLeafResult second = perLeafResult(Map.of(0, 4f, 1, 3f, 2, 0.5f));
+
+        tracker.offerAndPrune(first);
+        // Every result of the first segment belongs to the top 2 seen so far.
+        assertEquals(2, first.getResult().scoreDocs.length);
+
+        tracker.offerAndPrune(second);
+        final float[] scores = scores(second);
+        Arrays.sort(scores);
+        assertArrayEquals(new float[] { 3f, 4f }, scores, 0f);
+        assertEquals(2, second.getResult().totalHits.value());
+    }
+
+    public void testOfferAndPrune_whenSegmentsHaveFewerThanKResults_thenThresholdIsNotRaised() {
+        final MinCompetitiveScoreTracker tracker = new MinCompetitiveScoreTracker(2);
+        final PerLeafResult first = perLeafResult(Map.of(0, 5f));
+        final PerLeafResult second = perLeafResult(Map.of(0, 4f));
+        final PerLeafResult third = perLeafResult(Map.of(0, -1f));
+
+        tracker.offerAndPrune(first);
+        tracker.offerAndPrune(second);
+        tracker.offerAndPrune(third);
+
+        // The k-th best score is only known from a segment having k results, the third result is kept.
+        assertEquals(1, third.getResult().scoreDocs.length);
+    }
+
+    public void testOfferAndPrune_whenSegmentsReportConcurrently_thenGlobalTopKIsKept() throws Exception {
+        final int k = 10;
+        final int numSegments = 16;
+        final MinCompetitiveScoreTracker tracker = new MinCompetitiveScoreTracker(k);
+        final List<PerLeafResult> perLeafResults = new ArrayList<>();
+        final float[] allScores = new float[numSegments * k];
+        for (int segment = 0; segment < numSegments; segment++) {
+            final Map<Integer, Float> docToScore = new HashMap<>();
+            for (int doc = 0; doc < k; doc++) {
+                final float score = randomFloat() * 2 - 1;
+                docToScore.put(doc, score);
+                allScores[segment * k + doc] = score;
+            }
+            perLeafResults.add(perLeafResult(docToScore));
+        }
+
+        final Thread[] threads = new Thread[numSegments];
+        for (int segment = 0; segment < numSegments; segment++) {
+            final PerLeafResult perLeafResult = perLeafResults.get(segment);
+            threads[segment] = new Thread(() -> tracker.offerAndPrune(perLeafResult));
+            threads[segment].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        Arrays.sort(allScores);
+        final float kthBestScore = allScores[allScores.length - k];
+        int keptInTopK = 0;
+        for (final PerLeafResult perLeafResult : perLeafResults) {
+            for (final float score : scores(perLeafResult)) {
+                if (score >= kthBestScore) {
+                    keptInTopK++;
+                }
+            }
+        }
+        assertEquals(k, keptInTopK);
+    }
+
+    private static PerLeafResult perLeafResult(final Map<Integer, Float> docToScore) {
+        return new PerLeafResult(null, 0, buildTopDocs(docToScore), PerLeafResult.SearchMode.APPROXIMATE_SEARCH);
+    }
+
+    private static float[] scores(final PerLeafResult perLeafResult) {
+        final ScoreDoc[] scoreDocs = perLeafResult.getResult().scoreDocs;
+        final float[] scores = new float[scoreDocs.length];
+        for (int i = 0; i < scoreDocs.length; ++i) {
+            scores[i] = scoreDocs[i].score;
+        }
+        return scores;
+    }
+}
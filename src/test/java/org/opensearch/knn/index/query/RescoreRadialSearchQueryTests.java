@@ -9,8 +9,11 @@ import lombok.SneakyThrows;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.KnnFloatVectorField;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.VectorSimilarityFunction;
 import org.apache.lucene.search.DocIdSetIterator;
@@ -24,27 +27,41 @@ import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.VectorUtil;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.indices.ModelDao;
+import org.opensearch.knn.quantization.models.quantizationOutput.BinaryQuantizationOutput;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationErrorStats;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationState;
+import org.opensearch.knn.quantization.models.requests.TrainingRequest;
+import org.opensearch.knn.quantization.quantizer.OneBitScalarQuantizer;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.knn.common.KNNConstants.MAX_RESULTS_RADIAL_RESCORING;
 
-// Tests for RescoreRadialSearchQuery — the pass-through skeleton.
-// At this stage the wrapper delegates entirely to the inner query without rescoring.
-// These tests verify the wrapper structure and delegation, not rescoring correctness.
-// The quantized radial feature is disabled (#3452), so no production query path constructs this
-// query today; these unit tests keep the retained implementation from silently rotting until
-// the feature is re-enabled.
+// Tests for RescoreRadialSearchQuery — the wrapper structure, delegation, and rescoring of inner query candidates.
+// The quantized first pass of Faiss binary quantized indices needs native segments, only its candidate selection, on real binary
+// codes, and the graph first pass of large segments are unit tested here.
 public class RescoreRadialSearchQueryTests extends KNNTestCase {
     private static final String FIELD_NAME = "test-field";
     private static final float[] QUERY_VECTOR = { 1.0f, 2.0f, 3.0f };
@@ -151,6 +168,238 @@ public class RescoreRadialSearchQueryTests extends KNNTestCase {
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, scorer.iterator().nextDoc());
     }
 
+    // Given: first pass results on quantized vectors with hamming distances 0, 1, 2, 3 and 5
+    // When: candidates are selected within a quantized radius
+    // Then: only results within the rounded down radius are kept, unless there are more than the cap
+    public void testSelectCandidates() {
+        final int[] hammingDistances = { 0, 1, 2, 3, 5 };
+        final ScoreDoc[] scoreDocs = new ScoreDoc[hammingDistances.length];
+        for (int i = 0; i < hammingDistances.length; ++i) {
+            scoreDocs[i] = new ScoreDoc(10 - i, 1.0f / (1 + hammingDistances[i]));
+        }
+        final TopDocs firstPass = new TopDocs(new TotalHits(scoreDocs.length, TotalHits.Relation.EQUAL_TO), scoreDocs);
+
+        final TopDocs candidates = RescoreRadialSearchQuery.selectCandidates(firstPass, 2.7, 10);
+        assertEquals(3, candidates.scoreDocs.length);
+        assertEquals(3, candidates.totalHits.value());
+        assertEquals(8, candidates.scoreDocs[2].doc);
+
+        // A negative radius still keeps exact matches of the binary code
+        assertEquals(1, RescoreRadialSearchQuery.selectCandidates(firstPass, -1, 10).scoreDocs.length);
+        assertEquals(5, RescoreRadialSearchQuery.selectCandidates(firstPass, 100, 10).scoreDocs.length);
+        // Above the cap, the segment is searched exactly instead
+        assertNull(RescoreRadialSearchQuery.selectCandidates(firstPass, 2.7, 2));
+        assertEquals(3, RescoreRadialSearchQuery.selectCandidates(firstPass, 2.7, 3).scoreDocs.length);
+    }
+
+    // Given: binary codes of clustered vectors, trained like a segment would be, and a radius around a query close to a cluster
+    // When: candidates are selected from the hamming first pass with the widened quantized radius
+    // Then: the vectors within the full-precision radius are kept, while the vectors of other clusters are pruned
+    @SneakyThrows
+    public void testSelectCandidates_withQuantizedVectors_thenRecallsVectorsWithinRadius() {
+        final int numVectors = 2000;
+        final int dimension = 64;
+        final int numClusters = 20;
+        final float[][] centroids = new float[numClusters][dimension];
+        for (float[] centroid : centroids) {
+            for (int d = 0; d < dimension; d++) {
+                centroid[d] = (float) random().nextGaussian();
+            }
+        }
+        final float[][] vectors = new float[numVectors][];
+        for (int i = 0; i < numVectors; i++) {
+            vectors[i] = nearby(centroids[random().nextInt(numClusters)]);
+        }
+        final OneBitScalarQuantizer quantizer = new OneBitScalarQuantizer();
+        final QuantizationState state = quantizer.train(new TrainingRequest<>(numVectors) {
+            @Override
+            public float[] getVectorAtThePosition(int position) {
+                return vectors[position];
+            }
+
+            @Override
+            public void resetVectorValues() {}
+        });
+        final QuantizationErrorStats errorStats = state.getErrorStats();
+        assertNotNull(errorStats);
+
+        final float[] query = nearby(centroids[0]);
+        final byte[] quantizedQuery = quantize(quantizer, state, query);
+        final float[] distances = new float[numVectors];
+        final ScoreDoc[] scoreDocs = new ScoreDoc[numVectors];
+        for (int i = 0; i < numVectors; i++) {
+            distances[i] = VectorUtil.squareDistance(query, vectors[i]);
+            scoreDocs[i] = new ScoreDoc(i, 1.0f / (1 + VectorUtil.xorBitCount(quantizedQuery, quantize(quantizer, state, vectors[i]))));
+        }
+        Arrays.sort(scoreDocs, (a, b) -> Float.compare(b.score, a.score));
+        final TopDocs firstPass = new TopDocs(new TotalHits(numVectors, TotalHits.Relation.EQUAL_TO), scoreDocs);
+        // Around the 50 nearest neighbors are within the radius.
+        final float[] sortedDistances = distances.clone();
+        Arrays.sort(sortedDistances);
+        final float radius = sortedDistances[49];
+
+        final TopDocs candidates = RescoreRadialSearchQuery.selectCandidates(
+            firstPass,
+            errorStats.toQuantizedRadius(radius, RescoreRadialSearchQuery.FIRST_PASS_RECALL),
+            numVectors
+        );
+
+        final FixedBitSet candidateDocs = new FixedBitSet(numVectors);
+        for (ScoreDoc scoreDoc : candidates.scoreDocs) {
+            candidateDocs.set(scoreDoc.doc);
+        }
+        int withinRadius = 0;
+        int recalled = 0;
+        for (int i = 0; i < numVectors; i++) {
+            if (distances[i] <= radius) {
+                ++withinRadius;
+                recalled += candidateDocs.get(i) ? 1 : 0;
+            }
+        }
+        assertTrue("Recall " + recalled + "/" + withinRadius, recalled >= 0.99 * withinRadius);
+        assertTrue("Candidates " + candidates.scoreDocs.length, candidates.scoreDocs.length < numVectors / 2);
+    }
+
+    // Given: a Faiss binary quantized segment with more vectors than exact search is allowed to score
+    // When: the radial search runs on the segment
+    // Then: the graph is searched for the nearest quantized vectors, and the ones within the quantized radius are rescored
+    @SneakyThrows
+    public void testScorerSupplier_whenSegmentTooLargeToScan_thenSearchesGraphForNearestQuantizedVectors() {
+        final ExactSearcher exactSearcher = mock(ExactSearcher.class);
+        RescoreRadialSearchQuery.initialize(exactSearcher);
+        final LeafReaderContext leafContext = mockLeafContext(1_000_000);
+
+        final FixedBitSet filterBitSet = new FixedBitSet(0);
+        final KNNWeight knnWeight = mock(KNNWeight.class);
+        when(knnWeight.getFilteredDocsBitSet(leafContext)).thenReturn(filterBitSet);
+        when(knnWeight.isExactSearchPreferred(1_000_000)).thenReturn(false);
+        // Hamming distances 5, 0 and 1, out of order like the graph may return them.
+        final ScoreDoc[] graphResults = { new ScoreDoc(7, 1.0f / 6), new ScoreDoc(3, 1.0f), new ScoreDoc(5, 1.0f / 2) };
+        when(knnWeight.approximateSearch(leafContext, filterBitSet, 0, 11)).thenReturn(
+            new TopDocs(new TotalHits(graphResults.length, TotalHits.Relation.EQUAL_TO), graphResults)
+        );
+        when(exactSearcher.searchLeaf(eq(leafContext), any())).thenReturn(
+            new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] { new ScoreDoc(3, 0.9f) })
+        );
+
+        final KNNQuery innerQuery = mock(KNNQuery.class);
+        final IndexSearcher searcher = mock(IndexSearcher.class);
+        when(searcher.createWeight(eq(innerQuery), any(ScoreMode.class), anyFloat())).thenReturn(knnWeight);
+
+        // The radius maps onto a hamming distance of 1 once widened.
+        final QuantizationErrorStats errorStats = new QuantizationErrorStats(100, 1.0f, 0.04f, 1.0f, 0.0f);
+        try (
+            MockedStatic<KNNSettings> knnSettingsMockedStatic = mockStatic(KNNSettings.class);
+            MockedStatic<SegmentLevelQuantizationInfo> quantizationInfoMockedStatic = mockStatic(SegmentLevelQuantizationInfo.class)
+        ) {
+            knnSettingsMockedStatic.when(() -> KNNSettings.getRadialSearchMaxCandidates(any())).thenReturn(10);
+            quantizationInfoMockedStatic.when(() -> SegmentLevelQuantizationInfo.build(any(), any(), any()))
+                .thenReturn(mockQuantizationInfo(errorStats));
+            final RescoreRadialSearchQuery query = new RescoreRadialSearchQuery(
+                innerQuery,
+                FIELD_NAME,
+                QUERY_VECTOR,
+                RADIUS,
+                false,
+                MAX_RESULTS_RADIAL_RESCORING
+            );
+            final Scorer scorer = query.createWeight(searcher, ScoreMode.COMPLETE, 1.0f).scorerSupplier(leafContext).get(0);
+
+            assertEquals(3, scorer.iterator().nextDoc());
+            verify(knnWeight).approximateSearch(leafContext, filterBitSet, 0, 11);
+            final ArgumentCaptor<ExactSearcher.ExactSearcherContext> contextCaptor = ArgumentCaptor.forClass(
+                ExactSearcher.ExactSearcherContext.class
+            );
+            verify(exactSearcher).searchLeaf(eq(leafContext), contextCaptor.capture());
+            // Only the candidates within the quantized radius are rescored with full-precision vectors.
+            assertFalse(contextCaptor.getValue().isUseQuantizedVectorsForSearch());
+            assertEquals(2, contextCaptor.getValue().getNumberOfMatchedDocs());
+        }
+    }
+
+    // Given: a Faiss binary quantized segment too large to scan, without quantization error statistics
+    // When: the radial search runs on the segment
+    // Then: the graph is not searched with the full-precision radius, the full-precision vectors are scanned instead
+    @SneakyThrows
+    public void testScorerSupplier_whenSegmentTooLargeToScanWithoutErrorStats_thenScansFullPrecisionVectors() {
+        final ExactSearcher exactSearcher = mock(ExactSearcher.class);
+        RescoreRadialSearchQuery.initialize(exactSearcher);
+        final LeafReaderContext leafContext = mockLeafContext(1_000_000);
+
+        final FixedBitSet filterBitSet = new FixedBitSet(0);
+        final KNNWeight knnWeight = mock(KNNWeight.class);
+        when(knnWeight.getFilteredDocsBitSet(leafContext)).thenReturn(filterBitSet);
+        when(knnWeight.isExactSearchPreferred(1_000_000)).thenReturn(false);
+        when(exactSearcher.searchLeaf(eq(leafContext), any())).thenReturn(
+            new TopDocs(new TotalHits(0, TotalHits.Relation.EQUAL_TO), new ScoreDoc[0])
+        );
+
+        final KNNQuery innerQuery = mock(KNNQuery.class);
+        final IndexSearcher searcher = mock(IndexSearcher.class);
+        when(searcher.createWeight(eq(innerQuery), any(ScoreMode.class), anyFloat())).thenReturn(knnWeight);
+
+        try (
+            MockedStatic<KNNSettings> knnSettingsMockedStatic = mockStatic(KNNSettings.class);
+            MockedStatic<SegmentLevelQuantizationInfo> quantizationInfoMockedStatic = mockStatic(SegmentLevelQuantizationInfo.class)
+        ) {
+            knnSettingsMockedStatic.when(() -> KNNSettings.getRadialSearchMaxCandidates(any())).thenReturn(10_000);
+            quantizationInfoMockedStatic.when(() -> SegmentLevelQuantizationInfo.build(any(), any(), any()))
+                .thenReturn(mockQuantizationInfo(null));
+            final RescoreRadialSearchQuery query = new RescoreRadialSearchQuery(
+                innerQuery,
+                FIELD_NAME,
+                QUERY_VECTOR,
+                RADIUS,
+                false,
+                MAX_RESULTS_RADIAL_RESCORING
+            );
+            final Scorer scorer = query.createWeight(searcher, ScoreMode.COMPLETE, 1.0f).scorerSupplier(leafContext).get(0);
+
+            assertEquals(DocIdSetIterator.NO_MORE_DOCS, scorer.iterator().nextDoc());
+            verify(knnWeight, never()).approximateSearch(any(), any(), anyInt(), anyInt());
+            final ArgumentCaptor<ExactSearcher.ExactSearcherContext> contextCaptor = ArgumentCaptor.forClass(
+                ExactSearcher.ExactSearcherContext.class
+            );
+            verify(exactSearcher).searchLeaf(eq(leafContext), contextCaptor.capture());
+            assertFalse(contextCaptor.getValue().isUseQuantizedVectorsForSearch());
+            assertNull(contextCaptor.getValue().getMatchedDocsIterator());
+            assertEquals(1_000_000, contextCaptor.getValue().getNumberOfMatchedDocs());
+        }
+    }
+
+    private static LeafReaderContext mockLeafContext(final int maxDoc) {
+        final LeafReader leafReader = mock(LeafReader.class);
+        final FieldInfos fieldInfos = mock(FieldInfos.class);
+        when(leafReader.getFieldInfos()).thenReturn(fieldInfos);
+        when(fieldInfos.fieldInfo(FIELD_NAME)).thenReturn(mock(FieldInfo.class));
+        when(leafReader.maxDoc()).thenReturn(maxDoc);
+        final LeafReaderContext leafContext = mock(LeafReaderContext.class);
+        when(leafContext.reader()).thenReturn(leafReader);
+        return leafContext;
+    }
+
+    private static SegmentLevelQuantizationInfo mockQuantizationInfo(final QuantizationErrorStats errorStats) {
+        final QuantizationState quantizationState = mock(QuantizationState.class);
+        when(quantizationState.getErrorStats()).thenReturn(errorStats);
+        final SegmentLevelQuantizationInfo quantizationInfo = mock(SegmentLevelQuantizationInfo.class);
+        when(quantizationInfo.getQuantizationState()).thenReturn(quantizationState);
+        return quantizationInfo;
+    }
+
+    private static float[] nearby(final float[] centroid) {
+        final float[] vector = new float[centroid.length];
+        for (int d = 0; d < centroid.length; d++) {
+            vector[d] = centroid[d] + 0.3f * (float) random().nextGaussian();
+        }
+        return vector;
+    }
+
+    private static byte[] quantize(final OneBitScalarQuantizer quantizer, final QuantizationState state, final float[] vector) {
+        final BinaryQuantizationOutput output = new BinaryQuantizationOutput(1);
+        quantizer.quantize(vector, state, output);
+        return output.getQuantizedVector();
+    }
+
     // Verify equals/hashCode contract
     public void testEqualsAndHashCode() {
         Query innerQuery = new MatchAllDocsQuery();
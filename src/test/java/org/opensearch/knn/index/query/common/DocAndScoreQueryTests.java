@@ -84,6 +84,26 @@ public class DocAndScoreQueryTests extends OpenSearchTestCase {
         assertEquals(iterator2.advance(1), 1);
     }
 
+    public void testScorer_whenAdvance_thenBinarySearchesDocs() throws Exception {
+        // Given
+        int[] docs = { 0, 2, 3, 7 };
+        float[] scores = { 0.1f, 1.2f, 2.3f, 5.1f };
+        int[] findSegments = { 0, 4 };
+        objectUnderTest = new DocAndScoreQuery(4, docs, scores, findSegments, readerContext.id(), null);
+
+        // When
+        Scorer scorer = objectUnderTest.createWeight(indexSearcher, ScoreMode.COMPLETE, 1).scorer(leaf1);
+        DocIdSetIterator iterator = scorer.iterator();
+
+        // Then
+        assertEquals(2, iterator.advance(1));
+        assertEquals(1.2f, scorer.score(), 0.0001f);
+        assertEquals(3, iterator.nextDoc());
+        assertEquals(7, iterator.advance(4));
+        assertEquals(5.1f, scorer.score(), 0.0001f);
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, iterator.advance(8));
+    }
+
     @SneakyThrows
     public void testWeight() {
         // Given
@@ -22,10 +22,8 @@ import org.apache.lucene.util.FixedBitSet;
 import org.junit.Before;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
@@ -66,14 +64,16 @@ public class QueryUtilsTests extends TestCase {
         when(weight.scorer(leafReaderContext2)).thenReturn(scorer);
 
         // Run
-        List<Map<Integer, Float>> results = queryUtils.doSearch(indexSearcher, leafReaderContexts, weight);
+        List<DocScores> results = queryUtils.doSearch(indexSearcher, leafReaderContexts, weight);
 
         // Verify
         assertEquals(2, results.size());
         assertEquals(0, results.get(0).size());
         assertEquals(2, results.get(1).size());
-        assertEquals(10.f, results.get(1).get(0));
-        assertEquals(11.f, results.get(1).get(1));
+        assertTrue(Arrays.equals(new int[] { 0, 1 }, results.get(1).getDocs()));
+        assertEquals(10.f, results.get(1).getScore(0), 0.0f);
+        assertEquals(11.f, results.get(1).getScore(1), 0.0f);
+        assertTrue(Float.isNaN(results.get(1).getScore(2)));
 
     }
 
@@ -84,7 +84,7 @@ public class QueryUtilsTests extends TestCase {
         Bits bits = mock(Bits.class);
 
         // Run
-        DocIdSetIterator docIdSetIterator = queryUtils.getAllSiblings(leafReaderContext, Collections.emptySet(), bitSetProducer, bits);
+        DocIdSetIterator docIdSetIterator = queryUtils.getAllSiblings(leafReaderContext, new int[0], bitSetProducer, bits);
 
         // Verify
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, docIdSetIterator.nextDoc());
@@ -107,7 +107,7 @@ public class QueryUtilsTests extends TestCase {
         filterBits.set(9);
 
         // Run
-        Set<Integer> docIds = Set.of(1, 8);
+        int[] docIds = { 1, 8 };
         DocIdSetIterator docIdSetIterator = queryUtils.getAllSiblings(leafReaderContext, docIds, bitSetProducer, filterBits);
 
         // Verify
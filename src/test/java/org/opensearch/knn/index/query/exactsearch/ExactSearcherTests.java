@@ -23,6 +23,7 @@ import org.apache.lucene.util.Version;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.common.FieldInfoExtractor;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.VectorDataType;
 import org.opensearch.knn.index.codec.KNNCodecVersion;
@@ -57,6 +58,7 @@ import static org.opensearch.knn.common.KNNConstants.PARAMETERS;
 import static org.opensearch.knn.common.KNNConstants.QFRAMEWORK_CONFIG;
 import static org.opensearch.knn.common.KNNConstants.SPACE_TYPE;
 import static org.opensearch.knn.common.KNNConstants.VECTOR_DATA_TYPE_FIELD;
+import static org.opensearch.knn.index.mapper.KNNVectorFieldMapper.KNN_FIELD;
 
 public class ExactSearcherTests extends KNNTestCase {
 
@@ -320,6 +322,86 @@ public class ExactSearcherTests extends KNNTestCase {
         }
     }
 
+    @SneakyThrows
+    public void testExactSearch_whenProductQuantizedFieldWithoutMemoryOptimizedSearch_thenFullPrecisionVectorsScored() {
+        // Without memory optimized search, and with it on a segment without a FAISS index file, PQ codes are not read.
+        doTestExactSearch_whenProductQuantizedField_thenFullPrecisionVectorsScored(false);
+        doTestExactSearch_whenProductQuantizedField_thenFullPrecisionVectorsScored(true);
+    }
+
+    @SneakyThrows
+    private void doTestExactSearch_whenProductQuantizedField_thenFullPrecisionVectorsScored(final boolean memoryOptimizedSearchEnabled) {
+        try (
+            MockedStatic<KNNVectorValuesFactory> valuesFactoryMockedStatic = Mockito.mockStatic(KNNVectorValuesFactory.class);
+            MockedStatic<FieldInfoExtractor> fieldInfoExtractorMockedStatic = Mockito.mockStatic(
+                FieldInfoExtractor.class,
+                Mockito.CALLS_REAL_METHODS
+            )
+        ) {
+            final float[] queryVector = new float[] { 0.1f, 2.0f, 3.0f };
+            final List<float[]> floatVectors = List.of(new float[] { 1, 2, 3 }, new float[] { 4, 5, 6 }, new float[] { 0, 1, 2 });
+            final SpaceType spaceType = SpaceType.L2;
+
+            final ExactSearcher.ExactSearcherContext exactSearcherContext = ExactSearcher.ExactSearcherContext.builder()
+                .field(FIELD_NAME)
+                .floatQueryVector(queryVector)
+                .useQuantizedVectorsForSearch(true)
+                .isMemoryOptimizedSearchEnabled(memoryOptimizedSearchEnabled)
+                .k(10)
+                .build();
+
+            ExactSearcher exactSearcher = new ExactSearcher(null);
+            final LeafReaderContext leafReaderContext = mock(LeafReaderContext.class);
+            final SegmentReader reader = mock(SegmentReader.class);
+            when(leafReaderContext.reader()).thenReturn(reader);
+            final SegmentInfo segmentInfo = new SegmentInfo(
+                mock(FSDirectory.class),
+                Version.LATEST,
+                Version.LATEST,
+                SEGMENT_NAME,
+                100,
+                false,
+                false,
+                KNNCodecVersion.CURRENT_DEFAULT,
+                Map.of(),
+                new byte[StringHelper.ID_LENGTH],
+                Map.of(),
+                Sort.RELEVANCE
+            );
+            segmentInfo.setFiles(Set.of());
+            when(reader.getSegmentInfo()).thenReturn(
+                new SegmentCommitInfo(segmentInfo, 0, 0, 0, 0, 0, new byte[StringHelper.ID_LENGTH])
+            );
+
+            final FieldInfos fieldInfos = mock(FieldInfos.class);
+            final FieldInfo fieldInfo = mock(FieldInfo.class);
+            when(fieldInfo.attributes()).thenReturn(
+                Map.of(KNN_FIELD, "true", KNN_ENGINE, KNNEngine.FAISS.getName(), SPACE_TYPE, spaceType.getValue())
+            );
+            when(fieldInfo.getAttribute(SPACE_TYPE)).thenReturn(spaceType.getValue());
+            when(fieldInfo.getAttribute(KNN_ENGINE)).thenReturn(KNNEngine.FAISS.getName());
+            when(reader.getFieldInfos()).thenReturn(fieldInfos);
+            when(fieldInfos.fieldInfo(FIELD_NAME)).thenReturn(fieldInfo);
+            fieldInfoExtractorMockedStatic.when(() -> FieldInfoExtractor.isProductQuantizedModelField(any(), any())).thenReturn(true);
+
+            valuesFactoryMockedStatic.when(() -> KNNVectorValuesFactory.getVectorValues(fieldInfo, reader))
+                .thenReturn(TestVectorValues.createKNNFloatVectorValues(floatVectors));
+            // FLOAT32 fields have no byte vector values to fall back to.
+            valuesFactoryMockedStatic.when(() -> KNNVectorValuesFactory.getVectorValues(fieldInfo, reader, true))
+                .thenThrow(new IllegalStateException("No byte vector values for a float field"));
+
+            TopDocs docs = exactSearcher.searchLeaf(leafReaderContext, exactSearcherContext);
+
+            valuesFactoryMockedStatic.verify(() -> KNNVectorValuesFactory.getVectorValues(fieldInfo, reader, true), Mockito.never());
+            final List<Float> expectedScores = floatVectors.stream()
+                .map(vector -> spaceType.getKnnVectorSimilarityFunction().compare(queryVector, vector))
+                .sorted(Comparator.reverseOrder())
+                .toList();
+            final List<Float> actualScores = Arrays.stream(docs.scoreDocs).map(scoreDoc -> scoreDoc.score).toList();
+            assertEquals(expectedScores, actualScores);
+        }
+    }
+
     @SneakyThrows
     public void testExactSearch_whenQuantizationWithADC_thenSuccess() {
         try (
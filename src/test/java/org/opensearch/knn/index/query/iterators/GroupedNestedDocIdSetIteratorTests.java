@@ -27,7 +27,7 @@ public class GroupedNestedDocIdSetIteratorTests extends TestCase {
         filterBits.set(9);
 
         // Run
-        Set<Integer> docIds = Set.of(1, 8);
+        int[] docIds = { 1, 8 };
         GroupedNestedDocIdSetIterator groupedNestedDocIdSetIterator = new GroupedNestedDocIdSetIterator(parentBitSet, docIds, filterBits);
 
         // Verify
@@ -55,7 +55,7 @@ public class GroupedNestedDocIdSetIteratorTests extends TestCase {
         filterBits.set(9);
 
         // Run
-        Set<Integer> docIds = Set.of(1, 8);
+        int[] docIds = { 1, 8 };
         GroupedNestedDocIdSetIterator groupedNestedDocIdSetIterator = new GroupedNestedDocIdSetIterator(parentBitSet, docIds, filterBits);
 
         // Verify
@@ -84,7 +84,7 @@ public class GroupedNestedDocIdSetIteratorTests extends TestCase {
         filterBits.set(9);
 
         // Run
-        Set<Integer> docIds = Set.of(0, 1, 3, 4, 5, 8, 9);
+        int[] docIds = { 0, 1, 3, 4, 5, 8, 9 };
         GroupedNestedDocIdSetIterator groupedNestedDocIdSetIterator = new GroupedNestedDocIdSetIterator(parentBitSet, docIds, filterBits);
 
         // Verify
@@ -99,4 +99,30 @@ public class GroupedNestedDocIdSetIteratorTests extends TestCase {
         assertEquals(DocIdSetIterator.NO_MORE_DOCS, groupedNestedDocIdSetIterator.docID());
         assertEquals(expectedDocIds.size(), groupedNestedDocIdSetIterator.cost());
     }
+
+    public void testGroupedNestedDocIdSetIterator_whenAdvanceIntoSiblingRange_thenBehaveAsExpected() throws Exception {
+        // 0, 1, 2, 3(parent), 4(parent), 5, 6, 7, 8(parent), 9, 10(parent)
+        BitSet parentBitSet = new FixedBitSet(new long[1], 11);
+        parentBitSet.set(3);
+        parentBitSet.set(4);
+        parentBitSet.set(8);
+        parentBitSet.set(10);
+
+        BitSet filterBits = new FixedBitSet(new long[1], 11);
+        filterBits.set(0, 11);
+
+        // Run
+        int[] docIds = { 0, 0, 7, 9 };
+        GroupedNestedDocIdSetIterator groupedNestedDocIdSetIterator = new GroupedNestedDocIdSetIterator(parentBitSet, docIds, filterBits);
+
+        // Verify
+        assertEquals(1, groupedNestedDocIdSetIterator.advance(1));
+        assertEquals(2, groupedNestedDocIdSetIterator.nextDoc());
+        // Parents are skipped, the range of 7 starts right after the parent 4
+        assertEquals(5, groupedNestedDocIdSetIterator.nextDoc());
+        assertEquals(7, groupedNestedDocIdSetIterator.advance(7));
+        assertEquals(9, groupedNestedDocIdSetIterator.advance(8));
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, groupedNestedDocIdSetIterator.nextDoc());
+        assertEquals(7, groupedNestedDocIdSetIterator.cost());
+    }
 }
@@ -24,10 +24,10 @@ import org.apache.lucene.util.Bits;
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
 import org.opensearch.knn.index.query.ResultUtil;
+import org.opensearch.knn.index.query.common.DocScores;
 import org.opensearch.knn.index.query.common.QueryUtils;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
@@ -107,9 +107,9 @@ public class ExpandNestedEDocsQueryTests extends TestCase {
         when(internalQuery.getField()).thenReturn("field");
         when(internalQuery.getParentFilter()).thenReturn(parentFilter);
 
-        Map<Integer, Float> initialLeaf1Results = new HashMap<>(Map.of(0, 19f, 1, 20f, 2, 17f, 3, 15f));
-        Map<Integer, Float> initialLeaf2Results = new HashMap<>(Map.of(0, 21f, 1, 18f, 2, 16f, 3, 14f));
-        List<Map<Integer, Float>> perLeafResults = Arrays.asList(initialLeaf1Results, initialLeaf2Results);
+        DocScores initialLeaf1Results = new DocScores(new int[] { 0, 1, 2, 3 }, new float[] { 19f, 20f, 17f, 15f });
+        DocScores initialLeaf2Results = new DocScores(new int[] { 0, 1, 2, 3 }, new float[] { 21f, 18f, 16f, 14f });
+        List<DocScores> perLeafResults = Arrays.asList(initialLeaf1Results, initialLeaf2Results);
 
         Bits queryFilterBits = mock(Bits.class);
         DocIdSetIterator allSiblings = mock(DocIdSetIterator.class);
@@ -134,8 +134,8 @@ public class ExpandNestedEDocsQueryTests extends TestCase {
         assertEquals(expectedWeight, finalWeigh);
         verify(queryUtils).createBits(leaf1, filterWeight);
         verify(queryUtils).createBits(leaf2, filterWeight);
-        verify(queryUtils).getAllSiblings(leaf1, perLeafResults.get(0).keySet(), parentFilter, queryFilterBits);
-        verify(queryUtils).getAllSiblings(leaf2, perLeafResults.get(1).keySet(), parentFilter, queryFilterBits);
+        verify(queryUtils).getAllSiblings(leaf1, initialLeaf1Results.getDocs(), parentFilter, queryFilterBits);
+        verify(queryUtils).getAllSiblings(leaf2, initialLeaf2Results.getDocs(), parentFilter, queryFilterBits);
         ArgumentCaptor<TopDocs> topDocsCaptor = ArgumentCaptor.forClass(TopDocs.class);
         verify(queryUtils).createDocAndScoreQuery(eq(reader), topDocsCaptor.capture());
         TopDocs capturedTopDocs = topDocsCaptor.getValue();
@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.memoryoptsearch;
+
+import org.opensearch.knn.KNNTestCase;
+
+public class FilteredTraversalTests extends KNNTestCase {
+
+    public void testGetSearchStrategy_whenAuto_thenAcornOnlyAtOrBelowThreshold() {
+        final int maxDoc = 100_000;
+        assertSame(FilteredTraversal.HNSW_SEARCH_STRATEGY, FilteredTraversal.AUTO.getSearchStrategy(0, maxDoc));
+        assertSame(FilteredTraversal.ACORN_SEARCH_STRATEGY, FilteredTraversal.AUTO.getSearchStrategy(100, maxDoc));
+        assertSame(FilteredTraversal.ACORN_SEARCH_STRATEGY, FilteredTraversal.AUTO.getSearchStrategy(5_000, maxDoc));
+        assertSame(FilteredTraversal.HNSW_SEARCH_STRATEGY, FilteredTraversal.AUTO.getSearchStrategy(5_001, maxDoc));
+        assertSame(FilteredTraversal.HNSW_SEARCH_STRATEGY, FilteredTraversal.AUTO.getSearchStrategy(90_000, maxDoc));
+    }
+
+    public void testGetSearchStrategy_whenForced_thenFilterRatioIsIgnored() {
+        assertSame(FilteredTraversal.ACORN_SEARCH_STRATEGY, FilteredTraversal.ACORN.getSearchStrategy(90_000, 100_000));
+        assertSame(FilteredTraversal.HNSW_SEARCH_STRATEGY, FilteredTraversal.ACORN.getSearchStrategy(0, 100_000));
+        assertSame(FilteredTraversal.HNSW_SEARCH_STRATEGY, FilteredTraversal.HNSW.getSearchStrategy(2_000, 100_000));
+        assertTrue(FilteredTraversal.ACORN_SEARCH_STRATEGY.useFilteredSearch(0.99f));
+    }
+
+    public void testFromName() {
+        assertEquals(FilteredTraversal.ACORN, FilteredTraversal.fromName("acorn"));
+        assertEquals(FilteredTraversal.HNSW, FilteredTraversal.fromName("HNSW"));
+        assertEquals(FilteredTraversal.AUTO, FilteredTraversal.fromName("auto"));
+        assertNull(FilteredTraversal.fromName("invalid"));
+        assertEquals("auto, acorn, hnsw", FilteredTraversal.names());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.index.query.memoryoptsearch;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopKnnCollector;
+import org.apache.lucene.search.knn.KnnSearchStrategy;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.knn.KNNTestCase;
+
+public class NestedBestChildKnnCollectorTests extends KNNTestCase {
+
+    public void testCollect_whenChildrenShareParents_thenKeepBestChildOfTopKParents() {
+        // Parents at 3, 7 and 11, children at 0-2, 4-6 and 8-10.
+        final FixedBitSet parentBitSet = new FixedBitSet(12);
+        parentBitSet.set(3);
+        parentBitSet.set(7);
+        parentBitSet.set(11);
+        final NestedBestChildKnnCollector collector = new NestedBestChildKnnCollector(
+            new TopKnnCollector(2, Integer.MAX_VALUE, new KnnSearchStrategy.Hnsw(0)),
+            2,
+            parentBitSet
+        );
+
+        assertTrue(collector.collect(0, 0.5f));
+        assertTrue(collector.collect(1, 0.9f));
+        assertFalse(collector.collect(2, 0.7f));
+        assertEquals(Float.NEGATIVE_INFINITY, collector.minCompetitiveSimilarity(), 0);
+        assertTrue(collector.collect(4, 0.3f));
+        assertEquals(0.3f, collector.minCompetitiveSimilarity(), 0);
+        // Evicts parent 7, then improves parent 11 in place.
+        assertTrue(collector.collect(8, 0.6f));
+        assertFalse(collector.collect(5, 0.4f));
+        assertTrue(collector.collect(10, 0.95f));
+        assertEquals(0.9f, collector.minCompetitiveSimilarity(), 0);
+
+        final TopDocs topDocs = collector.topDocs();
+        assertEquals(2, topDocs.scoreDocs.length);
+        assertScoreDoc(topDocs.scoreDocs[0], 10, 0.95f);
+        assertScoreDoc(topDocs.scoreDocs[1], 1, 0.9f);
+    }
+
+    public void testCollect_whenNoParent_thenNothingCollected() {
+        final NestedBestChildKnnCollector collector = new NestedBestChildKnnCollector(
+            new TopKnnCollector(1, Integer.MAX_VALUE, new KnnSearchStrategy.Hnsw(0)),
+            1,
+            new FixedBitSet(4)
+        );
+        assertFalse(collector.collect(1, 1.0f));
+        assertEquals(0, collector.topDocs().scoreDocs.length);
+    }
+
+    private static void assertScoreDoc(final ScoreDoc scoreDoc, final int doc, final float score) {
+        assertEquals(doc, scoreDoc.doc);
+        assertEquals(score, scoreDoc.score, 0);
+    }
+}
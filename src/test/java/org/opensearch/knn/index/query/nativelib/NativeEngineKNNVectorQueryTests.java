@@ -32,6 +32,7 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.knn.index.KNNSettings;
 import org.opensearch.knn.index.VectorDataType;
+import org.opensearch.knn.index.query.DefaultKNNWeight;
 import org.opensearch.knn.index.query.exactsearch.ExactSearcher;
 import org.opensearch.knn.index.query.KNNQuery;
 import org.opensearch.knn.index.query.KNNWeight;
@@ -40,6 +41,7 @@ import org.opensearch.knn.index.query.ResultUtil;
 import org.opensearch.knn.index.query.common.QueryUtils;
 import org.opensearch.knn.index.query.memoryoptsearch.MemoryOptimizedKNNWeight;
 import org.opensearch.knn.index.query.rescore.RescoreContext;
+import org.opensearch.lucene.OptimisticKnnCollectorManager;
 import org.opensearch.lucene.ReentrantKnnCollectorManager;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -55,6 +57,7 @@ import java.util.Map;
 import java.util.concurrent.Callable;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -502,6 +505,142 @@ public class NativeEngineKNNVectorQueryTests extends OpenSearchTestCase {
         }
     }
 
+    @SneakyThrows
+    public void testRescore_whenPipelinedRescoreEnabled_thenEachSegmentIsRescoredAfterItsFirstPass() {
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            Document doc1 = new Document();
+            doc1.add(new FloatPoint("vector", 1.0f, 2.0f, 3.0f));
+            writer.addDocument(doc1);
+            // Force the creation of a second segment
+            writer.flush();
+            Document doc2 = new Document();
+            doc2.add(new FloatPoint("vector", 4.0f, 5.0f, 6.0f));
+            writer.addDocument(doc2);
+            writer.commit();
+        }
+        reader = CustomFilterDirectoryReader.wrap(DirectoryReader.open(directory), null, null);
+        List<LeafReaderContext> leaves = reader.leaves();
+        assertEquals(2, leaves.size());
+        leaf1 = leaves.get(0);
+        leaf2 = leaves.get(1);
+
+        int k = 2;
+        int firstPassK = 100;
+        PerLeafResult initialLeaf1Results = new PerLeafResult(
+            null,
+            0,
+            buildTopDocs(new HashMap<>(Map.of(0, 21f, 1, 19f))),
+            PerLeafResult.SearchMode.EXACT_SEARCH
+        );
+        PerLeafResult initialLeaf2Results = new PerLeafResult(
+            null,
+            0,
+            buildTopDocs(new HashMap<>(Map.of(0, 20f, 1, 18f))),
+            PerLeafResult.SearchMode.EXACT_SEARCH
+        );
+        TopDocs topDocs1 = ResultUtil.resultMapToTopDocs(Map.of(0, 18f, 1, 20f), 0);
+        TopDocs topDocs2 = ResultUtil.resultMapToTopDocs(Map.of(0, 21f), 4);
+        when(knnQuery.getRescoreContext()).thenReturn(RescoreContext.builder().oversampleFactor(1.5f).build());
+        when(knnQuery.getK()).thenReturn(k);
+        when(knnWeight.getQuery()).thenReturn(knnQuery);
+        when(knnWeight.searchLeaf(leaf1, firstPassK)).thenReturn(initialLeaf1Results);
+        when(knnWeight.searchLeaf(leaf2, firstPassK)).thenReturn(initialLeaf2Results);
+        when(knnWeight.exactSearch(eq(leaf1), any())).thenReturn(topDocs1);
+        when(knnWeight.exactSearch(eq(leaf2), any())).thenReturn(topDocs2);
+        when(searcher.getIndexReader()).thenReturn(reader);
+
+        try (
+            MockedStatic<KNNSettings> mockedKnnSettings = mockStatic(KNNSettings.class);
+            MockedStatic<ResultUtil> mockedResultUtil = mockStatic(ResultUtil.class)
+        ) {
+            mockedKnnSettings.when(() -> KNNSettings.isShardLevelRescoringDisabledForDiskBasedVector(any())).thenReturn(false);
+            mockedKnnSettings.when(() -> KNNSettings.isPipelinedRescoreEnabled(any())).thenReturn(true);
+            mockedResultUtil.when(() -> ResultUtil.reduceToTopK(any(), anyInt())).thenAnswer(InvocationOnMock::callRealMethod);
+
+            Weight actual = objectUnderTest.createWeight(searcher, scoreMode, 1);
+
+            // Segments are rescored in a single pass of tasks, the global first pass reduction is not needed
+            verify(taskExecutor, times(1)).invokeAll(any());
+            mockedResultUtil.verify(() -> ResultUtil.reduceToTopK(any(), eq(firstPassK)), never());
+            TopDocs expectedTopDocs = TopDocs.merge(k, new TopDocs[] { topDocs1, topDocs2 });
+            Query expected = QueryUtils.getInstance().createDocAndScoreQuery(reader, expectedTopDocs);
+            assertEquals(expected, actual.getQuery());
+        }
+    }
+
+    @SneakyThrows
+    public void testNativeOptimisticSearch_whenSegmentMayHoldMoreTopK_thenOnlyThatSegmentIsSearchedAgainWithSeeds() {
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            // Two segments of equal size, each holding half of the documents
+            for (int i = 0; i < 2000; i++) {
+                writer.addDocument(new Document());
+                if (i == 999) {
+                    writer.flush();
+                }
+            }
+            writer.commit();
+        }
+        reader = CustomFilterDirectoryReader.wrap(DirectoryReader.open(directory), null, null);
+        List<LeafReaderContext> leaves = reader.leaves();
+        assertEquals(2, leaves.size());
+        leaf1 = leaves.get(0);
+        leaf2 = leaves.get(1);
+
+        int k = 1000;
+        int perLeafK = OptimisticKnnCollectorManager.perLeafTopKCalculation(k, 0.5f);
+        assertTrue(perLeafK < k);
+        // The first segment holds every top score, the second one is below the global bar after its first pass
+        PerLeafResult leaf1Result = new PerLeafResult(
+            null,
+            0,
+            descendingTopDocs(perLeafK, 0, 2000f),
+            PerLeafResult.SearchMode.APPROXIMATE_SEARCH
+        );
+        PerLeafResult leaf2Result = new PerLeafResult(
+            null,
+            0,
+            descendingTopDocs(perLeafK, 0, 1000f),
+            PerLeafResult.SearchMode.APPROXIMATE_SEARCH
+        );
+        TopDocs leaf1SeededResult = descendingTopDocs(k, 0, 2000f);
+
+        DefaultKNNWeight defaultKNNWeight = mock(DefaultKNNWeight.class);
+        when(knnQuery.createWeight(eq(searcher), eq(scoreMode), eq(1f))).thenReturn(defaultKNNWeight);
+        when(knnQuery.getK()).thenReturn(k);
+        when(defaultKNNWeight.getQuery()).thenReturn(knnQuery);
+        when(defaultKNNWeight.searchLeaf(leaf1, perLeafK)).thenReturn(leaf1Result);
+        when(defaultKNNWeight.searchLeaf(leaf2, perLeafK)).thenReturn(leaf2Result);
+        when(defaultKNNWeight.approximateSearch(leaf1, null, 0, k)).thenReturn(leaf1SeededResult);
+        when(searcher.getIndexReader()).thenReturn(reader);
+
+        TopDocs expectedTopDocs = TopDocs.merge(
+            k,
+            new TopDocs[] { descendingTopDocs(k, leaf1.docBase, 2000f), descendingTopDocs(perLeafK, leaf2.docBase, 1000f) }
+        );
+
+        try (MockedStatic<KNNSettings> mockedKnnSettings = mockStatic(KNNSettings.class)) {
+            mockedKnnSettings.when(() -> KNNSettings.isNativeOptimisticSearchEnabled(any())).thenReturn(true);
+
+            Weight actual = objectUnderTest.createWeight(searcher, scoreMode, 1);
+
+            verify(defaultKNNWeight).setSeeds(leaf1, leaf1Result.getResult());
+            verify(defaultKNNWeight).setSeeds(leaf1, null);
+            verify(defaultKNNWeight, never()).approximateSearch(eq(leaf2), any(), anyInt(), anyInt());
+            Query expected = QueryUtils.getInstance().createDocAndScoreQuery(reader, expectedTopDocs);
+            assertEquals(expected, actual.getQuery());
+        }
+    }
+
+    private static TopDocs descendingTopDocs(final int numDocs, final int docBase, final float maxScore) {
+        final ScoreDoc[] scoreDocs = new ScoreDoc[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            scoreDocs[i] = new ScoreDoc(docBase + i, maxScore - i);
+        }
+        return new TopDocs(new TotalHits(numDocs, TotalHits.Relation.EQUAL_TO), scoreDocs);
+    }
+
     @SneakyThrows
     public void testExpandNestedDocs() {
         directory = new ByteBuffersDirectory();
@@ -604,8 +743,18 @@ public class NativeEngineKNNVectorQueryTests extends OpenSearchTestCase {
             assertEquals(expectedWeight, finalWeigh);
         }
 
-        verify(queryUtils).getAllSiblings(leaf1, perLeafResults.get(0).keySet(), parentFilter, PerLeafResult.MATCH_ALL_BIT_SET);
-        verify(queryUtils).getAllSiblings(leaf2, perLeafResults.get(1).keySet(), parentFilter, PerLeafResult.MATCH_ALL_BIT_SET);
+        verify(queryUtils).getAllSiblings(
+            eq(leaf1),
+            aryEq(perLeafResults.get(0).keySet().stream().mapToInt(Integer::intValue).sorted().toArray()),
+            eq(parentFilter),
+            eq(PerLeafResult.MATCH_ALL_BIT_SET)
+        );
+        verify(queryUtils).getAllSiblings(
+            eq(leaf2),
+            aryEq(perLeafResults.get(1).keySet().stream().mapToInt(Integer::intValue).sorted().toArray()),
+            eq(parentFilter),
+            eq(PerLeafResult.MATCH_ALL_BIT_SET)
+        );
         ArgumentCaptor<TopDocs> topDocsCaptor = ArgumentCaptor.forClass(TopDocs.class);
         verify(queryUtils).createDocAndScoreQuery(eq(reader), topDocsCaptor.capture(), eq(knnWeight));
         TopDocs capturedTopDocs = topDocsCaptor.getValue();
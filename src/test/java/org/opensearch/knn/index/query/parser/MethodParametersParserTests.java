@@ -38,6 +38,16 @@ public class MethodParametersParserTests extends KNNTestCase {
 
         ValidationException validationException4 = validateMethodParameters(Map.of("nprobes", 0));
         assertTrue(validationException4.getMessage().contains("Validation Failed: 1: nprobes should be greater than 0"));
+
+        assertNull(validateMethodParameters(Map.of("filtered_traversal", "acorn")));
+        ValidationException validationException5 = validateMethodParameters(Map.of("filtered_traversal", "two_hop"));
+        assertTrue(validationException5.getMessage().contains("filtered_traversal should be one of [auto, acorn, hnsw]"));
+
+        assertNull(validateMethodParameters(Map.of("beam_width", 4)));
+        ValidationException validationException6 = validateMethodParameters(Map.of("beam_width", 0));
+        assertTrue(validationException6.getMessage().contains("beam_width should be greater than 0 and at most 32"));
+        ValidationException validationException7 = validateMethodParameters(Map.of("beam_width", 33));
+        assertTrue(validationException7.getMessage().contains("beam_width should be greater than 0 and at most 32"));
     }
 
     @SneakyThrows
@@ -93,5 +103,19 @@ public class MethodParametersParserTests extends KNNTestCase {
         builder = XContentFactory.jsonBuilder().startObject().field("nprobes", 10).endObject();
         XContentParser parser6 = createParser(builder);
         assertEquals(Map.of("nprobes", 10), MethodParametersParser.fromXContent(parser6));
+
+        // filtered_traversal names are case-insensitive
+        builder = XContentFactory.jsonBuilder().startObject().field("filtered_traversal", "ACORN").endObject();
+        XContentParser parser7 = createParser(builder);
+        assertEquals(Map.of("filtered_traversal", "acorn"), MethodParametersParser.fromXContent(parser7));
+
+        // filtered_traversal unknown
+        builder = XContentFactory.jsonBuilder().startObject().field("filtered_traversal", "two_hop").endObject();
+        XContentParser parser8 = createParser(builder);
+        expectThrows(ParsingException.class, () -> MethodParametersParser.fromXContent(parser8));
+
+        builder = XContentFactory.jsonBuilder().startObject().field("beam_width", 4).endObject();
+        XContentParser parser9 = createParser(builder);
+        assertEquals(Map.of("beam_width", 4), MethodParametersParser.fromXContent(parser9));
     }
 }
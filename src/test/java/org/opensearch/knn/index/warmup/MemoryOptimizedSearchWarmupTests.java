@@ -27,8 +27,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -119,7 +119,7 @@ public class MemoryOptimizedSearchWarmupTests extends KNNTestCase {
         PerFieldKnnVectorsFormat.FieldsReader fieldsReader = mock(PerFieldKnnVectorsFormat.FieldsReader.class);
         when(fieldsReader.getFieldReader(FIELD_MEM_OPT)).thenReturn(warmableReader);
         when(segmentReader.getVectorReader()).thenReturn(fieldsReader);
-        doNothing().when(warmableReader).warmUp(eq(FIELD_MEM_OPT));
+        when(warmableReader.warmUp(eq(FIELD_MEM_OPT), anyDouble())).thenReturn(0L);
 
         MapperService mapperService = mock(MapperService.class);
         KNNVectorFieldType fieldType = mock(KNNVectorFieldType.class);
@@ -137,7 +137,45 @@ public class MemoryOptimizedSearchWarmupTests extends KNNTestCase {
 
             assertEquals(1, result.size());
             assertEquals(FIELD_MEM_OPT, result.get(0));
-            verify(warmableReader).warmUp(eq(FIELD_MEM_OPT));
+            verify(warmableReader).warmUp(eq(FIELD_MEM_OPT), anyDouble());
+        }
+    }
+
+    public void testWarmUpSegment_partialWarmup_reportsBytesTouched() throws IOException {
+        Map<String, String> attrs = new HashMap<>();
+        attrs.put(KNNVectorFieldMapper.KNN_FIELD, "true");
+        FieldInfo memOptField = createFieldInfo(FIELD_MEM_OPT, attrs);
+        FieldInfos fieldInfos = new FieldInfos(new FieldInfo[] { memOptField });
+
+        LeafReader leafReader = mock(LeafReader.class);
+        when(leafReader.getFieldInfos()).thenReturn(fieldInfos);
+
+        SegmentReader segmentReader = mock(SegmentReader.class);
+        when(segmentReader.getSegmentName()).thenReturn("_0");
+        WarmableKnnVectorsReader warmableReader = mock(WarmableKnnVectorsReader.class);
+        PerFieldKnnVectorsFormat.FieldsReader fieldsReader = mock(PerFieldKnnVectorsFormat.FieldsReader.class);
+        when(fieldsReader.getFieldReader(FIELD_MEM_OPT)).thenReturn(warmableReader);
+        when(segmentReader.getVectorReader()).thenReturn(fieldsReader);
+        when(warmableReader.warmUp(FIELD_MEM_OPT, 10.0)).thenReturn(4096L);
+
+        MapperService mapperService = mock(MapperService.class);
+        KNNVectorFieldType fieldType = mock(KNNVectorFieldType.class);
+        when(mapperService.fieldType(FIELD_MEM_OPT)).thenReturn(fieldType);
+
+        try (
+            MockedStatic<Lucene> luceneMock = mockStatic(Lucene.class);
+            MockedStatic<MemoryOptimizedSearchSupportSpec> specMock = mockStatic(MemoryOptimizedSearchSupportSpec.class)
+        ) {
+            luceneMock.when(() -> Lucene.segmentReader(leafReader)).thenReturn(segmentReader);
+            specMock.when(() -> MemoryOptimizedSearchSupportSpec.isSupportedFieldType(fieldType, INDEX_NAME)).thenReturn(true);
+
+            MemoryOptimizedSearchWarmup warmup = new MemoryOptimizedSearchWarmup();
+            SegmentWarmupStats stats = warmup.warmUpSegment(leafReader, mapperService, INDEX_NAME, 10.0);
+
+            assertEquals("_0", stats.getSegmentName());
+            assertEquals(List.of(FIELD_MEM_OPT), stats.getFields());
+            assertEquals(4096L, stats.getBytesTouched());
+            assertTrue(stats.getTookInMillis() >= 0);
         }
     }
 
@@ -156,7 +194,7 @@ public class MemoryOptimizedSearchWarmupTests extends KNNTestCase {
         PerFieldKnnVectorsFormat.FieldsReader fieldsReader = mock(PerFieldKnnVectorsFormat.FieldsReader.class);
         when(fieldsReader.getFieldReader(FIELD_MEM_OPT)).thenReturn(warmableReader);
         when(segmentReader.getVectorReader()).thenReturn(fieldsReader);
-        doThrow(new RuntimeException("warmup failed")).when(warmableReader).warmUp(eq(FIELD_MEM_OPT));
+        doThrow(new RuntimeException("warmup failed")).when(warmableReader).warmUp(eq(FIELD_MEM_OPT), anyDouble());
 
         MapperService mapperService = mock(MapperService.class);
         KNNVectorFieldType fieldType = mock(KNNVectorFieldType.class);
@@ -194,7 +232,7 @@ public class MemoryOptimizedSearchWarmupTests extends KNNTestCase {
         PerFieldKnnVectorsFormat.FieldsReader fieldsReader = mock(PerFieldKnnVectorsFormat.FieldsReader.class);
         when(fieldsReader.getFieldReader(FIELD_MEM_OPT)).thenReturn(warmableReader);
         when(segmentReader.getVectorReader()).thenReturn(fieldsReader);
-        doNothing().when(warmableReader).warmUp(eq(FIELD_MEM_OPT));
+        when(warmableReader.warmUp(eq(FIELD_MEM_OPT), anyDouble())).thenReturn(0L);
 
         MapperService mapperService = mock(MapperService.class);
         KNNVectorFieldType memOptFieldType = mock(KNNVectorFieldType.class);
@@ -216,8 +254,8 @@ public class MemoryOptimizedSearchWarmupTests extends KNNTestCase {
             assertEquals(1, result.size());
             assertEquals(FIELD_MEM_OPT, result.get(0));
             // Verify warmUp was only called for the memory-optimized field
-            verify(warmableReader).warmUp(eq(FIELD_MEM_OPT));
-            verify(warmableReader, never()).warmUp(eq(FIELD_REGULAR));
+            verify(warmableReader).warmUp(eq(FIELD_MEM_OPT), anyDouble());
+            verify(warmableReader, never()).warmUp(eq(FIELD_REGULAR), anyDouble());
         }
     }
 
@@ -243,8 +281,8 @@ public class MemoryOptimizedSearchWarmupTests extends KNNTestCase {
         when(fieldsReader.getFieldReader(field1)).thenReturn(warmableReader1);
         when(fieldsReader.getFieldReader(field2)).thenReturn(warmableReader2);
         when(segmentReader.getVectorReader()).thenReturn(fieldsReader);
-        doNothing().when(warmableReader1).warmUp(eq(field1));
-        doThrow(new RuntimeException("fail")).when(warmableReader2).warmUp(eq(field2));
+        when(warmableReader1.warmUp(eq(field1), anyDouble())).thenReturn(0L);
+        doThrow(new RuntimeException("fail")).when(warmableReader2).warmUp(eq(field2), anyDouble());
 
         MapperService mapperService = mock(MapperService.class);
         KNNVectorFieldType fieldType1 = mock(KNNVectorFieldType.class);
@@ -1221,6 +1221,71 @@ public class JNIServiceTests extends KNNTestCase {
         }
     }
 
+    public void testQueryIndexWithSeeds_invalidEngine() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> JNIService.queryIndexWithSeeds(0L, new float[] {}, 0, null, KNNEngine.LUCENE, null, 0, new int[] { 0 })
+        );
+    }
+
+    public void testQueryIndexWithSeeds_faiss_valid() throws IOException {
+        int k = 10;
+        int efSearch = 100;
+
+        Path tempDirPath = createTempDir();
+        try (Directory directory = newFSDirectory(tempDirPath)) {
+            for (SpaceType spaceType : ImmutableList.of(SpaceType.L2, SpaceType.INNER_PRODUCT)) {
+                String indexFileName = "test1" + UUID.randomUUID() + ".tmp";
+                TestUtils.createIndex(
+                    testData.indexData.docs,
+                    testData.loadDataToMemoryAddress(),
+                    testData.indexData.getDimension(),
+                    directory,
+                    indexFileName,
+                    ImmutableMap.of(INDEX_DESCRIPTION_PARAMETER, faissMethod, KNNConstants.SPACE_TYPE, spaceType.getValue()),
+                    KNNEngine.FAISS
+                );
+
+                final long pointer;
+                try (IndexInput indexInput = directory.openInput(indexFileName, IOContext.DEFAULT)) {
+                    pointer = JNIService.loadIndex(
+                        new IndexInputWithBuffer(indexInput),
+                        ImmutableMap.of(KNNConstants.SPACE_TYPE, spaceType.getValue()),
+                        KNNEngine.FAISS
+                    );
+                    assertNotEquals(0, pointer);
+                }
+
+                for (float[] query : testData.queries) {
+                    KNNQueryResult[] results = JNIService.queryIndex(
+                        pointer,
+                        query,
+                        k,
+                        Map.of("ef_search", efSearch),
+                        KNNEngine.FAISS,
+                        null,
+                        0,
+                        null
+                    );
+                    // Seeding with the results of a shallower search keeps its best result
+                    int[] seedIds = Arrays.stream(results).limit(k / 2).mapToInt(KNNQueryResult::getId).toArray();
+                    KNNQueryResult[] seededResults = JNIService.queryIndexWithSeeds(
+                        pointer,
+                        query,
+                        k,
+                        Map.of("ef_search", efSearch),
+                        KNNEngine.FAISS,
+                        null,
+                        0,
+                        seedIds
+                    );
+                    assertEquals(k, seededResults.length);
+                    assertTrue(Arrays.stream(seededResults).anyMatch(result -> result.getId() == results[0].getId()));
+                }
+            }
+        }
+    }
+
     public void testQueryIndex_faiss_streaming_valid() throws IOException {
         int k = 10;
         int efSearch = 100;
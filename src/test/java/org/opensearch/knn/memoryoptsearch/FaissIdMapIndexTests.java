@@ -11,20 +11,19 @@ import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.store.ByteBuffersDataOutput;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.Bits;
-import org.apache.lucene.util.packed.DirectMonotonicReader;
 import org.mockito.MockedStatic;
 import org.mockito.stubbing.Answer;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSWIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIdMap;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissIdMapIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissBinaryIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.vectorvalues.FaissByteVectorValues;
 import org.opensearch.knn.memoryoptsearch.faiss.vectorvalues.FaissFloatVectorValues;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.nio.file.Files;
@@ -233,18 +232,15 @@ public class FaissIdMapIndexTests extends KNNTestCase {
         assertEquals(CODE_SIZE, faissIdMapIndex.getCodeSize());
     }
 
-    @SneakyThrows
     private static long[] getVectorIdToDocIdMapping(final FaissIdMapIndex index, final int totalNumberOfVectors) {
-        final Field field = FaissIdMapIndex.class.getDeclaredField("idMappingReader");
-        field.setAccessible(true);
-        DirectMonotonicReader decoder = (DirectMonotonicReader) field.get(index);
-        if (decoder == null) {
+        final FaissIdMap idMap = index.getIdMap();
+        if (idMap == null) {
             // It's an identical case
             return null;
         }
         long[] mappingTable = new long[totalNumberOfVectors];
         for (int i = 0; i < totalNumberOfVectors; ++i) {
-            mappingTable[i] = decoder.get(i);
+            mappingTable[i] = idMap.ordToDoc(i);
         }
         return mappingTable;
     }
@@ -30,6 +30,7 @@ import org.opensearch.knn.memoryoptsearch.faiss.binary.FaissBinaryHnswIndex;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -92,6 +93,7 @@ public class FaissMemoryOptimizedSearcherFactoryTests extends KNNTestCase {
                 final VectorSearcher searcher = factory.createVectorSearcher(
                     directory,
                     fileName,
+                    Set.of(fileName),
                     fieldInfo,
                     IOContext.DEFAULT,
                     flatVectorsReader
@@ -125,7 +127,14 @@ public class FaissMemoryOptimizedSearcherFactoryTests extends KNNTestCase {
             FlatVectorsReader flatVectorsReader = mock(FlatVectorsReader.class);
             when(flatVectorsReader.getFlatVectorScorer(any())).thenReturn(SCORER);
 
-            VectorSearcher searcher = factory.createVectorSearcher(directory, fileName, fieldInfo, IOContext.DEFAULT, flatVectorsReader);
+            VectorSearcher searcher = factory.createVectorSearcher(
+                directory,
+                fileName,
+                Set.of(fileName),
+                fieldInfo,
+                IOContext.DEFAULT,
+                flatVectorsReader
+            );
             assertNotNull(searcher);
             searcher.close();
         }
@@ -158,7 +167,7 @@ public class FaissMemoryOptimizedSearcherFactoryTests extends KNNTestCase {
 
             expectThrows(
                 UnsupportedFaissIndexException.class,
-                () -> factory.createVectorSearcher(directory, fileName, fieldInfo, IOContext.DEFAULT, flatVectorsReader)
+                () -> factory.createVectorSearcher(directory, fileName, Set.of(fileName), fieldInfo, IOContext.DEFAULT, flatVectorsReader)
             );
         }
     }
@@ -176,7 +185,14 @@ public class FaissMemoryOptimizedSearcherFactoryTests extends KNNTestCase {
             // File doesn't exist, should throw IOException
             expectThrows(
                 IOException.class,
-                () -> factory.createVectorSearcher(directory, "nonexistent.faiss", fieldInfo, IOContext.DEFAULT, flatVectorsReader)
+                () -> factory.createVectorSearcher(
+                    directory,
+                    "nonexistent.faiss",
+                    Set.of("nonexistent.faiss"),
+                    fieldInfo,
+                    IOContext.DEFAULT,
+                    flatVectorsReader
+                )
             );
         }
     }
@@ -204,7 +220,7 @@ public class FaissMemoryOptimizedSearcherFactoryTests extends KNNTestCase {
             // Verify that after the exception, the IndexInput was properly closed
             // by confirming we can open the file again (no resource leak)
             try {
-                factory.createVectorSearcher(directory, fileName, fieldInfo, IOContext.DEFAULT, flatVectorsReader);
+                factory.createVectorSearcher(directory, fileName, Set.of(fileName), fieldInfo, IOContext.DEFAULT, flatVectorsReader);
                 fail("Expected UnsupportedFaissIndexException");
             } catch (UnsupportedFaissIndexException e) {
                 // Expected - now verify we can still open the file (no leaked handles)
@@ -19,6 +19,7 @@ import org.apache.lucene.index.DocValuesSkipIndexType;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.FieldInfo;
 import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.index.IndexOptions;
 import org.apache.lucene.index.KnnVectorValues;
 import org.apache.lucene.index.SegmentInfo;
@@ -39,10 +40,15 @@ import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.InfoStream;
 import org.apache.lucene.util.StringHelper;
 import org.apache.lucene.util.Version;
+import org.apache.lucene.util.hnsw.HnswGraph;
+import org.apache.lucene.util.hnsw.HnswGraphSearcher;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.common.KNNConstants;
@@ -73,6 +79,8 @@ import org.opensearch.knn.index.vectorvalues.KNNVectorValues;
 import org.opensearch.knn.index.vectorvalues.KNNVectorValuesIterator;
 import org.opensearch.knn.index.vectorvalues.VectorValueExtractorStrategy;
 import org.opensearch.knn.jni.JNIService;
+import org.opensearch.knn.memoryoptsearch.faiss.BeamSearchStrategy;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissEntryPointTable;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissHNSW;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissIdMapIndex;
 import org.opensearch.knn.memoryoptsearch.faiss.FaissIndex;
@@ -99,7 +107,12 @@ import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.toMap;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.intThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.opensearch.knn.common.KNNConstants.ADC_ENABLED_FAISS_INDEX_INTERNAL_PARAMETER;
 import static org.opensearch.knn.common.KNNConstants.ENCODER_FLAT;
@@ -713,7 +726,89 @@ public class FaissMemoryOptimizedSearcherTests extends KNNTestCase {
                     // Feature: warmup-delegation-tests, Property 3: Qframe warmup reads .faiss and .vec
                     assertTrue("Warmup for qframe field should read .vec file, but it was not read", spyDirectory.wasExtensionRead(".vec"));
                 } else {
-                    // Feature: warmup-delegation-tests, Property 2: Non-qframe warmup reads only .faiss
+                    /**
+     * A beam strategy must reach the beam searcher even though CAGRA graphs wrap it in a seeded strategy starting from random entry
+     * points, while the regular strategy keeps Lucene's searcher.
+     */
+    @SneakyThrows
+    public void testSearch_whenBeamStrategy_thenLuceneSearcherNotUsed() {
+        final int k = 10;
+        for (final KnnSearchStrategy.Hnsw strategy : List.of(new BeamSearchStrategy(8, 0), new KnnSearchStrategy.Hnsw(0))) {
+            final boolean beam = strategy instanceof BeamSearchStrategy;
+            try (MockedStatic<HnswGraphSearcher> graphSearcher = Mockito.mockStatic(HnswGraphSearcher.class, Mockito.CALLS_REAL_METHODS)) {
+                final FaissMemoryOptimizedSearcher searcher = createL2Searcher();
+                final KnnCollector collector = new TopKnnCollector(k, Integer.MAX_VALUE, strategy);
+                searcher.search(randomQueryVector(), collector, AcceptDocs.fromLiveDocs(null, CAGRA_TOTAL_VECTORS));
+
+                graphSearcher.verify(
+                    () -> HnswGraphSearcher.search(
+                        any(RandomVectorScorer.class),
+                        any(KnnCollector.class),
+                        any(HnswGraph.class),
+                        any(),
+                        anyInt()
+                    ),
+                    beam ? never() : times(1)
+                );
+                final ScoreDoc[] scoreDocs = collector.topDocs().scoreDocs;
+                assertEquals(k, scoreDocs.length);
+                final Set<Integer> docIds = Arrays.stream(scoreDocs).mapToInt(sd -> sd.doc).boxed().collect(Collectors.toSet());
+                assertEquals(k, docIds.size());
+                for (final ScoreDoc scoreDoc : scoreDocs) {
+                    assertTrue(scoreDoc.doc >= 0 && scoreDoc.doc < CAGRA_TOTAL_VECTORS);
+                }
+            }
+        }
+    }
+
+    /**
+     * With both an entry point table and a beam width, the beam searcher must start from the entry points of the table instead of
+     * ignoring the beam width behind the seeded strategy of the table.
+     */
+    @SneakyThrows
+    public void testSearch_whenEntryPointTableAndBeamStrategy_thenBeamStartsFromTable() {
+        final int k = 10;
+        final int[] nodes = { 0, 100, 200 };
+        final IndexInput input = FaissHNSWTests.loadHnswBinary(CAGRA_TEST_INDEX);
+        final FaissIndex faissIndex = FaissIndex.load(input);
+        final FloatVectorValues vectorValues = faissIndex.getFloatValues(input.clone());
+        final float[][] centroids = new float[nodes.length][];
+        for (int i = 0; i < nodes.length; i++) {
+            centroids[i] = vectorValues.vectorValue(nodes[i]).clone();
+        }
+        final FieldInfo fieldInfo = mock(FieldInfo.class);
+        Mockito.when(fieldInfo.getAttribute(KNNConstants.SPACE_TYPE)).thenReturn(SpaceType.L2.getValue());
+        final FaissMemoryOptimizedSearcher searcher = new FaissMemoryOptimizedSearcher(
+            input,
+            faissIndex,
+            fieldInfo,
+            FlatVectorsScorerProvider.getFlatVectorsScorer(fieldInfo, KNNVectorSimilarityFunction.EUCLIDEAN, SCORER),
+            new FaissEntryPointTable(centroids, nodes)
+        );
+
+        try (MockedStatic<HnswGraphSearcher> graphSearcher = Mockito.mockStatic(HnswGraphSearcher.class, Mockito.CALLS_REAL_METHODS)) {
+            final KnnCollector collector = new TopKnnCollector(k, Integer.MAX_VALUE, new BeamSearchStrategy(8, 0));
+            searcher.search(centroids[1], collector, AcceptDocs.fromLiveDocs(null, CAGRA_TOTAL_VECTORS));
+
+            graphSearcher.verify(
+                () -> HnswGraphSearcher.search(
+                    any(RandomVectorScorer.class),
+                    any(KnnCollector.class),
+                    any(HnswGraph.class),
+                    any(),
+                    anyInt()
+                ),
+                never()
+            );
+            final ScoreDoc[] scoreDocs = collector.topDocs().scoreDocs;
+            assertEquals(k, scoreDocs.length);
+            assertEquals(k, Arrays.stream(scoreDocs).mapToInt(sd -> sd.doc).distinct().count());
+            // The query is the vector of an entry point, which is collected first.
+            assertEquals(1f, scoreDocs[0].score, 1e-6f);
+        }
+    }
+
+    // Feature: warmup-delegation-tests, Property 2: Non-qframe warmup reads only .faiss
                     if (spyDirectory.hasTrackedExtension(".vec")) {
                         assertFalse(
                             "Warmup for non-qframe field should NOT read .vec file, but it was read",
@@ -1441,6 +1536,28 @@ public class FaissMemoryOptimizedSearcherTests extends KNNTestCase {
         );
     }
 
+    @SneakyThrows
+    public void testSearch_whenDistanceCountingCollector_thenScoredVectorsAreCounted() {
+        final FaissMemoryOptimizedSearcher searcher = createL2Searcher();
+        final AcceptDocs acceptDocs = AcceptDocs.fromLiveDocs(null, CAGRA_TOTAL_VECTORS);
+
+        // Exhaustive search scores every vector once
+        final DistanceCountingKnnCollector exhaustiveCollector = new DistanceCountingKnnCollector(
+            new TopKnnCollector(CAGRA_TOTAL_VECTORS + 1, Integer.MAX_VALUE)
+        );
+        searcher.search(randomQueryVector(), exhaustiveCollector, acceptDocs);
+        assertEquals(CAGRA_TOTAL_VECTORS, exhaustiveCollector.getDistanceComputations());
+
+        // Graph search scores every node it visits, and counts accumulate across searches through the same collector
+        final DistanceCountingKnnCollector graphCollector = new DistanceCountingKnnCollector(new TopKnnCollector(10, Integer.MAX_VALUE));
+        searcher.search(randomQueryVector(), graphCollector, acceptDocs);
+        final long distanceComputations = graphCollector.getDistanceComputations();
+        assertTrue(graphCollector.visitedCount() > 0);
+        assertTrue(distanceComputations >= graphCollector.visitedCount());
+        searcher.search(randomQueryVector(), graphCollector, acceptDocs);
+        assertTrue(graphCollector.getDistanceComputations() > distanceComputations);
+    }
+
     /**
      * When k >= totalVectors, the exhaustive bulk scoring path is used.
      * Tests both the exact boundary (k == totalVectors) and k > totalVectors.
@@ -1500,6 +1617,43 @@ public class FaissMemoryOptimizedSearcherTests extends KNNTestCase {
         assertEquals("Should have no duplicate doc IDs", scoreDocs.length, docIds.size());
     }
 
+    /**
+     * A strategy asking for ACORN-1 must get the filtered graph searcher even though the accepted ordinals are not a bit set, and only
+     * documents passing the filter may be returned. Lucene only switches to ACORN-1 when it is given a non-zero filtered document count.
+     */
+    @SneakyThrows
+    public void testFilteredSearch_whenAcornStrategy_thenOnlyAcceptedVectorsCollected() {
+        final FixedBitSet filter = new FixedBitSet(CAGRA_TOTAL_VECTORS);
+        for (int i = 0; i < CAGRA_TOTAL_VECTORS; i += 30) {
+            filter.set(i);
+        }
+        final int k = 5;
+
+        for (final KnnSearchStrategy.Hnsw strategy : List.of(new KnnSearchStrategy.Hnsw(100), new KnnSearchStrategy.Hnsw(0))) {
+            final boolean acorn = strategy.filteredSearchThreshold() > 0;
+            try (MockedStatic<HnswGraphSearcher> graphSearcher = Mockito.mockStatic(HnswGraphSearcher.class, Mockito.CALLS_REAL_METHODS)) {
+                final FaissMemoryOptimizedSearcher searcher = createL2Searcher();
+                final KnnCollector collector = new TopKnnCollector(k, Integer.MAX_VALUE, strategy);
+                searcher.search(randomQueryVector(), collector, AcceptDocs.fromLiveDocs(filter, CAGRA_TOTAL_VECTORS));
+
+                graphSearcher.verify(
+                    () -> HnswGraphSearcher.search(
+                        any(RandomVectorScorer.class),
+                        any(KnnCollector.class),
+                        any(HnswGraph.class),
+                        any(Bits.class),
+                        acorn ? intThat(count -> count > 0) : eq(0)
+                    )
+                );
+                final ScoreDoc[] scoreDocs = collector.topDocs().scoreDocs;
+                assertEquals(k, scoreDocs.length);
+                for (final ScoreDoc scoreDoc : scoreDocs) {
+                    assertTrue("Doc " + scoreDoc.doc + " does not pass the filter", filter.get(scoreDoc.doc));
+                }
+            }
+        }
+    }
+
     // Feature: warmup-delegation-tests, Property 2: Non-qframe warmup reads only .faiss
     // Feature: warmup-delegation-tests, Property 3: Qframe warmup reads .faiss and .vec
 
@@ -19,6 +19,7 @@ import org.opensearch.knn.index.SpaceType;
 import org.opensearch.knn.index.codec.KNN1040Codec.KNN1040ScalarQuantizedVectorScorer;
 import org.opensearch.knn.index.codec.scorer.PrefetchableFlatVectorScorer;
 import org.opensearch.knn.memoryoptsearch.faiss.FlatVectorsScorerProvider;
+import org.opensearch.knn.plugin.script.KNNScoringUtil;
 
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
@@ -71,6 +72,48 @@ public class FlatVectorsScorerProviderTests extends KNNTestCase {
         }
     }
 
+    @SneakyThrows
+    public void testBulkScore_whenHamming_thenMatchesSingleScore() {
+        final FieldInfo fieldInfo = mock(FieldInfo.class);
+        when(fieldInfo.getAttribute(KNNConstants.SPACE_TYPE)).thenReturn(SpaceType.HAMMING.getValue());
+        final FlatVectorsScorer scorer = FlatVectorsScorerProvider.getFlatVectorsScorer(
+            fieldInfo,
+            KNNVectorSimilarityFunction.HAMMING,
+            VECTOR_SCORER
+        );
+
+        final byte[][] vectors = randomQuantizedVectors(10, 16);
+        final RandomVectorScorer vectorScorer = scorer.getRandomVectorScorer(null, mockByteVectorValues(vectors), vectors[0]);
+        assertBulkScoreMatchesScore(vectorScorer, vectors.length);
+    }
+
+    @SneakyThrows
+    public void testBulkScore_whenADC_thenMatchesScalarADC() {
+        final FieldInfo fieldInfo = mock(FieldInfo.class);
+        when(fieldInfo.getAttribute(KNNConstants.QFRAMEWORK_CONFIG)).thenReturn("type=binary,bits=1,random_rotation=false,enable_adc=true");
+        final int dimension = 128;
+        final float[] query = new float[dimension];
+        for (int i = 0; i < dimension; ++i) {
+            query[i] = random().nextFloat();
+        }
+        final byte[][] vectors = randomQuantizedVectors(10, dimension / Byte.SIZE);
+
+        for (final SpaceType spaceType : new SpaceType[] { SpaceType.L2, SpaceType.INNER_PRODUCT }) {
+            when(fieldInfo.getAttribute(KNNConstants.SPACE_TYPE)).thenReturn(spaceType.getValue());
+            final FlatVectorsScorer scorer = FlatVectorsScorerProvider.getFlatVectorsScorer(
+                fieldInfo,
+                KNNVectorSimilarityFunction.EUCLIDEAN,
+                VECTOR_SCORER
+            );
+            final RandomVectorScorer vectorScorer = scorer.getRandomVectorScorer(null, mockByteVectorValues(vectors), query);
+
+            for (int i = 0; i < vectors.length; ++i) {
+                assertEquals(KNNScoringUtil.scoreWithADC(query, vectors[i], spaceType), vectorScorer.score(i), 1e-4);
+            }
+            assertBulkScoreMatchesScore(vectorScorer, vectors.length);
+        }
+    }
+
     public void testNullDelegateScorerThrowsException() {
         FieldInfo fieldInfo = mock(FieldInfo.class);
         when(fieldInfo.getAttribute(KNNConstants.SPACE_TYPE)).thenReturn(SpaceType.L2.getValue());
@@ -159,4 +202,40 @@ public class FlatVectorsScorerProviderTests extends KNNTestCase {
             assertEquals(expected, score, 1e-6);
         }
     }
+
+    @SneakyThrows
+    private static void assertBulkScoreMatchesScore(final RandomVectorScorer vectorScorer, final int numVectors) {
+        // Score in reverse order to make sure scores are positioned by the given ordinals.
+        final int[] ords = new int[numVectors];
+        for (int i = 0; i < numVectors; ++i) {
+            ords[i] = numVectors - 1 - i;
+        }
+        final float[] scores = new float[numVectors];
+        final float maxScore = vectorScorer.bulkScore(ords, scores, numVectors);
+
+        float expectedMaxScore = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < numVectors; ++i) {
+            final float expected = vectorScorer.score(ords[i]);
+            assertEquals(expected, scores[i], 0);
+            expectedMaxScore = Math.max(expectedMaxScore, expected);
+        }
+        assertEquals(expectedMaxScore, maxScore, 0);
+    }
+
+    private static byte[][] randomQuantizedVectors(final int numVectors, final int codeSize) {
+        final byte[][] vectors = new byte[numVectors][codeSize];
+        for (final byte[] vector : vectors) {
+            random().nextBytes(vector);
+        }
+        return vectors;
+    }
+
+    @SneakyThrows
+    private static ByteVectorValues mockByteVectorValues(final byte[][] vectors) {
+        final ByteVectorValues vectorValues = mock(ByteVectorValues.class);
+        when(vectorValues.vectorValue(anyInt())).thenAnswer(invocation -> vectors[(int) invocation.getArgument(0)]);
+        when(vectorValues.dimension()).thenReturn(vectors[0].length);
+        when(vectorValues.size()).thenReturn(vectors.length);
+        return vectorValues;
+    }
 }
@@ -21,6 +21,7 @@ import org.opensearch.knn.index.mapper.CompressionLevel;
 import org.opensearch.knn.index.mapper.KNNMappingConfig;
 import org.opensearch.knn.index.mapper.KNNVectorFieldType;
 import org.opensearch.knn.index.mapper.Mode;
+import org.opensearch.knn.indices.ModelMetadata;
 import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 
 import java.util.Arrays;
@@ -35,8 +36,10 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.knn.common.KNNConstants.ENCODER_BINARY;
 import static org.opensearch.knn.common.KNNConstants.ENCODER_SQ;
 import static org.opensearch.knn.common.KNNConstants.ENCODER_FLAT;
+import static org.opensearch.knn.common.KNNConstants.ENCODER_PQ;
 import static org.opensearch.knn.common.KNNConstants.METHOD_ENCODER_PARAMETER;
 import static org.opensearch.knn.common.KNNConstants.METHOD_HNSW;
+import static org.opensearch.knn.common.KNNConstants.METHOD_IVF;
 
 public class MemoryOptimizedSearchSupportSpecTests extends KNNTestCase {
     private static final Optional<String> NO_MODEL_ID = Optional.empty();
@@ -287,6 +290,46 @@ public class MemoryOptimizedSearchSupportSpecTests extends KNNTestCase {
         );
     }
 
+    public void testIsSupportedModel() {
+        // IVF without encoder, IVF flat and IVF PQ are supported.
+        assertTrue(MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.FAISS, METHOD_IVF, null, VectorDataType.FLOAT)));
+        assertTrue(
+            MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.FAISS, METHOD_IVF, ENCODER_FLAT, VectorDataType.FLOAT))
+        );
+        assertTrue(
+            MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.FAISS, METHOD_IVF, ENCODER_PQ, VectorDataType.FLOAT))
+        );
+
+        // HNSW PQ, SQ encoder, binary vectors and non-FAISS engines are not supported.
+        assertFalse(
+            MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.FAISS, METHOD_HNSW, ENCODER_PQ, VectorDataType.FLOAT))
+        );
+        assertFalse(
+            MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.FAISS, METHOD_IVF, ENCODER_SQ, VectorDataType.FLOAT))
+        );
+        assertFalse(
+            MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.FAISS, METHOD_IVF, null, VectorDataType.BINARY))
+        );
+        assertFalse(MemoryOptimizedSearchSupportSpec.isSupportedModel(mockModel(KNNEngine.LUCENE, METHOD_IVF, null, VectorDataType.FLOAT)));
+        assertFalse(MemoryOptimizedSearchSupportSpec.isSupportedModel(null));
+    }
+
+    private static ModelMetadata mockModel(
+        final KNNEngine knnEngine,
+        final String methodName,
+        final String encoderName,
+        final VectorDataType vectorDataType
+    ) {
+        final ModelMetadata modelMetadata = mock(ModelMetadata.class);
+        when(modelMetadata.getKnnEngine()).thenReturn(knnEngine);
+        when(modelMetadata.getVectorDataType()).thenReturn(vectorDataType);
+        final Map<String, Object> parameters = encoderName == null
+            ? Collections.emptyMap()
+            : Map.of(METHOD_ENCODER_PARAMETER, new MethodComponentContext(encoderName, Collections.emptyMap()));
+        when(modelMetadata.getMethodComponentContext()).thenReturn(new MethodComponentContext(methodName, parameters));
+        return modelMetadata;
+    }
+
     public void testIsAlwaysUseMemoryOptimizedSearch_whenSQOneBitEncoder_thenReturnsTrue() {
         KNNMethodContext methodContext = new KNNMethodContext(
             KNNEngine.FAISS,
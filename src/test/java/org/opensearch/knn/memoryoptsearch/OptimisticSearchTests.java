@@ -20,7 +20,6 @@ import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.join.BitSetProducer;
-import org.apache.lucene.search.join.DiversifyingNearestChildrenKnnCollectorManager;
 import org.apache.lucene.search.knn.TopKnnCollectorManager;
 import org.junit.Before;
 import org.junit.Test;
@@ -32,6 +31,7 @@ import org.opensearch.knn.index.query.KNNQuery;
 import org.opensearch.knn.index.query.PerLeafResult;
 import org.opensearch.knn.index.query.common.QueryUtils;
 import org.opensearch.knn.index.query.memoryoptsearch.MemoryOptimizedKNNWeight;
+import org.opensearch.knn.index.query.memoryoptsearch.NestedBestChildKnnCollectorManager;
 import org.opensearch.knn.index.query.nativelib.NativeEngineKnnVectorQuery;
 import org.opensearch.lucene.ReentrantKnnCollectorManager;
 
@@ -237,7 +237,7 @@ public class OptimisticSearchTests {
     @SneakyThrows
     public void testOptimisticSearchNestedUseDiversifyingCollector() {
         // When parentsFilter is set (nested index), the reentrant search should use
-        // DiversifyingNearestChildrenKnnCollectorManager instead of TopKnnCollectorManager.
+        // NestedBestChildKnnCollectorManager instead of TopKnnCollectorManager.
         dotTstOptimisticSearchCollectorType(true);
     }
 
@@ -341,8 +341,8 @@ public class OptimisticSearchTests {
 
             if (isNested) {
                 assertTrue(
-                    "Expected DiversifyingNearestChildrenKnnCollectorManager for nested, got " + innerCollectorManager.getClass(),
-                    innerCollectorManager instanceof DiversifyingNearestChildrenKnnCollectorManager
+                    "Expected NestedBestChildKnnCollectorManager for nested, got " + innerCollectorManager.getClass(),
+                    innerCollectorManager instanceof NestedBestChildKnnCollectorManager
                 );
             } else {
                 assertTrue(
@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.plugin.script.KNNScoringUtil;
+
+public class ADCLookupTableTests extends KNNTestCase {
+
+    public void testCompute_whenAnyDimension_thenMatchesScalarADC() {
+        for (int dimension = 8; dimension <= 256; dimension += 8) {
+            final float[] query = new float[dimension];
+            for (int i = 0; i < dimension; ++i) {
+                query[i] = random().nextFloat() * 2 - 1;
+            }
+            final ADCLookupTable innerProduct = ADCLookupTable.innerProduct(query);
+            final ADCLookupTable l2Squared = ADCLookupTable.l2Squared(query);
+
+            for (int i = 0; i < 10; ++i) {
+                final byte[] quantizedVector = new byte[dimension / Byte.SIZE];
+                random().nextBytes(quantizedVector);
+                assertEquals(KNNScoringUtil.innerProductADC(query, quantizedVector), innerProduct.compute(quantizedVector), 1e-3);
+                assertEquals(KNNScoringUtil.l2SquaredADC(query, quantizedVector), l2Squared.compute(quantizedVector), 1e-3);
+            }
+        }
+    }
+
+    public void testCompute_whenBitOrder_thenMostSignificantBitIsFirstDimension() {
+        final float[] query = new float[] { 1, 2, 4, 8, 16, 32, 64, 128 };
+        final ADCLookupTable innerProduct = ADCLookupTable.innerProduct(query);
+
+        assertEquals(1, innerProduct.compute(new byte[] { (byte) 0x80 }), 0);
+        assertEquals(8 + 16, innerProduct.compute(new byte[] { (byte) 0x18 }), 0);
+        assertEquals(128, innerProduct.compute(new byte[] { 0x01 }), 0);
+        assertEquals(255, innerProduct.compute(new byte[] { (byte) 0xFF }), 0);
+
+        // All bits cleared, the distance is the squared norm of the query.
+        assertEquals(KNNScoringUtil.l2SquaredADC(query, new byte[] { 0 }), ADCLookupTable.l2Squared(query).compute(new byte[] { 0 }), 0);
+    }
+}
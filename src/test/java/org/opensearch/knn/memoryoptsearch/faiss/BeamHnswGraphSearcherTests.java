@@ -0,0 +1,252 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.codecs.hnsw.DefaultFlatVectorScorer;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.KnnCollector;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopKnnCollector;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.knn.KnnSearchStrategy;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.hnsw.HnswGraphBuilder;
+import org.apache.lucene.util.hnsw.HnswGraphSearcher;
+import org.apache.lucene.util.hnsw.OnHeapHnswGraph;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.memoryoptsearch.FaissHNSWTests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class BeamHnswGraphSearcherTests extends KNNTestCase {
+    private static final int NUM_VECTORS = 100;
+    private static final int DIMENSION = 8;
+    private static final int NUM_RECALL_VECTORS = 1000;
+    private static final int NUM_RECALL_QUERIES = 20;
+    private static final int K = 10;
+
+    @SneakyThrows
+    public void testSearch_whenCollectorTakesAllVectors_thenEveryVectorCollectedOnce() {
+        final List<float[]> vectors = randomVectors();
+        final float[] query = randomVector();
+        final RandomVectorScorer scorer = newScorer(vectors, query);
+
+        for (final int beamWidth : new int[] { 1, 4, BeamSearchStrategy.MAX_BEAM_WIDTH }) {
+            final KnnCollector collector = newCollector(NUM_VECTORS, Integer.MAX_VALUE, beamWidth);
+            BeamHnswGraphSearcher.search(scorer, collector, newGraph(), null, beamWidth);
+
+            final ScoreDoc[] scoreDocs = collector.topDocs().scoreDocs;
+            assertEquals(NUM_VECTORS, scoreDocs.length);
+            final Set<Integer> docs = new HashSet<>();
+            for (final ScoreDoc scoreDoc : scoreDocs) {
+                assertTrue(docs.add(scoreDoc.doc));
+                assertEquals(VectorSimilarityFunction.EUCLIDEAN.compare(query, vectors.get(scoreDoc.doc)), scoreDoc.score, 1e-6f);
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testSearch_whenFiltered_thenOnlyAcceptedVectorsCollected() {
+        final Bits evenOrds = new Bits() {
+            @Override
+            public boolean get(int index) {
+                return index % 2 == 0;
+            }
+
+            @Override
+            public int length() {
+                return NUM_VECTORS;
+            }
+        };
+        final KnnCollector collector = newCollector(NUM_VECTORS, Integer.MAX_VALUE, 4);
+        BeamHnswGraphSearcher.search(newScorer(randomVectors(), randomVector()), collector, newGraph(), evenOrds, 4);
+
+        final ScoreDoc[] scoreDocs = collector.topDocs().scoreDocs;
+        assertEquals(NUM_VECTORS / 2, scoreDocs.length);
+        for (final ScoreDoc scoreDoc : scoreDocs) {
+            assertEquals(0, scoreDoc.doc % 2);
+        }
+    }
+
+    @SneakyThrows
+    public void testSearch_whenVisitLimitReached_thenEarlyTerminated() {
+        final KnnCollector collector = newCollector(10, 20, 4);
+        BeamHnswGraphSearcher.search(newScorer(randomVectors(), randomVector()), collector, newGraph(), null, 4);
+
+        assertTrue(collector.earlyTerminated());
+        final TopDocs topDocs = collector.topDocs();
+        assertEquals(TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO, topDocs.totalHits.relation());
+        assertTrue(topDocs.scoreDocs.length <= 10);
+    }
+
+    @SneakyThrows
+    public void testSearch_whenKLessThanNumVectors_thenRecallMatchesLucene() {
+        final List<float[]> vectors = randomVectors(NUM_RECALL_VECTORS);
+        final OnHeapHnswGraph graph = newGraph(vectors);
+
+        int numLuceneHits = 0;
+        final int[] numBeamHits = new int[3];
+        final int[] beamWidths = { 1, 4, BeamSearchStrategy.MAX_BEAM_WIDTH };
+        for (int q = 0; q < NUM_RECALL_QUERIES; q++) {
+            final float[] query = randomVector();
+            final Set<Integer> expected = exactTopK(vectors, query);
+
+            final KnnCollector luceneCollector = new TopKnnCollector(K, Integer.MAX_VALUE, new KnnSearchStrategy.Hnsw(0));
+            HnswGraphSearcher.search(newScorer(vectors, query), luceneCollector, graph, null, 0);
+            numLuceneHits += countHits(luceneCollector.topDocs(), expected);
+
+            for (int i = 0; i < beamWidths.length; i++) {
+                final KnnCollector collector = newCollector(K, Integer.MAX_VALUE, beamWidths[i]);
+                BeamHnswGraphSearcher.search(newScorer(vectors, query), collector, graph, null, beamWidths[i]);
+
+                final ScoreDoc[] scoreDocs = collector.topDocs().scoreDocs;
+                assertEquals(K, scoreDocs.length);
+                for (final ScoreDoc scoreDoc : scoreDocs) {
+                    assertEquals(VectorSimilarityFunction.EUCLIDEAN.compare(query, vectors.get(scoreDoc.doc)), scoreDoc.score, 1e-6f);
+                }
+                numBeamHits[i] += countHits(collector.topDocs(), expected);
+            }
+        }
+
+        // Both searchers keep k candidates at least, a wider beam only expands more of them per step.
+        final int numExpected = NUM_RECALL_QUERIES * K;
+        final float luceneRecall = (float) numLuceneHits / numExpected;
+        for (int i = 0; i < beamWidths.length; i++) {
+            final float recall = (float) numBeamHits[i] / numExpected;
+            assertTrue("Recall " + recall + " of beam width " + beamWidths[i] + " vs " + luceneRecall, recall >= 0.9f * luceneRecall);
+        }
+    }
+
+    @SneakyThrows
+    public void testSearch_whenEntryPointsGiven_thenStartsFromThem() {
+        final List<float[]> vectors = randomVectors(NUM_RECALL_VECTORS);
+        final OnHeapHnswGraph graph = newGraph(vectors);
+        final float[] query = randomVector();
+        final int nearest = exactTopK(vectors, query).stream()
+            .max(Comparator.comparingDouble(node -> VectorSimilarityFunction.EUCLIDEAN.compare(query, vectors.get(node))))
+            .orElseThrow();
+
+        // Starting from the nearest vector, upper levels are skipped and its score is the best one.
+        final KnnCollector seededCollector = newCollector(K, Integer.MAX_VALUE, 4);
+        BeamHnswGraphSearcher.search(
+            newScorer(vectors, query),
+            seededCollector,
+            graph,
+            null,
+            4,
+            DocIdSetIterator.range(nearest, nearest + 1)
+        );
+        final ScoreDoc[] scoreDocs = seededCollector.topDocs().scoreDocs;
+        assertEquals(K, scoreDocs.length);
+        assertEquals(nearest, scoreDocs[0].doc);
+
+        // Without entry points, the search starts from the entry point of the graph.
+        final KnnCollector collector = newCollector(K, Integer.MAX_VALUE, 4);
+        BeamHnswGraphSearcher.search(newScorer(vectors, query), collector, graph, null, 4);
+        final KnnCollector emptyCollector = newCollector(K, Integer.MAX_VALUE, 4);
+        BeamHnswGraphSearcher.search(newScorer(vectors, query), emptyCollector, graph, null, 4, DocIdSetIterator.empty());
+        assertEquals(docs(collector.topDocs()), docs(emptyCollector.topDocs()));
+        assertEquals(collector.visitedCount(), emptyCollector.visitedCount());
+    }
+
+    public void testBeamSearchStrategy() {
+        final KnnSearchStrategy.Hnsw hnsw = new KnnSearchStrategy.Hnsw(100);
+        assertSame(hnsw, BeamSearchStrategy.of(hnsw, null));
+
+        final KnnSearchStrategy.Hnsw beam = BeamSearchStrategy.of(hnsw, 8);
+        assertTrue(beam instanceof BeamSearchStrategy);
+        assertEquals(8, ((BeamSearchStrategy) beam).getBeamWidth());
+        assertEquals(100, beam.filteredSearchThreshold());
+        assertEquals(new BeamSearchStrategy(8, 100), beam);
+        assertNotEquals(new BeamSearchStrategy(4, 100), beam);
+
+        expectThrows(IllegalArgumentException.class, () -> new BeamSearchStrategy(0, 0));
+        expectThrows(IllegalArgumentException.class, () -> new BeamSearchStrategy(BeamSearchStrategy.MAX_BEAM_WIDTH + 1, 0));
+    }
+
+    private static KnnCollector newCollector(final int k, final int visitLimit, final int beamWidth) {
+        return new TopKnnCollector(k, visitLimit, new BeamSearchStrategy(beamWidth, 0));
+    }
+
+    @SneakyThrows
+    private static FaissHnswGraph newGraph() {
+        final IndexInput input = FaissHNSWTests.loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin");
+        final FaissHNSW faissHnsw = new FaissHNSW();
+        faissHnsw.load(input, NUM_VECTORS);
+        return new FaissHnswGraph(faissHnsw, input);
+    }
+
+    @SneakyThrows
+    private static RandomVectorScorer newScorer(final List<float[]> vectors, final float[] query) {
+        return DefaultFlatVectorScorer.INSTANCE.getRandomVectorScorer(
+            VectorSimilarityFunction.EUCLIDEAN,
+            FloatVectorValues.fromFloats(vectors, DIMENSION),
+            query
+        );
+    }
+
+    @SneakyThrows
+    private static OnHeapHnswGraph newGraph(final List<float[]> vectors) {
+        return HnswGraphBuilder.create(
+            DefaultFlatVectorScorer.INSTANCE.getRandomVectorScorerSupplier(
+                VectorSimilarityFunction.EUCLIDEAN,
+                FloatVectorValues.fromFloats(vectors, DIMENSION)
+            ),
+            16,
+            100,
+            random().nextLong()
+        ).build(vectors.size());
+    }
+
+    private static Set<Integer> exactTopK(final List<float[]> vectors, final float[] query) {
+        return IntStream.range(0, vectors.size())
+            .boxed()
+            .sorted(Comparator.comparingDouble(node -> -VectorSimilarityFunction.EUCLIDEAN.compare(query, vectors.get(node))))
+            .limit(K)
+            .collect(Collectors.toSet());
+    }
+
+    private static int countHits(final TopDocs topDocs, final Set<Integer> expected) {
+        return (int) Arrays.stream(topDocs.scoreDocs).filter(scoreDoc -> expected.contains(scoreDoc.doc)).count();
+    }
+
+    private static List<Integer> docs(final TopDocs topDocs) {
+        return Arrays.stream(topDocs.scoreDocs).map(scoreDoc -> scoreDoc.doc).collect(Collectors.toList());
+    }
+
+    private static List<float[]> randomVectors() {
+        return randomVectors(NUM_VECTORS);
+    }
+
+    private static List<float[]> randomVectors(final int numVectors) {
+        final List<float[]> vectors = new ArrayList<>(numVectors);
+        for (int i = 0; i < numVectors; i++) {
+            vectors.add(randomVector());
+        }
+        return vectors;
+    }
+
+    private static float[] randomVector() {
+        final float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = randomFloat();
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.knn.KnnSearchStrategy;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.StringHelper;
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FaissEntryPointTableTests extends KNNTestCase {
+    private static final float[][] CENTROIDS = { { 0, 0 }, { 10, 0 }, { 0, 10 }, { 10, 10 }, { 20, 20 }, { -10, -10 } };
+    // The first two centroids share their closest node.
+    private static final int[] NODES = { 7, 7, 42, 11, 99, 5 };
+
+    @SneakyThrows
+    public void testWriteAndRead() {
+        final FaissEntryPointTable table = new FaissEntryPointTable(CENTROIDS, NODES);
+        try (Directory directory = new ByteBuffersDirectory()) {
+            try (IndexOutput output = directory.createOutput("_0_165_target_field.faissept", IOContext.DEFAULT)) {
+                table.write(output, StringHelper.randomId());
+            }
+
+            try (IndexInput input = directory.openInput("_0_165_target_field.faissept", IOContext.READONCE)) {
+                final FaissEntryPointTable readTable = FaissEntryPointTable.read(mockIndex(2, 100), input);
+                assertEquals(2, readTable.getDimension());
+                assertEquals(CENTROIDS.length, readTable.size());
+                final KnnSearchStrategy.Seeded seeded = readTable.getSearchStrategy(
+                    new float[] { 9, 1 },
+                    VectorSimilarityFunction.EUCLIDEAN,
+                    new KnnSearchStrategy.Hnsw(0)
+                );
+                assertEquals(List.of(7, 11, 42), entryPoints(seeded));
+            }
+
+            // Tables of another graph are rejected.
+            try (IndexInput input = directory.openInput("_0_165_target_field.faissept", IOContext.READONCE)) {
+                expectThrows(CorruptIndexException.class, () -> FaissEntryPointTable.read(mockIndex(2, 50), input));
+            }
+            try (IndexInput input = directory.openInput("_0_165_target_field.faissept", IOContext.READONCE)) {
+                expectThrows(CorruptIndexException.class, () -> FaissEntryPointTable.read(mockIndex(4, 100), input));
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testGetSearchStrategy_whenCentroidsShareNode_thenEntryPointsAreDistinct() {
+        final FaissEntryPointTable table = new FaissEntryPointTable(CENTROIDS, NODES);
+        final KnnSearchStrategy.Hnsw originalStrategy = new KnnSearchStrategy.Hnsw(100);
+
+        final KnnSearchStrategy.Seeded seeded = table.getSearchStrategy(
+            new float[] { 19, 19 },
+            VectorSimilarityFunction.EUCLIDEAN,
+            originalStrategy
+        );
+
+        // The four closest centroids are (20, 20), (10, 10), (10, 0) and (0, 10).
+        assertEquals(List.of(7, 11, 42, 99), entryPoints(seeded));
+        assertEquals(4, seeded.numberOfEntryPoints());
+        assertSame(originalStrategy, seeded.originalStrategy());
+
+        final KnnSearchStrategy.Seeded farSeeded = table.getSearchStrategy(
+            new float[] { -9, -9 },
+            VectorSimilarityFunction.EUCLIDEAN,
+            originalStrategy
+        );
+        // (-10, -10), (0, 0), (10, 0) and (0, 10), where node 7 is only listed once.
+        assertEquals(List.of(5, 7, 42), entryPoints(farSeeded));
+    }
+
+    public void testFileName() {
+        assertEquals("_0_165_target_field.faissept", FaissEntryPointTable.fileName("_0_165_target_field.faiss"));
+        assertEquals("_0_165_target_field.faissept", FaissEntryPointTable.fileName("_0_165_target_field.faissc"));
+    }
+
+    @SneakyThrows
+    private static List<Integer> entryPoints(final KnnSearchStrategy.Seeded seeded) {
+        final List<Integer> entryPoints = new ArrayList<>();
+        final DocIdSetIterator iterator = seeded.entryPoints();
+        for (int node = iterator.nextDoc(); node != DocIdSetIterator.NO_MORE_DOCS; node = iterator.nextDoc()) {
+            entryPoints.add(node);
+        }
+        assertEquals(entryPoints.size(), seeded.numberOfEntryPoints());
+        return entryPoints;
+    }
+
+    private static FaissIndex mockIndex(final int dimension, final int totalNumberOfVectors) {
+        final FaissIndex faissIndex = mock(FaissIndex.class);
+        when(faissIndex.getDimension()).thenReturn(dimension);
+        when(faissIndex.getTotalNumberOfVectors()).thenReturn(totalNumberOfVectors);
+        return faissIndex;
+    }
+}
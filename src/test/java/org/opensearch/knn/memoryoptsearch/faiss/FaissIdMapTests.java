@@ -0,0 +1,174 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.ByteBuffersIndexOutput;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.Arrays;
+
+public class FaissIdMapTests extends KNNTestCase {
+
+    public void testDocToOrd_whenSparseDocIds_thenInverseOfOrdToDoc() {
+        final int maxDoc = 1_000;
+        final int[] mapping = randomSparseDocIds(maxDoc);
+        final FaissIdMap idMap = createIdMap(mapping);
+
+        assertTrue(idMap.hasDocToOrd());
+        assertEquals(mapping.length, idMap.size());
+        for (int ord = 0, doc = 0; doc < maxDoc + 100; doc++) {
+            if (ord < mapping.length && mapping[ord] == doc) {
+                assertEquals(doc, idMap.ordToDoc(ord));
+                assertEquals(ord++, idMap.docToOrd(doc));
+            } else {
+                assertEquals(-1, idMap.docToOrd(doc));
+            }
+        }
+    }
+
+    public void testBulkTranslation() {
+        final FaissIdMap idMap = createIdMap(new int[] { 1, 3, 64, 65, 200 });
+
+        final int[] ords = { 4, 0, 2 };
+        final int[] docs = new int[3];
+        idMap.ordsToDocs(ords, docs, 3);
+        assertArrayEquals(new int[] { 200, 1, 64 }, docs);
+
+        final int[] acceptedDocs = { 0, 3, 63, 65, 200, 201 };
+        final int[] translatedOrds = new int[acceptedDocs.length];
+        assertEquals(3, idMap.docsToOrds(acceptedDocs, translatedOrds, acceptedDocs.length));
+        assertArrayEquals(new int[] { 3, 65, 200 }, Arrays.copyOf(acceptedDocs, 3));
+        assertArrayEquals(new int[] { 1, 3, 4 }, Arrays.copyOf(translatedOrds, 3));
+    }
+
+    public void testGetAcceptOrds() {
+        final FaissIdMap idMap = createIdMap(new int[] { 1, 3, 64, 65, 200 });
+        assertNull(idMap.getAcceptOrds(null));
+
+        final FixedBitSet acceptDocs = new FixedBitSet(201);
+        acceptDocs.set(3);
+        acceptDocs.set(200);
+        final Bits acceptOrds = idMap.getAcceptOrds(acceptDocs);
+        assertEquals(5, acceptOrds.length());
+        assertFalse(acceptOrds.get(0));
+        assertTrue(acceptOrds.get(1));
+        assertFalse(acceptOrds.get(2));
+        assertFalse(acceptOrds.get(3));
+        assertTrue(acceptOrds.get(4));
+    }
+
+    public void testDocToOrd_whenDuplicatedDocIds_thenUnsupported() {
+        final FaissIdMap idMap = createIdMap(new int[] { 1, 1, 2, 5 });
+        assertFalse(idMap.hasDocToOrd());
+        assertEquals(1, idMap.ordToDoc(1));
+        expectThrows(UnsupportedOperationException.class, () -> idMap.docToOrd(1));
+    }
+
+    @SneakyThrows
+    public void testRead_whenRenumberedOrdinals_thenDocToOrdFollowsPermutation() {
+        // Ordinal i holds document mapping[i], renumbered out of document order.
+        final int[] mapping = { 64, 1, 200, 3, 65 };
+        final FaissIdMap idMap = FaissIdMap.read(mapping.length, toIndexInput(mapping));
+
+        assertTrue(idMap.isPermuted());
+        assertTrue(idMap.hasDocToOrd());
+        assertEquals(mapping.length, idMap.size());
+        for (int ord = 0; ord < mapping.length; ord++) {
+            assertEquals(mapping[ord], idMap.ordToDoc(ord));
+            assertEquals(ord, idMap.docToOrd(mapping[ord]));
+        }
+        assertEquals(-1, idMap.docToOrd(2));
+        assertEquals(-1, idMap.docToOrd(201));
+
+        // Ranks follow document order: 1, 3, 64, 65, 200.
+        final int[] rankToOrd = { 1, 3, 0, 4, 2 };
+        for (int rank = 0; rank < rankToOrd.length; rank++) {
+            assertEquals(rankToOrd[rank], idMap.rankToOrd(rank));
+        }
+
+        final FixedBitSet acceptDocs = new FixedBitSet(201);
+        acceptDocs.set(200);
+        final Bits acceptOrds = idMap.getAcceptOrds(acceptDocs);
+        assertTrue(acceptOrds.get(2));
+        assertFalse(acceptOrds.get(0));
+    }
+
+    @SneakyThrows
+    public void testRead_whenDuplicatedDocIds_thenRankToOrdFollowsPermutation() {
+        // Ordinals 0 and 2 hold vectors of the same document, so documents cannot be mapped back to ordinals.
+        final int[] mapping = { 5, 2, 5, 0 };
+        final FaissIdMap idMap = FaissIdMap.read(mapping.length, toIndexInput(mapping));
+
+        assertTrue(idMap.isPermuted());
+        assertFalse(idMap.hasDocToOrd());
+
+        // Ranks follow document order: 0, 2, 5, 5, vectors of the same document keeping ordinal order.
+        final int[] rankToOrd = { 3, 1, 0, 2 };
+        for (int rank = 0; rank < rankToOrd.length; rank++) {
+            assertEquals(rankToOrd[rank], idMap.rankToOrd(rank));
+        }
+    }
+
+    @SneakyThrows
+    public void testRead_whenIncreasingDocIds_thenNotPermuted() {
+        final int[] mapping = { 1, 3, 64, 65, 200 };
+        final FaissIdMap idMap = FaissIdMap.read(mapping.length, toIndexInput(mapping));
+
+        assertFalse(idMap.isPermuted());
+        assertTrue(idMap.hasDocToOrd());
+        for (int ord = 0; ord < mapping.length; ord++) {
+            assertEquals(mapping[ord], idMap.ordToDoc(ord));
+            assertEquals(ord, idMap.docToOrd(mapping[ord]));
+            assertEquals(ord, idMap.rankToOrd(ord));
+        }
+
+        // Parent documents of nested fields repeat, which is still in document order.
+        assertFalse(FaissIdMap.read(4, toIndexInput(new int[] { 1, 1, 2, 5 })).isPermuted());
+        // An identity mapping is not stored.
+        assertNull(FaissIdMap.read(3, toIndexInput(new int[] { 0, 1, 2 })));
+    }
+
+    public void testRankToOrd_whenDocumentOrder_thenIdentity() {
+        final FaissIdMap idMap = createIdMap(new int[] { 1, 3, 64, 65, 200 });
+        assertFalse(idMap.isPermuted());
+        for (int rank = 0; rank < idMap.size(); rank++) {
+            assertEquals(rank, idMap.rankToOrd(rank));
+        }
+    }
+
+    private static int[] randomSparseDocIds(final int maxDoc) {
+        final int[] mapping = new int[maxDoc];
+        int size = 0;
+        // Skip the first document so that the mapping is never an identity mapping.
+        for (int doc = 1; doc < maxDoc; doc++) {
+            if (random().nextInt(3) == 0) {
+                mapping[size++] = doc;
+            }
+        }
+        return Arrays.copyOf(mapping, size);
+    }
+
+    @SneakyThrows
+    private static FaissIdMap createIdMap(final int[] mapping) {
+        return new FaissIdMap(MonotonicIntegerSequenceEncoder.encode(mapping.length, toIndexInput(mapping)), mapping.length);
+    }
+
+    @SneakyThrows
+    private static ByteArrayIndexInput toIndexInput(final int[] mapping) {
+        final ByteBuffersDataOutput dataOutput = new ByteBuffersDataOutput();
+        final ByteBuffersIndexOutput indexOutput = new ByteBuffersIndexOutput(dataOutput, "test", "test");
+        for (int docId : mapping) {
+            indexOutput.writeLong(docId);
+        }
+        indexOutput.close();
+        return new ByteArrayIndexInput("test", dataOutput.toArrayCopy());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.memoryoptsearch.FaissHNSWTests;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+public class FaissWarmupPlannerTests extends KNNTestCase {
+    private static final int NUM_VECTORS = 100;
+
+    @SneakyThrows
+    public void testSelectTopNodes_whenFullPercentage_thenAllNodesAreSelected() {
+        final IndexInput indexInput = FaissHNSWTests.loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin");
+        final FaissHNSW hnsw = new FaissHNSW();
+        hnsw.load(indexInput, NUM_VECTORS);
+
+        final int[] nodes = FaissWarmupPlanner.selectTopNodes(hnsw, indexInput, FaissWarmupPlanner.FULL_WARMUP_PERCENTAGE);
+        assertEquals(NUM_VECTORS, nodes.length);
+        for (int i = 0; i < NUM_VECTORS; ++i) {
+            assertEquals(i, nodes[i]);
+        }
+    }
+
+    @SneakyThrows
+    public void testSelectTopNodes_whenZeroPercentage_thenOnlyTopLevelIsSelected() {
+        final IndexInput indexInput = FaissHNSWTests.loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin");
+        final FaissHNSW hnsw = new FaissHNSW();
+        hnsw.load(indexInput, NUM_VECTORS);
+        final int[] levels = readLevels(hnsw, indexInput);
+        final int topLevel = Arrays.stream(levels).max().getAsInt();
+
+        final int[] nodes = FaissWarmupPlanner.selectTopNodes(hnsw, indexInput, 0);
+        assertTrue(nodes.length > 0);
+        assertTrue(Arrays.stream(nodes).anyMatch(node -> node == hnsw.getEntryPoint()));
+        for (final int node : nodes) {
+            assertEquals(topLevel, levels[node]);
+        }
+        assertEquals(Arrays.stream(levels).filter(level -> level == topLevel).count(), nodes.length);
+    }
+
+    @SneakyThrows
+    public void testSelectTopNodes_whenPartialPercentage_thenUpperLevelsAreSelectedWithinBudget() {
+        final IndexInput indexInput = FaissHNSWTests.loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin");
+        final FaissHNSW hnsw = new FaissHNSW();
+        hnsw.load(indexInput, NUM_VECTORS);
+        final int[] levels = readLevels(hnsw, indexInput);
+
+        final int[] nodes = FaissWarmupPlanner.selectTopNodes(hnsw, indexInput, 50);
+        assertTrue(nodes.length <= NUM_VECTORS / 2);
+
+        // Every selected node must be on a level at least as high as any node left out.
+        final boolean[] selected = new boolean[NUM_VECTORS];
+        int minSelectedLevel = Integer.MAX_VALUE;
+        for (final int node : nodes) {
+            selected[node] = true;
+            minSelectedLevel = Math.min(minSelectedLevel, levels[node]);
+        }
+        for (int i = 0; i < NUM_VECTORS; ++i) {
+            if (selected[i] == false) {
+                assertTrue(levels[i] < minSelectedLevel);
+            }
+        }
+    }
+
+    @SneakyThrows
+    public void testNeighborRanges_thenNeighborListsOfSelectedNodesAreCovered() {
+        final IndexInput indexInput = FaissHNSWTests.loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin");
+        final FaissHNSW hnsw = new FaissHNSW();
+        hnsw.load(indexInput, NUM_VECTORS);
+
+        final int[] nodes = FaissWarmupPlanner.selectTopNodes(hnsw, indexInput, 10);
+        final FaissWarmupPlanner.Ranges ranges = FaissWarmupPlanner.neighborRanges(hnsw, nodes);
+        assertTrue(ranges.size() > 0);
+
+        final long baseOffset = hnsw.getNeighbors().getBaseOffset();
+        for (final int node : nodes) {
+            final long begin = baseOffset + hnsw.getOffsetsReader().get(node) * Integer.BYTES;
+            final long end = baseOffset + hnsw.getOffsetsReader().get(node + 1) * Integer.BYTES;
+            boolean covered = false;
+            for (int i = 0; i < ranges.size(); ++i) {
+                if (ranges.getOffset(i) <= begin && end <= ranges.getOffset(i) + ranges.getLength(i)) {
+                    covered = true;
+                    break;
+                }
+            }
+            assertTrue("Neighbor list of node " + node + " is not covered", covered);
+        }
+
+        // Prefetching touches exactly the planned bytes.
+        long plannedBytes = 0;
+        for (int i = 0; i < ranges.size(); ++i) {
+            plannedBytes += ranges.getLength(i);
+        }
+        assertEquals(plannedBytes, ranges.prefetch(indexInput.clone()));
+    }
+
+    @SneakyThrows
+    public void testUpperLevelNeighborRanges_thenBaseLevelListsAreSkipped() {
+        final IndexInput indexInput = FaissHNSWTests.loadHnswBinary("data/memoryoptsearch/faiss_hnsw_100_vectors.bin");
+        final FaissHNSW hnsw = new FaissHNSW();
+        hnsw.load(indexInput, NUM_VECTORS);
+        final int[] levels = readLevels(hnsw, indexInput);
+
+        // The entry point is on the top level, its range starts right after its base level neighbor list.
+        final int entryPoint = hnsw.getEntryPoint();
+        final FaissWarmupPlanner.Ranges ranges = FaissWarmupPlanner.upperLevelNeighborRanges(hnsw, new int[] { entryPoint });
+        final long begin = hnsw.getOffsetsReader().get(entryPoint);
+        final long end = hnsw.getOffsetsReader().get(entryPoint + 1);
+        assertEquals(1, ranges.size());
+        assertEquals(hnsw.getNeighbors().getBaseOffset() + (begin + hnsw.getMaxNumNeighbors()) * Integer.BYTES, ranges.getOffset(0));
+        assertEquals((end - begin - hnsw.getMaxNumNeighbors()) * Integer.BYTES, ranges.getLength(0));
+
+        // Nodes only on the base level have nothing to warm up in the FAISS index file.
+        final int[] baseLevelNodes = IntStream.range(0, NUM_VECTORS).filter(node -> levels[node] == 1).toArray();
+        assertTrue(baseLevelNodes.length > 0);
+        assertEquals(0, FaissWarmupPlanner.upperLevelNeighborRanges(hnsw, baseLevelNodes).size());
+    }
+
+    public void testRecordRanges_thenRecordsOfSelectedNodesAreCovered() {
+        // 96 bytes records, 42 of them per block of 4096 bytes.
+        final FaissColocatedHNSWIndex.Layout layout = new FaissColocatedHNSWIndex.Layout(8, 16, 4096, 4096);
+        final FaissWarmupPlanner.Ranges ranges = FaissWarmupPlanner.recordRanges(layout, new int[] { 0, 1, 41, 42, 1_000 });
+
+        assertEquals(2, ranges.size());
+        assertEquals(4096, ranges.getOffset(0));
+        // Records 41 and 42 are in consecutive blocks, the padding between them is merged.
+        assertEquals(layout.recordOffset(42) + layout.recordSize() - 4096, ranges.getLength(0));
+        assertEquals(layout.recordOffset(1_000), ranges.getOffset(1));
+        assertEquals(layout.recordSize(), ranges.getLength(1));
+    }
+
+    public void testRanges_whenRangesAreClose_thenMerged() {
+        final FaissWarmupPlanner.Ranges ranges = FaissWarmupPlanner.vectorRanges(new int[] { 0, 1, 2, 10_000 }, 128);
+        assertEquals(2, ranges.size());
+        assertEquals(0, ranges.getOffset(0));
+        assertEquals(3 * 128, ranges.getLength(0));
+        assertEquals(10_000 * 128, ranges.getOffset(1));
+        assertEquals(128, ranges.getLength(1));
+
+        // Empty ranges are ignored, a gap within a page is merged.
+        ranges.add(10_000 * 128 + 128 + 100, 0);
+        ranges.add(10_000 * 128 + 128 + 100, 10);
+        assertEquals(2, ranges.size());
+        assertEquals(128 + 100 + 10, ranges.getLength(1));
+    }
+
+    @SneakyThrows
+    private static int[] readLevels(final FaissHNSW hnsw, final IndexInput indexInput) {
+        final IndexInput input = indexInput.clone();
+        input.seek(hnsw.getLevels().getBaseOffset());
+        final int[] levels = new int[NUM_VECTORS];
+        input.readInts(levels, 0, NUM_VECTORS);
+        return levels;
+    }
+}
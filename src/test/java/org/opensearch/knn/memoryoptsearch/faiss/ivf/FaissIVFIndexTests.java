@@ -0,0 +1,324 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.memoryoptsearch.faiss.ivf;
+
+import lombok.SneakyThrows;
+import org.apache.lucene.index.ByteVectorValues;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.VectorSimilarityFunction;
+import org.apache.lucene.search.KnnCollector;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopKnnCollector;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.VectorUtil;
+import org.apache.lucene.util.hnsw.RandomVectorScorer;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.knn.KNNTestCase;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIdMapIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndex;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIndexFloatFlat;
+
+import java.util.Arrays;
+
+public class FaissIVFIndexTests extends KNNTestCase {
+    private static final int DIMENSION = 4;
+    private static final int L2_METRIC = 1;
+    private static final float[][] CENTROIDS = new float[][] { { 0, 0, 0, 0 }, { 100, 100, 100, 100 } };
+    // Internal vector ids stored in each list
+    private static final long[][] LIST_IDS = new long[][] { { 0, 2, 4 }, { 1, 3, 5 } };
+    private static final float[][] VECTORS = new float[][] {
+        { 1, 0, 0, 0 },
+        { 100, 100, 100, 101 },
+        { 0, 1, 0, 0 },
+        { 99, 100, 100, 100 },
+        { 0, 0, 1, 0 },
+        { 101, 100, 100, 100 } };
+
+    @SneakyThrows
+    public void testIVFFlat_whenLoaded_thenVectorsAreAccessibleById() {
+        final FaissIndex faissIndex = FaissIndex.load(new ByteArrayIndexInput("ivf", buildIVFFlat(1)));
+
+        assertTrue(faissIndex instanceof FaissIdMapIndex);
+        final FaissIndexIVFFlat ivfFlat = (FaissIndexIVFFlat) ((FaissIdMapIndex) faissIndex).getNestedIndex();
+        assertEquals(2, ivfFlat.getNumLists());
+        assertEquals(1, ivfFlat.getNumProbes());
+        assertEquals(VECTORS.length, ivfFlat.getTotalNumberOfVectors());
+        assertNull(((FaissIdMapIndex) faissIndex).getFaissHnsw());
+
+        final FloatVectorValues values = faissIndex.getFloatValues(new ByteArrayIndexInput("ivf", buildIVFFlat(1)));
+        assertEquals(VECTORS.length, values.size());
+        for (int i = 0; i < VECTORS.length; ++i) {
+            assertArrayEquals(VECTORS[i], values.vectorValue(i), 0);
+        }
+    }
+
+    @SneakyThrows
+    public void testIVFFlat_whenSearch_thenOnlyProbedListsAreScanned() {
+        final byte[] bytes = buildIVFFlat(1);
+        final FaissIndexIVFFlat ivfFlat = (FaissIndexIVFFlat) ((FaissIdMapIndex) FaissIndex.load(new ByteArrayIndexInput("ivf", bytes)))
+            .getNestedIndex();
+
+        final float[] query = new float[] { 100, 100, 100, 100 };
+        final KnnCollector collector = new TopKnnCollector(2, Integer.MAX_VALUE);
+        ivfFlat.search(new ByteArrayIndexInput("ivf", bytes), query, collector, null);
+
+        // Only the second list is probed.
+        assertEquals(3, collector.visitedCount());
+        final TopDocs topDocs = collector.topDocs();
+        assertEquals(2, topDocs.scoreDocs.length);
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            assertTrue(scoreDoc.doc == 1 || scoreDoc.doc == 3 || scoreDoc.doc == 5);
+            assertEquals(0.5f, scoreDoc.score, 1e-6);
+        }
+    }
+
+    @SneakyThrows
+    public void testIVFFlat_whenFiltered_thenRejectedVectorsAreSkipped() {
+        final byte[] bytes = buildIVFFlat(2);
+        final FaissIndexIVFFlat ivfFlat = (FaissIndexIVFFlat) ((FaissIdMapIndex) FaissIndex.load(new ByteArrayIndexInput("ivf", bytes)))
+            .getNestedIndex();
+
+        final Bits acceptedOrds = new Bits() {
+            @Override
+            public boolean get(int index) {
+                return index == 0 || index == 5;
+            }
+
+            @Override
+            public int length() {
+                return VECTORS.length;
+            }
+        };
+        final KnnCollector collector = new TopKnnCollector(VECTORS.length, Integer.MAX_VALUE);
+        ivfFlat.search(new ByteArrayIndexInput("ivf", bytes), new float[] { 1, 0, 0, 0 }, collector, acceptedOrds);
+
+        final TopDocs topDocs = collector.topDocs();
+        assertEquals(2, topDocs.scoreDocs.length);
+        assertEquals(0, topDocs.scoreDocs[0].doc);
+        assertEquals(1.0f, topDocs.scoreDocs[0].score, 1e-6);
+        assertEquals(5, topDocs.scoreDocs[1].doc);
+    }
+
+    @SneakyThrows
+    public void testIVFPQ_whenSearch_thenScoresAreComputedFromDistanceTable() {
+        doTestIVFPQ(false);
+        doTestIVFPQ(true);
+    }
+
+    @SneakyThrows
+    private void doTestIVFPQ(final boolean byResidual) {
+        final byte[] bytes = buildIVFPQ(byResidual);
+        final FaissIndex faissIndex = FaissIndex.load(new ByteArrayIndexInput("ivfpq", bytes));
+        final FaissIndexIVFPQ ivfpq = (FaissIndexIVFPQ) ((FaissIdMapIndex) faissIndex).getNestedIndex();
+        assertEquals(byResidual, ivfpq.isByResidual());
+        assertEquals(2, ivfpq.getProductQuantizer().getNumSubQuantizers());
+        assertEquals(2, ivfpq.getInvertedLists().getCodeSize());
+
+        // Vector `i` is encoded as sub-centroids (i, i + 1), each decoding to (j, j), plus the list centroid with residual encoding.
+        final float offset = byResidual ? 100 : 0;
+        final FloatVectorValues values = faissIndex.getFloatValues(new ByteArrayIndexInput("ivfpq", bytes));
+        assertArrayEquals(new float[] { 3 + offset, 3 + offset, 4 + offset, 4 + offset }, values.vectorValue(3), 0);
+        assertArrayEquals(new float[] { 0, 0, 1, 1 }, values.vectorValue(0), 0);
+
+        final KnnCollector collector = new TopKnnCollector(1, Integer.MAX_VALUE);
+        ivfpq.search(
+            new ByteArrayIndexInput("ivfpq", bytes),
+            new float[] { 3 + offset, 3 + offset, 4 + offset, 4 + offset },
+            collector,
+            null
+        );
+        final TopDocs topDocs = collector.topDocs();
+        assertEquals(1, topDocs.scoreDocs.length);
+        assertEquals(3, topDocs.scoreDocs[0].doc);
+        assertEquals(1.0f, topDocs.scoreDocs[0].score, 1e-6);
+    }
+
+    @SneakyThrows
+    public void testIVFPQ_whenAdcScorer_thenScoresMatchDecodedVectors() {
+        doTestIVFPQAdcScorer(false);
+        doTestIVFPQAdcScorer(true);
+    }
+
+    @SneakyThrows
+    private void doTestIVFPQAdcScorer(final boolean byResidual) {
+        final byte[] bytes = buildIVFPQ(byResidual);
+        final FaissIndex faissIndex = FaissIndex.load(new ByteArrayIndexInput("ivfpq", bytes));
+        final FaissIndexIVFPQ ivfpq = (FaissIndexIVFPQ) ((FaissIdMapIndex) faissIndex).getNestedIndex();
+
+        // Byte values expose PQ codes by internal vector id.
+        final ByteVectorValues codes = faissIndex.getByteValues(new ByteArrayIndexInput("ivfpq", bytes));
+        assertEquals(2, codes.dimension());
+        assertArrayEquals(new byte[] { 4, 5 }, codes.vectorValue(4));
+
+        final float[] query = new float[] { 101, 99, 103, 100 };
+        final FloatVectorValues decodedVectors = faissIndex.getFloatValues(new ByteArrayIndexInput("ivfpq", bytes));
+        final RandomVectorScorer scorer = new FaissIVFPQFlatVectorsScorer(ivfpq, new ByteArrayIndexInput("ivfpq", bytes))
+            .getRandomVectorScorer(VectorSimilarityFunction.EUCLIDEAN, decodedVectors, query);
+        assertEquals(VECTORS.length, scorer.maxOrd());
+        // Score in an order jumping between lists.
+        for (int internalVectorId : new int[] { 5, 0, 3, 2, 1, 4 }) {
+            final float expected = 1 / (1 + VectorUtil.squareDistance(query, decodedVectors.vectorValue(internalVectorId)));
+            assertEquals(expected, scorer.score(internalVectorId), 1e-6);
+        }
+    }
+
+    @SneakyThrows
+    public void testProductQuantizer_whenResidualTermTable_thenL2DistanceIsExpanded() {
+        final FaissIndexIVFPQ ivfpq = (FaissIndexIVFPQ) ((FaissIdMapIndex) FaissIndex.load(
+            new ByteArrayIndexInput("ivfpq", buildIVFPQ(true))
+        )).getNestedIndex();
+        final FaissProductQuantizer productQuantizer = ivfpq.getProductQuantizer();
+        final float[] centroid = new float[] { 1, 2, 3, 4 };
+        final float[] query = new float[] { 5, -1, 7, 2 };
+        final int tableSize = productQuantizer.getNumSubQuantizers() * productQuantizer.getNumSubCentroids();
+        final float[] residualTermTable = new float[tableSize];
+        final float[] innerProductTable = new float[tableSize];
+        productQuantizer.computeResidualTermTable(centroid, residualTermTable);
+        productQuantizer.computeInnerProductTable(query, innerProductTable);
+
+        final byte[] code = new byte[] { 3, 7 };
+        final float[] vector = new float[DIMENSION];
+        productQuantizer.decode(code, vector);
+        for (int i = 0; i < DIMENSION; ++i) {
+            vector[i] += centroid[i];
+        }
+        final float expanded = VectorUtil.squareDistance(query, centroid) + productQuantizer.lookup(residualTermTable, code) - 2
+            * productQuantizer.lookup(innerProductTable, code);
+        assertEquals(VectorUtil.squareDistance(query, vector), expanded, 1e-3);
+    }
+
+    @SneakyThrows
+    public void testProductQuantizer_whenNonByteAlignedBits_thenCodesAreUnpacked() {
+        final ByteBuffersDataOutput output = new ByteBuffersDataOutput();
+        // d = 3, M = 3, nbits = 4, each sub-centroid j decodes to j.
+        output.writeLong(3);
+        output.writeLong(3);
+        output.writeLong(4);
+        output.writeLong(3 * 16);
+        for (int m = 0; m < 3; ++m) {
+            for (int j = 0; j < 16; ++j) {
+                output.writeInt(Float.floatToIntBits(j));
+            }
+        }
+        final FaissProductQuantizer productQuantizer = FaissProductQuantizer.load(
+            new ByteArrayIndexInput("pq", output.toArrayCopy())
+        );
+        assertEquals(2, productQuantizer.getCodeSize());
+
+        // Sub-centroid indices (5, 10, 15) packed as a little-endian bit stream.
+        final float[] vector = new float[3];
+        productQuantizer.decode(new byte[] { (byte) 0xA5, (byte) 0x0F }, vector);
+        assertArrayEquals(new float[] { 5, 10, 15 }, vector, 0);
+    }
+
+    private static byte[] buildIVFFlat(final int nprobe) {
+        final ByteBuffersDataOutput output = new ByteBuffersDataOutput();
+        writeIdMapHeader(output);
+        output.writeBytes(FaissIndexIVFFlat.IWFL.getBytes());
+        writeIVFHeader(output, nprobe);
+        writeInvertedLists(output, DIMENSION * Float.BYTES, (listNo, id) -> {
+            for (float value : VECTORS[(int) id]) {
+                output.writeInt(Float.floatToIntBits(value));
+            }
+        });
+        writeIdMapping(output);
+        return output.toArrayCopy();
+    }
+
+    private static byte[] buildIVFPQ(final boolean byResidual) {
+        final ByteBuffersDataOutput output = new ByteBuffersDataOutput();
+        writeIdMapHeader(output);
+        output.writeBytes(FaissIndexIVFPQ.IWPQ.getBytes());
+        writeIVFHeader(output, 2);
+        output.writeByte((byte) (byResidual ? 1 : 0));
+        output.writeLong(2);
+
+        // Product quantizer, d = 4, M = 2, nbits = 8, sub-centroid j of every sub-quantizer is (j, j).
+        output.writeLong(DIMENSION);
+        output.writeLong(2);
+        output.writeLong(8);
+        output.writeLong(DIMENSION * 256);
+        for (int m = 0; m < 2; ++m) {
+            for (int j = 0; j < 256; ++j) {
+                output.writeInt(Float.floatToIntBits(j));
+                output.writeInt(Float.floatToIntBits(j));
+            }
+        }
+
+        writeInvertedLists(output, 2, (listNo, id) -> {
+            output.writeByte((byte) id);
+            output.writeByte((byte) (id + 1));
+        });
+        writeIdMapping(output);
+        return output.toArrayCopy();
+    }
+
+    private static void writeIdMapHeader(final ByteBuffersDataOutput output) {
+        output.writeBytes(FaissIdMapIndex.IXMP.getBytes());
+        writeCommonHeader(output, DIMENSION, VECTORS.length);
+    }
+
+    private static void writeIVFHeader(final ByteBuffersDataOutput output, final int nprobe) {
+        writeCommonHeader(output, DIMENSION, VECTORS.length);
+        output.writeLong(CENTROIDS.length);
+        output.writeLong(nprobe);
+
+        // Coarse quantizer
+        output.writeBytes(FaissIndexFloatFlat.IXF2.getBytes());
+        writeCommonHeader(output, DIMENSION, CENTROIDS.length);
+        output.writeLong((long) CENTROIDS.length * DIMENSION);
+        Arrays.stream(CENTROIDS).forEach(centroid -> {
+            for (float value : centroid) {
+                output.writeInt(Float.floatToIntBits(value));
+            }
+        });
+
+        // No direct map
+        output.writeByte((byte) 0);
+        output.writeLong(0);
+    }
+
+    private static void writeInvertedLists(final ByteBuffersDataOutput output, final int codeSize, final CodeWriter codeWriter) {
+        output.writeBytes(FaissInvertedLists.ILAR.getBytes());
+        output.writeLong(LIST_IDS.length);
+        output.writeLong(codeSize);
+        output.writeBytes("full".getBytes());
+        output.writeLong(LIST_IDS.length);
+        for (long[] ids : LIST_IDS) {
+            output.writeLong(ids.length);
+        }
+        for (int listNo = 0; listNo < LIST_IDS.length; ++listNo) {
+            for (long id : LIST_IDS[listNo]) {
+                codeWriter.write(listNo, id);
+            }
+            for (long id : LIST_IDS[listNo]) {
+                output.writeLong(id);
+            }
+        }
+    }
+
+    private static void writeIdMapping(final ByteBuffersDataOutput output) {
+        output.writeLong(VECTORS.length);
+        for (int i = 0; i < VECTORS.length; ++i) {
+            output.writeLong(i);
+        }
+    }
+
+    private static void writeCommonHeader(final ByteBuffersDataOutput output, final int dimension, final long numVectors) {
+        output.writeInt(dimension);
+        output.writeLong(numVectors);
+        output.writeLong(0);
+        output.writeLong(0);
+        output.writeByte((byte) 1);
+        output.writeInt(L2_METRIC);
+    }
+
+    private interface CodeWriter {
+        void write(int listNo, long id);
+    }
+}
@@ -10,10 +10,10 @@ import org.apache.lucene.store.ByteBuffersDataOutput;
 import org.apache.lucene.store.ByteBuffersIndexOutput;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.Bits;
-import org.apache.lucene.util.packed.DirectMonotonicReader;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
 import org.opensearch.knn.KNNTestCase;
 import org.opensearch.knn.index.vectorvalues.TestVectorValues;
+import org.opensearch.knn.memoryoptsearch.faiss.FaissIdMap;
 import org.opensearch.knn.memoryoptsearch.faiss.MonotonicIntegerSequenceEncoder;
 
 import java.nio.ByteBuffer;
@@ -30,10 +30,10 @@ public class FaissFloatVectorValuesTests extends KNNTestCase {
     @SneakyThrows
     public void testSparseVectorsValues_whenValidInput_thenSuccess() {
         final FaissFloatVectorValues baseValues = createFaissFloatVectorValues();
-        final DirectMonotonicReader idReader = createIdMappingReader(DOC_ID_MAPPING);
+        final FaissIdMap idMap = createIdMap(DOC_ID_MAPPING);
         final FaissFloatVectorValues.SparseFloatVectorValuesImpl sparse = new FaissFloatVectorValues.SparseFloatVectorValuesImpl(
             baseValues,
-            idReader
+            idMap
         );
 
         // Verify dimension and size delegation
@@ -61,10 +61,10 @@ public class FaissFloatVectorValuesTests extends KNNTestCase {
     @SneakyThrows
     public void testSparseVectorsValues_getAcceptOrds_whenAcceptDocsProvided_thenFiltersCorrectly() {
         final FaissFloatVectorValues baseValues = createFaissFloatVectorValues();
-        final DirectMonotonicReader idReader = createIdMappingReader(DOC_ID_MAPPING);
+        final FaissIdMap idMap = createIdMap(DOC_ID_MAPPING);
         final FaissFloatVectorValues.SparseFloatVectorValuesImpl sparse = new FaissFloatVectorValues.SparseFloatVectorValuesImpl(
             baseValues,
-            idReader
+            idMap
         );
 
         // acceptDocs accepts only even doc IDs
@@ -99,10 +99,10 @@ public class FaissFloatVectorValuesTests extends KNNTestCase {
     @SneakyThrows
     public void testSparseVectorsValues_getAcceptOrds_whenNull_thenReturnsNull() {
         final FaissFloatVectorValues baseValues = createFaissFloatVectorValues();
-        final DirectMonotonicReader idReader = createIdMappingReader(DOC_ID_MAPPING);
+        final FaissIdMap idMap = createIdMap(DOC_ID_MAPPING);
         final FaissFloatVectorValues.SparseFloatVectorValuesImpl sparse = new FaissFloatVectorValues.SparseFloatVectorValuesImpl(
             baseValues,
-            idReader
+            idMap
         );
 
         assertNull(sparse.getAcceptOrds(null));
@@ -111,10 +111,10 @@ public class FaissFloatVectorValuesTests extends KNNTestCase {
     @SneakyThrows
     public void testSparseVectorsValues_copy_thenReturnsCopy() {
         final FaissFloatVectorValues baseValues = createFaissFloatVectorValues();
-        final DirectMonotonicReader idReader = createIdMappingReader(DOC_ID_MAPPING);
+        final FaissIdMap idMap = createIdMap(DOC_ID_MAPPING);
         final FaissFloatVectorValues.SparseFloatVectorValuesImpl sparse = new FaissFloatVectorValues.SparseFloatVectorValuesImpl(
             baseValues,
-            idReader
+            idMap
         );
 
         var copy = sparse.copy();
@@ -144,7 +144,7 @@ public class FaissFloatVectorValuesTests extends KNNTestCase {
     }
 
     @SneakyThrows
-    private DirectMonotonicReader createIdMappingReader(int[] mapping) {
+    private FaissIdMap createIdMap(int[] mapping) {
         ByteBuffersDataOutput dataOutput = new ByteBuffersDataOutput();
         ByteBuffersIndexOutput indexOutput = new ByteBuffersIndexOutput(dataOutput, "test", "test");
         for (int docId : mapping) {
@@ -152,6 +152,6 @@ public class FaissFloatVectorValuesTests extends KNNTestCase {
         }
         indexOutput.close();
         IndexInput input = new ByteArrayIndexInput("test", dataOutput.toArrayCopy());
-        return MonotonicIntegerSequenceEncoder.encode(mapping.length, input);
+        return new FaissIdMap(MonotonicIntegerSequenceEncoder.encode(mapping.length, input), mapping.length);
     }
 }
@@ -20,4 +20,10 @@ public class KNNCounterTests extends KNNTestCase {
             assertEquals((Long) (i + 1), KNNCounter.GRAPH_QUERY_ERRORS.getCount());
         }
     }
+
+    public void testAdd() {
+        final long count = KNNCounter.KNN_QUERY_VISITED_NODES.getCount();
+        KNNCounter.KNN_QUERY_VISITED_NODES.add(42);
+        assertEquals((Long) (count + 42), KNNCounter.KNN_QUERY_VISITED_NODES.getCount());
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.stats;
+
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.Map;
+
+public class KNNQueryLatencyStatsTests extends KNNTestCase {
+
+    public void testSnapshot_thenLatenciesAreGroupedByIndexFieldAndPhase() {
+        KNNQueryLatencyStats.remove("index-1");
+        KNNQueryLatencyStats.remove("index-2");
+
+        KNNQueryLatencyStats.record("index-1", "field-1", KNNLatencyPhase.ANN_SEARCH, 2_000_000);
+        KNNQueryLatencyStats.record("index-1", "field-1", KNNLatencyPhase.ANN_SEARCH, 4_000_000);
+        KNNQueryLatencyStats.record("index-1", "field-1", KNNLatencyPhase.RESCORE, 1_000_000);
+        KNNQueryLatencyStats.record("index-2", "field-2", KNNLatencyPhase.GRAPH_LOAD, 5_000_000);
+        // Ignored, a query without an index name can't be attributed
+        KNNQueryLatencyStats.record(null, "field-1", KNNLatencyPhase.ANN_SEARCH, 1_000_000);
+
+        final Map<String, Map<String, Map<String, Map<String, Object>>>> snapshot = KNNQueryLatencyStats.snapshot();
+
+        final Map<String, Map<String, Object>> field1 = snapshot.get("index-1").get("field-1");
+        assertEquals(2, field1.size());
+        assertEquals(2L, field1.get(KNNLatencyPhase.ANN_SEARCH.getName()).get(LatencyHistogram.COUNT));
+        assertEquals(6_000L, field1.get(KNNLatencyPhase.ANN_SEARCH.getName()).get(LatencyHistogram.SUM_IN_MICROS));
+        assertEquals(1L, field1.get(KNNLatencyPhase.RESCORE.getName()).get(LatencyHistogram.COUNT));
+
+        final Map<String, Map<String, Object>> field2 = snapshot.get("index-2").get("field-2");
+        assertEquals(1, field2.size());
+        assertEquals(5_000L, field2.get(KNNLatencyPhase.GRAPH_LOAD.getName()).get(LatencyHistogram.MAX_IN_MICROS));
+
+        // Reads have no side effect, latencies keep accumulating
+        assertEquals(snapshot.get("index-1"), KNNQueryLatencyStats.snapshot().get("index-1"));
+        KNNQueryLatencyStats.record("index-1", "field-1", KNNLatencyPhase.ANN_SEARCH, 3_000_000);
+        final Map<String, Object> annSearch = KNNQueryLatencyStats.snapshot()
+            .get("index-1")
+            .get("field-1")
+            .get(KNNLatencyPhase.ANN_SEARCH.getName());
+        assertEquals(3L, annSearch.get(LatencyHistogram.COUNT));
+        assertEquals(9_000L, annSearch.get(LatencyHistogram.SUM_IN_MICROS));
+
+        // Windows report what was recorded since the previous window and don't reset the cumulative latencies
+        final Map<String, Object> firstWindow = KNNQueryLatencyStats.snapshotAndReset()
+            .get("index-1")
+            .get("field-1")
+            .get(KNNLatencyPhase.ANN_SEARCH.getName());
+        assertEquals(3L, firstWindow.get(LatencyHistogram.COUNT));
+        assertFalse(KNNQueryLatencyStats.snapshotAndReset().containsKey("index-1"));
+        KNNQueryLatencyStats.record("index-1", "field-1", KNNLatencyPhase.ANN_SEARCH, 1_000_000);
+        final Map<String, Map<String, Object>> secondWindow = KNNQueryLatencyStats.snapshotAndReset().get("index-1").get("field-1");
+        assertEquals(1, secondWindow.size());
+        assertEquals(1L, secondWindow.get(KNNLatencyPhase.ANN_SEARCH.getName()).get(LatencyHistogram.COUNT));
+        assertEquals(1_000L, secondWindow.get(KNNLatencyPhase.ANN_SEARCH.getName()).get(LatencyHistogram.SUM_IN_MICROS));
+        final Map<String, Object> cumulative = KNNQueryLatencyStats.snapshot()
+            .get("index-1")
+            .get("field-1")
+            .get(KNNLatencyPhase.ANN_SEARCH.getName());
+        assertEquals(4L, cumulative.get(LatencyHistogram.COUNT));
+
+        // Latencies of removed indices are dropped
+        KNNQueryLatencyStats.remove("index-1");
+        KNNQueryLatencyStats.remove("index-2");
+        assertFalse(KNNQueryLatencyStats.snapshot().containsKey("index-1"));
+        assertFalse(KNNQueryLatencyStats.snapshot().containsKey("index-2"));
+    }
+}
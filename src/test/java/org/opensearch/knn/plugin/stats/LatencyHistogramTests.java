@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.plugin.stats;
+
+import org.opensearch.knn.KNNTestCase;
+
+import java.util.Map;
+
+public class LatencyHistogramTests extends KNNTestCase {
+
+    public void testBucketIndex_thenValueIsWithinBucketAndRelativeErrorIsBounded() {
+        long previousUpperBound = -1;
+        for (int index = 0; LatencyHistogram.bucketUpperBound(index) < (1L << 30); ++index) {
+            final long upperBound = LatencyHistogram.bucketUpperBound(index);
+            // Buckets are contiguous
+            assertEquals(index, LatencyHistogram.bucketIndex(previousUpperBound + 1));
+            assertEquals(index, LatencyHistogram.bucketIndex(upperBound));
+            assertTrue(upperBound - previousUpperBound <= Math.max(1, (previousUpperBound + 1) / 16));
+            previousUpperBound = upperBound;
+        }
+    }
+
+    public void testSnapshot_thenPercentilesAreReportedAndValuesAreCumulative() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertTrue(histogram.snapshot().isEmpty());
+
+        // 1ms to 100ms
+        for (int i = 1; i <= 100; ++i) {
+            histogram.record(i * 1_000_000L);
+        }
+
+        final Map<String, Object> snapshot = histogram.snapshot();
+        assertEquals(100L, snapshot.get(LatencyHistogram.COUNT));
+        assertEquals(5050L * 1000, snapshot.get(LatencyHistogram.SUM_IN_MICROS));
+        assertEquals(100_000L, snapshot.get(LatencyHistogram.MAX_IN_MICROS));
+        assertPercentile(50_000, snapshot.get(LatencyHistogram.P50_IN_MICROS));
+        assertPercentile(90_000, snapshot.get(LatencyHistogram.P90_IN_MICROS));
+        assertPercentile(99_000, snapshot.get(LatencyHistogram.P99_IN_MICROS));
+
+        // Reading does not reset the histogram
+        assertEquals(snapshot, histogram.snapshot());
+        histogram.record(200_000_000L);
+        assertEquals(101L, histogram.snapshot().get(LatencyHistogram.COUNT));
+        assertEquals(200_000L, histogram.snapshot().get(LatencyHistogram.MAX_IN_MICROS));
+    }
+
+    public void testSnapshotAndReset_thenWindowsAreDisjointAndCumulativeValuesAreKept() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertTrue(histogram.snapshotAndReset().isEmpty());
+
+        // 1ms to 100ms
+        for (int i = 1; i <= 100; ++i) {
+            histogram.record(i * 1_000_000L);
+        }
+        final Map<String, Object> firstWindow = histogram.snapshotAndReset();
+        assertEquals(100L, firstWindow.get(LatencyHistogram.COUNT));
+        assertEquals(5050L * 1000, firstWindow.get(LatencyHistogram.SUM_IN_MICROS));
+        assertEquals(100_000L, firstWindow.get(LatencyHistogram.MAX_IN_MICROS));
+        assertPercentile(50_000, firstWindow.get(LatencyHistogram.P50_IN_MICROS));
+
+        // Nothing recorded since the previous window
+        assertTrue(histogram.snapshotAndReset().isEmpty());
+
+        histogram.record(2_000_000L);
+        histogram.record(4_000_000L);
+        final Map<String, Object> secondWindow = histogram.snapshotAndReset();
+        assertEquals(2L, secondWindow.get(LatencyHistogram.COUNT));
+        assertEquals(6_000L, secondWindow.get(LatencyHistogram.SUM_IN_MICROS));
+        assertEquals(4_000L, secondWindow.get(LatencyHistogram.MAX_IN_MICROS));
+        assertPercentile(4_000, secondWindow.get(LatencyHistogram.P99_IN_MICROS));
+
+        // Windows don't reset the cumulative values
+        final Map<String, Object> cumulative = histogram.snapshot();
+        assertEquals(102L, cumulative.get(LatencyHistogram.COUNT));
+        assertEquals(5050L * 1000 + 6_000L, cumulative.get(LatencyHistogram.SUM_IN_MICROS));
+        assertEquals(100_000L, cumulative.get(LatencyHistogram.MAX_IN_MICROS));
+    }
+
+    private static void assertPercentile(final long expected, final Object actual) {
+        final long value = (Long) actual;
+        assertTrue("Expected about " + expected + " but was " + value, value >= expected && value <= expected * 1.07);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.knn.quantization.models.quantizationState;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.knn.KNNTestCase;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+public class QuantizationErrorStatsTests extends KNNTestCase {
+
+    public void testAccumulator_whenQuantizedDistanceIsLinear_thenNoError() {
+        final QuantizationErrorStats.Accumulator accumulator = new QuantizationErrorStats.Accumulator();
+        for (int i = 0; i < 100; ++i) {
+            accumulator.add(i, 3 * i + 7);
+        }
+
+        final QuantizationErrorStats errorStats = accumulator.build();
+        assertEquals(100, errorStats.getNumSamples());
+        assertEquals(0, errorStats.getDeltaVariance(), 1e-3);
+        assertEquals(0, errorStats.getRelativeError(), 1e-3);
+        assertEquals(3, errorStats.getSlope(), 1e-3);
+        assertEquals(7, errorStats.getIntercept(), 1e-3);
+        assertEquals(37, errorStats.toQuantizedRadius(10, 0.99), 1e-2);
+        // Quantization keeps the ranking, so the first pass does not need to go beyond k.
+        assertEquals(10, errorStats.estimateFirstPassK(10, 100_000, 0.9));
+    }
+
+    public void testAccumulator_whenNoiseIsAdded_thenRelativeErrorIsRecovered() {
+        final QuantizationErrorStats.Accumulator accumulator = new QuantizationErrorStats.Accumulator();
+        final float relativeError = 0.3f;
+        for (int i = 0; i < 20_000; ++i) {
+            final double score = random().nextGaussian();
+            accumulator.add(score, 2 * (score + relativeError * random().nextGaussian()) + 5);
+        }
+
+        assertEquals(relativeError, accumulator.build().getRelativeError(), 0.02);
+    }
+
+    public void testAccumulator_whenUncorrelatedOrTooFewSamples_thenNoEstimate() {
+        final QuantizationErrorStats.Accumulator accumulator = new QuantizationErrorStats.Accumulator();
+        accumulator.add(1, 5);
+        assertNull(accumulator.build());
+
+        accumulator.add(2, 5);
+        accumulator.add(3, 5);
+        final QuantizationErrorStats errorStats = accumulator.build();
+        assertTrue(Double.isInfinite(errorStats.getRelativeError()));
+        assertEquals(-1, errorStats.estimateFirstPassK(10, 100_000, 0.9));
+    }
+
+    public void testEstimateFirstPassK_thenGrowsWithErrorAndTargetRecall() {
+        final QuantizationErrorStats lowError = new QuantizationErrorStats(1000, 1, 0.01f);
+        final QuantizationErrorStats highError = new QuantizationErrorStats(1000, 1, 0.25f);
+
+        final int lowErrorFirstPassK = lowError.estimateFirstPassK(10, 1_000_000, 0.9);
+        final int highErrorFirstPassK = highError.estimateFirstPassK(10, 1_000_000, 0.9);
+        assertTrue(lowErrorFirstPassK > 10);
+        assertTrue(highErrorFirstPassK > lowErrorFirstPassK);
+        assertTrue(highError.estimateFirstPassK(10, 1_000_000, 0.99) > highErrorFirstPassK);
+
+        // Never more than the number of vectors.
+        assertEquals(12, highError.estimateFirstPassK(10, 12, 0.99));
+        assertEquals(-1, highError.estimateFirstPassK(10, 10, 0.9));
+    }
+
+    public void testEstimateFirstPassK_thenReachesTargetRecall() {
+        final int numVectors = 20_000;
+        final int k = 10;
+        final double relativeError = 0.2;
+        final QuantizationErrorStats errorStats = new QuantizationErrorStats(1000, 1, (float) (relativeError * relativeError));
+        final int firstPassK = errorStats.estimateFirstPassK(k, numVectors, 0.9);
+
+        final double[] scores = new double[numVectors];
+        final double[] quantizedScores = new double[numVectors];
+        for (int i = 0; i < numVectors; ++i) {
+            scores[i] = random().nextGaussian();
+            quantizedScores[i] = scores[i] + relativeError * random().nextGaussian();
+        }
+        final double topKScore = kthLargest(scores, k);
+        final double firstPassScore = kthLargest(quantizedScores, firstPassK);
+        int hits = 0;
+        for (int i = 0; i < numVectors; ++i) {
+            if (scores[i] >= topKScore && quantizedScores[i] >= firstPassScore) {
+                ++hits;
+            }
+        }
+        // The estimate targets the k-th result, the average over the top k is well above the target.
+        assertTrue("Recall " + hits + "/" + k + " with first pass k " + firstPassK, hits >= 8);
+    }
+
+    public void testToQuantizedRadius_thenReachesTargetRecall() {
+        final QuantizationErrorStats.Accumulator accumulator = new QuantizationErrorStats.Accumulator();
+        final int numVectors = 20_000;
+        final double[] distances = new double[numVectors];
+        final double[] quantizedDistances = new double[numVectors];
+        for (int i = 0; i < numVectors; ++i) {
+            distances[i] = 10 + random().nextGaussian();
+            quantizedDistances[i] = 4 * distances[i] + 20 + random().nextGaussian();
+            accumulator.add(distances[i], quantizedDistances[i]);
+        }
+        final QuantizationErrorStats errorStats = accumulator.build();
+        final double radius = 9;
+        final double quantizedRadius = errorStats.toQuantizedRadius(radius, 0.99);
+        // Wider than the fitted radius, by about 2.3 standard deviations of the noise.
+        assertEquals(4 * radius + 20 + 2.33, quantizedRadius, 0.2);
+
+        int withinRadius = 0;
+        int kept = 0;
+        for (int i = 0; i < numVectors; ++i) {
+            if (distances[i] <= radius) {
+                ++withinRadius;
+                if (quantizedDistances[i] <= quantizedRadius) {
+                    ++kept;
+                }
+            }
+        }
+        assertTrue("Kept " + kept + "/" + withinRadius, kept >= 0.98 * withinRadius);
+    }
+
+    public void testToQuantizedRadius_whenNoFit_thenNaN() {
+        assertTrue(Double.isNaN(new QuantizationErrorStats(1000, 1, 0.25f).toQuantizedRadius(1, 0.99)));
+        assertTrue(Double.isNaN(new QuantizationErrorStats(1000, 1, 0.25f, -1, 3).toQuantizedRadius(1, 0.99)));
+        assertTrue(Double.isNaN(new QuantizationErrorStats(1000, 1, Float.POSITIVE_INFINITY, 2, 3).toQuantizedRadius(1, 0.99)));
+    }
+
+    public void testUpperTail_thenInverseMatches() {
+        assertEquals(0.5, QuantizationErrorStats.upperTail(0), 1e-7);
+        assertEquals(0.025, QuantizationErrorStats.upperTail(1.959964), 1e-6);
+        assertEquals(0.975, QuantizationErrorStats.upperTail(-1.959964), 1e-6);
+        for (final double p : new double[] { 1e-4, 0.01, 0.3, 0.5, 0.7, 0.99 }) {
+            assertEquals(p, QuantizationErrorStats.upperTail(QuantizationErrorStats.inverseUpperTail(p)), 1e-6);
+        }
+        assertEquals(Double.POSITIVE_INFINITY, QuantizationErrorStats.inverseUpperTail(0), 0);
+        assertEquals(Double.NEGATIVE_INFINITY, QuantizationErrorStats.inverseUpperTail(1), 0);
+    }
+
+    public void testSerialization() throws IOException {
+        final QuantizationErrorStats errorStats = new QuantizationErrorStats(123, 4.5f, 0.25f, 2.5f, -1.5f);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            errorStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertEquals(errorStats, new QuantizationErrorStats(in));
+            }
+        }
+    }
+
+    private static double kthLargest(final double[] values, final int k) {
+        final double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length - k];
+    }
+}
@@ -12,6 +12,7 @@ import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.MultiBitScalarQuantizationState;
 import org.opensearch.knn.quantization.models.quantizationState.OneBitScalarQuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationErrorStats;
 
 import java.io.IOException;
 
@@ -60,6 +61,30 @@ public class QuantizationStateTests extends KNNTestCase {
         assertEquals(params, deserializedState.getQuantizationParams());
     }
 
+    public void testQuantizationState_WithErrorStats_thenSerialized() throws IOException {
+        final QuantizationErrorStats errorStats = new QuantizationErrorStats(10, 2.0f, 0.5f);
+        final OneBitScalarQuantizationState oneBitState = OneBitScalarQuantizationState.builder()
+            .quantizationParams(ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.ONE_BIT).build())
+            .meanThresholds(new float[] { 1.0f, 2.0f, 3.0f })
+            .errorStats(errorStats)
+            .build();
+        assertEquals(errorStats, OneBitScalarQuantizationState.fromByteArray(oneBitState.toByteArray()).getErrorStats());
+
+        final MultiBitScalarQuantizationState multiBitState = MultiBitScalarQuantizationState.builder()
+            .quantizationParams(ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.TWO_BIT).build())
+            .thresholds(new float[][] { { 0.5f, 1.5f }, { 1.0f, 2.0f } })
+            .errorStats(errorStats)
+            .build();
+        assertEquals(errorStats, MultiBitScalarQuantizationState.fromByteArray(multiBitState.toByteArray()).getErrorStats());
+
+        // States without statistics stay without them.
+        final OneBitScalarQuantizationState withoutErrorStats = new OneBitScalarQuantizationState(
+            ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.ONE_BIT).build(),
+            new float[] { 1.0f }
+        );
+        assertNull(OneBitScalarQuantizationState.fromByteArray(withoutErrorStats.toByteArray()).getErrorStats());
+    }
+
     // Test handling of null arrays in RAM usage
     public void testOneBitScalarQuantizationState_RamBytesUsedWithNulls() {
         ScalarQuantizationParams params = ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.ONE_BIT).build();
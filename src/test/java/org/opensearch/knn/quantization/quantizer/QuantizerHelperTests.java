@@ -10,10 +10,12 @@ import org.opensearch.knn.quantization.enums.ScalarQuantizationType;
 import org.opensearch.knn.quantization.models.quantizationParams.ScalarQuantizationParams;
 import org.opensearch.knn.quantization.models.quantizationState.MultiBitScalarQuantizationState;
 import org.opensearch.knn.quantization.models.quantizationState.OneBitScalarQuantizationState;
+import org.opensearch.knn.quantization.models.quantizationState.QuantizationErrorStats;
 import org.opensearch.knn.quantization.models.requests.TrainingRequest;
 import oshi.util.tuples.Pair;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import static org.opensearch.knn.quantization.quantizer.QuantizerHelper.calculateMeanAndStdDev;
 import static org.opensearch.knn.quantization.quantizer.QuantizerHelper.calculateThresholds;
@@ -81,6 +83,33 @@ public class QuantizerHelperTests extends KNNTestCase {
         assertNotNull(state.getThresholds());
     }
 
+    public void testCalculateQuantizationErrorStats_thenMeasuredOnConsecutiveSampledPairs() throws IOException {
+        final int numVectors = 200;
+        final int dimension = 16;
+        final float[][] vectors = new float[numVectors][dimension];
+        final int[] sampledIndices = new int[numVectors];
+        for (int i = 0; i < numVectors; i++) {
+            for (int d = 0; d < dimension; d++) {
+                vectors[i][d] = (float) random().nextGaussian();
+            }
+            sampledIndices[i] = i;
+        }
+        ScalarQuantizationParams params = ScalarQuantizationParams.builder().sqType(ScalarQuantizationType.TWO_BIT).build();
+        TrainingRequest<float[]> request = new MockTrainingRequest(params, vectors);
+        float[][] thresholds = calculateThresholds(new float[dimension], filledArray(dimension, 1f), 2);
+
+        QuantizationErrorStats errorStats = QuantizerHelper.calculateQuantizationErrorStats(request, sampledIndices, thresholds, null);
+
+        assertEquals(numVectors - 1, errorStats.getNumSamples());
+        assertTrue(errorStats.getScoreVariance() > 0);
+        // Codes are correlated with the distances, but lose part of them.
+        assertTrue(errorStats.getRelativeError() > 0);
+        assertTrue(Double.isFinite(errorStats.getRelativeError()));
+
+        MultiBitScalarQuantizationState state = QuantizerHelper.calculateQuantizationState(request, sampledIndices, params, 2);
+        assertNotNull(state.getErrorStats());
+    }
+
     public void testThresholdGenerationForMultiBitQuantizer() {
         float[] mean = { 1f, 2f };
         float[] std = { 0.5f, 0.5f };
@@ -151,6 +180,12 @@ public class QuantizerHelperTests extends KNNTestCase {
         expectThrows(IllegalArgumentException.class, () -> QuantizerHelper.calculateQuantizationState(request, empty, params));
     }
 
+    private static float[] filledArray(int length, float value) {
+        float[] array = new float[length];
+        Arrays.fill(array, value);
+        return array;
+    }
+
     private float[][] invokeThresholds(float[] mean, float[] stdDev, int bitsPerCoordinate) {
         try {
             var method = QuantizerHelper.class.getDeclaredMethod("calculateThresholds", float[].class, float[].class, int.class);